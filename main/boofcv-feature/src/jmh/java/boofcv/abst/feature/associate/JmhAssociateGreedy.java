@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for greedy association of binary descriptors.  The generic implementation, which computes
+ * the full score matrix, is compared against the specialized Hamming implementation.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhAssociateGreedy {
+	@Param({"1000", "5000"})
+	public int total;
+
+	@Param({"256", "512"})
+	public int numBits;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	FastQueue<TupleDesc_B> src, dst;
+
+	AssociateDescription<TupleDesc_B> generic;
+	AssociateDescription<TupleDesc_B> hamming;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		Random rand = new Random(234);
+		src = createRandom(rand);
+		dst = createRandom(rand);
+
+		AssociateGreedy<TupleDesc_B> alg = new AssociateGreedy<>(new ScoreAssociateHamming_B(), true);
+		alg.setMaxFitError(numBits/4);
+		generic = new WrapAssociateGreedy<>(alg);
+		hamming = FactoryAssociation.greedyHamming(numBits/4, true, 1.0);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	private FastQueue<TupleDesc_B> createRandom( Random rand ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(total,TupleDesc_B.class, true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public int generic() {
+		generic.setSource(src);
+		generic.setDestination(dst);
+		generic.associate();
+		return generic.getMatches().size;
+	}
+
+	@Benchmark
+	public int hamming() {
+		hamming.setSource(src);
+		hamming.setDestination(dst);
+		hamming.associate();
+		return hamming.getMatches().size;
+	}
+}
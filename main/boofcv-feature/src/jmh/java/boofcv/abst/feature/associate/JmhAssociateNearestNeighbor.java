@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for approximate nearest neighbor association against a large set of features.  Destination features
+ * are noisy copies of source features.  The DDogleg k-d forest, which requires double[] descriptors, is compared
+ * against the native descriptor indexes.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhAssociateNearestNeighbor {
+	@Param({"10000", "100000"})
+	public int total;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	FastQueue<TupleDesc_F64> src64 = new FastQueue<>(TupleDesc_F64.class, false);
+	FastQueue<TupleDesc_F64> dst64 = new FastQueue<>(TupleDesc_F64.class, false);
+	FastQueue<TupleDesc_F32> src32 = new FastQueue<>(TupleDesc_F32.class, false);
+	FastQueue<TupleDesc_F32> dst32 = new FastQueue<>(TupleDesc_F32.class, false);
+	FastQueue<TupleDesc_B> srcB = new FastQueue<>(TupleDesc_B.class, false);
+	FastQueue<TupleDesc_B> dstB = new FastQueue<>(TupleDesc_B.class, false);
+
+	AssociateDescription<TupleDesc_F64> ddoglegForest;
+	AssociateDescription<TupleDesc_F32> forest;
+	AssociateDescription<TupleDesc_B> lsh;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		Random rand = new Random(234);
+		int dof = 64;
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F64 a = new TupleDesc_F64(dof);
+			TupleDesc_F64 b = new TupleDesc_F64(dof);
+			TupleDesc_F32 c = new TupleDesc_F32(dof);
+			TupleDesc_F32 d = new TupleDesc_F32(dof);
+			for( int k = 0; k < dof; k++ ) {
+				a.value[k] = rand.nextDouble();
+				b.value[k] = a.value[k] + rand.nextGaussian()*0.1;
+				c.value[k] = (float)a.value[k];
+				d.value[k] = (float)b.value[k];
+			}
+			src64.add(a); dst64.add(b);
+			src32.add(c); dst32.add(d);
+
+			TupleDesc_B e = new TupleDesc_B(256);
+			TupleDesc_B f = new TupleDesc_B(256);
+			for( int k = 0; k < e.data.length; k++ ) {
+				e.data[k] = rand.nextInt();
+			}
+			f.setTo(e);
+			for( int k = 0; k < 20; k++ ) {
+				int bit = rand.nextInt(256);
+				f.data[bit/32] ^= 1 << (bit%32);
+			}
+			srcB.add(e); dstB.add(f);
+		}
+
+		ddoglegForest = FactoryAssociation.kdRandomForest(dof, 128, 4, 5, 234);
+		forest = FactoryAssociation.kdForest_F32(4, 5, 128, 234);
+		lsh = FactoryAssociation.lshHamming(8, 16, 1, 234);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public int ddoglegForest() {
+		ddoglegForest.setSource(src64);
+		ddoglegForest.setDestination(dst64);
+		ddoglegForest.associate();
+		return ddoglegForest.getMatches().size;
+	}
+
+	@Benchmark
+	public int forest_F32() {
+		forest.setSource(src32);
+		forest.setDestination(dst32);
+		forest.associate();
+		return forest.getMatches().size;
+	}
+
+	@Benchmark
+	public int lshHamming() {
+		lsh.setSource(srcB);
+		lsh.setDestination(dstB);
+		lsh.associate();
+		return lsh.getMatches().size;
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GConvertImage;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for detecting and describing interest points.  The input image is composed of random
+ * rectangles so that there are plenty of corners and blobs across all scales.  SURF and SIFT are benchmarked with and
+ * without concurrency.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhDetectDescribe {
+	@Param({"640", "1920"})
+	public int width;
+
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	ImageGray image;
+	GrayF32 imageF32;
+
+	DetectDescribePoint surfFast;
+	DetectDescribePoint surfStable;
+	DetectDescribePoint sift;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		Class imageType = ImageDataType.typeToSingleClass(type);
+		int height = width*3/4;
+
+		image = GeneralizedImageOps.createSingleBand(type, width, height);
+		imageF32 = new GrayF32(width, height);
+
+		Random rand = new Random(234);
+		for (int i = 0; i < width/4; i++) {
+			int x = rand.nextInt(width-10);
+			int y = rand.nextInt(height-10);
+			int w = 5+rand.nextInt(Math.min(60, width-x-5));
+			int h = 5+rand.nextInt(Math.min(60, height-y-5));
+			GImageMiscOps.fillRectangle(image, rand.nextInt(240), x, y, w, h);
+		}
+		GImageMiscOps.addUniform(image, rand, 0, 10);
+		GConvertImage.convert(image, imageF32);
+
+		surfFast = FactoryDetectDescribe.surfFast(null, null, null, imageType);
+		surfStable = FactoryDetectDescribe.surfStable(null, null, null, imageType);
+		// SIFT only supports GrayF32
+		sift = FactoryDetectDescribe.sift(null);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public int surfFast() {
+		surfFast.detect(image);
+		return surfFast.getNumberOfFeatures();
+	}
+
+	@Benchmark
+	public int surfStable() {
+		surfStable.detect(image);
+		return surfStable.getNumberOfFeatures();
+	}
+
+	@Benchmark
+	public int sift() {
+		sift.detect(imageF32);
+		return sift.getNumberOfFeatures();
+	}
+}
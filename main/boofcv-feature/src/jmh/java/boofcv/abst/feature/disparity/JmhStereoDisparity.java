@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.DisparityAlgorithms;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for dense stereo disparity at common video resolutions with 128 disparities.  The right
+ * image is the left image shifted with noise added.  Algorithms are benchmarked with and without concurrency.
+ * Census is scored with 5x5 (32-bit) and 7x7 (64-bit) descriptors and can be compared against SAD in rect.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhStereoDisparity {
+	@Param({"640x480", "1280x720", "1920x1080"})
+	public String resolution;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	public int maxDisparity = 128;
+	public int radius = 3;
+
+	GrayU8 left, right;
+
+	StereoDisparity<GrayU8,GrayU8> rect;
+	StereoDisparity<GrayU8,GrayU8> rectFive;
+	StereoDisparity<GrayU8,GrayF32> rectSubpixel;
+	StereoDisparity<GrayU8,GrayU8> census5x5;
+	StereoDisparity<GrayU8,GrayU8> census7x7;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] words = resolution.split("x");
+		int width = Integer.parseInt(words[0]);
+		int height = Integer.parseInt(words[1]);
+
+		left = new GrayU8(width, height);
+		right = new GrayU8(width, height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(left, rand, 0, 200);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int xx = Math.min(width-1, x+20);
+				right.set(x, y, left.get(xx, y)+rand.nextInt(10));
+			}
+		}
+
+		rect = FactoryStereoDisparity.regionWta(DisparityAlgorithms.RECT,
+				0, maxDisparity, radius, radius, 30, 6, 0.1, GrayU8.class);
+		rectFive = FactoryStereoDisparity.regionWta(DisparityAlgorithms.RECT_FIVE,
+				0, maxDisparity, radius, radius, 30, 6, 0.1, GrayU8.class);
+		rectSubpixel = FactoryStereoDisparity.regionSubpixelWta(DisparityAlgorithms.RECT,
+				0, maxDisparity, radius, radius, 30, 6, 0.1, GrayU8.class);
+		census5x5 = FactoryStereoDisparity.regionCensusWta(
+				0, maxDisparity, radius, radius, 2, 8, 6, 0.1, GrayU8.class);
+		census7x7 = FactoryStereoDisparity.regionCensusWta(
+				0, maxDisparity, radius, radius, 3, 16, 6, 0.1, GrayU8.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public GrayU8 rect() {
+		rect.process(left, right);
+		return rect.getDisparity();
+	}
+
+	@Benchmark
+	public GrayU8 rectFive() {
+		rectFive.process(left, right);
+		return rectFive.getDisparity();
+	}
+
+	@Benchmark
+	public GrayF32 rectSubpixel() {
+		rectSubpixel.process(left, right);
+		return rectSubpixel.getDisparity();
+	}
+
+	@Benchmark
+	public GrayU8 census5x5() {
+		census5x5.process(left, right);
+		return census5x5.getDisparity();
+	}
+
+	@Benchmark
+	public GrayU8 census7x7() {
+		census7x7.process(left, right);
+		return census7x7.getDisparity();
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.ConfigDisparitySgm;
+import boofcv.factory.feature.disparity.DisparityError;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for Semi Global Matching at common video resolutions with 128 disparities.  The amount of memory
+ * used by the cost volumes is reported with an auxiliary counter, in bytes, so that the effect of disparity tiling
+ * can be seen.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4G")
+public class JmhStereoSgm {
+	@Param({"640x480", "1280x720", "1920x1080"})
+	public String resolution;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	@Param({"0", "32"})
+	public int disparityTileSize;
+
+	@Param({"4", "8"})
+	public int paths;
+
+	public int maxDisparity = 128;
+
+	GrayU8 left, right;
+
+	StereoDisparity<GrayU8,GrayU8> census;
+	StereoDisparity<GrayU8,GrayU8> sad;
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Memory {
+		public long memoryBytes;
+	}
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		String[] words = resolution.split("x");
+		int width = Integer.parseInt(words[0]);
+		int height = Integer.parseInt(words[1]);
+
+		left = new GrayU8(width, height);
+		right = new GrayU8(width, height);
+
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(left, rand, 0, 200);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int xx = Math.min(width-1, x+20);
+				right.set(x, y, left.get(xx, y)+rand.nextInt(10));
+			}
+		}
+
+		ConfigDisparitySgm config = new ConfigDisparitySgm(0, maxDisparity, DisparityError.CENSUS);
+		config.disparityTileSize = disparityTileSize;
+		config.paths = paths;
+		census = FactoryStereoDisparity.sgm(config, GrayU8.class);
+
+		config.errorType = DisparityError.SAD;
+		config.penaltySmall = 50;
+		config.penaltyLarge = 500;
+		sad = FactoryStereoDisparity.sgm(config, GrayU8.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public GrayU8 census( Memory memory ) {
+		census.process(left, right);
+		memory.memoryBytes = getMemoryBytes(census);
+		return census.getDisparity();
+	}
+
+	@Benchmark
+	public GrayU8 sad( Memory memory ) {
+		sad.process(left, right);
+		memory.memoryBytes = getMemoryBytes(sad);
+		return sad.getDisparity();
+	}
+
+	private static long getMemoryBytes( StereoDisparity alg ) {
+		return ((SgmStereoDisparity)((WrapDisparitySadRect)alg).getAlg()).getMemoryBytes();
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.alg.feature.associate.nn.DescriptorIndex;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Matches features using a {@link DescriptorIndex}.  The index is built from the source features and then
+ * each destination feature is searched for.  Like {@link AssociateNearestNeighbor} building the index is typically
+ * the more expensive step, multiple matches for source features are possible, and there is a unique match
+ * for each destination feature.  The threshold is in the same units as the index's distance.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateDescriptorIndex<D> implements AssociateDescription<D> {
+
+	// index of source features and search for the serial case
+	protected DescriptorIndex<D> index;
+	private DescriptorIndex.Search<D> search;
+
+	// list of features in destination set that are to be searched for in the source list
+	protected FastQueue<D> listDst;
+	private int sizeSrc;
+
+	// best source feature and its distance for each destination feature
+	protected GrowQueue_I32 bestSrc = new GrowQueue_I32();
+	protected GrowQueue_F64 bestDistance = new GrowQueue_F64();
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	// maximum distance away two points can be
+	protected double maxDistance = -1;
+
+	public AssociateDescriptorIndex( DescriptorIndex<D> index ) {
+		this.index = index;
+		this.search = index.createSearch();
+	}
+
+	@Override
+	public void setSource(FastQueue<D> listSrc) {
+		index.setPoints(listSrc);
+		sizeSrc = listSrc.size;
+	}
+
+	@Override
+	public void setDestination(FastQueue<D> listDst) {
+		this.listDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		bestSrc.resize(listDst.size);
+		bestDistance.resize(listDst.size);
+
+		searchDestination();
+
+		matches.reset();
+		for( int i = 0; i < listDst.size; i++ ) {
+			int indexSrc = bestSrc.data[i];
+			if( indexSrc >= 0 )
+				matches.grow().setAssociation(indexSrc,i,bestDistance.data[i]);
+		}
+	}
+
+	/**
+	 * Finds the best source feature for every destination feature
+	 */
+	protected void searchDestination() {
+		searchDestination(search, 0, listDst.size);
+	}
+
+	/**
+	 * Finds the best source feature for destination features from i0 to i1-1
+	 */
+	protected void searchDestination( DescriptorIndex.Search<D> search , int i0 , int i1 ) {
+		for( int i = i0; i < i1; i++ ) {
+			bestSrc.data[i] = search.findNearest(listDst.data[i], maxDistance);
+			bestDistance.data[i] = search.getDistance();
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassociated.checkSource(matches,sizeSrc);
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,listDst.size());
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		this.maxDistance = score;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+
+	public DescriptorIndex<D> getIndex() {
+		return index;
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.DescriptorIndex;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent version of {@link AssociateDescriptorIndex}.  Destination features are split into blocks and
+ * each thread searches the index with its own {@link DescriptorIndex.Search}.  Results are identical to
+ * the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateDescriptorIndex_MT<D> extends AssociateDescriptorIndex<D> {
+
+	/**
+	 * Minimum number of destination features searched by a thread
+	 */
+	public static int MIN_BLOCK = 50;
+
+	private final FastQueue<DescriptorIndex.Search<D>> searches;
+
+	public AssociateDescriptorIndex_MT( final DescriptorIndex<D> index ) {
+		super(index);
+		searches = new FastQueue<DescriptorIndex.Search<D>>(1,(Class)DescriptorIndex.Search.class,true) {
+			@Override
+			protected DescriptorIndex.Search<D> createInstance() {
+				return index.createSearch();
+			}
+		};
+	}
+
+	@Override
+	protected void searchDestination() {
+		BoofConcurrency.loopBlocks(0, listDst.size, MIN_BLOCK, searches, searchBlock);
+	}
+
+	private final IntRangeObjectConsumer<DescriptorIndex.Search<D>> searchBlock =
+			new IntRangeObjectConsumer<DescriptorIndex.Search<D>>() {
+				@Override
+				public void accept(DescriptorIndex.Search<D> search, int minInclusive, int maxExclusive) {
+					searchDestination(search, minInclusive, maxExclusive);
+				}
+			};
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.BoofDefaults;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link WrapDetectDescribeSurf}.  The orientation and description of each
+ * feature are computed in parallel.  Each thread has its own orientation and descriptor algorithms, which are
+ * created using the provided factories.
+ *
+ * @param <T> Input image type
+ * @param <II> Integral image type
+ *
+ * @author Peter Abeles
+ */
+public class WrapDetectDescribeSurf_MT
+		<T extends ImageGray<T>, II extends ImageGray<II>>
+	extends WrapDetectDescribeSurf<T,II>
+{
+	/**
+	 * Minimum number of features processed by a single thread
+	 */
+	public static int MIN_BLOCK = 20;
+
+	// algorithms used by each thread
+	private FastQueue<ThreadData> workspace;
+
+	public WrapDetectDescribeSurf_MT(FastHessianFeatureDetector<II> detector,
+									 final InstanceFactory<OrientationIntegral<II>> orientation,
+									 final InstanceFactory<DescribePointSurf<II>> describe)
+	{
+		super(detector, orientation.newInstance(), describe.newInstance());
+
+		workspace = new FastQueue<ThreadData>(1,(Class)ThreadData.class,true) {
+			@Override
+			protected ThreadData createInstance() {
+				return new ThreadData(orientation.newInstance(),describe.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void detect(T input) {
+		if( ii != null ) {
+			ii.reshape(input.width,input.height);
+		}
+
+		// compute integral image
+		ii = GIntegralImageOps.transform(input, ii);
+		features.reset();
+		featureAngles.reset();
+
+		// detect features
+		detector.detect(ii);
+
+		// declare storage for all the features so that each thread can write to its own elements
+		foundPoints = detector.getFoundPoints();
+		for( int i = 0; i < foundPoints.size(); i++ ) {
+			features.grow();
+		}
+		featureAngles.resize(foundPoints.size());
+
+		// describe the found interest points
+		BoofConcurrency.loopBlocks(0, foundPoints.size(), MIN_BLOCK, workspace, describeBlock);
+	}
+
+	private final IntRangeObjectConsumer<ThreadData> describeBlock = new IntRangeObjectConsumer<ThreadData>() {
+		@Override
+		public void accept(ThreadData data, int minInclusive, int maxExclusive) {
+			data.orientation.setImage(ii);
+			data.describe.setImage(ii);
+
+			for( int i = minInclusive; i < maxExclusive; i++ ) {
+				ScalePoint p = foundPoints.get(i);
+				double radius = p.scale* BoofDefaults.SURF_SCALE_TO_RADIUS;
+
+				data.orientation.setObjectRadius(radius);
+				double angle = data.orientation.compute(p.x,p.y);
+				data.describe.describe(p.x,p.y, angle, p.scale, features.get(i));
+				featureAngles.data[i] = angle;
+			}
+		}
+	};
+
+	/**
+	 * Algorithms used by a single thread
+	 */
+	private class ThreadData {
+		OrientationIntegral<II> orientation;
+		DescribePointSurf<II> describe;
+
+		ThreadData(OrientationIntegral<II> orientation, DescribePointSurf<II> describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
+}
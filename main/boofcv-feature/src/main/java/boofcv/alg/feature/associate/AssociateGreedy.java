@@ -46,17 +46,17 @@ import org.ddogleg.struct.GrowQueue_I32;
 public class AssociateGreedy<D> {
 
 	// computes association score
-	private ScoreAssociation<D> score;
+	protected ScoreAssociation<D> score;
 	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
+	protected double maxFitError = Double.MAX_VALUE;
 	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
 	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
 	// various
 	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
 	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+	protected boolean backwardsValidation;
 
 	/**
 	 * Configure association
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Specialized version of {@link AssociateGreedy} for binary descriptors which are scored using the Hamming
+ * distance. Produces the same associations as {@link AssociateGreedy} with {@link ScoreAssociateHamming_B}
+ * but is much faster.
+ * </p>
+ *
+ * <ul>
+ *     <li>Descriptors are packed into a long[] matrix with one row per descriptor and the distance is found with
+ *     Long.bitCount() across the whole row.  No virtual function calls in the inner loop.</li>
+ *     <li>The NxM score matrix is never stored.  Instead the best and second best score for each
+ *     source and destination feature are tracked, which is all that's needed for backwards validation
+ *     and the ratio test.</li>
+ *     <li>Destination features are processed in tiles so that they stay inside the CPU cache while
+ *     each source feature is compared against them.</li>
+ * </ul>
+ *
+ * <p>
+ * Ratio Test: If enabled, an association is rejected if the best score is not less than the second best score
+ * multiplied by the ratio.  This removes ambiguous matches.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming extends AssociateGreedy<TupleDesc_B> {
+
+	/**
+	 * Number of destination features in a tile. Tuned so that a tile of 512-bit descriptors fits inside
+	 * the L1 cache.
+	 */
+	protected int tileSize = 256;
+
+	// association is rejected if best >= ratioTest*secondBest.  Disabled if >= 1
+	protected double ratioTest = 1.0;
+
+	// number of longs in each descriptor
+	protected int words;
+	// packed descriptors
+	protected long[] packedSrc = new long[0];
+	protected long[] packedDst = new long[0];
+	protected int numSrc, numDst;
+
+	// best and second best score for each source feature and the index of the best destination feature
+	protected int[] srcBest = new int[0];
+	protected int[] srcSecond = new int[0];
+	protected int[] srcBestIndex = new int[0];
+
+	// storage for best destination scores
+	private Workspace workspace = new Workspace();
+
+	/**
+	 * Configure association
+	 *
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 * @param ratioTest An association is rejected if best &ge; ratioTest*secondBest. Set to &ge; 1 to disable.
+	 *                  Try 0.8
+	 */
+	public AssociateGreedyHamming( boolean backwardsValidation , double ratioTest ) {
+		super(new ScoreAssociateHamming_B(), backwardsValidation);
+		this.ratioTest = ratioTest;
+	}
+
+	@Override
+	public void associate( FastQueue<TupleDesc_B> src , FastQueue<TupleDesc_B> dst ) {
+		fitQuality.reset();
+		pairs.reset();
+
+		numSrc = src.size;
+		numDst = dst.size;
+		words = 0;
+		if( numSrc > 0 )
+			words = (src.data[0].data.length+1)/2;
+		else if( numDst > 0 )
+			words = (dst.data[0].data.length+1)/2;
+
+		packedSrc = pack(src, packedSrc);
+		packedDst = pack(dst, packedDst);
+
+		if( srcBest.length < numSrc ) {
+			srcBest = new int[numSrc];
+			srcSecond = new int[numSrc];
+			srcBestIndex = new int[numSrc];
+		}
+		Arrays.fill(srcBest, 0, numSrc, Integer.MAX_VALUE);
+		Arrays.fill(srcSecond, 0, numSrc, Integer.MAX_VALUE);
+		Arrays.fill(srcBestIndex, 0, numSrc, -1);
+
+		computeScores();
+
+		pairs.resize(numSrc);
+		fitQuality.resize(numSrc);
+		Workspace best = getDestinationBest();
+
+		for( int i = 0; i < numSrc; i++ ) {
+			int score = srcBest[i];
+			int match = srcBestIndex[i];
+
+			if( match < 0 || score > maxFitError ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+				continue;
+			}
+
+			boolean valid = true;
+			if( ratioTest < 1.0 && score >= ratioTest*srcSecond[i] )
+				valid = false;
+
+			// see if another source feature has a score as good or better for the destination
+			if( valid && backwardsValidation ) {
+				int bestOther = best.dstBestIndex[match] == i ? best.dstSecond[match] : best.dstBest[match];
+				if( bestOther <= score )
+					valid = false;
+			}
+
+			if( valid ) {
+				pairs.data[i] = match;
+				fitQuality.data[i] = score;
+			} else {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
+			}
+		}
+	}
+
+	/**
+	 * Packs the descriptors into a matrix of longs
+	 */
+	protected long[] pack( FastQueue<TupleDesc_B> list , long[] packed ) {
+		if( packed.length < list.size*words )
+			packed = new long[list.size*words];
+
+		int index = 0;
+		for( int i = 0; i < list.size; i++ ) {
+			int[] data = list.data[i].data;
+			if( (data.length+1)/2 != words )
+				throw new IllegalArgumentException("All descriptors must have the same number of bits");
+
+			for( int k = 0; k < data.length; k += 2 ) {
+				long lower = data[k] & 0xFFFFFFFFL;
+				long upper = k+1 < data.length ? ((long)data[k+1]) << 32 : 0;
+				packed[index++] = lower | upper;
+			}
+		}
+		return packed;
+	}
+
+	/**
+	 * Finds the best scores for all the source features
+	 */
+	protected void computeScores() {
+		workspace.reset(numDst);
+		scoreRows(0, numSrc, workspace);
+	}
+
+	/**
+	 * Returns the best scores for each destination feature after {@link #computeScores()} has been called
+	 */
+	protected Workspace getDestinationBest() {
+		return workspace;
+	}
+
+	/**
+	 * Compares source features from i0 to i1-1 against all the destination features.
+	 */
+	protected void scoreRows( int i0 , int i1 , Workspace work ) {
+		final int words = this.words;
+		final long[] packedSrc = this.packedSrc;
+		final long[] packedDst = this.packedDst;
+		final int[] dstBest = work.dstBest;
+		final int[] dstSecond = work.dstSecond;
+		final int[] dstBestIndex = work.dstBestIndex;
+
+		for( int j0 = 0; j0 < numDst; j0 += tileSize ) {
+			int j1 = Math.min(numDst, j0 + tileSize);
+
+			for( int i = i0; i < i1; i++ ) {
+				int best = srcBest[i];
+				int second = srcSecond[i];
+				int bestIndex = srcBestIndex[i];
+
+				int indexA = i*words;
+				for( int j = j0; j < j1; j++ ) {
+					int indexB = j*words;
+					int distance = 0;
+					for( int k = 0; k < words; k++ ) {
+						distance += Long.bitCount(packedSrc[indexA+k] ^ packedDst[indexB+k]);
+					}
+
+					// same tie breaking as AssociateGreedy, the last best destination is selected
+					if( distance <= best ) {
+						second = best;
+						best = distance;
+						bestIndex = j;
+					} else if( distance < second ) {
+						second = distance;
+					}
+
+					if( distance <= dstBest[j] ) {
+						dstSecond[j] = dstBest[j];
+						dstBest[j] = distance;
+						dstBestIndex[j] = i;
+					} else if( distance < dstSecond[j] ) {
+						dstSecond[j] = distance;
+					}
+				}
+
+				srcBest[i] = best;
+				srcSecond[i] = second;
+				srcBestIndex[i] = bestIndex;
+			}
+		}
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public void setTileSize(int tileSize) {
+		this.tileSize = tileSize;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
+	public void setRatioTest(double ratioTest) {
+		this.ratioTest = ratioTest;
+	}
+
+	/**
+	 * Best and second best score for each destination feature and the source feature with the best score
+	 */
+	protected static class Workspace {
+		int[] dstBest = new int[0];
+		int[] dstSecond = new int[0];
+		int[] dstBestIndex = new int[0];
+
+		public void reset( int numDst ) {
+			if( dstBest.length < numDst ) {
+				dstBest = new int[numDst];
+				dstSecond = new int[numDst];
+				dstBestIndex = new int[numDst];
+			}
+			Arrays.fill(dstBest, 0, numDst, Integer.MAX_VALUE);
+			Arrays.fill(dstSecond, 0, numDst, Integer.MAX_VALUE);
+			Arrays.fill(dstBestIndex, 0, numDst, -1);
+		}
+
+		/**
+		 * Combines the results from another workspace into this one
+		 */
+		public void merge( Workspace src , int numDst ) {
+			for( int j = 0; j < numDst; j++ ) {
+				int a = src.dstBest[j];
+				if( a < dstBest[j] ) {
+					dstSecond[j] = Math.min(dstBest[j], src.dstSecond[j]);
+					dstBest[j] = a;
+					dstBestIndex[j] = src.dstBestIndex[j];
+				} else {
+					dstSecond[j] = Math.min(dstSecond[j], a);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link AssociateGreedyHamming}.  Source features are split into blocks and
+ * each thread compares its block against all the destination features. Each thread keeps track of the best
+ * scores for destination features on its own and these are merged once all the threads have finished.
+ * The associations are identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming_MT extends AssociateGreedyHamming {
+
+	/**
+	 * Minimum number of source features processed by each thread
+	 */
+	public static int MIN_BLOCK = 32;
+
+	// best destination scores for each thread
+	private FastQueue<Workspace> workspaces = new FastQueue<Workspace>(1,Workspace.class,true) {
+		@Override
+		protected Workspace createInstance() {
+			return new Workspace();
+		}
+	};
+
+	public AssociateGreedyHamming_MT(boolean backwardsValidation, double ratioTest) {
+		super(backwardsValidation, ratioTest);
+	}
+
+	@Override
+	protected void computeScores() {
+		BoofConcurrency.loopBlocks(0, numSrc, MIN_BLOCK, workspaces, scoreBlock);
+
+		// merge the best destination scores from each thread
+		if( workspaces.size == 0 ) {
+			workspaces.grow().reset(numDst);
+		}
+		Workspace first = workspaces.get(0);
+		for( int i = 1; i < workspaces.size; i++ ) {
+			first.merge(workspaces.get(i), numDst);
+		}
+	}
+
+	@Override
+	protected Workspace getDestinationBest() {
+		return workspaces.get(0);
+	}
+
+	private final IntRangeObjectConsumer<Workspace> scoreBlock = new IntRangeObjectConsumer<Workspace>() {
+		@Override
+		public void accept(Workspace work, int minInclusive, int maxExclusive) {
+			work.reset(numDst);
+			scoreRows(minInclusive, maxExclusive, work);
+		}
+	};
+}
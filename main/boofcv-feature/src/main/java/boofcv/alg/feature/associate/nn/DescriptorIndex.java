@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Nearest neighbor index which is built directly from a set of feature descriptors.  Unlike the generic
+ * nearest neighbor algorithms in DDogleg descriptors do not need to be converted into double[] arrays and the
+ * distance is computed using the descriptor's native type, e.g. Hamming distance for binary descriptors.
+ *
+ * After the index has been built with {@link #setPoints} it's read only.  Queries are done using a {@link Search},
+ * which contains all the storage needed for a single query.  Each thread should have its own search instance.
+ *
+ * @param <D> Descriptor type
+ *
+ * @author Peter Abeles
+ */
+public interface DescriptorIndex<D> {
+
+	/**
+	 * Builds the index from the list of descriptors.  A reference to the descriptors might be saved internally.
+	 *
+	 * @param points Descriptors which are to be searched.
+	 */
+	void setPoints( FastQueue<D> points );
+
+	/**
+	 * Creates a new search for this index.  A search can be reused after the index has been modified.
+	 */
+	Search<D> createSearch();
+
+	/**
+	 * Storage and algorithm for searching a {@link DescriptorIndex}.  Not thread safe.
+	 */
+	interface Search<D> {
+		/**
+		 * Finds the nearest neighbor to the query.  The search can be approximate.
+		 *
+		 * @param query Descriptor being searched for
+		 * @param maxDistance Maximum allowed distance.  If &lt; 0 then there is no limit.
+		 * @return Index of the nearest neighbor or -1 if none was found.
+		 */
+		int findNearest( D query , double maxDistance );
+
+		/**
+		 * Distance of the nearest neighbor found in the last call to {@link #findNearest}.  Units are
+		 * specific to the index, e.g. Euclidean squared or Hamming.
+		 */
+		double getDistance();
+	}
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_F32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor index for {@link TupleDesc_F32} using a forest of randomized k-d trees with a
+ * best-bin-first search.  Each tree splits a node along a dimension randomly selected from the dimensions with
+ * the largest variance.  All the trees are searched at the same time using a single priority queue and the search
+ * stops after the distance to a maximum number of points has been computed.  Distance is Euclidean squared.
+ * </p>
+ *
+ * <p>
+ * Recall and speed are tuned with the number of trees and the maximum number of checks.  If maxChecks is &le; 0
+ * the search is exact.  Descriptors are copied into a single float array so that the original descriptors
+ * can be modified after the index is built.
+ * </p>
+ *
+ * <p>
+ * Silpa-Anan, Chanop, and Richard Hartley. "Optimised KD-trees for fast image descriptor matching." CVPR 2008
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class KdForestIndex_F32 implements DescriptorIndex<TupleDesc_F32> {
+
+	// number of trees in the forest
+	int numTrees;
+	// the split dimension is randomly selected from this number of dimensions with the largest variance
+	int numConsiderSplit;
+	// maximum number of points which have their distance computed in a query.  <= 0 for exact search
+	int maxChecks;
+	// maximum number of points in a leaf
+	int leafSize = 4;
+	// maximum number of points sampled when computing the variance of a node
+	int sampleSize = 100;
+
+	long randomSeed;
+
+	// descriptors copied into a single array
+	float[] points = new float[0];
+	int dof;
+	int numPoints;
+
+	Tree[] trees = new Tree[0];
+
+	// storage used while building trees
+	GrowQueue_I32 stack = new GrowQueue_I32();
+	double[] mean = new double[0];
+	double[] variance = new double[0];
+	int[] bestDims = new int[0];
+
+	/**
+	 * Configures the index
+	 *
+	 * @param numTrees Number of trees.  Try 4
+	 * @param numConsiderSplit Number of dimensions with the largest variance considered when splitting a node.  Try 5
+	 * @param maxChecks Maximum number of points checked in a search.  Controls speed and recall.  &le; 0 for exact.
+	 *                  Try 128
+	 * @param randomSeed Seed used by random number generator
+	 */
+	public KdForestIndex_F32( int numTrees , int numConsiderSplit , int maxChecks , long randomSeed ) {
+		if( numTrees <= 0 )
+			throw new IllegalArgumentException("There must be at least one tree");
+		if( numConsiderSplit <= 0 )
+			throw new IllegalArgumentException("numConsiderSplit must be more than zero");
+		this.numTrees = numTrees;
+		this.numConsiderSplit = numConsiderSplit;
+		this.maxChecks = maxChecks;
+		this.randomSeed = randomSeed;
+	}
+
+	@Override
+	public void setPoints( FastQueue<TupleDesc_F32> list ) {
+		numPoints = list.size;
+		dof = numPoints > 0 ? list.data[0].value.length : 0;
+
+		if( points.length < numPoints*dof )
+			points = new float[numPoints*dof];
+		for( int i = 0; i < numPoints; i++ ) {
+			float[] value = list.data[i].value;
+			if( value.length != dof )
+				throw new IllegalArgumentException("All descriptors must have the same length");
+			System.arraycopy(value, 0, points, i*dof, dof);
+		}
+
+		if( mean.length < dof ) {
+			mean = new double[dof];
+			variance = new double[dof];
+		}
+		if( bestDims.length < numConsiderSplit )
+			bestDims = new int[numConsiderSplit];
+
+		if( trees.length != numTrees ) {
+			trees = new Tree[numTrees];
+			for( int i = 0; i < numTrees; i++ ) {
+				trees[i] = new Tree();
+			}
+		}
+
+		Random rand = new Random(randomSeed);
+		for( int i = 0; i < numTrees; i++ ) {
+			buildTree(trees[i], rand);
+		}
+	}
+
+	private void buildTree( Tree tree , Random rand ) {
+		tree.reset(numPoints);
+
+		int root = tree.addNode();
+		stack.reset();
+		stack.add(root); stack.add(0); stack.add(numPoints);
+
+		while( stack.size > 0 ) {
+			int end = stack.data[--stack.size];
+			int start = stack.data[--stack.size];
+			int node = stack.data[--stack.size];
+
+			if( end-start <= leafSize || !selectSplit(tree.indexes, start, end, rand) ) {
+				tree.setLeaf(node, start, end);
+				continue;
+			}
+
+			int splitDim = bestDims[0];
+			float splitValue = (float)mean[splitDim];
+			int middle = partition(tree.indexes, start, end, splitDim, splitValue);
+
+			// all the points are on one side. This can happen when there are duplicate points
+			if( middle == start || middle == end ) {
+				tree.setLeaf(node, start, end);
+				continue;
+			}
+
+			int left = tree.addNode();
+			int right = tree.addNode();
+			tree.setSplit(node, splitDim, splitValue, left, right);
+
+			stack.add(left); stack.add(start); stack.add(middle);
+			stack.add(right); stack.add(middle); stack.add(end);
+		}
+	}
+
+	/**
+	 * Computes the mean and variance of a subset of points in the node and randomly selects one of the dimensions
+	 * with the largest variance.  The selected dimension is saved in bestDims[0].
+	 *
+	 * @return false if all the sampled points are identical
+	 */
+	private boolean selectSplit( int[] indexes , int start , int end , Random rand ) {
+		int N = end-start;
+		int step = Math.max(1, N/sampleSize);
+		int count = 0;
+
+		Arrays.fill(mean, 0, dof, 0);
+		Arrays.fill(variance, 0, dof, 0);
+		for( int i = start; i < end; i += step, count++ ) {
+			int index = indexes[i]*dof;
+			for( int k = 0; k < dof; k++ ) {
+				mean[k] += points[index+k];
+			}
+		}
+		for( int k = 0; k < dof; k++ ) {
+			mean[k] /= count;
+		}
+		for( int i = start; i < end; i += step ) {
+			int index = indexes[i]*dof;
+			for( int k = 0; k < dof; k++ ) {
+				double d = points[index+k] - mean[k];
+				variance[k] += d*d;
+			}
+		}
+
+		// find the dimensions with the largest variance using insertion sort
+		int numBest = 0;
+		int maxBest = Math.min(numConsiderSplit, dof);
+		for( int k = 0; k < dof; k++ ) {
+			if( variance[k] == 0 )
+				continue;
+			int j = numBest < maxBest ? numBest++ : maxBest;
+			while( j > 0 && variance[bestDims[j-1]] < variance[k] ) {
+				if( j < maxBest )
+					bestDims[j] = bestDims[j-1];
+				j--;
+			}
+			if( j < maxBest )
+				bestDims[j] = k;
+		}
+
+		if( numBest == 0 )
+			return false;
+		bestDims[0] = bestDims[rand.nextInt(numBest)];
+		return true;
+	}
+
+	/**
+	 * Partitions points so that points with a value less than the split value come first
+	 *
+	 * @return index of the first point in the upper partition
+	 */
+	private int partition( int[] indexes , int start , int end , int dim , float value ) {
+		int i = start, j = end-1;
+		while( i <= j ) {
+			if( points[indexes[i]*dof+dim] < value ) {
+				i++;
+			} else {
+				int tmp = indexes[i]; indexes[i] = indexes[j]; indexes[j] = tmp;
+				j--;
+			}
+		}
+		return i;
+	}
+
+	@Override
+	public Search<TupleDesc_F32> createSearch() {
+		return new ForestSearch();
+	}
+
+	/**
+	 * Best-bin-first search across all the trees in the forest
+	 */
+	public class ForestSearch implements Search<TupleDesc_F32> {
+		// Used to mark which points have already been checked for the current query
+		int[] marks = new int[0];
+		int mark = 0;
+
+		// min heap of nodes which have yet to be searched
+		float[] heapKey = new float[64];
+		int[] heapTree = new int[64];
+		int[] heapNode = new int[64];
+		int heapSize;
+
+		float[] query;
+		int bestIndex;
+		float bestDistance;
+		int checked;
+
+		@Override
+		public int findNearest( TupleDesc_F32 query , double maxDistance ) {
+			bestIndex = -1;
+			bestDistance = Float.MAX_VALUE;
+			checked = 0;
+			heapSize = 0;
+
+			if( numPoints == 0 )
+				return -1;
+			if( query.value.length != dof )
+				throw new IllegalArgumentException("Query has a different length than the index");
+			this.query = query.value;
+
+			if( marks.length < numPoints ) {
+				marks = new int[numPoints];
+				mark = 0;
+			}
+			if( ++mark == Integer.MAX_VALUE ) {
+				Arrays.fill(marks, 0);
+				mark = 1;
+			}
+
+			// search down each tree first so that every tree gets at least one leaf
+			for( int i = 0; i < numTrees; i++ ) {
+				descend(i, 0);
+			}
+
+			while( heapSize > 0 && (maxChecks <= 0 || checked < maxChecks) ) {
+				float key = heapKey[0];
+				int tree = heapTree[0];
+				int node = heapNode[0];
+				popHeap();
+
+				// nothing left which can be closer
+				if( key >= bestDistance )
+					break;
+				descend(tree, node);
+			}
+
+			if( maxDistance >= 0 && bestDistance > maxDistance )
+				return -1;
+			return bestIndex;
+		}
+
+		/**
+		 * Traverses from the node down to a leaf while adding the other branches to the heap
+		 */
+		private void descend( int treeIndex , int node ) {
+			Tree tree = trees[treeIndex];
+			int[] dims = tree.dim.data;
+
+			while( dims[node] >= 0 ) {
+				float diff = query[dims[node]] - tree.split.data[node];
+				int near, far;
+				if( diff < 0 ) {
+					near = tree.left.data[node];
+					far = tree.right.data[node];
+				} else {
+					near = tree.right.data[node];
+					far = tree.left.data[node];
+				}
+				float d2 = diff*diff;
+				if( d2 < bestDistance )
+					pushHeap(d2, treeIndex, far);
+				node = near;
+			}
+
+			int[] indexes = tree.indexes;
+			int end = tree.right.data[node];
+			for( int idx = tree.left.data[node]; idx < end; idx++ ) {
+				int i = indexes[idx];
+				if( marks[i] == mark )
+					continue;
+				marks[i] = mark;
+				checked++;
+
+				int indexP = i*dof;
+				float distance = 0;
+				for( int k = 0; k < dof; k++ ) {
+					float d = query[k] - points[indexP+k];
+					distance += d*d;
+				}
+				// ties are broken by selecting the lowest index so that results don't depend on search order
+				if( distance < bestDistance || (distance == bestDistance && i < bestIndex) ) {
+					bestDistance = distance;
+					bestIndex = i;
+				}
+			}
+		}
+
+		private void pushHeap( float key , int tree , int node ) {
+			if( heapSize == heapKey.length ) {
+				heapKey = Arrays.copyOf(heapKey, heapSize*2);
+				heapTree = Arrays.copyOf(heapTree, heapSize*2);
+				heapNode = Arrays.copyOf(heapNode, heapSize*2);
+			}
+			int i = heapSize++;
+			while( i > 0 ) {
+				int parent = (i-1)/2;
+				if( heapKey[parent] <= key )
+					break;
+				heapKey[i] = heapKey[parent];
+				heapTree[i] = heapTree[parent];
+				heapNode[i] = heapNode[parent];
+				i = parent;
+			}
+			heapKey[i] = key;
+			heapTree[i] = tree;
+			heapNode[i] = node;
+		}
+
+		private void popHeap() {
+			heapSize--;
+			if( heapSize == 0 )
+				return;
+			float key = heapKey[heapSize];
+			int tree = heapTree[heapSize];
+			int node = heapNode[heapSize];
+
+			int i = 0;
+			while( true ) {
+				int child = 2*i+1;
+				if( child >= heapSize )
+					break;
+				if( child+1 < heapSize && heapKey[child+1] < heapKey[child] )
+					child++;
+				if( key <= heapKey[child] )
+					break;
+				heapKey[i] = heapKey[child];
+				heapTree[i] = heapTree[child];
+				heapNode[i] = heapNode[child];
+				i = child;
+			}
+			heapKey[i] = key;
+			heapTree[i] = tree;
+			heapNode[i] = node;
+		}
+
+		@Override
+		public double getDistance() {
+			return bestDistance;
+		}
+
+		/**
+		 * Number of points which had their distance computed in the last query
+		 */
+		public int getChecked() {
+			return checked;
+		}
+	}
+
+	/**
+	 * A single k-d tree.  Nodes are stored in arrays.  For a leaf dim is -1 and left/right are the range
+	 * of points in indexes.
+	 */
+	static class Tree {
+		// order of points in the tree
+		int[] indexes = new int[0];
+
+		GrowQueue_I32 dim = new GrowQueue_I32();
+		GrowQueue_F32 split = new GrowQueue_F32();
+		GrowQueue_I32 left = new GrowQueue_I32();
+		GrowQueue_I32 right = new GrowQueue_I32();
+
+		void reset( int numPoints ) {
+			if( indexes.length < numPoints )
+				indexes = new int[numPoints];
+			for( int i = 0; i < numPoints; i++ ) {
+				indexes[i] = i;
+			}
+			dim.reset();
+			split.reset();
+			left.reset();
+			right.reset();
+		}
+
+		int addNode() {
+			dim.add(-1);
+			split.add(0);
+			left.add(0);
+			right.add(0);
+			return dim.size-1;
+		}
+
+		void setLeaf( int node , int start , int end ) {
+			dim.data[node] = -1;
+			left.data[node] = start;
+			right.data[node] = end;
+		}
+
+		void setSplit( int node , int splitDim , float value , int leftNode , int rightNode ) {
+			dim.data[node] = splitDim;
+			split.data[node] = value;
+			left.data[node] = leftNode;
+			right.data[node] = rightNode;
+		}
+	}
+
+	public int getNumTrees() {
+		return numTrees;
+	}
+
+	public int getMaxChecks() {
+		return maxChecks;
+	}
+
+	public void setMaxChecks(int maxChecks) {
+		this.maxChecks = maxChecks;
+	}
+
+	public int getLeafSize() {
+		return leafSize;
+	}
+
+	public void setLeafSize(int leafSize) {
+		this.leafSize = leafSize;
+	}
+}
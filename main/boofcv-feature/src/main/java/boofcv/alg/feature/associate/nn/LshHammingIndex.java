@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor index for binary descriptors using multi-probe Locality Sensitive Hashing (LSH)
+ * and the Hamming distance.  Each hash table uses a random subset of the descriptor's bits as the key.  Points
+ * which share the same key as the query in any table are candidates and the exact Hamming distance is computed
+ * for each one.  With multi-probe, buckets with keys which are within a Hamming distance of 1 or 2 of the query's
+ * key are also searched.  This improves recall without needing more tables.
+ * </p>
+ *
+ * <p>
+ * Recall and speed are tuned with the number of tables, bits per key, and probe radius.  More tables or a larger probe
+ * radius increases recall and computational cost.  More bits per key reduces the number of candidates in each bucket.
+ * Each table has an array of size 2<sup>bitsPerKey</sup> so bitsPerKey should be kept below 24.
+ * </p>
+ *
+ * <p>
+ * Lv, Qin, et al. "Multi-probe LSH: efficient indexing for high-dimensional similarity search." VLDB 2007
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LshHammingIndex implements DescriptorIndex<TupleDesc_B> {
+
+	// number of hash tables
+	int numTables;
+	// requested number of bits in each key
+	int bitsPerKey;
+	// Hamming distance of keys which are probed.  0, 1, or 2
+	int probeRadius;
+
+	long randomSeed;
+
+	// actual number of bits in each key.  Can be less than bitsPerKey for short descriptors
+	int keyBits;
+	// which bits in the descriptor are used to compute a table's key
+	int[][] tableBits = new int[0][];
+	// start of each bucket in members. Bucket k is from offsets[k] to offsets[k+1]-1
+	int[][] offsets = new int[0][];
+	// index of points in each bucket
+	int[][] members = new int[0][];
+
+	// descriptors packed into 64-bit words
+	long[] packed = new long[0];
+	int words;
+	int numBits;
+	int numPoints;
+
+	// work space used to compute keys
+	int[] work = new int[0];
+
+	/**
+	 * Configures the index
+	 *
+	 * @param numTables Number of hash tables.  Try 8
+	 * @param bitsPerKey Number of bits in each key.  Try 16
+	 * @param probeRadius Buckets with keys within this Hamming distance of the query's key are searched. 0, 1, or 2
+	 * @param randomSeed Seed used to select the bits in each key
+	 */
+	public LshHammingIndex( int numTables , int bitsPerKey , int probeRadius , long randomSeed ) {
+		if( numTables <= 0 )
+			throw new IllegalArgumentException("There must be at least one table");
+		if( bitsPerKey <= 0 || bitsPerKey > 24 )
+			throw new IllegalArgumentException("bitsPerKey must be from 1 to 24");
+		if( probeRadius < 0 || probeRadius > 2 )
+			throw new IllegalArgumentException("probeRadius must be 0, 1, or 2");
+		this.numTables = numTables;
+		this.bitsPerKey = bitsPerKey;
+		this.probeRadius = probeRadius;
+		this.randomSeed = randomSeed;
+	}
+
+	@Override
+	public void setPoints( FastQueue<TupleDesc_B> points ) {
+		numPoints = points.size;
+		numBits = numPoints > 0 ? points.data[0].numBits : 0;
+		words = numPoints > 0 ? (points.data[0].data.length+1)/2 : 0;
+
+		packPoints(points);
+		selectKeyBits();
+
+		if( work.length < numPoints )
+			work = new int[numPoints];
+		if( offsets.length != numTables ) {
+			offsets = new int[numTables][];
+			members = new int[numTables][];
+		}
+
+		int numKeys = 1 << keyBits;
+		for( int table = 0; table < numTables; table++ ) {
+			if( offsets[table] == null || offsets[table].length != numKeys+1 )
+				offsets[table] = new int[numKeys+1];
+			else
+				Arrays.fill(offsets[table], 0);
+			if( members[table] == null || members[table].length < numPoints )
+				members[table] = new int[numPoints];
+
+			// counting sort of points by key
+			int[] offset = offsets[table];
+			int[] member = members[table];
+			int[] bits = tableBits[table];
+			for( int i = 0; i < numPoints; i++ ) {
+				int key = computeKey(points.data[i].data, bits);
+				work[i] = key;
+				offset[key+1]++;
+			}
+			for( int k = 0; k < numKeys; k++ ) {
+				offset[k+1] += offset[k];
+			}
+			// insert in reverse order so that members within a bucket are in increasing order
+			for( int i = numPoints-1; i >= 0; i-- ) {
+				int key = work[i];
+				member[offset[key+1]-1] = i;
+				offset[key+1]--;
+			}
+			// offset[k+1] is now the start of bucket k.  Shift them back
+			System.arraycopy(offset, 1, offset, 0, numKeys);
+			offset[numKeys] = numPoints;
+		}
+	}
+
+	/**
+	 * Packs the descriptors into 64-bit words to speed up computing the Hamming distance
+	 */
+	private void packPoints( FastQueue<TupleDesc_B> points ) {
+		if( packed.length < numPoints*words )
+			packed = new long[numPoints*words];
+
+		for( int i = 0; i < numPoints; i++ ) {
+			TupleDesc_B d = points.data[i];
+			if( d.numBits != numBits )
+				throw new IllegalArgumentException("All descriptors must have the same number of bits");
+			pack(d.data, packed, i*words);
+		}
+	}
+
+	static void pack( int[] data , long[] packed , int index ) {
+		for( int k = 0; k < data.length; k += 2 ) {
+			long lower = data[k] & 0xFFFFFFFFL;
+			long upper = k+1 < data.length ? ((long)data[k+1]) << 32 : 0;
+			packed[index++] = lower | upper;
+		}
+	}
+
+	/**
+	 * Randomly selects which bits are used in each table.  The same bits are selected each time for the same seed.
+	 */
+	private void selectKeyBits() {
+		Random rand = new Random(randomSeed);
+		keyBits = Math.min(bitsPerKey, numBits);
+		if( tableBits.length != numTables )
+			tableBits = new int[numTables][];
+
+		int[] all = new int[numBits];
+		for( int i = 0; i < numBits; i++ ) {
+			all[i] = i;
+		}
+
+		for( int table = 0; table < numTables; table++ ) {
+			// partial Fisher-Yates shuffle to select distinct bits
+			for( int i = 0; i < keyBits; i++ ) {
+				int j = i + rand.nextInt(numBits-i);
+				int tmp = all[i]; all[i] = all[j]; all[j] = tmp;
+			}
+			tableBits[table] = Arrays.copyOf(all, keyBits);
+		}
+	}
+
+	static int computeKey( int[] data , int[] bits ) {
+		int key = 0;
+		for( int i = 0; i < bits.length; i++ ) {
+			int b = bits[i];
+			key |= ((data[b >> 5] >>> (b & 0x1F)) & 0x01) << i;
+		}
+		return key;
+	}
+
+	@Override
+	public Search<TupleDesc_B> createSearch() {
+		return new LshSearch();
+	}
+
+	/**
+	 * Searches the hash tables for the nearest neighbor
+	 */
+	public class LshSearch implements Search<TupleDesc_B> {
+		// The query packed into 64-bit words
+		long[] query = new long[0];
+		// Used to mark which points have already been checked for the current query
+		int[] marks = new int[0];
+		int mark = 0;
+
+		int bestIndex;
+		int bestDistance;
+
+		// number of candidates checked in the last query
+		int checked;
+
+		@Override
+		public int findNearest( TupleDesc_B query , double maxDistance ) {
+			bestIndex = -1;
+			bestDistance = Integer.MAX_VALUE;
+			checked = 0;
+
+			if( numPoints == 0 )
+				return -1;
+			if( query.numBits != numBits )
+				throw new IllegalArgumentException("Query has a different number of bits than the index");
+
+			if( this.query.length < words )
+				this.query = new long[words];
+			pack(query.data, this.query, 0);
+
+			if( marks.length < numPoints ) {
+				marks = new int[numPoints];
+				mark = 0;
+			}
+			if( ++mark == Integer.MAX_VALUE ) {
+				Arrays.fill(marks, 0);
+				mark = 1;
+			}
+
+			for( int table = 0; table < numTables; table++ ) {
+				int key = computeKey(query.data, tableBits[table]);
+				checkBucket(table, key);
+				if( probeRadius >= 1 ) {
+					for( int i = 0; i < keyBits; i++ ) {
+						int keyI = key ^ (1 << i);
+						checkBucket(table, keyI);
+						if( probeRadius >= 2 ) {
+							for( int j = i+1; j < keyBits; j++ ) {
+								checkBucket(table, keyI ^ (1 << j));
+							}
+						}
+					}
+				}
+			}
+
+			if( maxDistance >= 0 && bestDistance > maxDistance )
+				return -1;
+			return bestIndex;
+		}
+
+		private void checkBucket( int table , int key ) {
+			int[] offset = offsets[table];
+			int[] member = members[table];
+			int end = offset[key+1];
+			for( int idx = offset[key]; idx < end; idx++ ) {
+				int i = member[idx];
+				if( marks[i] == mark )
+					continue;
+				marks[i] = mark;
+				checked++;
+
+				int indexP = i*words;
+				int distance = 0;
+				for( int k = 0; k < words; k++ ) {
+					distance += Long.bitCount(query[k] ^ packed[indexP+k]);
+				}
+				// ties are broken by selecting the lowest index so that results don't depend on probe order
+				if( distance < bestDistance || (distance == bestDistance && i < bestIndex) ) {
+					bestDistance = distance;
+					bestIndex = i;
+				}
+			}
+		}
+
+		@Override
+		public double getDistance() {
+			return bestDistance;
+		}
+
+		/**
+		 * Number of candidate points which had their distance computed in the last query
+		 */
+		public int getChecked() {
+			return checked;
+		}
+	}
+
+	public int getNumTables() {
+		return numTables;
+	}
+
+	public int getBitsPerKey() {
+		return bitsPerKey;
+	}
+
+	public int getProbeRadius() {
+		return probeRadius;
+	}
+
+	public void setProbeRadius(int probeRadius) {
+		if( probeRadius < 0 || probeRadius > 2 )
+			throw new IllegalArgumentException("probeRadius must be 0, 1, or 2");
+		this.probeRadius = probeRadius;
+	}
+}
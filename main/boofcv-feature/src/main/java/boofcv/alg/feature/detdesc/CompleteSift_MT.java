@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detect.extract.NonMaxLimiter;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link CompleteSift}.  The scales inside of each octave are split into blocks.
+ * Features are detected, their orientation estimated, and described inside of each block in parallel.  Each block
+ * has its own detector, orientation, and descriptor.  Results are added in order of scale once all the blocks are
+ * done, so the output is identical to the single threaded version, independent of the number of threads.
+ *
+ * @author Peter Abeles
+ */
+public class CompleteSift_MT extends CompleteSift
+{
+	// detects and describes features inside of each block of scales
+	private FastQueue<Worker> workers;
+
+	/**
+	 * Configures SIFT.  See {@link CompleteSift#CompleteSift} for a description of each parameter.
+	 *
+	 * @param extractor Creates a new spatial feature detector for each thread
+	 * @param orientation Creates a new orientation estimator for each thread
+	 * @param describe Creates a new descriptor for each thread
+	 */
+	public CompleteSift_MT(final SiftScaleSpace scaleSpace, final double edgeR,
+						   final InstanceFactory<NonMaxLimiter> extractor,
+						   final InstanceFactory<OrientationHistogramSift<GrayF32>> orientation,
+						   final InstanceFactory<DescribePointSift<GrayF32>> describe) {
+		super(scaleSpace, edgeR, extractor.newInstance(), orientation.newInstance(), describe.newInstance());
+
+		workers = new FastQueue<Worker>(1,Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(scaleSpace, edgeR, extractor.newInstance(),
+						orientation.newInstance(), describe.newInstance());
+			}
+		};
+	}
+
+	@Override
+	protected void detectOctave() {
+		BoofConcurrency.loopBlocks(1, scaleSpace.getNumScales()+1, 1, workers, detectBlock);
+
+		// blocks are in order of scale
+		for (int i = 0; i < workers.size; i++) {
+			Worker w = workers.get(i);
+			FastQueue<ScalePoint> found = w.getDetections();
+
+			int offset = detections.size;
+			for (int j = 0; j < found.size; j++) {
+				detections.grow().set(found.get(j));
+			}
+
+			// locations reference the worker's detections. Find the equivalent detection in this class
+			int index = 0;
+			for (int j = 0; j < w.features.size; j++) {
+				ScalePoint p = w.locations.get(j);
+				while( found.get(index) != p )
+					index++;
+
+				features.grow().setTo(w.features.get(j));
+				locations.add(detections.get(offset+index));
+				orientations.add(w.orientations.get(j));
+			}
+		}
+	}
+
+	private final IntRangeObjectConsumer<Worker> detectBlock = new IntRangeObjectConsumer<Worker>() {
+		@Override
+		public void accept(Worker worker, int minInclusive, int maxExclusive) {
+			worker.process(pixelScaleToInput, minInclusive, maxExclusive);
+		}
+	};
+
+	/**
+	 * Detects and describes features inside of a block of scales
+	 */
+	private static class Worker extends CompleteSift {
+		Worker(SiftScaleSpace scaleSpace, double edgeR, NonMaxLimiter extractor,
+			   OrientationHistogramSift<GrayF32> orientation, DescribePointSift<GrayF32> describe) {
+			super(scaleSpace, edgeR, extractor, orientation, describe);
+		}
+
+		void process( double pixelScaleToInput , int scale0 , int scale1 ) {
+			this.pixelScaleToInput = pixelScaleToInput;
+			detections.reset();
+			features.reset();
+			locations.reset();
+			orientations.reset();
+			detectScales(scale0, scale1);
+		}
+	}
+}
@@ -47,17 +47,17 @@ import java.util.List;
 public class DetectDescribeSurfPlanar<II extends ImageGray<II>>
 {
 	// SURF algorithms
-	private FastHessianFeatureDetector<II> detector;
-	private OrientationIntegral<II> orientation;
-	private DescribePointSurfPlanar<II> describe;
+	protected FastHessianFeatureDetector<II> detector;
+	protected OrientationIntegral<II> orientation;
+	protected DescribePointSurfPlanar<II> describe;
 
 
 	// storage for computed features
-	private SurfFeatureQueue descriptions;
+	protected SurfFeatureQueue descriptions;
 	// detected scale points
-	private List<ScalePoint> foundPoints;
+	protected List<ScalePoint> foundPoints;
 	// orientation of features
-	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
+	protected GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 
 	public DetectDescribeSurfPlanar(FastHessianFeatureDetector<II> detector,
 									OrientationIntegral<II> orientation,
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.extract.SelectNBestFeatures;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastHessianFeatureDetector}.  Instead of processing one octave at a time,
+ * the feature intensity is computed for every scale in every octave at once, then all the levels in scale-space
+ * are searched for local maximums at once.  Each thread has its own non-maximum suppression algorithm.  Features
+ * are added to the output in the same order as the single threaded version, so the results are identical.
+ * </p>
+ *
+ * <p>
+ * The intensity image for every scale is saved, which requires more memory than the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageGray<II>> extends FastHessianFeatureDetector<II> {
+
+	// feature intensity for each scale inside of each octave. [octave][scale]
+	private GrayF32[][] intensity;
+	// feature sizes in each octave
+	private int[][] octaveSizes;
+	// pixel skip factor in each octave
+	private int[] octaveSkips;
+	// number of octaves which are processed in the current image
+	private int totalOctaves;
+
+	// features found in each level of scale-space, indexed by job
+	private FastQueue<ScalePoint>[] levelPoints;
+
+	// workspace for each thread
+	private FastQueue<ThreadData> workspace;
+
+	// reference to the integral image being processed
+	private II integral;
+
+	/**
+	 * Configures the detector.  See {@link FastHessianFeatureDetector} for a description of each parameter.
+	 *
+	 * @param extractor Creates a new feature extractor for each thread.
+	 */
+	public FastHessianFeatureDetector_MT(final InstanceFactory<NonMaxSuppression> extractor,
+										 final int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves, int scaleStepSize) {
+		super(extractor.newInstance(), maxFeaturesPerScale, initialSampleRate, initialSize,
+				numberScalesPerOctave, numberOfOctaves, scaleStepSize);
+
+		intensity = new GrayF32[numberOfOctaves][numberScalesPerOctave];
+		octaveSizes = new int[numberOfOctaves][numberScalesPerOctave];
+		octaveSkips = new int[numberOfOctaves];
+
+		int numLevels = Math.max(0,numberScalesPerOctave-2);
+		levelPoints = new FastQueue[numberOfOctaves*numLevels];
+		for (int i = 0; i < levelPoints.length; i++) {
+			levelPoints[i] = new FastQueue<>(10, ScalePoint.class, true);
+		}
+
+		workspace = new FastQueue<ThreadData>(1,(Class)ThreadData.class,true) {
+			@Override
+			protected ThreadData createInstance() {
+				return new ThreadData(extractor.newInstance(),maxFeaturesPerScale);
+			}
+		};
+	}
+
+	/**
+	 * Detect interest points inside of the image.
+	 *
+	 * @param integral Image transformed into an integral image.
+	 */
+	@Override
+	public void detect( II integral ) {
+		this.integral = integral;
+		foundPoints.reset();
+
+		// Determine the feature sizes and sampling of each octave the same way the single threaded version does
+		int skip = initialSampleRate;
+		int sizeStep = scaleStepSize;
+		int octaveSize = initialSize;
+		totalOctaves = 0;
+		for( int octave = 0; octave < numberOfOctaves; octave++ ) {
+			int[] sizes = octaveSizes[octave];
+			for( int i = 0; i < sizes.length; i++ ) {
+				sizes[i] = octaveSize + i*sizeStep;
+			}
+			int maxSize = sizes[sizes.length-1];
+			if( maxSize > integral.width || maxSize > integral.height )
+				break;
+			octaveSkips[octave] = skip;
+			totalOctaves++;
+			skip += skip;
+			octaveSize += sizeStep;
+			sizeStep += sizeStep;
+		}
+
+		// Jobs are ordered so that consecutive jobs are in different octaves.  Images in lower octaves are much
+		// larger and this spreads the work more evenly between the blocks
+		int numScales = sizes.length;
+		BoofConcurrency.loopBlocks(0, totalOctaves*numScales, computeIntensity);
+
+		int numLevels = numScales-2;
+		if( numLevels <= 0 ) {
+			this.integral = null;
+			return;
+		}
+		BoofConcurrency.loopBlocks(0, totalOctaves*numLevels, 1, workspace, findMaximums);
+
+		// Combine results in the same order as the single threaded version
+		for( int octave = 0; octave < totalOctaves; octave++ ) {
+			for( int level = 0; level < numLevels; level++ ) {
+				FastQueue<ScalePoint> found = levelPoints[level*totalOctaves + octave];
+				for( int i = 0; i < found.size; i++ ) {
+					foundPoints.grow().set(found.get(i));
+				}
+			}
+		}
+
+		this.integral = null;
+	}
+
+	/**
+	 * Computes the feature intensity for a range of jobs. Job = scale*totalOctaves + octave
+	 */
+	private final IntRangeConsumer computeIntensity = new IntRangeConsumer() {
+		@Override
+		public void accept(int minInclusive, int maxExclusive) {
+			for( int job = minInclusive; job < maxExclusive; job++ ) {
+				int octave = job % totalOctaves;
+				int scale = job / totalOctaves;
+				int skip = octaveSkips[octave];
+
+				int w = integral.width/skip;
+				int h = integral.height/skip;
+
+				GrayF32 image = intensity[octave][scale];
+				if( image == null ) {
+					image = intensity[octave][scale] = new GrayF32(w,h);
+				} else {
+					image.reshape(w,h);
+				}
+				GIntegralImageFeatureIntensity.hessian(integral,skip,octaveSizes[octave][scale],image);
+			}
+		}
+	};
+
+	/**
+	 * Searches for local maximums in a range of jobs.  Job = (level-1)*totalOctaves + octave
+	 */
+	private final IntRangeObjectConsumer<ThreadData> findMaximums = new IntRangeObjectConsumer<ThreadData>() {
+		@Override
+		public void accept(ThreadData data, int minInclusive, int maxExclusive) {
+			for( int job = minInclusive; job < maxExclusive; job++ ) {
+				int octave = job % totalOctaves;
+				int level = job / totalOctaves + 1;
+
+				GrayF32[] images = intensity[octave];
+				FastQueue<ScalePoint> found = levelPoints[job];
+				found.reset();
+				findLocalScaleSpaceMax(images[level-1],images[level],images[level+1],
+						octaveSizes[octave],level,octaveSkips[octave],
+						data.extractor,data.sortBest,data.foundFeatures,found);
+			}
+		}
+	};
+
+	/**
+	 * Algorithms and storage used by a single thread
+	 */
+	private static class ThreadData {
+		NonMaxSuppression extractor;
+		SelectNBestFeatures sortBest;
+		QueueCorner foundFeatures = new QueueCorner(100);
+
+		ThreadData( NonMaxSuppression extractor , int maxFeaturesPerScale ) {
+			this.extractor = extractor;
+			if( maxFeaturesPerScale > 0 )
+				sortBest = new SelectNBestFeatures(maxFeaturesPerScale);
+		}
+	}
+}
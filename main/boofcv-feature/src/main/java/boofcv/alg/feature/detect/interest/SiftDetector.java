@@ -172,22 +172,40 @@ public class SiftDetector {
 			pixelScaleToInput = scaleSpace.pixelScaleCurrentToInput();
 
 			// detect features in the image
-			for (int j = 1; j < scaleSpace.getNumScales()+1; j++) {
+			detectOctave();
+		} while( scaleSpace.computeNextOctave() );
+	}
 
-				// not really sure how to compute the scale for features found at a particular DoG image
-				// using the average resulted in less visually appealing circles in a test image
-				sigmaLower  = scaleSpace.computeSigmaScale( j - 1);
-				sigmaTarget = scaleSpace.computeSigmaScale( j    );
-				sigmaUpper  = scaleSpace.computeSigmaScale( j + 1);
+	/**
+	 * Detects features inside all the DoG images in the current octave which have a DoG image above and below them.
+	 */
+	protected void detectOctave() {
+		detectScales(1, scaleSpace.getNumScales()+1);
+	}
 
-				// grab the local DoG scale space images
-				dogLower  = scaleSpace.getDifferenceOfGaussian(j-1);
-				dogTarget = scaleSpace.getDifferenceOfGaussian(j  );
-				dogUpper  = scaleSpace.getDifferenceOfGaussian(j+1);
+	/**
+	 * Detects features inside a range of DoG images in the current octave.  Features are added in the order of
+	 * their scale.
+	 *
+	 * @param scale0 First DoG image, inclusive.  Must be &ge; 1
+	 * @param scale1 Last DoG image, exclusive.  Must be &le; number of scales + 1
+	 */
+	protected void detectScales( int scale0 , int scale1 ) {
+		for (int j = scale0; j < scale1; j++) {
 
-				detectFeatures(j);
-			}
-		} while( scaleSpace.computeNextOctave() );
+			// not really sure how to compute the scale for features found at a particular DoG image
+			// using the average resulted in less visually appealing circles in a test image
+			sigmaLower  = scaleSpace.computeSigmaScale( j - 1);
+			sigmaTarget = scaleSpace.computeSigmaScale( j    );
+			sigmaUpper  = scaleSpace.computeSigmaScale( j + 1);
+
+			// grab the local DoG scale space images
+			dogLower  = scaleSpace.getDifferenceOfGaussian(j-1);
+			dogTarget = scaleSpace.getDifferenceOfGaussian(j  );
+			dogUpper  = scaleSpace.getDifferenceOfGaussian(j+1);
+
+			detectFeatures(j);
+		}
 	}
 
 	/**
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxLimiter;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.feature.ScalePoint;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SiftDetector}.  The scales inside of each octave are split into blocks and
+ * features are detected inside of each block in parallel.  Each block has its own non-maximum suppression
+ * and edge detector.  Once all the blocks are done their features are added in order of scale, so the
+ * features are the same and in the same order as the single threaded version, independent of the number of threads.
+ * </p>
+ *
+ * <p>
+ * The scale-space is computed in the calling thread.  Its convolutions are concurrent when
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SiftDetector_MT extends SiftDetector {
+
+	// detects features inside of each block of scales
+	private FastQueue<SiftDetector> workers;
+
+	/**
+	 * Configures SIFT detector.  See {@link SiftDetector#SiftDetector(SiftScaleSpace, double, NonMaxLimiter)}
+	 *
+	 * @param extractor Creates a new spatial feature detector for each thread
+	 */
+	public SiftDetector_MT(final SiftScaleSpace scaleSpace ,
+						   final double edgeR ,
+						   final InstanceFactory<NonMaxLimiter> extractor ) {
+		super(scaleSpace, edgeR, extractor.newInstance());
+
+		workers = new FastQueue<SiftDetector>(1,SiftDetector.class,true) {
+			@Override
+			protected SiftDetector createInstance() {
+				return new SiftDetector(scaleSpace,edgeR,extractor.newInstance());
+			}
+		};
+	}
+
+	@Override
+	protected void detectOctave() {
+		BoofConcurrency.loopBlocks(1, scaleSpace.getNumScales()+1, 1, workers, detectBlock);
+
+		// blocks are in order of scale
+		for (int i = 0; i < workers.size; i++) {
+			FastQueue<ScalePoint> found = workers.get(i).detections;
+			for (int j = 0; j < found.size; j++) {
+				ScalePoint p = detections.grow();
+				p.set(found.get(j));
+				handleDetection(p);
+			}
+		}
+	}
+
+	private final IntRangeObjectConsumer<SiftDetector> detectBlock = new IntRangeObjectConsumer<SiftDetector>() {
+		@Override
+		public void accept(SiftDetector worker, int minInclusive, int maxExclusive) {
+			worker.pixelScaleToInput = pixelScaleToInput;
+			worker.detections.reset();
+			worker.detectScales(minInclusive, maxExclusive);
+		}
+	};
+}
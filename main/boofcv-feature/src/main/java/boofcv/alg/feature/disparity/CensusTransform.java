@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * The Census Transform [1] encodes the local structure around each pixel into a bit string.  Each pixel inside
+ * a square region centered around the target pixel is compared against the center pixel.  If it is brighter
+ * the corresponding bit is set to 1, otherwise 0.  Bits are ordered in a row-major order across the region,
+ * skipping the center pixel.  The distance between two descriptors is their Hamming distance.  Since only the
+ * relative order of pixel values is encoded it is invariant to changes in gain and bias.
+ * </p>
+ *
+ * <p>
+ * Descriptors with a radius of 1 or 2 (8 or 24 bits) are packed into {@link GrayS32} and with a radius of 3
+ * (48 bits) into {@link GrayS64}. Pixels outside the image are set to the value of the closest pixel inside
+ * the image.
+ * </p>
+ *
+ * <p>
+ * [1] Zabih, Ramin, and John Woodfill. "Non-parametric local transforms for computing visual correspondence."
+ * European conference on computer vision. Springer, Berlin, Heidelberg, 1994.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CensusTransform {
+
+	/**
+	 * Returns the number of bits in a descriptor with the specified radius
+	 */
+	public static int numberOfBits( int radius ) {
+		int width = 2*radius+1;
+		return width*width-1;
+	}
+
+	/**
+	 * Returns the type of image which is needed to store descriptors with the specified radius.
+	 */
+	public static Class<ImageGray> getOutputType( int radius ) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be at least 1");
+		int bits = numberOfBits(radius);
+		if( bits <= 32 )
+			return (Class)GrayS32.class;
+		else if( bits <= 64 )
+			return (Class)GrayS64.class;
+		else
+			throw new IllegalArgumentException("Radius is too large. Descriptor can't fit inside of 64-bits");
+	}
+
+	/**
+	 * Computes the census transform of the input image.  The output image's type is specified by
+	 * {@link #getOutputType(int)}.
+	 *
+	 * @param input Input image
+	 * @param radius Radius of the square region
+	 * @param output Storage for the census descriptor of each pixel.  Reshaped to match the input if needed.
+	 */
+	public static void transform( ImageGray input , int radius , ImageGray output ) {
+		if( input instanceof GrayU8 ) {
+			if( output instanceof GrayS32 )
+				transform((GrayU8)input, radius, (GrayS32)output);
+			else
+				transform((GrayU8)input, radius, (GrayS64)output);
+		} else if( input instanceof GrayS16 ) {
+			if( output instanceof GrayS32 )
+				transform((GrayS16)input, radius, (GrayS32)output);
+			else
+				transform((GrayS16)input, radius, (GrayS64)output);
+		} else if( input instanceof GrayF32 ) {
+			if( output instanceof GrayS32 )
+				transform((GrayF32)input, radius, (GrayS32)output);
+			else
+				transform((GrayF32)input, radius, (GrayS64)output);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+input.getClass().getSimpleName());
+		}
+	}
+
+	public static void transform( GrayU8 input , int radius , GrayS32 output ) {
+		checkRadius(radius, 32);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				int center = input.data[indexIn] & 0xFF;
+				int census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				int center = input.unsafe_get(x, y);
+				int census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1 << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	public static void transform( GrayU8 input , int radius , GrayS64 output ) {
+		checkRadius(radius, 64);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				int center = input.data[indexIn] & 0xFF;
+				long census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]] & 0xFF) > center )
+						census |= 1L << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				int center = input.unsafe_get(x, y);
+				long census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1L << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	public static void transform( GrayS16 input , int radius , GrayS32 output ) {
+		checkRadius(radius, 32);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				int center = input.data[indexIn];
+				int census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]]) > center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				int center = input.unsafe_get(x, y);
+				int census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1 << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	public static void transform( GrayS16 input , int radius , GrayS64 output ) {
+		checkRadius(radius, 64);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				int center = input.data[indexIn];
+				long census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]]) > center )
+						census |= 1L << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				int center = input.unsafe_get(x, y);
+				long census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1L << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	public static void transform( GrayF32 input , int radius , GrayS32 output ) {
+		checkRadius(radius, 32);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				float center = input.data[indexIn];
+				int census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]]) > center )
+						census |= 1 << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				float center = input.unsafe_get(x, y);
+				int census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1 << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	public static void transform( GrayF32 input , int radius , GrayS64 output ) {
+		checkRadius(radius, 64);
+		if( output.width != input.width || output.height != input.height )
+			output.reshape(input.width, input.height);
+
+		int[] offsets = createOffsets(radius, input.stride);
+
+		int x0 = Math.min(radius, input.width), x1 = Math.max(x0, input.width-radius);
+		int y0 = Math.min(radius, input.height), y1 = Math.max(y0, input.height-radius);
+
+		// inner image where every sample is inside the image
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+			for( int x = x0; x < x1; x++ , indexIn++ ) {
+				float center = input.data[indexIn];
+				long census = 0;
+				for( int i = 0; i < offsets.length; i++ ) {
+					if( (input.data[indexIn+offsets[i]]) > center )
+						census |= 1L << i;
+				}
+				output.data[indexOut++] = census;
+			}
+		}
+
+		// image border
+		for( int y = 0; y < input.height; y++ ) {
+			boolean inner = y >= y0 && y < y1;
+			for( int x = 0; x < input.width; x++ ) {
+				if( inner && x == x0 && x1 > x0 ) {
+					x = x1-1;
+					continue;
+				}
+				float center = input.unsafe_get(x, y);
+				long census = 0;
+				int bit = 0;
+				for( int dy = -radius; dy <= radius; dy++ ) {
+					int yy = clamp(y+dy, input.height);
+					for( int dx = -radius; dx <= radius; dx++ ) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						if( input.unsafe_get(clamp(x+dx, input.width), yy) > center )
+							census |= 1L << bit;
+						bit++;
+					}
+				}
+				output.unsafe_set(x, y, census);
+			}
+		}
+	}
+
+	/**
+	 * Index offsets from the center pixel to each sample in the region, in the same order as the bits
+	 */
+	private static int[] createOffsets( int radius , int stride ) {
+		int[] offsets = new int[ numberOfBits(radius) ];
+		int i = 0;
+		for( int dy = -radius; dy <= radius; dy++ ) {
+			for( int dx = -radius; dx <= radius; dx++ ) {
+				if( dx == 0 && dy == 0 )
+					continue;
+				offsets[i++] = dy*stride + dx;
+			}
+		}
+		return offsets;
+	}
+
+	private static void checkRadius( int radius , int maxBits ) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be at least 1");
+		if( numberOfBits(radius) > maxBits )
+			throw new IllegalArgumentException("Radius "+radius+" can't be stored in "+maxBits+"-bits");
+	}
+
+	private static int clamp( int value , int length ) {
+		if( value < 0 )
+			return 0;
+		if( value >= length )
+			return length-1;
+		return value;
+	}
+}
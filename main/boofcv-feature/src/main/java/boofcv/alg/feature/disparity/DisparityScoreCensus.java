@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * <p>
+ * Computes the disparity score using the Hamming distance between census descriptors summed across a rectangular
+ * region.  The {@link CensusTransform} of the left and right images is computed first, then the descriptor images
+ * are scored by an algorithm which uses the same rolling window of row scores as {@link DisparityScoreSadRect}.
+ * The cost of each pixel is a single XOR and bit count.  Since the census descriptor only encodes the relative
+ * order of pixel values it is robust to changes in lighting between the two cameras.
+ * </p>
+ *
+ * <p>
+ * Scores are integers, so the same {@link DisparitySelect} algorithms as SAD can be used. The maximum error
+ * per pixel is the number of bits which can differ.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreCensus<I extends ImageGray<I>, C extends ImageGray<C>, DI extends ImageGray<DI>>
+		extends DisparityScoreRowFormat<I, DI>
+{
+	// radius of the square region the census descriptor is computed from
+	int censusRadius;
+
+	// scores the census descriptors
+	DisparityScoreRowFormat<C,DI> scorer;
+
+	// census descriptors of the left and right images
+	C censusLeft;
+	C censusRight;
+
+	Class<I> inputType;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param censusRadius Radius of the census descriptor's square region.
+	 * @param scorer Computes the disparity from census descriptor images. Its input type must match
+	 *               {@link CensusTransform#getOutputType(int)}.
+	 * @param inputType Type of input image
+	 */
+	public DisparityScoreCensus( int censusRadius,
+								 DisparityScoreRowFormat<C,DI> scorer ,
+								 Class<I> inputType ) {
+		super(scorer.minDisparity, scorer.maxDisparity, scorer.radiusX, scorer.radiusY);
+		if( CensusTransform.getOutputType(censusRadius) != (Class)scorer.getInputType() )
+			throw new IllegalArgumentException("Scorer input type doesn't match the census descriptor type");
+
+		this.censusRadius = censusRadius;
+		this.scorer = scorer;
+		this.inputType = inputType;
+
+		censusLeft = GeneralizedImageOps.createSingleBand(scorer.getInputType(),1,1);
+		censusRight = GeneralizedImageOps.createSingleBand(scorer.getInputType(),1,1);
+	}
+
+	@Override
+	public void _process(I left, I right, DI disparity) {
+		CensusTransform.transform(left, censusRadius, censusLeft);
+		CensusTransform.transform(right, censusRadius, censusRight);
+
+		scorer.process(censusLeft, censusRight, disparity);
+	}
+
+	public int getCensusRadius() {
+		return censusRadius;
+	}
+
+	public C getCensusLeft() {
+		return censusLeft;
+	}
+
+	public C getCensusRight() {
+		return censusRight;
+	}
+
+	@Override
+	public Class<I> getInputType() {
+		return inputType;
+	}
+
+	@Override
+	public Class<DI> getDisparityType() {
+		return scorer.getDisparityType();
+	}
+
+	@Override
+	public int getBorderX() {
+		return scorer.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return scorer.getBorderY();
+	}
+}
@@ -126,4 +126,12 @@ public abstract class DisparityScoreRowFormat
 	public int getBorderY() {
 		return radiusY;
 	}
+
+	public int getRadiusX() {
+		return radiusX;
+	}
+
+	public int getRadiusY() {
+		return radiusY;
+	}
 }
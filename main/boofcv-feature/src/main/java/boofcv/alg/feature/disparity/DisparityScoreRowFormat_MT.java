@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DisparityScoreRowFormat}.  The rows in the disparity image are split into
+ * horizontal bands and each band is processed by its own instance of a single threaded algorithm.  Each band
+ * has its own rolling score buffers and disparity selector.  The input images are expanded by a halo
+ * of {@link #getBorderY()} rows above and below each band, so every row is scored using the same pixels as the
+ * single threaded version.
+ * </p>
+ *
+ * <p>
+ * The output is identical to the single threaded algorithm when scores are integers, e.g. for {@link boofcv.struct.image.GrayU8}
+ * and {@link boofcv.struct.image.GrayS16} input images.  With floating point scores the running sum along the
+ * y-axis restarts at the top of each band, so scores can differ by round off error.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DisparityScoreRowFormat_MT<I extends ImageGray<I>, DI extends ImageGray<DI>>
+		extends DisparityScoreRowFormat<I, DI>
+{
+	// used to describe the algorithm.  Processes the whole image when only one band is needed
+	private DisparityScoreRowFormat<I,DI> prototype;
+
+	// algorithm and sub-images for each band
+	private FastQueue<Band> bands;
+
+	// references to the images being processed
+	private I left,right;
+	private DI disparity;
+
+	/**
+	 * Configures the concurrent algorithm
+	 *
+	 * @param factory Creates a new single threaded instance of the algorithm for each band.  All instances
+	 *                must have the same configuration.
+	 */
+	public DisparityScoreRowFormat_MT( final InstanceFactory<DisparityScoreRowFormat<I,DI>> factory ) {
+		this(factory.newInstance(), factory);
+	}
+
+	private DisparityScoreRowFormat_MT( DisparityScoreRowFormat<I,DI> prototype ,
+										final InstanceFactory<DisparityScoreRowFormat<I,DI>> factory ) {
+		super(prototype.minDisparity, prototype.maxDisparity, prototype.radiusX, prototype.radiusY);
+		this.prototype = prototype;
+
+		bands = new FastQueue<Band>(1,(Class)Band.class,true) {
+			@Override
+			protected Band createInstance() {
+				return new Band(factory.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void _process(I left, I right, DI disparity) {
+		int borderY = getBorderY();
+
+		// Bands are made larger than the halo to reduce the amount of redundant work
+		int minBand = Math.max(ImageRowBands.MIN_BAND_HEIGHT, 4*borderY);
+		int rowsInside = left.height - 2*borderY;
+		if( BoofConcurrency.computeNumBlocks(rowsInside,minBand) <= 1 ) {
+			prototype.process(left, right, disparity);
+			return;
+		}
+
+		this.left = left;
+		this.right = right;
+		this.disparity = disparity;
+
+		BoofConcurrency.loopBlocks(borderY, left.height - borderY, minBand, bands, processBand);
+
+		this.left = null;
+		this.right = null;
+		this.disparity = null;
+	}
+
+	private final IntRangeObjectConsumer<Band> processBand = new IntRangeObjectConsumer<Band>() {
+		@Override
+		public void accept(Band band, int minInclusive, int maxExclusive) {
+			int borderY = getBorderY();
+			int y0 = minInclusive - borderY;
+			int y1 = maxExclusive + borderY;
+
+			band.left = left.subimage(0, y0, left.width, y1, band.left);
+			band.right = right.subimage(0, y0, right.width, y1, band.right);
+			band.disparity = disparity.subimage(0, y0, disparity.width, y1, band.disparity);
+
+			band.alg.process(band.left, band.right, band.disparity);
+		}
+	};
+
+	@Override
+	public Class<I> getInputType() {
+		return prototype.getInputType();
+	}
+
+	@Override
+	public Class<DI> getDisparityType() {
+		return prototype.getDisparityType();
+	}
+
+	@Override
+	public int getBorderX() {
+		return prototype.getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return prototype.getBorderY();
+	}
+
+	/**
+	 * Single threaded algorithm and the sub-images it processes for one band
+	 */
+	private class Band {
+		DisparityScoreRowFormat<I,DI> alg;
+		I left,right;
+		DI disparity;
+
+		Band(DisparityScoreRowFormat<I, DI> alg) {
+			this.alg = alg;
+		}
+	}
+}
@@ -20,6 +20,8 @@ package boofcv.alg.feature.disparity.impl;
 
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
 import boofcv.struct.image.GrayU8;
 
 /**
@@ -235,4 +237,110 @@ public class UtilDisparityScore {
 			elementScore[rCol] = Math.abs(diff);
 		}
 	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between census descriptors.
+	 *
+	 * @see #computeScoreRow(GrayU8, GrayU8, int, int[], int, int, int, int[])
+	 */
+	public static void computeScoreRow(GrayS32 left, GrayS32 right, int row, int[] scores,
+									   int minDisparity , int maxDisparity , int regionWidth ,
+									   int elementScore[] ) {
+
+		// disparity as the outer loop to maximize common elements in inner loops, reducing redundant calculations
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			// number of individual columns the error is computed in
+			final int colMax = left.width-d;
+			// number of regions that a score/error is computed in
+			final int scoreMax = colMax-regionWidth;
+
+			// indexes that data is read to/from for different data structures
+			int indexScore = left.width*dispFromMin + dispFromMin;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			// Fill elementScore with scores for individual elements for this row at disparity d
+			computeScoreRowHamming(left, right, colMax, indexLeft, indexRight, elementScore);
+
+			// score at the first column
+			int score = 0;
+			for( int i = 0; i < regionWidth; i++ )
+				score += elementScore[i];
+
+			scores[indexScore++] = score;
+
+			// scores for the remaining columns
+			for( int col = 0; col < scoreMax; col++ , indexScore++ ) {
+				scores[indexScore] = score += elementScore[col+regionWidth] - elementScore[col];
+			}
+		}
+	}
+
+	/**
+	 * Hamming distance between the census descriptors of each element.  The JVM will replace bitCount with
+	 * a single popcount instruction when the CPU supports it.
+	 */
+	public static void computeScoreRowHamming(GrayS32 left, GrayS32 right,
+											  int elementMax, int indexLeft, int indexRight,
+											  int elementScore[])
+	{
+		for( int rCol = 0; rCol < elementMax; rCol++ ) {
+			elementScore[rCol] = Integer.bitCount(left.data[ indexLeft++ ] ^ right.data[ indexRight++ ]);
+		}
+	}
+
+	/**
+	 * Computes disparity score for an entire row using the Hamming distance between census descriptors.
+	 *
+	 * @see #computeScoreRow(GrayU8, GrayU8, int, int[], int, int, int, int[])
+	 */
+	public static void computeScoreRow(GrayS64 left, GrayS64 right, int row, int[] scores,
+									   int minDisparity , int maxDisparity , int regionWidth ,
+									   int elementScore[] ) {
+
+		// disparity as the outer loop to maximize common elements in inner loops, reducing redundant calculations
+		for( int d = minDisparity; d < maxDisparity; d++ ) {
+			int dispFromMin = d - minDisparity;
+
+			// number of individual columns the error is computed in
+			final int colMax = left.width-d;
+			// number of regions that a score/error is computed in
+			final int scoreMax = colMax-regionWidth;
+
+			// indexes that data is read to/from for different data structures
+			int indexScore = left.width*dispFromMin + dispFromMin;
+			int indexLeft = left.startIndex + left.stride*row + d;
+			int indexRight = right.startIndex + right.stride*row;
+
+			// Fill elementScore with scores for individual elements for this row at disparity d
+			computeScoreRowHamming(left, right, colMax, indexLeft, indexRight, elementScore);
+
+			// score at the first column
+			int score = 0;
+			for( int i = 0; i < regionWidth; i++ )
+				score += elementScore[i];
+
+			scores[indexScore++] = score;
+
+			// scores for the remaining columns
+			for( int col = 0; col < scoreMax; col++ , indexScore++ ) {
+				scores[indexScore] = score += elementScore[col+regionWidth] - elementScore[col];
+			}
+		}
+	}
+
+	/**
+	 * Hamming distance between the census descriptors of each element.  The JVM will replace bitCount with
+	 * a single popcount instruction when the CPU supports it.
+	 */
+	public static void computeScoreRowHamming(GrayS64 left, GrayS64 right,
+											  int elementMax, int indexLeft, int indexRight,
+											  int elementScore[])
+	{
+		for( int rCol = 0; rCol < elementMax; rCol++ ) {
+			elementScore[rCol] = Long.bitCount(left.data[ indexLeft++ ] ^ right.data[ indexRight++ ]);
+		}
+	}
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Aggregates the matching cost along 4 or 8 paths, as described in Semi Global Matching [1].  Along each path r
+ * the cost L<sub>r</sub> is computed recursively:
+ * </p>
+ * <pre>
+ * L<sub>r</sub>(p,d) = C(p,d) + min( L<sub>r</sub>(p-r,d), L<sub>r</sub>(p-r,d&plusmn;1) + P1, min<sub>k</sub> L<sub>r</sub>(p-r,k) + P2 ) - min<sub>k</sub> L<sub>r</sub>(p-r,k)
+ * </pre>
+ * <p>
+ * and the aggregated cost is the sum across all the paths.  Only the previous pixel's cost along a path is
+ * needed so memory is dominated by the input and aggregated volumes.  The aggregated cost is stored in 16-bits
+ * and saturates at {@link SgmCostVolume#MAX_VALUE}. Values along each path are bounded by C<sub>max</sub> + P2
+ * so saturation is avoided when paths*(C<sub>max</sub> + P2) &le; {@link SgmCostVolume#MAX_VALUE}.
+ * </p>
+ *
+ * <p>
+ * Paths are processed one direction at a time.  All the lines in a direction are independent of each other
+ * and write to different pixels, which is what {@link SgmCostAggregation_MT} takes advantage of.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation {
+	// direction of each path
+	static final int[][] DIRECTIONS_4 = new int[][]{{1,0},{-1,0},{0,1},{0,-1}};
+	static final int[][] DIRECTIONS_8 = new int[][]{{1,0},{-1,0},{0,1},{0,-1},{1,1},{-1,-1},{1,-1},{-1,1}};
+
+	// Penalty for a disparity change of one
+	protected int penaltySmall;
+	// Penalty for a disparity change larger than one
+	protected int penaltyLarge;
+	// directions it aggregates along
+	protected int[][] directions;
+
+	// the volume being aggregated
+	protected SgmCostVolume cost;
+	// sum of the cost along all paths
+	protected SgmCostVolume aggregated = new SgmCostVolume();
+
+	// the first pixel in each line in the current direction
+	protected GrowQueue_I32 lineStarts = new GrowQueue_I32();
+
+	// Storage for the path cost of the current and previous pixel
+	private Workspace workspace = new Workspace();
+
+	/**
+	 * Configures aggregation
+	 *
+	 * @param penaltySmall Penalty for a disparity change of one. Try 10% of the maximum cost.
+	 * @param penaltyLarge Penalty for a disparity change larger than one. Must be &ge; penaltySmall
+	 * @param paths Number of paths which are aggregated. 4 or 8.
+	 */
+	public SgmCostAggregation( int penaltySmall , int penaltyLarge , int paths ) {
+		if( penaltySmall < 0 || penaltyLarge < penaltySmall )
+			throw new IllegalArgumentException("Penalties must be >= 0 and penaltyLarge >= penaltySmall");
+		if( paths == 4 )
+			directions = DIRECTIONS_4;
+		else if( paths == 8 )
+			directions = DIRECTIONS_8;
+		else
+			throw new IllegalArgumentException("Paths must be 4 or 8");
+
+		this.penaltySmall = penaltySmall;
+		this.penaltyLarge = penaltyLarge;
+	}
+
+	/**
+	 * Aggregates the cost along all the paths.  Results are stored in {@link #getAggregated()}.
+	 *
+	 * @param cost (Input) Matching cost for each pixel and disparity
+	 */
+	public void process( SgmCostVolume cost ) {
+		this.cost = cost;
+		aggregated.reshape(cost.x0, cost.y0, cost.width, cost.height, cost.rangeD);
+		aggregated.fill(0);
+
+		if( cost.width == 0 || cost.height == 0 || cost.rangeD == 0 )
+			return;
+
+		for( int[] dir : directions ) {
+			findLineStarts(dir[0], dir[1]);
+			aggregateDirection(dir[0], dir[1]);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along all the lines in a single direction
+	 */
+	protected void aggregateDirection( int dx , int dy ) {
+		workspace.resize(cost.rangeD);
+		aggregateLines(dx, dy, 0, lineStarts.size, workspace);
+	}
+
+	/**
+	 * Aggregates the cost along lines from lineStarts with index from idx0 to idx1-1
+	 */
+	protected void aggregateLines( int dx , int dy , int idx0 , int idx1 , Workspace work ) {
+		for( int i = idx0; i < idx1; i++ ) {
+			int start = lineStarts.data[i];
+			aggregateLine(start % cost.width, start / cost.width, dx, dy, work);
+		}
+	}
+
+	/**
+	 * Aggregates the cost along a single line.  Coordinates are relative to the volume.
+	 */
+	protected void aggregateLine( int x , int y , int dx , int dy , Workspace work ) {
+		final int rangeD = cost.rangeD;
+		final short[] costData = cost.data;
+		final short[] sumData = aggregated.data;
+
+		int[] previous = work.previous;
+		int[] current = work.current;
+
+		// the first pixel has no previous pixel along the path
+		int index = (y*cost.width + x)*rangeD;
+		int minPrevious = Integer.MAX_VALUE;
+		for( int d = 0; d < rangeD; d++ ) {
+			int c = costData[index+d] & 0xFFFF;
+			previous[d] = c;
+			if( c < minPrevious )
+				minPrevious = c;
+			addSaturate(sumData, index+d, c);
+		}
+
+		x += dx; y += dy;
+		while( x >= 0 && y >= 0 && x < cost.width && y < cost.height ) {
+			index = (y*cost.width + x)*rangeD;
+			int largeChange = minPrevious + penaltyLarge;
+			int minCurrent = Integer.MAX_VALUE;
+
+			for( int d = 0; d < rangeD; d++ ) {
+				int best = previous[d];
+				if( d > 0 && previous[d-1] + penaltySmall < best )
+					best = previous[d-1] + penaltySmall;
+				if( d+1 < rangeD && previous[d+1] + penaltySmall < best )
+					best = previous[d+1] + penaltySmall;
+				if( largeChange < best )
+					best = largeChange;
+
+				int l = (costData[index+d] & 0xFFFF) + best - minPrevious;
+				current[d] = l;
+				if( l < minCurrent )
+					minCurrent = l;
+				addSaturate(sumData, index+d, l);
+			}
+
+			int[] tmp = previous;
+			previous = current;
+			current = tmp;
+			minPrevious = minCurrent;
+
+			x += dx; y += dy;
+		}
+	}
+
+	private static void addSaturate( short[] data , int index , int value ) {
+		int sum = (data[index] & 0xFFFF) + value;
+		data[index] = (short)(sum > SgmCostVolume.MAX_VALUE ? SgmCostVolume.MAX_VALUE : sum);
+	}
+
+	/**
+	 * Finds the first pixel in every line for the specified direction.  A pixel starts a line if the previous
+	 * pixel along the direction is outside the volume.
+	 */
+	protected void findLineStarts( int dx , int dy ) {
+		final int width = cost.width;
+		final int height = cost.height;
+
+		lineStarts.reset();
+
+		// lines which start on the left or right side
+		if( dx != 0 ) {
+			int x = dx > 0 ? 0 : width-1;
+			for( int y = 0; y < height; y++ ) {
+				lineStarts.add(y*width + x);
+			}
+		}
+
+		// lines which start on the top or bottom, skipping pixels already added
+		if( dy != 0 ) {
+			int y = dy > 0 ? 0 : height-1;
+			for( int x = 0; x < width; x++ ) {
+				if( dx > 0 && x == 0 )
+					continue;
+				if( dx < 0 && x == width-1 )
+					continue;
+				lineStarts.add(y*width + x);
+			}
+		}
+	}
+
+	/**
+	 * Aggregated cost from the most recent call to {@link #process}
+	 */
+	public SgmCostVolume getAggregated() {
+		return aggregated;
+	}
+
+	public int getPenaltySmall() {
+		return penaltySmall;
+	}
+
+	public int getPenaltyLarge() {
+		return penaltyLarge;
+	}
+
+	public int getPaths() {
+		return directions.length;
+	}
+
+	/**
+	 * Path cost for the previous and current pixel along a line
+	 */
+	protected static class Workspace {
+		int[] previous = new int[0];
+		int[] current = new int[0];
+
+		public void resize( int rangeD ) {
+			if( previous.length < rangeD ) {
+				previous = new int[rangeD];
+				current = new int[rangeD];
+			}
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Concurrent implementation of {@link SgmCostAggregation}.  Directions are processed one at a time and the lines
+ * in each direction are split between threads.  Since each line writes to a different set of pixels the output
+ * is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostAggregation_MT extends SgmCostAggregation {
+
+	/**
+	 * Minimum number of lines processed by each thread
+	 */
+	public static int MIN_LINES = 8;
+
+	// path costs for each thread
+	private FastQueue<Workspace> workspaces = new FastQueue<Workspace>(1,Workspace.class,true) {
+		@Override
+		protected Workspace createInstance() {
+			return new Workspace();
+		}
+	};
+
+	// direction currently being processed
+	private int dx, dy;
+
+	public SgmCostAggregation_MT(int penaltySmall, int penaltyLarge, int paths) {
+		super(penaltySmall, penaltyLarge, paths);
+	}
+
+	@Override
+	protected void aggregateDirection(int dx, int dy) {
+		this.dx = dx;
+		this.dy = dy;
+		BoofConcurrency.loopBlocks(0, lineStarts.size, MIN_LINES, workspaces, aggregateBlock);
+	}
+
+	private final IntRangeObjectConsumer<Workspace> aggregateBlock = new IntRangeObjectConsumer<Workspace>() {
+		@Override
+		public void accept(Workspace work, int minInclusive, int maxExclusive) {
+			work.resize(cost.rangeD);
+			aggregateLines(dx, dy, minInclusive, maxExclusive, work);
+		}
+	};
+}
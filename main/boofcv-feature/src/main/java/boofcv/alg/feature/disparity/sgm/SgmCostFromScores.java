@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.feature.disparity.DisparitySelect;
+import boofcv.struct.image.GrayU8;
+
+/**
+ * <p>
+ * Instead of selecting a disparity, the row of scores computed by a block matching algorithm, e.g.
+ * {@link boofcv.alg.feature.disparity.DisparityScoreSadRect}, are copied into a {@link SgmCostVolume}.
+ * This allows any of the existing block matching costs to be used as the data term in Semi Global Matching.
+ * Costs are saturated at {@link #maxCost}. Disparities which go outside the image are left untouched.
+ * </p>
+ *
+ * <p>
+ * The disparity image passed to {@link #configure} is only used to determine the row offset.  It must be the
+ * image, or a sub-image of the image, which was passed to the scoring algorithm and start at index 0 in its
+ * data array. This allows the scoring to be split into bands by
+ * {@link boofcv.alg.feature.disparity.DisparityScoreRowFormat_MT} with each band writing into the same volume.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostFromScores implements DisparitySelect<int[],GrayU8> {
+
+	// where the cost is written to
+	SgmCostVolume volume;
+
+	// largest allowed cost
+	int maxCost;
+
+	// row in the full image that row zero corresponds to
+	int row0;
+	int imageWidth;
+	int minDisparity, maxDisparity;
+	int radiusX, regionWidth;
+
+	/**
+	 * Specifies where the costs are written to.
+	 *
+	 * @param volume Storage for the cost volume.  Can be shared between several instances.
+	 * @param maxCost Costs larger than this value are set to this value.  Must be &le; {@link SgmCostVolume#MAX_VALUE}
+	 */
+	public SgmCostFromScores( SgmCostVolume volume , int maxCost ) {
+		if( maxCost <= 0 || maxCost > SgmCostVolume.MAX_VALUE )
+			throw new IllegalArgumentException("maxCost must be > 0 and <= "+SgmCostVolume.MAX_VALUE);
+		this.volume = volume;
+		this.maxCost = maxCost;
+	}
+
+	@Override
+	public void configure(GrayU8 imageDisparity, int minDisparity, int maxDisparity, int radiusX) {
+		this.row0 = imageDisparity.startIndex/imageDisparity.stride;
+		this.imageWidth = imageDisparity.width;
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.radiusX = radiusX;
+		this.regionWidth = radiusX*2+1;
+
+		if( volume.rangeD != maxDisparity-minDisparity )
+			throw new IllegalArgumentException("Volume's disparity range doesn't match");
+	}
+
+	@Override
+	public void process(int row, int[] scores) {
+		int y = row0 + row;
+		if( y < volume.y0 || y >= volume.y0 + volume.height )
+			return;
+
+		final short[] data = volume.data;
+
+		for( int col = minDisparity; col <= imageWidth-regionWidth; col++ ) {
+			int x = col + radiusX;
+			if( x < volume.x0 || x >= volume.x0 + volume.width )
+				continue;
+
+			// make sure the disparity search doesn't go outside the image border
+			int localMax = 1+col-minDisparity-Math.max(0,col-maxDisparity+1);
+
+			int indexScore = col-minDisparity;
+			int indexVolume = volume.index(x,y);
+
+			for( int i = 0; i < localMax; i++ , indexScore += imageWidth ) {
+				data[indexVolume++] = (short)Math.min(maxCost, scores[indexScore]);
+			}
+		}
+	}
+
+	public int getMaxCost() {
+		return maxCost;
+	}
+
+	@Override
+	public Class<GrayU8> getDisparityType() {
+		return GrayU8.class;
+	}
+}
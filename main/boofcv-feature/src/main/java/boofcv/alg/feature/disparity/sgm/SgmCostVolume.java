@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Compact storage for a 3D volume of matching costs used by Semi Global Matching.  Costs are stored as unsigned
+ * 16-bit integers inside a short array.  The disparity is the inner most index so that all the costs for a single
+ * pixel are next to each other in memory. The volume only covers the region inside the image where costs can be
+ * computed, which starts at ({@link #x0},{@link #y0}) in the image.
+ * </p>
+ *
+ * <pre>index = ((y-y0)*width + (x-x0))*rangeD + d</pre>
+ *
+ * @author Peter Abeles
+ */
+public class SgmCostVolume {
+	/**
+	 * Largest value which can be stored in the volume.
+	 */
+	public static final int MAX_VALUE = 0xFFFF;
+
+	/**
+	 * Cost for each pixel and disparity. Values are unsigned and need to be masked by 0xFFFF.
+	 */
+	public short[] data = new short[0];
+
+	/**
+	 * Coordinate of the volume's first pixel inside the image
+	 */
+	public int x0,y0;
+
+	/**
+	 * Number of pixels along each axis and the number of disparities in the volume
+	 */
+	public int width,height,rangeD;
+
+	/**
+	 * Changes the volume's shape. Memory is only declared if the internal array is too small.
+	 */
+	public void reshape( int x0 , int y0 , int width , int height , int rangeD ) {
+		this.x0 = x0;
+		this.y0 = y0;
+		this.width = width;
+		this.height = height;
+		this.rangeD = rangeD;
+
+		int N = width*height*rangeD;
+		if( data.length < N )
+			data = new short[N];
+	}
+
+	/**
+	 * Sets every element in the volume to the specified value.
+	 */
+	public void fill( int value ) {
+		Arrays.fill(data, 0, width*height*rangeD, (short)value);
+	}
+
+	/**
+	 * Index of the first disparity for the pixel at image coordinate (x,y)
+	 */
+	public int index( int x , int y ) {
+		return ((y-y0)*width + (x-x0))*rangeD;
+	}
+
+	/**
+	 * Returns the value at image coordinate (x,y) and disparity d.
+	 */
+	public int get( int x , int y , int d ) {
+		return data[index(x,y)+d] & 0xFFFF;
+	}
+
+	/**
+	 * Returns true if the image coordinate is inside the volume
+	 */
+	public boolean isInBounds( int x , int y ) {
+		return x >= x0 && y >= y0 && x < x0+width && y < y0+height;
+	}
+
+	/**
+	 * Amount of memory used by the volume in bytes
+	 */
+	public long getMemoryBytes() {
+		return 2L*data.length;
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Dense stereo disparity using Semi Global Matching (SGM) [1].  The matching cost for each pixel and disparity
+ * is computed by one of the block matching algorithms, e.g. SAD or census, using {@link SgmCostFromScores}. The
+ * cost is then aggregated along multiple paths by {@link SgmCostAggregation} and the disparity with the smallest
+ * aggregated cost is selected. If the output image is {@link GrayF32} then sub-pixel accuracy is found by fitting
+ * a parabola to the aggregated cost around the best disparity.
+ * </p>
+ *
+ * <p>
+ * Costs are stored in 16-bit volumes. To bound memory usage the disparity range can be split into tiles, where
+ * each tile is a contiguous range of disparities with its own scoring algorithm. Memory is then proportional to
+ * the size of the largest tile. Tiles are processed independently and the disparity with the best aggregated
+ * cost across all tiles is selected.  Paths can't change disparity between tiles so results with
+ * more than one tile approximate the full algorithm.
+ * </p>
+ *
+ * <p>
+ * [1] Hirschmuller, Heiko. "Stereo processing by semiglobal matching and mutual information."
+ * IEEE Transactions on pattern analysis and machine intelligence 30.2 (2008): 328-341.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SgmStereoDisparity<T extends ImageGray<T>, DI extends ImageGray<DI>>
+		extends DisparityScoreRowFormat<T, DI>
+{
+	// computes the cost for each disparity tile.  Ordered by minimum disparity
+	List<DisparityScoreRowFormat<T,GrayU8>> tileScorers = new ArrayList<>();
+
+	// cost for the current tile. Written to by the scorers
+	SgmCostVolume cost;
+	// value invalid costs are set to
+	int maxCost;
+
+	SgmCostAggregation aggregation;
+
+	Class<DI> disparityType;
+	boolean subpixel;
+
+	// Disparity image passed to the scorers.  Only used for its shape.
+	GrayU8 scorerOutput = new GrayU8(1,1);
+
+	// best aggregated cost and disparity for each pixel across all the tiles. Disparity is relative to minDisparity
+	int[] bestCost = new int[0];
+	float[] bestDisparity = new float[0];
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param tileScorers Scorers for each disparity tile. Each scorer must use a {@link SgmCostFromScores} that
+	 *                    writes to 'cost'.  Must be ordered and the disparity ranges next to each other.
+	 * @param cost Cost volume which the scorers write to.
+	 * @param maxCost The maximum cost. Same as {@link SgmCostFromScores#getMaxCost()}.
+	 * @param aggregation Aggregates the cost along paths
+	 * @param disparityType Type of output disparity image. {@link GrayU8} or {@link GrayF32} for sub-pixel.
+	 */
+	public SgmStereoDisparity( List<DisparityScoreRowFormat<T,GrayU8>> tileScorers ,
+							   SgmCostVolume cost , int maxCost,
+							   SgmCostAggregation aggregation ,
+							   Class<DI> disparityType ) {
+		super(tileScorers.get(0).getMinDisparity(),
+				tileScorers.get(tileScorers.size()-1).getMaxDisparity(),
+				tileScorers.get(0).getRadiusX(), tileScorers.get(0).getRadiusY());
+
+		for( int i = 1; i < tileScorers.size(); i++ ) {
+			if( tileScorers.get(i-1).getMaxDisparity() != tileScorers.get(i).getMinDisparity() )
+				throw new IllegalArgumentException("Disparity tiles must be ordered and next to each other");
+		}
+
+		if( disparityType == GrayU8.class ) {
+			if( rangeDisparity > 254 )
+				throw new IllegalArgumentException("(max - min) disparity must be <= 254");
+		} else if( disparityType != GrayF32.class ) {
+			throw new IllegalArgumentException("Disparity type must be GrayU8 or GrayF32");
+		}
+
+		this.tileScorers.addAll(tileScorers);
+		this.cost = cost;
+		this.maxCost = maxCost;
+		this.aggregation = aggregation;
+		this.disparityType = disparityType;
+		this.subpixel = disparityType == GrayF32.class;
+	}
+
+	@Override
+	public void _process(T left, T right, DI disparity) {
+		int borderX = getBorderX();
+		int borderY = getBorderY();
+		int width = left.width - 2*borderX;
+		int height = left.height - 2*borderY;
+
+		if( width <= 0 || height <= 0 )
+			return;
+
+		scorerOutput.reshape(left.width, left.height);
+
+		int N = width*height;
+		if( bestCost.length < N ) {
+			bestCost = new int[N];
+			bestDisparity = new float[N];
+		}
+		Arrays.fill(bestCost, 0, N, Integer.MAX_VALUE);
+		Arrays.fill(bestDisparity, 0, N, -1);
+
+		for( int i = 0; i < tileScorers.size(); i++ ) {
+			DisparityScoreRowFormat<T,GrayU8> scorer = tileScorers.get(i);
+
+			cost.reshape(borderX, borderY, width, height, scorer.getMaxDisparity() - scorer.getMinDisparity());
+			cost.fill(maxCost);
+
+			scorer.process(left, right, scorerOutput);
+			aggregation.process(cost);
+
+			selectBest(aggregation.getAggregated(), scorer.getMinDisparity());
+		}
+
+		writeDisparity(disparity, borderX, borderY, width, height);
+	}
+
+	/**
+	 * Selects the disparity with the smallest aggregated cost and compares it against other tiles.
+	 *
+	 * @param tileMin Minimum disparity in the tile
+	 */
+	void selectBest( SgmCostVolume aggregated , int tileMin ) {
+		final int rangeD = aggregated.rangeD;
+		final short[] data = aggregated.data;
+
+		for( int y = 0; y < aggregated.height; y++ ) {
+			int indexPixel = y*aggregated.width;
+			for( int x = 0; x < aggregated.width; x++, indexPixel++ ) {
+				// only consider disparities which don't go outside the image. Same as block matching
+				int localRange = Math.min(rangeD, 1 + x - tileMin);
+				if( localRange <= 0 )
+					continue;
+
+				int index = indexPixel*rangeD;
+				int best = data[index] & 0xFFFF;
+				int bestD = 0;
+				for( int d = 1; d < localRange; d++ ) {
+					int c = data[index+d] & 0xFFFF;
+					if( c < best ) {
+						best = c;
+						bestD = d;
+					}
+				}
+
+				if( best >= bestCost[indexPixel] )
+					continue;
+
+				float found = tileMin - minDisparity + bestD;
+				if( subpixel && bestD > 0 && bestD+1 < localRange ) {
+					int c0 = data[index+bestD-1] & 0xFFFF;
+					int c2 = data[index+bestD+1] & 0xFFFF;
+					int denominator = c0 - 2*best + c2;
+					if( denominator > 0 )
+						found += (c0 - c2)/(2.0f*denominator);
+				}
+
+				bestCost[indexPixel] = best;
+				bestDisparity[indexPixel] = found;
+			}
+		}
+	}
+
+	/**
+	 * Writes the best disparity into the output image.  Pixels without a valid disparity are marked as invalid.
+	 */
+	void writeDisparity( DI disparity , int borderX , int borderY , int width , int height ) {
+		int invalid = rangeDisparity + 1;
+
+		if( disparity instanceof GrayU8 ) {
+			GrayU8 output = (GrayU8)disparity;
+			for( int y = 0; y < height; y++ ) {
+				int indexOut = output.startIndex + (y+borderY)*output.stride + borderX;
+				int indexBest = y*width;
+				for( int x = 0; x < width; x++ ) {
+					float d = bestDisparity[indexBest++];
+					output.data[indexOut++] = (byte)(d < 0 ? invalid : (int)d);
+				}
+			}
+		} else {
+			GrayF32 output = (GrayF32)disparity;
+			for( int y = 0; y < height; y++ ) {
+				int indexOut = output.startIndex + (y+borderY)*output.stride + borderX;
+				int indexBest = y*width;
+				for( int x = 0; x < width; x++ ) {
+					float d = bestDisparity[indexBest++];
+					output.data[indexOut++] = d < 0 ? invalid : d;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Amount of memory used by cost volumes and per pixel storage in bytes.
+	 */
+	public long getMemoryBytes() {
+		return cost.getMemoryBytes() + aggregation.getAggregated().getMemoryBytes() +
+				4L*bestCost.length + 4L*bestDisparity.length + scorerOutput.data.length;
+	}
+
+	public List<DisparityScoreRowFormat<T, GrayU8>> getTileScorers() {
+		return tileScorers;
+	}
+
+	public SgmCostAggregation getAggregation() {
+		return aggregation;
+	}
+
+	@Override
+	public int getBorderX() {
+		return tileScorers.get(0).getBorderX();
+	}
+
+	@Override
+	public int getBorderY() {
+		return tileScorers.get(0).getBorderY();
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return tileScorers.get(0).getInputType();
+	}
+
+	@Override
+	public Class<DI> getDisparityType() {
+		return disparityType;
+	}
+}
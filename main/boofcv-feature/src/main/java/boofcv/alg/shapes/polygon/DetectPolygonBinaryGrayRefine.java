@@ -20,6 +20,9 @@ package boofcv.alg.shapes.polygon;
 
 import boofcv.alg.filter.binary.Contour;
 import boofcv.alg.shapes.edge.EdgeIntensityPolygon;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -35,7 +38,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
+public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> implements Profiled {
 
 	// Detects the polygons using a contour from a binary image
 	private DetectPolygonFromContour<T> detector;
@@ -62,6 +65,10 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 	// timing for profiler
 	double milliAdjustBias = 0;
 
+	// structured runtime profiling
+	final ProfileScope profile = new ProfileScope("DetectPolygonBinaryGrayRefine");
+	final ProfileTimer timerAdjustBias = profile.timer("adjust_bias");
+
 	/**
 	 * Configures the polygon detector
 	 *
@@ -86,6 +93,8 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 
 		this.edgeIntensity = new EdgeIntensityPolygon<>(1, 1.5, 15,
 				detector.getInputType());
+
+		profile.addChild(detector.getProfileScope());
 	}
 
 	/**
@@ -162,6 +171,7 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		} else {
 			milliAdjustBias = 0.95*milliAdjustBias + 0.5*milli;
 		}
+		timerAdjustBias.record(time1-time0);
 //		System.out.printf(" contour %7.2f shapes %7.2f adjust_bias %7.2f\n",
 //				detector.getMilliShapes(),detector.getMilliShapes(),milliAdjustBias);
 	}
@@ -172,6 +182,19 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 	 * @return true if successful or false if not
 	 */
 	public boolean refine( DetectPolygonFromContour.Info info ) {
+		return refine(info, refineContour, refineGray, edgeIntensity, adjustForBias, work);
+	}
+
+	/**
+	 * Refines the polygon using the provided algorithms and storage.  Several polygons can be refined at the same
+	 * time as long as each one has its own set.
+	 */
+	protected boolean refine( DetectPolygonFromContour.Info info ,
+							  RefinePolygonToContour refineContour ,
+							  RefinePolygonToGray<T> refineGray ,
+							  EdgeIntensityPolygon<T> edgeIntensity ,
+							  AdjustPolygonForThresholdBias adjustForBias ,
+							  Polygon2D_F64 work ) {
 		double before,after;
 		if( edgeIntensity.computeEdge(info.polygon,!detector.isOutputClockwise()) ) {
 			before = edgeIntensity.getAverageOutside() - edgeIntensity.getAverageInside();
@@ -200,7 +223,7 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		}
 
 		if( functionAdjust != null ) {
-			functionAdjust.adjust(info, detector.isOutputClockwise());
+			adjustBeforeRefineEdge(info);
 		}
 
 		if( refineGray != null ) {
@@ -224,6 +247,13 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		return success;
 	}
 
+	/**
+	 * Invokes the user provided function which adjusts the polygon before its edges are refined
+	 */
+	protected void adjustBeforeRefineEdge( DetectPolygonFromContour.Info info ) {
+		functionAdjust.adjust(info, detector.isOutputClockwise());
+	}
+
 	/**
 	 * Refines all the detected polygons and places them into the provided list. Polygons which fail the refinement
 	 * step are not added.
@@ -291,6 +321,14 @@ public class DetectPolygonBinaryGrayRefine<T extends ImageGray<T>> {
 		return milliAdjustBias;
 	}
 
+	/**
+	 * Runtime profiling. Timers: adjust_bias. Contains the scope of {@link DetectPolygonFromContour}
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
+	}
+
 	public interface AdjustBeforeRefineEdge {
 		void adjust( DetectPolygonFromContour.Info info , boolean clockwise );
 	}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.shapes.polygon;
+
+import boofcv.alg.shapes.edge.EdgeIntensityPolygon;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.shapes.Polygon2D_F64;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent version of {@link DetectPolygonBinaryGrayRefine}.  When {@link #refineAll()} is called the polygons
+ * are split between threads, with each thread having its own refinement algorithms.  Polygons are refined
+ * independently of each other so the results are identical to the single threaded version.  Use
+ * {@link DetectPolygonFromContour_MT} to also fit the polygons concurrently.
+ * </p>
+ *
+ * <p>
+ * Lens distortion transforms are not thread safe and are invoked deep inside of the refinement algorithms.
+ * If lens distortion has been specified then the polygons are refined by a single thread.  The
+ * {@link AdjustBeforeRefineEdge} function, if one is provided, is invoked by one thread at a time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DetectPolygonBinaryGrayRefine_MT<T extends ImageGray<T>> extends DetectPolygonBinaryGrayRefine<T> {
+
+	/**
+	 * Minimum number of polygons refined by a thread
+	 */
+	public static int MIN_POLYGONS = 4;
+
+	// refinement algorithms for each thread
+	private final FastQueue<Worker> workers;
+
+	// references to the inputs of the frame being processed
+	private T gray;
+	private List<DetectPolygonFromContour.Info> detections;
+
+	/**
+	 * Configures the polygon detector.  See {@link DetectPolygonBinaryGrayRefine} for a description of all the
+	 * other parameters.
+	 *
+	 * @param refineContour Creates a contour refinement algorithm for each thread.  null to disable.
+	 * @param refineGray Creates a gray scale refinement algorithm for each thread.  null to disable.
+	 */
+	public DetectPolygonBinaryGrayRefine_MT(DetectPolygonFromContour<T> detector,
+											final InstanceFactory<RefinePolygonToContour> refineContour,
+											final InstanceFactory<RefinePolygonToGray<T>> refineGray,
+											double minimumRefineEdgeIntensity,
+											final boolean adjustForThresholdBias) {
+		super(detector,
+				refineContour == null ? null : refineContour.newInstance(),
+				refineGray == null ? null : refineGray.newInstance(),
+				minimumRefineEdgeIntensity, adjustForThresholdBias);
+
+		final Class<T> inputType = detector.getInputType();
+		workers = new FastQueue<Worker>(1,(Class)Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				Worker w = new Worker();
+				w.refineContour = refineContour == null ? null : refineContour.newInstance();
+				w.refineGray = refineGray == null ? null : refineGray.newInstance();
+				w.edgeIntensity = new EdgeIntensityPolygon<>(1, 1.5, 15, inputType);
+				w.adjustForBias = adjustForThresholdBias ? new AdjustPolygonForThresholdBias() : null;
+				return w;
+			}
+		};
+	}
+
+	@Override
+	public void process(T gray, GrayU8 binary) {
+		this.gray = gray;
+		super.process(gray, binary);
+	}
+
+	@Override
+	public void refineAll() {
+		// the transforms can't be shared between threads
+		if( getDetector().getUndistToDist() != null ) {
+			super.refineAll();
+			return;
+		}
+
+		detections = getDetector().getFound().toList();
+		BoofConcurrency.loopBlocks(0, detections.size(), MIN_POLYGONS, workers, refineBlock);
+		detections = null;
+	}
+
+	@Override
+	protected void adjustBeforeRefineEdge(DetectPolygonFromContour.Info info) {
+		synchronized (functionAdjust) {
+			super.adjustBeforeRefineEdge(info);
+		}
+	}
+
+	private final IntRangeObjectConsumer<Worker> refineBlock = new IntRangeObjectConsumer<Worker>() {
+		@Override
+		public void accept(Worker worker, int minInclusive, int maxExclusive) {
+			if( worker.refineGray != null )
+				worker.refineGray.setImage(gray);
+			worker.edgeIntensity.setImage(gray);
+
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				refine(detections.get(i), worker.refineContour, worker.refineGray, worker.edgeIntensity,
+						worker.adjustForBias, worker.work);
+			}
+		}
+	};
+
+	/**
+	 * Refinement algorithms and storage used by a single thread
+	 */
+	private class Worker {
+		RefinePolygonToContour refineContour;
+		RefinePolygonToGray<T> refineGray;
+		EdgeIntensityPolygon<T> edgeIntensity;
+		AdjustPolygonForThresholdBias adjustForBias;
+		Polygon2D_F64 work = new Polygon2D_F64();
+	}
+}
@@ -24,6 +24,10 @@ import boofcv.alg.filter.binary.LinearContourLabelChang2004;
 import boofcv.alg.shapes.polyline.MinimizeEnergyPrune;
 import boofcv.alg.shapes.polyline.RefinePolyLineCorner;
 import boofcv.alg.shapes.polyline.SplitMergeLineFitLoop;
+import boofcv.misc.profile.ProfileCounter;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.ConfigMinimumSize;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.distort.PixelTransform2_F32;
@@ -72,31 +76,29 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class DetectPolygonFromContour<T extends ImageGray<T>> {
+public class DetectPolygonFromContour<T extends ImageGray<T>> implements Profiled {
 
 	// minimum size of a shape's contour as a fraction of the image width
 	private ConfigMinimumSize minimumContourConfig;
 	private int minimumContour;
 	private double minimumArea; // computed from minimumContour
+	// if greater than zero then size relative parameters are computed from this shape instead of the input image
+	private int referenceWidth, referenceHeight;
 
 	// does the polygon have to be convex
 	private boolean convex;
 
-	private LinearContourLabelChang2004 contourFinder = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	protected LinearContourLabelChang2004 contourFinder = new LinearContourLabelChang2004(ConnectRule.FOUR);
 	private GrayS32 labeled = new GrayS32(1,1);
 
-	// finds the initial polygon around a target candidate
-	private SplitMergeLineFitLoop fitPolygon;
+	// fits polygons to contours using the calling thread
+	private ContourFitter fitter;
 
-	// removes extra corners
-	private GrowQueue_I32 pruned = new GrowQueue_I32(); // corners after pruning
-	private MinimizeEnergyPrune pruner;
+	// penalty given to a line segment while splitting when pruning corners
+	private double splitPenalty;
 
-	// Used to prune false positives
-	private ContourEdgeIntensity<T> contourEdgeIntensity;
-
-	// Improve the selection of corner pixels in the contour
-	private RefinePolyLineCorner improveContour = new RefinePolyLineCorner(true,20);
+	// tangent used when computing the edge intensity along a contour
+	private double tangentEdgeIntensity;
 
 	// extera information for found shapes
 	private FastQueue<Info> foundInfo = new FastQueue<>(Info.class, true);
@@ -107,10 +109,6 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 	// true if points touching the border are NOT pruned
 	private boolean canTouchBorder;
 
-	// work space for initial polygon
-	private Polygon2D_F64 polygonWork = new Polygon2D_F64(); // undistorted pixel coordinate
-	private Polygon2D_F64 polygonDistorted = new Polygon2D_F64(); // distorted pixel coordinates;
-
 	// should the order of the polygon be on clockwise order on output?
 	private boolean outputClockwise;
 
@@ -125,20 +123,24 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 	// helper used to customize low level behaviors internally
 	private PolygonHelper helper;
 
-	// storage space for contour in undistorted pixels
-	private FastQueue<Point2D_I32> undistorted = new FastQueue<>(Point2D_I32.class,true);
-
 	// type of input gray scale image it can process
 	private Class<T> inputType;
 
-	// indicates which corners touch the border
-	private GrowQueue_B borderCorners = new GrowQueue_B();
-
 	// times for internal profiling
 	double milliContour;
 	double milliShapes;
 	double profileAlpha = 0.95;
 
+	// structured runtime profiling
+	final ProfileScope profile = new ProfileScope("DetectPolygonFromContour");
+	final ProfileTimer timerContour = profile.timer("contour");
+	final ProfileTimer timerShapes = profile.timer("shapes");
+	final ProfileCounter counterContours = profile.counter("contours");
+	final ProfileCounter counterRejected = profile.counter("rejected");
+	final ProfileCounter counterPolygons = profile.counter("polygons");
+	// number of contours which were large enough to be considered
+	int numCandidates;
+
 	/**
 	 * Configures the detector.
 	 *
@@ -165,20 +167,15 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 
 		setNumberOfSides(minSides,maxSides);
 		this.minimumContourConfig = minimumContour.copy(); // local copy so that external can be modified
-		this.fitPolygon = contourToPolygon;
 		this.outputClockwise = outputClockwise;
 		this.convex = convex;
 		this.canTouchBorder = touchBorder;
 		this.contourEdgeThreshold = contourEdgeThreshold;
 		this.inputType = inputType;
+		this.splitPenalty = splitPenalty;
+		this.tangentEdgeIntensity = tangentEdgeIntensity;
 
-		if( contourEdgeThreshold > 0 ) {
-			this.contourEdgeIntensity = new ContourEdgeIntensity<>(30, 1, tangentEdgeIntensity, inputType);
-		}
-
-		pruner = new MinimizeEnergyPrune(splitPenalty);
-
-		polygonWork = new Polygon2D_F64(1);
+		this.fitter = new ContourFitter(contourToPolygon);
 	}
 
 	/**
@@ -229,8 +226,7 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		}
 		foundInfo.reset();
 
-		if( contourEdgeIntensity != null )
-			contourEdgeIntensity.setImage(gray);
+		fitter.setImage(gray);
 
 		long time0 = System.nanoTime();
 
@@ -255,6 +251,12 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 			milliShapes = profileAlpha * milliShapes + (1.0- profileAlpha)*b;
 		}
 
+		timerContour.record(time1-time0);
+		timerShapes.record(time2-time1);
+		counterContours.add(contourFinder.getContours().size);
+		counterRejected.add(numCandidates-foundInfo.size);
+		counterPolygons.add(foundInfo.size);
+
 		if( verbose ) System.out.println("EXIT  DetectPolygonFromContour.process()");
 	}
 
@@ -273,12 +275,38 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		labeled.reshape(width, height);
 
 		// adjust size based parameters based on image size
+		if( referenceWidth <= 0 )
+			configureSizeParameters(width, height);
+
+		if( helper != null )
+			helper.setImageShape(width,height);
+	}
+
+	private void configureSizeParameters( int width , int height ) {
 		this.minimumContour = minimumContourConfig.computeI(width,height);
 		this.minimumArea = Math.pow(this.minimumContour /4.0,2);
 		contourFinder.setMinContourSize(minimumContour);
+	}
 
-		if( helper != null )
-			helper.setImageShape(width,height);
+	/**
+	 * Size relative parameters, e.g. the minimum contour length, are normally computed from the input image's shape.
+	 * When a sub-image of a larger image is being processed this can be used to compute them from the larger image's
+	 * shape instead, so that the same shapes are found no matter which part of it is processed.
+	 *
+	 * @param width Width of the reference image. If &le; 0 the input image's shape is used.
+	 * @param height Height of the reference image.
+	 */
+	public void setReferenceShape( int width , int height ) {
+		if( width == referenceWidth && height == referenceHeight )
+			return;
+
+		this.referenceWidth = width;
+		this.referenceHeight = height;
+
+		if( width > 0 )
+			configureSizeParameters(width, height);
+		else
+			configureSizeParameters(labeled.width, labeled.height);
 	}
 
 	/**
@@ -286,177 +314,220 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 	 * below for the requirements.  Those that remain are considered to be target candidates.
 	 */
 	private void findCandidateShapes() {
-
-		// stop fitting the polygon if it clearly has way too many sides
-		int maxSidesConsider = (int)Math.ceil(maxSides*1.5);
-		fitPolygon.setAbortSplits(2*maxSides);
-
 		// find blobs where all 4 edges are lines
 		FastQueue<Contour> blobs = contourFinder.getContours();
+		numCandidates = 0;
 		for (int i = 0; i < blobs.size; i++) {
+			if( blobs.get(i).external.size() >= minimumContour)
+				numCandidates++;
+		}
+
+		fitPolygons(blobs);
+	}
+
+	/**
+	 * Fits polygons to all the contours and saves the results into {@link #getFound()} in the same order
+	 * as the contours.
+	 */
+	protected void fitPolygons( FastQueue<Contour> blobs ) {
+		fitPolygons(blobs, 0, blobs.size, fitter, foundInfo);
+	}
+
+	/**
+	 * Fits polygons to contours in the specified range.  Contours are independent of each other, allowing
+	 * different ranges to be processed at the same time if each has its own fitter and output.
+	 *
+	 * @param blobs All the contours
+	 * @param i0 first contour, inclusive
+	 * @param i1 last contour, exclusive
+	 * @param fitter Algorithms and storage used to fit the polygons
+	 * @param output Storage for found polygons
+	 */
+	protected void fitPolygons( FastQueue<Contour> blobs , int i0 , int i1 ,
+								ContourFitter fitter , FastQueue<Info> output ) {
+		// abort the initial fit if it has far more sides than the maximum
+		fitter.fitPolygon.setAbortSplits(2*maxSides);
+
+		for (int i = i0; i < i1; i++) {
 			Contour c = blobs.get(i);
 
 			if( c.external.size() >= minimumContour) {
-				float edgeInside=-1,edgeOutside=-1;
-
-//				System.out.println("----- candidate "+c.external.size());
-
-				// ignore shapes which touch the image border
-				boolean touchesBorder = touchesBorder(c.external);
-				if( !canTouchBorder && touchesBorder ) {
-					if( verbose ) System.out.println("rejected polygon, touched border");
-					continue;
-				}
-
-				if( helper != null )
-					if( !helper.filterContour(c.external,touchesBorder,true) )
-						continue;
-
-				// filter out contours which are noise
-				if( contourEdgeIntensity != null ) {
-					contourEdgeIntensity.process(c.external,true);
-					edgeInside = contourEdgeIntensity.getInsideAverage();
-					edgeOutside = contourEdgeIntensity.getOutsideAverage();
-
-					// take the ABS because CCW/CW isn't known yet
-					if( Math.abs(edgeOutside-edgeInside) < contourEdgeThreshold ) {
-						if( verbose ) System.out.println("rejected polygon. contour edge intensity");
-						continue;
-					}
-				}
-
-				// remove lens distortion
-				List<Point2D_I32> undistorted;
-				if( distToUndist != null ) {
-					undistorted = this.undistorted.toList();
-					removeDistortionFromContour(c.external,this.undistorted);
-					if( helper != null )
-						if( !helper.filterContour(this.undistorted.toList(),touchesBorder,false) )
-							continue;
-				} else {
-					undistorted = c.external;
-				}
-
-				// Find the initial approximate fit of a polygon to the contour
-				if( !fitPolygon.process(undistorted) ) {
-					if( verbose ) System.out.println("rejected polygon initial fit failed. contour size = "+c.external.size());
-					continue;
-				}
-				GrowQueue_I32 splits = fitPolygon.getSplits();
-
-				// determine the polygon's orientation
-				List<Point2D_I32> polygonPixel = new ArrayList<>();
-				for (int j = 0; j < splits.size; j++) {
-					polygonPixel.add(undistorted.get(splits.get(j)));
-				}
-
-				boolean isCCW = UtilPolygons2D_I32.isCCW(polygonPixel);
-
-				// Now that the orientation is known it can check to see if it's actually trying to fit to a
-				// white blob instead of a black blob
-				if( contourEdgeIntensity != null ) {
-					// before it assumed it was CCW
-					if( !isCCW ) {
-						float tmp = edgeInside;
-						edgeInside = edgeOutside;
-						edgeOutside = tmp;
-					}
-
-					if( edgeInside > edgeOutside ) {
-						if( verbose ) System.out.println("White blob. Rejected");
-						continue;
-					}
-				}
-
-
-				if( splits.size() > maxSidesConsider ) {
-					if( verbose ) System.out.println("Way too many corners, "+splits.size()+". Aborting before improve. Contour size "+c.external.size());
-					continue;
-				}
-
-				// Perform a local search and improve the corner placements
-				if( !improveContour.fit(undistorted,splits) ) {
-					if( verbose ) System.out.println("rejected improve contour. contour size = "+c.external.size());
-					continue;
-				}
-
-				// reduce the number of corners based on an energy model
-				pruner.prune(undistorted, splits, pruned);
-				splits = pruned;
-
-				// only accept polygons with the expected number of sides
-				if (!expectedNumberOfSides(splits)) {
+				fitPolygon(c, fitter, output);
+			}
+		}
+	}
+
+	/**
+	 * Attempts to fit a polygon to the contour.  If all the requirements are meet then it's added to the output.
+	 */
+	private void fitPolygon( Contour c , ContourFitter fitter , FastQueue<Info> output ) {
+		// stop fitting the polygon if it clearly has way too many sides
+		int maxSidesConsider = (int)Math.ceil(maxSides*1.5);
+
+		SplitMergeLineFitLoop fitPolygon = fitter.fitPolygon;
+		ContourEdgeIntensity<T> contourEdgeIntensity = fitter.contourEdgeIntensity;
+		Polygon2D_F64 polygonWork = fitter.polygonWork;
+		Polygon2D_F64 polygonDistorted = fitter.polygonDistorted;
+		GrowQueue_B borderCorners = fitter.borderCorners;
+
+		float edgeInside=-1,edgeOutside=-1;
+
+//		System.out.println("----- candidate "+c.external.size());
+
+		// ignore shapes which touch the image border
+		boolean touchesBorder = touchesBorder(c.external);
+		if( !canTouchBorder && touchesBorder ) {
+			if( verbose ) System.out.println("rejected polygon, touched border");
+			return;
+		}
+
+		if( helper != null )
+			if( !helper.filterContour(c.external,touchesBorder,true) )
+				return;
+
+		// filter out contours which are noise
+		if( contourEdgeIntensity != null ) {
+			contourEdgeIntensity.process(c.external,true);
+			edgeInside = contourEdgeIntensity.getInsideAverage();
+			edgeOutside = contourEdgeIntensity.getOutsideAverage();
+
+			// take the ABS because CCW/CW isn't known yet
+			if( Math.abs(edgeOutside-edgeInside) < contourEdgeThreshold ) {
+				if( verbose ) System.out.println("rejected polygon. contour edge intensity");
+				return;
+			}
+		}
+
+		// remove lens distortion
+		List<Point2D_I32> undistorted;
+		if( distToUndist != null ) {
+			undistorted = fitter.undistorted.toList();
+			removeDistortionFromContour(c.external,fitter.undistorted);
+			if( helper != null )
+				if( !helper.filterContour(fitter.undistorted.toList(),touchesBorder,false) )
+					return;
+		} else {
+			undistorted = c.external;
+		}
+
+		// Find the initial approximate fit of a polygon to the contour
+		if( !fitPolygon.process(undistorted) ) {
+			if( verbose ) System.out.println("rejected polygon initial fit failed. contour size = "+c.external.size());
+			return;
+		}
+		GrowQueue_I32 splits = fitPolygon.getSplits();
+
+		// determine the polygon's orientation
+		List<Point2D_I32> polygonPixel = new ArrayList<>();
+		for (int j = 0; j < splits.size; j++) {
+			polygonPixel.add(undistorted.get(splits.get(j)));
+		}
+
+		boolean isCCW = UtilPolygons2D_I32.isCCW(polygonPixel);
+
+		// Now that the orientation is known it can check to see if it's actually trying to fit to a
+		// white blob instead of a black blob
+		if( contourEdgeIntensity != null ) {
+			// before it assumed it was CCW
+			if( !isCCW ) {
+				float tmp = edgeInside;
+				edgeInside = edgeOutside;
+				edgeOutside = tmp;
+			}
+
+			if( edgeInside > edgeOutside ) {
+				if( verbose ) System.out.println("White blob. Rejected");
+				return;
+			}
+		}
+
+
+		if( splits.size() > maxSidesConsider ) {
+			if( verbose ) System.out.println("Way too many corners, "+splits.size()+". Aborting before improve. Contour size "+c.external.size());
+			return;
+		}
+
+		// Perform a local search and improve the corner placements
+		if( !fitter.improveContour.fit(undistorted,splits) ) {
+			if( verbose ) System.out.println("rejected improve contour. contour size = "+c.external.size());
+			return;
+		}
+
+		// reduce the number of corners based on an energy model
+		fitter.pruner.prune(undistorted, splits, fitter.pruned);
+		splits = fitter.pruned;
+
+		// only accept polygons with the expected number of sides
+		if (!expectedNumberOfSides(splits)) {
 //					System.out.println("First point "+c.external.get(0));
-					if( verbose ) System.out.println("rejected number of sides. "+splits.size()+"  contour "+c.external.size());
-					continue;
-				}
-
-				// see if it should be flipped so that the polygon has the correct orientation
-				if( outputClockwise == isCCW ) {
-					flip(splits.data,splits.size);
-				}
-
-				// convert the format of the initial crude polygon
-				polygonWork.vertexes.resize(splits.size());
-				polygonDistorted.vertexes.resize(splits.size());
-				for (int j = 0; j < splits.size(); j++) {
-					Point2D_I32 p = undistorted.get( splits.get(j) );
-					Point2D_I32 q = c.external.get( splits.get(j));
-					polygonWork.get(j).set(p.x,p.y);
-					polygonDistorted.get(j).set(q.x,q.y);
-				}
-
-				if( touchesBorder ) {
-					determineCornersOnBorder(polygonDistorted, borderCorners);
-				} else {
-					borderCorners.resize(0);
-				}
-
-				if( helper != null ) {
-					if( !helper.filterPixelPolygon(polygonWork,polygonDistorted,borderCorners,touchesBorder) ) {
-						if( verbose ) System.out.println("rejected by helper.filterPixelPolygon()");
-						continue;
-					}
-				}
-
-				// Filter out polygons which are not convex if requested by the user
-				if( convex && !UtilPolygons2D_F64.isConvex(polygonWork)) {
-					if( verbose ) System.out.println("Rejected not convex");
-					continue;
-				}
-
-				// make sure it's big enough
-				double area = Area2D_F64.polygonSimple(polygonWork);
-
-				if( area < minimumArea ) {
-					if( verbose ) System.out.println("Rejected area");
-					continue;
-				}
-
-				// Get the storage for a new polygon. This is recycled and has already been cleaned up
-				Info info = foundInfo.grow();
-
-				// save the undistorted coordinate into external
-				if( c.external != undistorted ) {
-					for (int j = 0; j < c.external.size(); j++) {
-						c.external.get(j).set(undistorted.get(j));
-					}
-				}
-
-				// save results
-				info.splits.setTo(splits);
-				info.contourTouchesBorder = touchesBorder;
-				info.external = true;
-				info.hasInternal = !c.internal.isEmpty();
-				info.edgeInside = edgeInside;
-				info.edgeOutside = edgeOutside;
-				info.label = c.id;
-				info.contour = c.external;
-				info.polygon.set(polygonWork);
-				info.polygonDistorted.set(polygonDistorted);
-				info.borderCorners.setTo(borderCorners);
+			if( verbose ) System.out.println("rejected number of sides. "+splits.size()+"  contour "+c.external.size());
+			return;
+		}
+
+		// see if it should be flipped so that the polygon has the correct orientation
+		if( outputClockwise == isCCW ) {
+			flip(splits.data,splits.size);
+		}
+
+		// convert the format of the initial crude polygon
+		polygonWork.vertexes.resize(splits.size());
+		polygonDistorted.vertexes.resize(splits.size());
+		for (int j = 0; j < splits.size(); j++) {
+			Point2D_I32 p = undistorted.get( splits.get(j) );
+			Point2D_I32 q = c.external.get( splits.get(j));
+			polygonWork.get(j).set(p.x,p.y);
+			polygonDistorted.get(j).set(q.x,q.y);
+		}
+
+		if( touchesBorder ) {
+			determineCornersOnBorder(polygonDistorted, borderCorners);
+		} else {
+			borderCorners.resize(0);
+		}
+
+		if( helper != null ) {
+			if( !helper.filterPixelPolygon(polygonWork,polygonDistorted,borderCorners,touchesBorder) ) {
+				if( verbose ) System.out.println("rejected by helper.filterPixelPolygon()");
+				return;
+			}
+		}
+
+		// Filter out polygons which are not convex if requested by the user
+		if( convex && !UtilPolygons2D_F64.isConvex(polygonWork)) {
+			if( verbose ) System.out.println("Rejected not convex");
+			return;
+		}
+
+		// make sure it's big enough
+		double area = Area2D_F64.polygonSimple(polygonWork);
+
+		if( area < minimumArea ) {
+			if( verbose ) System.out.println("Rejected area");
+			return;
+		}
+
+		// Get the storage for a new polygon. This is recycled and has already been cleaned up
+		Info info = output.grow();
+
+		// save the undistorted coordinate into external
+		if( c.external != undistorted ) {
+			for (int j = 0; j < c.external.size(); j++) {
+				c.external.get(j).set(undistorted.get(j));
 			}
 		}
+
+		// save results
+		info.splits.setTo(splits);
+		info.contourTouchesBorder = touchesBorder;
+		info.external = true;
+		info.hasInternal = !c.internal.isEmpty();
+		info.edgeInside = edgeInside;
+		info.edgeOutside = edgeOutside;
+		info.label = c.id;
+		info.contour = c.external;
+		info.polygon.set(polygonWork);
+		info.polygonDistorted.set(polygonDistorted);
+		info.borderCorners.setTo(borderCorners);
 	}
 
 	// TODO move into ddogleg? primitive flip  <--- I think this is specific to polygons
@@ -528,7 +599,7 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 	/**
 	 * Removes lens distortion from the found contour
 	 */
-	private void removeDistortionFromContour(List<Point2D_I32> distorted , FastQueue<Point2D_I32> undistorted  ) {
+	protected void removeDistortionFromContour(List<Point2D_I32> distorted , FastQueue<Point2D_I32> undistorted  ) {
 		undistorted.reset();
 
 		for (int j = 0; j < distorted.size(); j++) {
@@ -649,6 +720,54 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 		return milliShapes;
 	}
 
+	/**
+	 * Runtime profiling. Timers: contour, shapes. Counters: contours, rejected, polygons
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
+	}
+
+	/**
+	 * Algorithms and storage used to fit a polygon to a contour.  Each thread fitting polygons needs its own instance.
+	 */
+	protected class ContourFitter {
+		// finds the initial polygon around a target candidate
+		protected SplitMergeLineFitLoop fitPolygon;
+
+		// removes extra corners
+		protected GrowQueue_I32 pruned = new GrowQueue_I32(); // corners after pruning
+		protected MinimizeEnergyPrune pruner = new MinimizeEnergyPrune(splitPenalty);
+
+		// Used to prune false positives
+		protected ContourEdgeIntensity<T> contourEdgeIntensity;
+
+		// Improve the selection of corner pixels in the contour
+		protected RefinePolyLineCorner improveContour = new RefinePolyLineCorner(true,20);
+
+		// work space for initial polygon
+		protected Polygon2D_F64 polygonWork = new Polygon2D_F64(1); // undistorted pixel coordinate
+		protected Polygon2D_F64 polygonDistorted = new Polygon2D_F64(); // distorted pixel coordinates;
+
+		// storage space for contour in undistorted pixels
+		protected FastQueue<Point2D_I32> undistorted = new FastQueue<>(Point2D_I32.class,true);
+
+		// indicates which corners touch the border
+		protected GrowQueue_B borderCorners = new GrowQueue_B();
+
+		public ContourFitter( SplitMergeLineFitLoop fitPolygon ) {
+			this.fitPolygon = fitPolygon;
+			if( contourEdgeThreshold > 0 ) {
+				this.contourEdgeIntensity = new ContourEdgeIntensity<>(30, 1, tangentEdgeIntensity, inputType);
+			}
+		}
+
+		public void setImage( T gray ) {
+			if( contourEdgeIntensity != null )
+				contourEdgeIntensity.setImage(gray);
+		}
+	}
+
 	public static class Info
 	{
 		/**
@@ -703,6 +822,23 @@ public class DetectPolygonFromContour<T extends ImageGray<T>> {
 			return edgeOutside-edgeInside; // black square. Outside should be a high value (white) inside low (black)
 		}
 
+		/**
+		 * Copies the value of src into this
+		 */
+		public void set( Info src ) {
+			external = src.external;
+			hasInternal = src.hasInternal;
+			label = src.label;
+			edgeInside = src.edgeInside;
+			edgeOutside = src.edgeOutside;
+			contourTouchesBorder = src.contourTouchesBorder;
+			borderCorners.setTo(src.borderCorners);
+			splits.setTo(src.splits);
+			polygon.set(src.polygon);
+			polygonDistorted.set(src.polygonDistorted);
+			contour = src.contour;
+		}
+
 		public void reset() {
 			external = false;
 			hasInternal = false;
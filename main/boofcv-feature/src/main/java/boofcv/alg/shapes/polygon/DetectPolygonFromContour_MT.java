@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.shapes.polygon;
+
+import boofcv.alg.filter.binary.Contour;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004_MT;
+import boofcv.alg.shapes.polyline.SplitMergeLineFitLoop;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.ConfigMinimumSize;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent version of {@link DetectPolygonFromContour}.  Contours are found using
+ * {@link LinearContourLabelChang2004_MT}.  Contours are split into blocks and polygons are
+ * fit to each block in a different thread.  Each thread has its own polygon fitter, corner refinement and
+ * edge intensity.  Polygons found in each block are merged in the same order as the contours, making the output
+ * identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Lens distortion transforms are not thread safe and are invoked one contour at a time.  The {@link PolygonHelper},
+ * if one is provided, will be called by multiple threads at the same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DetectPolygonFromContour_MT<T extends ImageGray<T>> extends DetectPolygonFromContour<T> {
+
+	/**
+	 * Minimum number of contours processed by a thread
+	 */
+	public static int MIN_CONTOURS = 20;
+
+	// polygon fitter for each thread
+	private final FastQueue<Worker> workers;
+
+	// references to the inputs of the frame being processed
+	private T gray;
+	private FastQueue<Contour> blobs;
+
+	/**
+	 * Configures the detector.  See {@link DetectPolygonFromContour} for a description of all the other parameters.
+	 *
+	 * @param contourToPolygon Creates a polygon fitter for each thread. All instances must have the same configuration.
+	 */
+	public DetectPolygonFromContour_MT(int minSides, int maxSides,
+									   final InstanceFactory<SplitMergeLineFitLoop> contourToPolygon,
+									   ConfigMinimumSize minimumContour,
+									   boolean outputClockwise,
+									   boolean convex,
+									   boolean touchBorder, double splitPenalty,
+									   double contourEdgeThreshold,
+									   double tangentEdgeIntensity,
+									   Class<T> inputType) {
+		super(minSides, maxSides, contourToPolygon.newInstance(), minimumContour, outputClockwise, convex,
+				touchBorder, splitPenalty, contourEdgeThreshold, tangentEdgeIntensity, inputType);
+
+		contourFinder = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+
+		workers = new FastQueue<Worker>(1,(Class)Worker.class,true) {
+			@Override
+			protected Worker createInstance() {
+				return new Worker(contourToPolygon.newInstance());
+			}
+		};
+	}
+
+	@Override
+	public void process(T gray, GrayU8 binary) {
+		this.gray = gray;
+		super.process(gray, binary);
+		this.gray = null;
+	}
+
+	@Override
+	protected void fitPolygons( FastQueue<Contour> blobs ) {
+		this.blobs = blobs;
+		BoofConcurrency.loopBlocks(0, blobs.size, MIN_CONTOURS, workers, fitBlock);
+		this.blobs = null;
+
+		// Blocks are assigned to workers in order. Add polygons in the same order as the contours
+		FastQueue<Info> found = getFound();
+		for (int i = 0; i < workers.size; i++) {
+			FastQueue<Info> results = workers.get(i).found;
+			for (int j = 0; j < results.size; j++) {
+				found.grow().set(results.get(j));
+			}
+		}
+	}
+
+	/**
+	 * The transforms contain internal state which is modified when invoked
+	 */
+	@Override
+	protected void removeDistortionFromContour(List<Point2D_I32> distorted, FastQueue<Point2D_I32> undistorted) {
+		synchronized (distToUndist) {
+			super.removeDistortionFromContour(distorted, undistorted);
+		}
+	}
+
+	private final IntRangeObjectConsumer<Worker> fitBlock = new IntRangeObjectConsumer<Worker>() {
+		@Override
+		public void accept(Worker worker, int minInclusive, int maxExclusive) {
+			// discard references to the previous frame
+			for (int i = 0; i < worker.found.size; i++) {
+				worker.found.get(i).reset();
+			}
+			worker.found.reset();
+
+			worker.setImage(gray);
+			fitPolygons(blobs, minInclusive, maxExclusive, worker, worker.found);
+		}
+	};
+
+	/**
+	 * Fitter and storage for polygons found by a single thread
+	 */
+	private class Worker extends ContourFitter {
+		FastQueue<Info> found = new FastQueue<>(Info.class, true);
+
+		public Worker(SplitMergeLineFitLoop fitPolygon) {
+			super(fitPolygon);
+		}
+	}
+}
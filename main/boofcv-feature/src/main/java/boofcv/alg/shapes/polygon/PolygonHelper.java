@@ -25,7 +25,8 @@ import org.ddogleg.struct.GrowQueue_B;
 import java.util.List;
 
 /**
- * Interface which allows low level customization of {@link DetectPolygonFromContour}
+ * Interface which allows low level customization of {@link DetectPolygonFromContour}.  When used with
+ * {@link DetectPolygonFromContour_MT} the filter functions are invoked by multiple threads at the same time.
  *
  * @author Peter Abeles
  */
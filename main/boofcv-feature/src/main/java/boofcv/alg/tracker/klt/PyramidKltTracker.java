@@ -21,6 +21,8 @@ package boofcv.alg.tracker.klt;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.ImagePyramid;
 
+import java.util.List;
+
 /**
  * <p>
  * A pyramid Kanade-Lucas-Tomasi (KLT) tracker that allows features to be tracker over a larger region than the basic
@@ -150,6 +152,53 @@ public class PyramidKltTracker<InputImage extends ImageGray<InputImage>, Derivat
 		return KltTrackFault.SUCCESS;
 	}
 
+	/**
+	 * Tracks all the features in the list.  Same as calling {@link #track(PyramidKltFeature)} on each feature.
+	 *
+	 * @param features Features being tracked
+	 * @param faults (Output) Result of tracking each feature.  Must be at least as long as the list of features.
+	 */
+	public void track( List<PyramidKltFeature> features , KltTrackFault[] faults ) {
+		checkLength(features, faults.length);
+		track(features, faults, 0, features.size());
+	}
+
+	/**
+	 * Tracks features from index i0 to i1-1
+	 */
+	protected void track( List<PyramidKltFeature> features , KltTrackFault[] faults , int i0 , int i1 ) {
+		for (int i = i0; i < i1; i++) {
+			faults[i] = track(features.get(i));
+		}
+	}
+
+	/**
+	 * Sets the description of all the features in the list.  Same as calling
+	 * {@link #setDescription(PyramidKltFeature)} on each feature.
+	 *
+	 * @param features Features whose description is being setup.
+	 * @param success (Output) true if the description of a feature was successfully set. Must be at least as long
+	 *                as the list of features.
+	 */
+	public void setDescription( List<PyramidKltFeature> features , boolean[] success ) {
+		checkLength(features, success.length);
+		setDescription(features, success, 0, features.size());
+	}
+
+	/**
+	 * Sets the description of features from index i0 to i1-1
+	 */
+	protected void setDescription( List<PyramidKltFeature> features , boolean[] success , int i0 , int i1 ) {
+		for (int i = i0; i < i1; i++) {
+			success[i] = setDescription(features.get(i));
+		}
+	}
+
+	private static void checkLength( List<PyramidKltFeature> features , int length ) {
+		if( length < features.size() )
+			throw new IllegalArgumentException("Output array is smaller than the number of features");
+	}
+
 	/**
 	 * Average error between track template and the image.
 	 *
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent version of {@link PyramidKltTracker}.  When a list of features is tracked or has its description set
+ * the features are split between threads.  Each thread has its own {@link KltTracker}, since it contains
+ * interpolation and other workspace, while the image pyramid and its gradient are shared read only.  Results are
+ * identical to the single threaded version since each feature is processed independently.
+ * </p>
+ *
+ * <p>
+ * Functions which process a single feature are not concurrent.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PyramidKltTracker_MT<InputImage extends ImageGray<InputImage>, DerivativeImage extends ImageGray<DerivativeImage>>
+		extends PyramidKltTracker<InputImage,DerivativeImage>
+{
+	/**
+	 * Minimum number of features processed by a thread
+	 */
+	public static int MIN_FEATURES = 16;
+
+	// tracker for each thread
+	private final FastQueue<PyramidKltTracker<InputImage,DerivativeImage>> workers;
+
+	// references to the inputs and outputs of the batch being processed
+	private List<PyramidKltFeature> features;
+	private KltTrackFault[] faults;
+	private boolean[] success;
+
+	/**
+	 * Configures the tracker
+	 *
+	 * @param factory Creates a new {@link KltTracker} for each thread.  All instances must have the same configuration.
+	 */
+	public PyramidKltTracker_MT( final InstanceFactory<KltTracker<InputImage,DerivativeImage>> factory ) {
+		super(factory.newInstance());
+		workers = new FastQueue<PyramidKltTracker<InputImage,DerivativeImage>>(1,(Class)PyramidKltTracker.class,true) {
+			@Override
+			protected PyramidKltTracker<InputImage, DerivativeImage> createInstance() {
+				return new PyramidKltTracker<>(factory.newInstance());
+			}
+		};
+	}
+
+	@Override
+	protected void track( List<PyramidKltFeature> features , KltTrackFault[] faults , int i0 , int i1 ) {
+		this.features = features;
+		this.faults = faults;
+		BoofConcurrency.loopBlocks(i0, i1, MIN_FEATURES, workers, trackBlock);
+		this.features = null;
+		this.faults = null;
+	}
+
+	@Override
+	protected void setDescription( List<PyramidKltFeature> features , boolean[] success , int i0 , int i1 ) {
+		this.features = features;
+		this.success = success;
+		BoofConcurrency.loopBlocks(i0, i1, MIN_FEATURES, workers, describeBlock);
+		this.features = null;
+		this.success = null;
+	}
+
+	/**
+	 * Shares the images with the worker
+	 */
+	private void setImages( PyramidKltTracker<InputImage,DerivativeImage> worker ) {
+		worker.image = image;
+		worker.derivX = derivX;
+		worker.derivY = derivY;
+	}
+
+	private final IntRangeObjectConsumer<PyramidKltTracker<InputImage,DerivativeImage>> trackBlock =
+			new IntRangeObjectConsumer<PyramidKltTracker<InputImage,DerivativeImage>>() {
+				@Override
+				public void accept(PyramidKltTracker<InputImage,DerivativeImage> worker, int minInclusive, int maxExclusive) {
+					setImages(worker);
+					worker.track(features, faults, minInclusive, maxExclusive);
+				}
+			};
+
+	private final IntRangeObjectConsumer<PyramidKltTracker<InputImage,DerivativeImage>> describeBlock =
+			new IntRangeObjectConsumer<PyramidKltTracker<InputImage,DerivativeImage>>() {
+				@Override
+				public void accept(PyramidKltTracker<InputImage,DerivativeImage> worker, int minInclusive, int maxExclusive) {
+					setImages(worker);
+					worker.setDescription(features, success, minInclusive, maxExclusive);
+				}
+			};
+}
@@ -20,6 +20,12 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedyHamming;
+import boofcv.alg.feature.associate.AssociateGreedyHamming_MT;
+import boofcv.alg.feature.associate.nn.DescriptorIndex;
+import boofcv.alg.feature.associate.nn.KdForestIndex_F32;
+import boofcv.alg.feature.associate.nn.LshHammingIndex;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -49,12 +55,44 @@ public class FactoryAssociation {
 			double maxError ,
 			boolean backwardsValidation )
 	{
+		// binary descriptors have a much faster specialized implementation
+		if( score.getClass() == ScoreAssociateHamming_B.class )
+			return (AssociateDescription)greedyHamming(maxError, backwardsValidation, 1.0);
+
 		AssociateGreedy<D> alg = new AssociateGreedy<>(score, backwardsValidation);
 		alg.setMaxFitError(maxError);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<>(alg);
 		return ret;
 	}
 
+	/**
+	 * Brute force greedy association for binary descriptors using the Hamming distance.  Produces the same
+	 * results as {@link #greedy} with {@link ScoreAssociateHamming_B} but is much faster and doesn't
+	 * store the NxM score matrix.  Concurrent if {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 *
+	 * @see AssociateGreedyHamming
+	 *
+	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the
+	 *                  forward and reverse matches fit an association is excepted.
+	 * @param ratioTest An association is rejected if best &ge; ratioTest*secondBest. Set to &ge; 1 to disable.
+	 *                  Try 0.8
+	 * @return AssociateDescription
+	 */
+	public static AssociateDescription<TupleDesc_B>
+	greedyHamming( double maxError ,
+				   boolean backwardsValidation ,
+				   double ratioTest )
+	{
+		AssociateGreedyHamming alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new AssociateGreedyHamming_MT(backwardsValidation, ratioTest);
+		else
+			alg = new AssociateGreedyHamming(backwardsValidation, ratioTest);
+		alg.setMaxFitError(maxError);
+		return new WrapAssociateGreedy<>(alg);
+	}
+
 
 	/**
 	 * Approximate association using a K-D tree degree of moderate size (10-15) that uses a best-bin-first search
@@ -99,6 +137,55 @@ public class FactoryAssociation {
 		return new AssociateNearestNeighbor<>(nn, dimension);
 	}
 
+	/**
+	 * Approximate association for binary descriptors using multi-probe Locality Sensitive Hashing and the
+	 * Hamming distance.  The threshold is specified in bits.  Concurrent if
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 *
+	 * @see LshHammingIndex
+	 * @see AssociateDescriptorIndex
+	 *
+	 * @param numTables Number of hash tables.  More tables improves recall. Try 8
+	 * @param bitsPerKey Number of bits in each table's key.  Larger keys have fewer candidates. Try 16
+	 * @param probeRadius Buckets with keys within this Hamming distance of the query's key are also searched. 0, 1, or 2
+	 * @param randomSeed Seed used by random number generator
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateDescription<TupleDesc_B> lshHamming( int numTables ,
+																int bitsPerKey ,
+																int probeRadius ,
+																long randomSeed ) {
+		return createIndexAssociation(new LshHammingIndex(numTables, bitsPerKey, probeRadius, randomSeed));
+	}
+
+	/**
+	 * Approximate association for {@link TupleDesc_F32} using multiple randomized K-D trees with a best-bin-first
+	 * search.  The threshold is specified as Euclidean distance squared.  Concurrent if
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 *
+	 * @see KdForestIndex_F32
+	 * @see AssociateDescriptorIndex
+	 *
+	 * @param numTrees Number of trees that are considered.  Try 4 and tune.
+	 * @param numConsiderSplit Number of dimensions with the largest variance considered when splitting a node. Try 5
+	 * @param maxChecks Maximum number of points checked in a search.  Controls speed and accuracy. &le; 0 for exact.
+	 * @param randomSeed Seed used by random number generator
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static AssociateDescription<TupleDesc_F32> kdForest_F32( int numTrees ,
+																	int numConsiderSplit ,
+																	int maxChecks ,
+																	long randomSeed ) {
+		return createIndexAssociation(new KdForestIndex_F32(numTrees, numConsiderSplit, maxChecks, randomSeed));
+	}
+
+	private static <D> AssociateDescription<D> createIndexAssociation( DescriptorIndex<D> index ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new AssociateDescriptorIndex_MT<>(index);
+		else
+			return new AssociateDescriptorIndex<>(index);
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
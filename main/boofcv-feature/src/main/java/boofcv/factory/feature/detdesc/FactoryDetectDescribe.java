@@ -34,11 +34,15 @@ import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.feature.describe.DescribePointSurfMod;
 import boofcv.alg.feature.describe.DescribePointSurfPlanar;
 import boofcv.alg.feature.detdesc.CompleteSift;
+import boofcv.alg.feature.detdesc.CompleteSift_MT;
 import boofcv.alg.feature.detdesc.DetectDescribeSurfPlanar;
+import boofcv.alg.feature.detdesc.DetectDescribeSurfPlanar_MT;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.feature.detect.interest.SiftScaleSpace;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
@@ -72,12 +76,41 @@ public class FactoryDetectDescribe {
 			config = new ConfigCompleteSift();
 
 		ConfigSiftScaleSpace configSS = config.scaleSpace;
-		ConfigSiftDetector configDetector = config.detector;
-		ConfigSiftOrientation configOri = config.orientation;
-		ConfigSiftDescribe configDesc = config.describe;
+		final ConfigSiftDetector configDetector = config.detector;
+		final ConfigSiftOrientation configOri = config.orientation;
+		final ConfigSiftDescribe configDesc = config.describe;
 
 		SiftScaleSpace scaleSpace = new SiftScaleSpace(
 				configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			CompleteSift dds = new CompleteSift_MT(scaleSpace, configDetector.edgeR,
+					new InstanceFactory<NonMaxLimiter>() {
+						@Override
+						public NonMaxLimiter newInstance() {
+							NonMaxSuppression nns = FactoryFeatureExtractor.nonmax(configDetector.extract);
+							return new NonMaxLimiter(nns,configDetector.maxFeaturesPerScale);
+						}
+					},
+					new InstanceFactory<OrientationHistogramSift<GrayF32>>() {
+						@Override
+						public OrientationHistogramSift<GrayF32> newInstance() {
+							return new OrientationHistogramSift<>(
+									configOri.histogramSize,configOri.sigmaEnlarge,GrayF32.class);
+						}
+					},
+					new InstanceFactory<DescribePointSift<GrayF32>>() {
+						@Override
+						public DescribePointSift<GrayF32> newInstance() {
+							return new DescribePointSift<>(
+									configDesc.widthSubregion,configDesc.widthGrid, configDesc.numHistogramBins,
+									configDesc.sigmaToPixels, configDesc.weightingSigmaFraction,
+									configDesc.maxDescriptorElementValue,GrayF32.class);
+						}
+					});
+			return new DetectDescribe_CompleteSift<>(dds);
+		}
+
 		OrientationHistogramSift<GrayF32> orientation = new OrientationHistogramSift<>(
 				configOri.histogramSize,configOri.sigmaEnlarge,GrayF32.class);
 		DescribePointSift<GrayF32> describe = new DescribePointSift<>(
@@ -113,13 +146,30 @@ public class FactoryDetectDescribe {
 	 */
 	public static <T extends ImageGray<T>, II extends ImageGray<II>>
 	DetectDescribePoint<T,BrightFeature> surfFast(ConfigFastHessian configDetector ,
-												  ConfigSurfDescribe.Speed configDesc,
-												  ConfigAverageIntegral configOrientation,
+												  final ConfigSurfDescribe.Speed configDesc,
+												  final ConfigAverageIntegral configOrientation,
 												  Class<T> imageType) {
 
-		Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new WrapDetectDescribeSurf_MT<>(detector,
+					new InstanceFactory<OrientationIntegral<II>>() {
+						@Override
+						public OrientationIntegral<II> newInstance() {
+							return FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+						}
+					},
+					new InstanceFactory<DescribePointSurf<II>>() {
+						@Override
+						public DescribePointSurf<II> newInstance() {
+							return FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
+						}
+					});
+		}
+
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
 
@@ -144,14 +194,34 @@ public class FactoryDetectDescribe {
 	 */
 	public static <T extends ImageGray<T>, II extends ImageGray<II>>
 	DetectDescribePoint<T,BrightFeature> surfColorFast(ConfigFastHessian configDetector ,
-													   ConfigSurfDescribe.Speed configDesc,
-													   ConfigAverageIntegral configOrientation,
-													   ImageType<T> imageType) {
+													   final ConfigSurfDescribe.Speed configDesc,
+													   final ConfigAverageIntegral configOrientation,
+													   final ImageType<T> imageType) {
 
 		Class bandType = imageType.getImageClass();
-		Class<II> integralType = GIntegralImageOps.getIntegralType(bandType);
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(bandType);
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
+
+		if( BoofConcurrency.USE_CONCURRENT && imageType.getFamily() == ImageType.Family.PLANAR ) {
+			DetectDescribeSurfPlanar<II> deteDesc = new DetectDescribeSurfPlanar_MT<>(detector,
+					new InstanceFactory<OrientationIntegral<II>>() {
+						@Override
+						public OrientationIntegral<II> newInstance() {
+							return FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+						}
+					},
+					new InstanceFactory<DescribePointSurfPlanar<II>>() {
+						@Override
+						public DescribePointSurfPlanar<II> newInstance() {
+							DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
+							return new DescribePointSurfPlanar<>(describe, imageType.getNumBands());
+						}
+					});
+
+			return new SurfPlanar_to_DetectDescribePoint( deteDesc,bandType,integralType );
+		}
+
 		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
 
@@ -191,13 +261,30 @@ public class FactoryDetectDescribe {
 	 */
 	public static <T extends ImageGray<T>, II extends ImageGray<II>>
 	DetectDescribePoint<T,BrightFeature> surfStable(ConfigFastHessian configDetector,
-													ConfigSurfDescribe.Stability configDescribe,
-													ConfigSlidingIntegral configOrientation,
+													final ConfigSurfDescribe.Stability configDescribe,
+													final ConfigSlidingIntegral configOrientation,
 													Class<T> imageType ) {
 
-		Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new WrapDetectDescribeSurf_MT<>(detector,
+					new InstanceFactory<OrientationIntegral<II>>() {
+						@Override
+						public OrientationIntegral<II> newInstance() {
+							return FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+						}
+					},
+					new InstanceFactory<DescribePointSurf<II>>() {
+						@Override
+						public DescribePointSurf<II> newInstance() {
+							return FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
+						}
+					});
+		}
+
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
 
@@ -223,14 +310,34 @@ public class FactoryDetectDescribe {
 	 */
 	public static <T extends ImageMultiBand<T>, II extends ImageGray<II>>
 	DetectDescribePoint<T,BrightFeature> surfColorStable(ConfigFastHessian configDetector,
-														 ConfigSurfDescribe.Stability configDescribe,
-														 ConfigSlidingIntegral configOrientation,
-														 ImageType<T> imageType ) {
+														 final ConfigSurfDescribe.Stability configDescribe,
+														 final ConfigSlidingIntegral configOrientation,
+														 final ImageType<T> imageType ) {
 
 		Class bandType = imageType.getImageClass();
-		Class<II> integralType = GIntegralImageOps.getIntegralType(bandType);
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(bandType);
 
 		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
+
+		if( BoofConcurrency.USE_CONCURRENT && imageType.getFamily() == ImageType.Family.PLANAR ) {
+			DetectDescribeSurfPlanar<II> deteDesc = new DetectDescribeSurfPlanar_MT<>(detector,
+					new InstanceFactory<OrientationIntegral<II>>() {
+						@Override
+						public OrientationIntegral<II> newInstance() {
+							return FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+						}
+					},
+					new InstanceFactory<DescribePointSurfPlanar<II>>() {
+						@Override
+						public DescribePointSurfPlanar<II> newInstance() {
+							DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
+							return new DescribePointSurfPlanar<>(describe, imageType.getNumBands());
+						}
+					});
+
+			return new SurfPlanar_to_DetectDescribePoint( deteDesc,bandType,integralType );
+		}
+
 		DescribePointSurfMod<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
 		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
 
@@ -19,8 +19,6 @@
 package boofcv.factory.feature.detect.interest;
 
 import boofcv.abst.feature.describe.ConfigSiftScaleSpace;
-import boofcv.abst.feature.detect.extract.NonMaxLimiter;
-import boofcv.abst.feature.detect.extract.NonMaxSuppression;
 import boofcv.abst.feature.detect.interest.*;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.abst.filter.derivative.ImageHessian;
@@ -138,11 +136,7 @@ public class FactoryInterestPoint {
 		if( configDet == null )
 			configDet = new ConfigSiftDetector();
 
-		SiftScaleSpace scaleSpace =
-				new SiftScaleSpace(configSS.firstOctave,configSS.lastOctave,configSS.numScales,configSS.sigma0);
-		NonMaxSuppression nonmax = FactoryFeatureExtractor.nonmax(configDet.extract);
-		NonMaxLimiter limiter = new NonMaxLimiter(nonmax,configDet.maxFeaturesPerScale);
-		SiftDetector detector = new SiftDetector(scaleSpace,configDet.edgeR,limiter);
+		SiftDetector detector = FactoryInterestPointAlgs.sift(configSS,configDet);
 
 		return new WrapSiftDetector<>(detector, imageType);
 	}
@@ -33,6 +33,8 @@ import boofcv.alg.feature.detect.intensity.GradientCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.interest.*;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
 import boofcv.factory.filter.derivative.FactoryDerivativeSparse;
@@ -173,8 +175,20 @@ public class FactoryInterestPointAlgs {
 		config.checkValidity();
 
 		// ignore border is overwritten by Fast Hessian at detection time
-		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
-				new ConfigExtract(config.extractRadius, config.detectThreshold, 0, true));
+		final ConfigExtract configExtract = new ConfigExtract(config.extractRadius, config.detectThreshold, 0, true);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			InstanceFactory<NonMaxSuppression> extractors = new InstanceFactory<NonMaxSuppression>() {
+				@Override
+				public NonMaxSuppression newInstance() {
+					return FactoryFeatureExtractor.nonmax(configExtract);
+				}
+			};
+			return new FastHessianFeatureDetector_MT<>(extractors, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave,
+					config.numberOfOctaves, config.scaleStepSize);
+		}
+
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(configExtract);
 		return new FastHessianFeatureDetector<>(extractor, config.maxFeaturesPerScale,
 				config.initialSampleSize, config.initialSize, config.numberScalesPerOctave,
 				config.numberOfOctaves, config.scaleStepSize);
@@ -191,10 +205,23 @@ public class FactoryInterestPointAlgs {
 		if( configDetector == null )
 			configDetector = new ConfigSiftDetector();
 
-		NonMaxLimiter nonmax = FactoryFeatureExtractor.nonmaxLimiter(
-				configDetector.extract,configDetector.maxFeaturesPerScale);
 		SiftScaleSpace ss = new SiftScaleSpace(configSS.firstOctave,configSS.lastOctave,
 				configSS.numScales,configSS.sigma0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final ConfigSiftDetector _configDetector = configDetector;
+			InstanceFactory<NonMaxLimiter> extractors = new InstanceFactory<NonMaxLimiter>() {
+				@Override
+				public NonMaxLimiter newInstance() {
+					return FactoryFeatureExtractor.nonmaxLimiter(
+							_configDetector.extract,_configDetector.maxFeaturesPerScale);
+				}
+			};
+			return new SiftDetector_MT(ss,configDetector.edgeR,extractors);
+		}
+
+		NonMaxLimiter nonmax = FactoryFeatureExtractor.nonmaxLimiter(
+				configDetector.extract,configDetector.maxFeaturesPerScale);
 		return new SiftDetector(ss,configDetector.edgeR,nonmax);
 	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.disparity;
+
+import boofcv.alg.feature.disparity.sgm.SgmCostVolume;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for {@link boofcv.alg.feature.disparity.sgm.SgmStereoDisparity Semi Global Matching}
+ *
+ * @author Peter Abeles
+ */
+public class ConfigDisparitySgm implements Configuration {
+	/**
+	 * Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 */
+	public int minDisparity = 0;
+
+	/**
+	 * Maximum disparity that it will calculate. Must be &gt; 0
+	 */
+	public int maxDisparity = 128;
+
+	/**
+	 * Error function used as the data term
+	 */
+	public DisparityError errorType = DisparityError.CENSUS;
+
+	/**
+	 * Radius of the square region the matching cost is summed across. 0 is a single pixel.
+	 */
+	public int regionRadius = 1;
+
+	/**
+	 * Radius of the census descriptor. 1, 2, or 3. Only used with {@link DisparityError#CENSUS}.
+	 */
+	public int censusRadius = 2;
+
+	/**
+	 * Number of paths the cost is aggregated along. 4 or 8.
+	 */
+	public int paths = 8;
+
+	/**
+	 * Penalty for a change in disparity of one between neighboring pixels.
+	 */
+	public int penaltySmall = 10;
+
+	/**
+	 * Penalty for a change in disparity larger than one between neighboring pixels.  Must be &ge; penaltySmall.
+	 */
+	public int penaltyLarge = 120;
+
+	/**
+	 * Matching costs are saturated at this value.  The aggregated cost is stored in 16-bits and will saturate
+	 * if paths*(maxCost + penaltyLarge) &gt; 65535.
+	 */
+	public int maxCost = 2000;
+
+	/**
+	 * If &gt; 0 the disparity range is split into tiles with this many disparities, which bounds the size of
+	 * the cost volumes.  Paths can't change disparity between tiles so the results are an approximation.
+	 * If &le; 0 the entire range is processed at once.
+	 */
+	public int disparityTileSize = 0;
+
+	public ConfigDisparitySgm(int minDisparity, int maxDisparity, DisparityError errorType) {
+		this.minDisparity = minDisparity;
+		this.maxDisparity = maxDisparity;
+		this.errorType = errorType;
+	}
+
+	public ConfigDisparitySgm() {
+	}
+
+	@Override
+	public void checkValidity() {
+		if( minDisparity < 0 || minDisparity >= maxDisparity )
+			throw new IllegalArgumentException("Must be 0 <= minDisparity < maxDisparity");
+		if( regionRadius < 0 )
+			throw new IllegalArgumentException("regionRadius must be >= 0");
+		if( paths != 4 && paths != 8 )
+			throw new IllegalArgumentException("paths must be 4 or 8");
+		if( penaltySmall < 0 || penaltyLarge < penaltySmall )
+			throw new IllegalArgumentException("Penalties must be >= 0 and penaltyLarge >= penaltySmall");
+		if( maxCost <= 0 || maxCost > SgmCostVolume.MAX_VALUE )
+			throw new IllegalArgumentException("maxCost must be > 0 and <= "+SgmCostVolume.MAX_VALUE);
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.feature.disparity;
+
+/**
+ * Error function used to compute the cost of matching pixels between the left and right images
+ *
+ * @author Peter Abeles
+ */
+public enum DisparityError {
+	/**
+	 * Sum of absolute differences
+	 *
+	 * @see boofcv.alg.feature.disparity.DisparityScoreSadRect
+	 */
+	SAD,
+	/**
+	 * Hamming distance between census descriptors
+	 *
+	 * @see boofcv.alg.feature.disparity.DisparityScoreCensus
+	 */
+	CENSUS
+}
@@ -22,15 +22,30 @@ import boofcv.abst.feature.disparity.StereoDisparity;
 import boofcv.abst.feature.disparity.StereoDisparitySparse;
 import boofcv.abst.feature.disparity.WrapDisparitySadRect;
 import boofcv.abst.feature.disparity.WrapDisparitySparseSadRect;
+import boofcv.alg.feature.disparity.CensusTransform;
+import boofcv.alg.feature.disparity.DisparityScoreCensus;
 import boofcv.alg.feature.disparity.DisparityScoreRowFormat;
+import boofcv.alg.feature.disparity.DisparityScoreRowFormat_MT;
 import boofcv.alg.feature.disparity.DisparitySelect;
 import boofcv.alg.feature.disparity.DisparitySparseScoreSadRect;
 import boofcv.alg.feature.disparity.DisparitySparseSelect;
+import boofcv.alg.feature.disparity.sgm.SgmCostAggregation;
+import boofcv.alg.feature.disparity.sgm.SgmCostAggregation_MT;
+import boofcv.alg.feature.disparity.sgm.SgmCostFromScores;
+import boofcv.alg.feature.disparity.sgm.SgmCostVolume;
+import boofcv.alg.feature.disparity.sgm.SgmStereoDisparity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static boofcv.factory.feature.disparity.FactoryStereoDisparityAlgs.*;
 
 /**
@@ -78,64 +93,29 @@ public class FactoryStereoDisparity {
 	 * @return Rectangular region based WTA disparity.algorithm.
 	 */
 	public static <T extends ImageGray<T>> StereoDisparity<T,GrayU8>
-	regionWta( DisparityAlgorithms whichAlg ,
-			   int minDisparity , int maxDisparity,
-			   int regionRadiusX, int regionRadiusY ,
+	regionWta( final DisparityAlgorithms whichAlg ,
+			   final int minDisparity , final int maxDisparity,
+			   final int regionRadiusX, final int regionRadiusY ,
 			   double maxPerPixelError ,
-			   int validateRtoL ,
-			   double texture ,
-			   Class<T> imageType ) {
-
-		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
+			   final int validateRtoL ,
+			   final double texture ,
+			   final Class<T> imageType ) {
 
-		// 3 regions are used not just one in this case
-		if( whichAlg == DisparityAlgorithms.RECT_FIVE )
-			maxError *= 3;
-
-		DisparitySelect select;
-		if( imageType == GrayU8.class || imageType == GrayS16.class ) {
-			select = selectDisparity_S32((int) maxError, validateRtoL, texture);
-		} else if( imageType == GrayF32.class ) {
-			select = selectDisparity_F32((int) maxError, validateRtoL, texture);
-		} else {
-			throw new IllegalArgumentException("Unknown image type");
-		}
-
-		DisparityScoreRowFormat<T,GrayU8> alg = null;
-
-		switch( whichAlg ) {
-			case RECT:
-				if( imageType == GrayU8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == GrayS16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == GrayF32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRect_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				}
-				break;
+		final double maxError = computeMaxError(whichAlg, regionRadiusX, regionRadiusY, maxPerPixelError);
 
-			case RECT_FIVE:
-				if( imageType == GrayU8.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_U8(minDisparity,
-							maxDisparity,regionRadiusX,regionRadiusY,select);
-				} else if( imageType == GrayS16.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_S16(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
-				} else if( imageType == GrayF32.class ) {
-					alg = FactoryStereoDisparityAlgs.scoreDisparitySadRectFive_F32(minDisparity,
-							maxDisparity, regionRadiusX, regionRadiusY, select);
+		DisparityScoreRowFormat<T,GrayU8> alg;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new DisparityScoreRowFormat_MT<>(new InstanceFactory<DisparityScoreRowFormat<T,GrayU8>>() {
+				@Override
+				public DisparityScoreRowFormat<T,GrayU8> newInstance() {
+					return createRegionWta(whichAlg, minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+							maxError, validateRtoL, texture, false, imageType);
 				}
-				break;
-
-			default:
-				throw new IllegalArgumentException("Unknown algorithms "+whichAlg);
-
+			});
+		} else {
+			alg = createRegionWta(whichAlg, minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+					maxError, validateRtoL, texture, false, imageType);
 		}
-		if( alg == null)
-			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 
 		return new WrapDisparitySadRect<>(alg);
 	}
@@ -161,30 +141,181 @@ public class FactoryStereoDisparity {
 	 * @return Rectangular region based WTA disparity.algorithm.
 	 */
 	public static <T extends ImageGray<T>> StereoDisparity<T,GrayF32>
-	regionSubpixelWta( DisparityAlgorithms whichAlg ,
-					   int minDisparity , int maxDisparity,
-					   int regionRadiusX, int regionRadiusY ,
+	regionSubpixelWta( final DisparityAlgorithms whichAlg ,
+					   final int minDisparity , final int maxDisparity,
+					   final int regionRadiusX, final int regionRadiusY ,
 					   double maxPerPixelError ,
-					   int validateRtoL ,
-					   double texture ,
-					   Class<T> imageType ) {
+					   final int validateRtoL ,
+					   final double texture ,
+					   final Class<T> imageType ) {
+
+		final double maxError = computeMaxError(whichAlg, regionRadiusX, regionRadiusY, maxPerPixelError);
+
+		DisparityScoreRowFormat<T,GrayF32> alg;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new DisparityScoreRowFormat_MT<>(new InstanceFactory<DisparityScoreRowFormat<T,GrayF32>>() {
+				@Override
+				public DisparityScoreRowFormat<T,GrayF32> newInstance() {
+					return createRegionWta(whichAlg, minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+							maxError, validateRtoL, texture, true, imageType);
+				}
+			});
+		} else {
+			alg = createRegionWta(whichAlg, minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+					maxError, validateRtoL, texture, true, imageType);
+		}
+
+		return new WrapDisparitySadRect<>(alg);
+	}
+
+	/**
+	 * <p>
+	 * Creates algorithms for computing dense disparity images up to pixel level accuracy using the Hamming distance
+	 * between census descriptors.  Census is more robust to lighting differences between the two cameras than
+	 * SAD and each pixel is scored with an XOR and bit count.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.disparity.DisparityScoreCensus
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param censusRadius Radius of the square region in the census descriptor.  1, 2, or 3.  Try 2.
+	 * @param maxPerPixelError Maximum allowed number of bits which differ per pixel.  Set to &lt; 0 to disable.
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be.  Try 6
+	 * @param texture Tolerance for how similar optimal region is to other region.  Closer to zero is more tolerant.
+	 *                Try 0.1
+	 * @param imageType Type of input image.
+	 * @return Rectangular region based WTA disparity.algorithm.
+	 */
+	public static <T extends ImageGray<T>> StereoDisparity<T,GrayU8>
+	regionCensusWta( int minDisparity , int maxDisparity,
+					 int regionRadiusX, int regionRadiusY ,
+					 int censusRadius ,
+					 double maxPerPixelError ,
+					 int validateRtoL ,
+					 double texture ,
+					 Class<T> imageType ) {
+		DisparityScoreRowFormat<T,GrayU8> alg = createRegionCensus(minDisparity, maxDisparity,
+				regionRadiusX, regionRadiusY, censusRadius, maxPerPixelError, validateRtoL, texture, false, imageType);
+
+		return new WrapDisparitySadRect<>(alg);
+	}
+
+	/**
+	 * <p>
+	 * Creates algorithms for computing dense disparity images with sub-pixel disparity accuracy using the Hamming distance
+	 * between census descriptors.  Census is more robust to lighting differences between the two cameras than
+	 * SAD and each pixel is scored with an XOR and bit count.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.disparity.DisparityScoreCensus
+	 *
+	 * @param minDisparity Minimum disparity that it will check. Must be &ge; 0 and &lt; maxDisparity
+	 * @param maxDisparity Maximum disparity that it will calculate. Must be &gt; 0
+	 * @param regionRadiusX Radius of the rectangular region along x-axis.
+	 * @param regionRadiusY Radius of the rectangular region along y-axis.
+	 * @param censusRadius Radius of the square region in the census descriptor.  1, 2, or 3.  Try 2.
+	 * @param maxPerPixelError Maximum allowed number of bits which differ per pixel.  Set to &lt; 0 to disable.
+	 * @param validateRtoL Tolerance for how difference the left to right associated values can be.  Try 6
+	 * @param texture Tolerance for how similar optimal region is to other region.  Closer to zero is more tolerant.
+	 *                Try 0.1
+	 * @param imageType Type of input image.
+	 * @return Rectangular region based WTA disparity.algorithm.
+	 */
+	public static <T extends ImageGray<T>> StereoDisparity<T,GrayF32>
+	regionCensusSubpixelWta( int minDisparity , int maxDisparity,
+							 int regionRadiusX, int regionRadiusY ,
+							 int censusRadius ,
+							 double maxPerPixelError ,
+							 int validateRtoL ,
+							 double texture ,
+							 Class<T> imageType ) {
+		DisparityScoreRowFormat<T,GrayF32> alg = createRegionCensus(minDisparity, maxDisparity,
+				regionRadiusX, regionRadiusY, censusRadius, maxPerPixelError, validateRtoL, texture, true, imageType);
+
+		return new WrapDisparitySadRect<>(alg);
+	}
+
+	/**
+	 * <p>
+	 * Creates a dense disparity algorithm using Semi Global Matching (SGM) up to pixel level accuracy.
+	 * The matching cost is computed using either SAD or census across a square region, then aggregated along
+	 * 4 or 8 paths. Produces smoother and more complete disparity images than WTA at additional cost.
+	 * </p>
+	 *
+	 * @see boofcv.alg.feature.disparity.sgm.SgmStereoDisparity
+	 *
+	 * @param config Configuration. If null the default will be used.
+	 * @param imageType Type of input image. SAD supports GrayU8 and GrayS16. Census also supports GrayF32.
+	 * @return SGM disparity algorithm
+	 */
+	public static <T extends ImageGray<T>> StereoDisparity<T,GrayU8>
+	sgm( ConfigDisparitySgm config , Class<T> imageType ) {
+		return new WrapDisparitySadRect<>(createSgm(config, imageType, GrayU8.class));
+	}
+
+	/**
+	 * <p>
+	 * Creates a dense disparity algorithm using Semi Global Matching (SGM) with sub-pixel accuracy.
+	 * Sub-pixel accuracy is found by fitting a parabola to the aggregated cost.
+	 * </p>
+	 *
+	 * @see #sgm(ConfigDisparitySgm, Class)
+	 *
+	 * @param config Configuration. If null the default will be used.
+	 * @param imageType Type of input image. SAD supports GrayU8 and GrayS16. Census also supports GrayF32.
+	 * @return SGM disparity algorithm
+	 */
+	public static <T extends ImageGray<T>> StereoDisparity<T,GrayF32>
+	sgmSubpixel( ConfigDisparitySgm config , Class<T> imageType ) {
+		return new WrapDisparitySadRect<>(createSgm(config, imageType, GrayF32.class));
+	}
 
+	/**
+	 * Maximum allowed error across the whole region
+	 */
+	private static double computeMaxError( DisparityAlgorithms whichAlg,
+										   int regionRadiusX, int regionRadiusY,
+										   double maxPerPixelError ) {
 		double maxError = (regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError;
 
 		// 3 regions are used not just one in this case
 		if( whichAlg == DisparityAlgorithms.RECT_FIVE )
 			maxError *= 3;
 
+		return maxError;
+	}
+
+	/**
+	 * Creates a single threaded dense disparity algorithm along with the disparity selector it uses.
+	 */
+	private static <T extends ImageGray<T>, DI extends ImageGray<DI>> DisparityScoreRowFormat<T,DI>
+	createRegionWta( DisparityAlgorithms whichAlg ,
+					 int minDisparity , int maxDisparity,
+					 int regionRadiusX, int regionRadiusY ,
+					 double maxError ,
+					 int validateRtoL ,
+					 double texture ,
+					 boolean subpixel ,
+					 Class<T> imageType ) {
 		DisparitySelect select;
 		if( imageType == GrayU8.class || imageType == GrayS16.class ) {
-			select = selectDisparitySubpixel_S32((int) maxError, validateRtoL, texture);
+			if( subpixel )
+				select = selectDisparitySubpixel_S32((int) maxError, validateRtoL, texture);
+			else
+				select = selectDisparity_S32((int) maxError, validateRtoL, texture);
 		} else if( imageType == GrayF32.class ) {
-			select = selectDisparitySubpixel_F32((int) maxError, validateRtoL, texture);
+			if( subpixel )
+				select = selectDisparitySubpixel_F32((int) maxError, validateRtoL, texture);
+			else
+				select = selectDisparity_F32((int) maxError, validateRtoL, texture);
 		} else {
 			throw new IllegalArgumentException("Unknown image type");
 		}
 
-		DisparityScoreRowFormat<T,GrayF32> alg = null;
+		DisparityScoreRowFormat<T,DI> alg = null;
 
 		switch( whichAlg ) {
 			case RECT:
@@ -220,7 +351,144 @@ public class FactoryStereoDisparity {
 		if( alg == null)
 			throw new RuntimeException("Image type not supported: "+imageType.getSimpleName() );
 
-		return new WrapDisparitySadRect<>(alg);
+		return alg;
+	}
+
+	/**
+	 * Creates the census transform and Hamming distance scorer.  Only the scorer is concurrent since it
+	 * dominates the computational cost.
+	 */
+	private static <T extends ImageGray<T>, DI extends ImageGray<DI>> DisparityScoreRowFormat<T,DI>
+	createRegionCensus( final int minDisparity , final int maxDisparity,
+						final int regionRadiusX, final int regionRadiusY ,
+						final int censusRadius ,
+						double maxPerPixelError ,
+						final int validateRtoL ,
+						final double texture ,
+						final boolean subpixel ,
+						Class<T> imageType ) {
+		if( imageType != GrayU8.class && imageType != GrayS16.class && imageType != GrayF32.class )
+			throw new IllegalArgumentException("Unknown image type");
+
+		final int maxError = (int)((regionRadiusX*2+1)*(regionRadiusY*2+1)*maxPerPixelError);
+
+		DisparityScoreRowFormat scorer;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			scorer = new DisparityScoreRowFormat_MT(new InstanceFactory<DisparityScoreRowFormat>() {
+				@Override
+				public DisparityScoreRowFormat newInstance() {
+					return createHamming(minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+							censusRadius, maxError, validateRtoL, texture, subpixel);
+				}
+			});
+		} else {
+			scorer = createHamming(minDisparity, maxDisparity, regionRadiusX, regionRadiusY,
+					censusRadius, maxError, validateRtoL, texture, subpixel);
+		}
+
+		return new DisparityScoreCensus(censusRadius, scorer, imageType);
+	}
+
+	/**
+	 * Creates a single threaded algorithm for scoring census descriptors along with the disparity selector it uses.
+	 */
+	private static DisparityScoreRowFormat
+	createHamming( int minDisparity , int maxDisparity,
+				   int regionRadiusX, int regionRadiusY ,
+				   int censusRadius , int maxError ,
+				   int validateRtoL , double texture ,
+				   boolean subpixel ) {
+		DisparitySelect select;
+		if( subpixel )
+			select = selectDisparitySubpixel_S32(maxError, validateRtoL, texture);
+		else
+			select = selectDisparity_S32(maxError, validateRtoL, texture);
+
+		if( CensusTransform.getOutputType(censusRadius) == (Class)GrayS32.class )
+			return scoreDisparityHamming_S32(minDisparity, maxDisparity, regionRadiusX, regionRadiusY, select);
+		else
+			return scoreDisparityHamming_S64(minDisparity, maxDisparity, regionRadiusX, regionRadiusY, select);
+	}
+
+	private static <T extends ImageGray<T>, DI extends ImageGray<DI>> SgmStereoDisparity<T,DI>
+	createSgm( ConfigDisparitySgm config , Class<T> imageType , Class<DI> disparityType ) {
+		if( config == null )
+			config = new ConfigDisparitySgm();
+		config.checkValidity();
+
+		if( config.errorType == DisparityError.SAD ) {
+			if( imageType != GrayU8.class && imageType != GrayS16.class )
+				throw new IllegalArgumentException("SAD requires GrayU8 or GrayS16 for 16-bit costs");
+		} else if( imageType != GrayU8.class && imageType != GrayS16.class && imageType != GrayF32.class ) {
+			throw new IllegalArgumentException("Unknown image type");
+		}
+
+		// split the disparity range into tiles which all write to the same cost volume
+		SgmCostVolume cost = new SgmCostVolume();
+		int tileSize = config.maxDisparity - config.minDisparity;
+		if( config.disparityTileSize > 0 )
+			tileSize = Math.min(tileSize, config.disparityTileSize);
+
+		List<DisparityScoreRowFormat<T,GrayU8>> tiles = new ArrayList<>();
+		for( int d0 = config.minDisparity; d0 < config.maxDisparity; d0 += tileSize ) {
+			int d1 = Math.min(config.maxDisparity, d0 + tileSize);
+
+			if( config.errorType == DisparityError.CENSUS ) {
+				// census is computed once for the whole image and only scoring is concurrent
+				Class censusType = CensusTransform.getOutputType(config.censusRadius);
+				DisparityScoreRowFormat scorer = createSgmScorer(config, d0, d1, cost, censusType);
+				tiles.add(new DisparityScoreCensus(config.censusRadius, scorer, imageType));
+			} else {
+				tiles.add(createSgmScorer(config, d0, d1, cost, imageType));
+			}
+		}
+
+		SgmCostAggregation aggregation;
+		if( BoofConcurrency.USE_CONCURRENT )
+			aggregation = new SgmCostAggregation_MT(config.penaltySmall, config.penaltyLarge, config.paths);
+		else
+			aggregation = new SgmCostAggregation(config.penaltySmall, config.penaltyLarge, config.paths);
+
+		return new SgmStereoDisparity<>(tiles, cost, config.maxCost, aggregation, disparityType);
+	}
+
+	/**
+	 * Creates an algorithm that computes the SGM matching cost for a range of disparities.
+	 */
+	private static DisparityScoreRowFormat
+	createSgmScorer( final ConfigDisparitySgm config , final int minDisparity , final int maxDisparity ,
+					 final SgmCostVolume cost , final Class scoreType ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return new DisparityScoreRowFormat_MT(new InstanceFactory<DisparityScoreRowFormat>() {
+				@Override
+				public DisparityScoreRowFormat newInstance() {
+					return createSgmBlockScorer(config, minDisparity, maxDisparity, cost, scoreType);
+				}
+			});
+		} else {
+			return createSgmBlockScorer(config, minDisparity, maxDisparity, cost, scoreType);
+		}
+	}
+
+	/**
+	 * Creates a single threaded block matching algorithm which writes its scores into the cost volume.
+	 */
+	private static DisparityScoreRowFormat
+	createSgmBlockScorer( ConfigDisparitySgm config , int minDisparity , int maxDisparity ,
+						  SgmCostVolume cost , Class scoreType ) {
+		SgmCostFromScores select = new SgmCostFromScores(cost, config.maxCost);
+		int r = config.regionRadius;
+
+		if( scoreType == GrayU8.class )
+			return scoreDisparitySadRect_U8(minDisparity, maxDisparity, r, r, select);
+		else if( scoreType == GrayS16.class )
+			return scoreDisparitySadRect_S16(minDisparity, maxDisparity, r, r, select);
+		else if( scoreType == GrayS32.class )
+			return scoreDisparityHamming_S32(minDisparity, maxDisparity, r, r, select);
+		else if( scoreType == GrayS64.class )
+			return scoreDisparityHamming_S64(minDisparity, maxDisparity, r, r, select);
+		else
+			throw new RuntimeException("Image type not supported: "+scoreType.getSimpleName() );
 	}
 
 	/**
@@ -22,6 +22,8 @@ import boofcv.alg.feature.disparity.*;
 import boofcv.alg.feature.disparity.impl.*;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayS64;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 
@@ -136,6 +138,24 @@ public class FactoryStereoDisparityAlgs {
 				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
 	}
 
+	public static <T extends ImageGray<T>> DisparityScoreRowFormat<GrayS32,T>
+	scoreDisparityHamming_S32( int minDisparity , int maxDisparity,
+							   int regionRadiusX, int regionRadiusY,
+							   DisparitySelect<int[],T> computeDisparity)
+	{
+		return new ImplDisparityScoreHamming_S32<>(minDisparity,
+				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+	}
+
+	public static <T extends ImageGray<T>> DisparityScoreRowFormat<GrayS64,T>
+	scoreDisparityHamming_S64( int minDisparity , int maxDisparity,
+							   int regionRadiusX, int regionRadiusY,
+							   DisparitySelect<int[],T> computeDisparity)
+	{
+		return new ImplDisparityScoreHamming_S64<>(minDisparity,
+				maxDisparity, regionRadiusX, regionRadiusY, computeDisparity);
+	}
+
 	public static DisparitySparseScoreSadRect<int[],GrayU8>
 	scoreDisparitySparseSadRect_U8( int minDisparity , int maxDisparity,
 									int regionRadiusX, int regionRadiusY )
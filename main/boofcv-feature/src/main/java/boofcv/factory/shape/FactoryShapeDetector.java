@@ -24,6 +24,8 @@ import boofcv.alg.shapes.ellipse.EdgeIntensityEllipse;
 import boofcv.alg.shapes.ellipse.SnapToEllipseEdge;
 import boofcv.alg.shapes.polygon.*;
 import boofcv.alg.shapes.polyline.SplitMergeLineFitLoop;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
 import boofcv.struct.image.ImageGray;
 
 /**
@@ -83,10 +85,32 @@ public class FactoryShapeDetector {
 	 * @return Detector
 	 */
 	public static <T extends ImageGray<T>>
-	DetectPolygonBinaryGrayRefine<T> polygon(ConfigPolygonDetector config, Class<T> imageType)
+	DetectPolygonBinaryGrayRefine<T> polygon(final ConfigPolygonDetector config, final Class<T> imageType)
 	{
 		config.checkValidity();
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			InstanceFactory<RefinePolygonToContour> refineContour = !config.refineContour ? null :
+					new InstanceFactory<RefinePolygonToContour>() {
+						@Override
+						public RefinePolygonToContour newInstance() {
+							return new RefinePolygonToContour();
+						}
+					};
+			InstanceFactory<RefinePolygonToGray<T>> refineGray = config.refineGray == null ? null :
+					new InstanceFactory<RefinePolygonToGray<T>>() {
+						@Override
+						public RefinePolygonToGray<T> newInstance() {
+							return refinePolygon(config.refineGray,imageType);
+						}
+					};
+
+			return new DetectPolygonBinaryGrayRefine_MT<>(polygonContour(config.detector,imageType),
+					refineContour,refineGray,
+					config.minimumRefineEdgeIntensity,
+					config.adjustForThresholdBias);
+		}
+
 		RefinePolygonToContour refineContour = config.refineContour ? new RefinePolygonToContour() : null;
 
 		RefinePolygonToGray<T> refineGray = config.refineGray != null ?
@@ -100,10 +124,28 @@ public class FactoryShapeDetector {
 	}
 
 	public static <T extends ImageGray<T>>
-	DetectPolygonFromContour<T> polygonContour(ConfigPolygonFromContour config, Class<T> imageType)
+	DetectPolygonFromContour<T> polygonContour(final ConfigPolygonFromContour config, Class<T> imageType)
 	{
 		config.checkValidity();
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			InstanceFactory<SplitMergeLineFitLoop> contourToPolygon = new InstanceFactory<SplitMergeLineFitLoop>() {
+				@Override
+				public SplitMergeLineFitLoop newInstance() {
+					return new SplitMergeLineFitLoop(
+							config.contourToPoly.splitFraction,
+							config.contourToPoly.minimumSideFraction,
+							config.contourToPoly.iterations);
+				}
+			};
+
+			return new DetectPolygonFromContour_MT<>(
+					config.minimumSides, config.maximumSides, contourToPolygon,
+					config.minimumContour,
+					config.clockwise, config.convex, config.canTouchBorder, config.splitPenalty,
+					config.minimumEdgeIntensity, config.tangentEdgeIntensity, imageType);
+		}
+
 		SplitMergeLineFitLoop contourToPolygon = new SplitMergeLineFitLoop(
 				config.contourToPoly.splitFraction,
 				config.contourToPoly.minimumSideFraction,
@@ -28,6 +28,9 @@ import boofcv.alg.tracker.klt.KltConfig;
 import boofcv.alg.tracker.klt.KltTracker;
 import boofcv.alg.tracker.klt.PkltConfig;
 import boofcv.alg.tracker.klt.PyramidKltTracker;
+import boofcv.alg.tracker.klt.PyramidKltTracker_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
@@ -87,11 +90,19 @@ public class FactoryTrackerAlg {
 		if( derivType == null )
 			derivType = GImageDerivativeOps.getDerivativeType(imageType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
-
-		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
-		return new PyramidKltTracker<>(klt);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final KltConfig _config = config;
+			final Class<I> _imageType = imageType;
+			final Class<D> _derivType = derivType;
+			return new PyramidKltTracker_MT<>(new InstanceFactory<KltTracker<I, D>>() {
+				@Override
+				public KltTracker<I, D> newInstance() {
+					return klt(_config, _imageType, _derivType);
+				}
+			});
+		} else {
+			return new PyramidKltTracker<>(klt(config, imageType, derivType));
+		}
 	}
 
 	/**
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.DescriptorIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateDescriptorIndex extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	public TestAssociateDescriptorIndex() {
+		super(TupleDesc_F64.class);
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		// exhaustive algorithm will produce perfect results
+		return new AssociateDescriptorIndex<>(new Exhaustive());
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	/**
+	 * Make sure the results are correctly reset when called multiple times with different sized inputs
+	 */
+	@Test
+	public void multipleCalls() {
+		AssociateDescription<TupleDesc_F64> alg = createAlg();
+		alg.setThreshold(0.5);
+
+		for( int trial = 0; trial < 3; trial++ ) {
+			init();
+			int numDst = 10 - trial*3;
+			for( int i = 0; i < 5; i++ ) {
+				listSrc.add(c(i*2));
+			}
+			for( int i = 0; i < numDst; i++ ) {
+				listDst.add(c(i));
+			}
+			alg.setSource(listSrc);
+			alg.setDestination(listDst);
+			alg.associate();
+
+			// only even destination features below 10 have a match
+			assertEquals((numDst+1)/2, alg.getMatches().size);
+			for( int i = 0; i < alg.getMatches().size; i++ ) {
+				assertEquals(alg.getMatches().get(i).src*2, alg.getMatches().get(i).dst);
+			}
+			assertEquals(numDst/2, alg.getUnassociatedDestination().size);
+		}
+	}
+
+	/**
+	 * Brute force search using Euclidean distance
+	 */
+	public static class Exhaustive implements DescriptorIndex<TupleDesc_F64> {
+		FastQueue<TupleDesc_F64> points;
+
+		@Override
+		public void setPoints(FastQueue<TupleDesc_F64> points) {
+			this.points = points;
+		}
+
+		@Override
+		public Search<TupleDesc_F64> createSearch() {
+			return new Search<TupleDesc_F64>() {
+				double distance;
+
+				@Override
+				public int findNearest(TupleDesc_F64 query, double maxDistance) {
+					int best = -1;
+					distance = Double.MAX_VALUE;
+					for( int i = 0; i < points.size; i++ ) {
+						double d = 0;
+						for( int k = 0; k < query.value.length; k++ ) {
+							double e = query.value[k] - points.get(i).value[k];
+							d += e*e;
+						}
+						d = Math.sqrt(d);
+						if( d < distance ) {
+							distance = d;
+							best = i;
+						}
+					}
+					if( maxDistance >= 0 && distance > maxDistance )
+						return -1;
+					return best;
+				}
+
+				@Override
+				public double getDistance() {
+					return distance;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateDescriptorIndex_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+	int originalMinBlock;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMinBlock = AssociateDescriptorIndex_MT.MIN_BLOCK;
+		AssociateDescriptorIndex_MT.MIN_BLOCK = 5;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		AssociateDescriptorIndex_MT.MIN_BLOCK = originalMinBlock;
+	}
+
+	@Test
+	public void compareToSerial() {
+		FastQueue<TupleDesc_F64> src = createRandom(60);
+		FastQueue<TupleDesc_F64> dst = createRandom(83);
+
+		AssociateDescriptorIndex<TupleDesc_F64> expected =
+				new AssociateDescriptorIndex<>(new TestAssociateDescriptorIndex.Exhaustive());
+		expected.setThreshold(0.3);
+		expected.setSource(src);
+		expected.setDestination(dst);
+		expected.associate();
+
+		for( int threads : new int[]{2,4} ) {
+			BoofConcurrency.setMaxThreads(threads);
+
+			AssociateDescriptorIndex_MT<TupleDesc_F64> alg =
+					new AssociateDescriptorIndex_MT<>(new TestAssociateDescriptorIndex.Exhaustive());
+			alg.setThreshold(0.3);
+			alg.setSource(src);
+			alg.setDestination(dst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> found = alg.getMatches();
+			assertEquals(expected.getMatches().size, found.size);
+			for( int i = 0; i < found.size; i++ ) {
+				AssociatedIndex e = expected.getMatches().get(i);
+				AssociatedIndex a = found.get(i);
+				assertEquals(e.src, a.src);
+				assertEquals(e.dst, a.dst);
+				assertEquals(e.fitScore, a.fitScore, 1e-8);
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_F64> createRandom( int total ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<>(TupleDesc_F64.class, false);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F64 d = new TupleDesc_F64(3);
+			for( int k = 0; k < 3; k++ ) {
+				d.value[k] = rand.nextDouble();
+			}
+			ret.add(d);
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.detdesc;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWrapDetectDescribeSurf_MT extends GenericTestsDetectDescribePoint<GrayF32,BrightFeature>
+{
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	public TestWrapDetectDescribeSurf_MT() {
+		super(true, true, ImageType.single(GrayF32.class), BrightFeature.class);
+	}
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Override
+	public DetectDescribePoint<GrayF32, BrightFeature> createDetDesc() {
+		BoofConcurrency.USE_CONCURRENT = true;
+		DetectDescribePoint<GrayF32, BrightFeature> alg = FactoryDetectDescribe.surfStable(null,null,null, GrayF32.class);
+		BoofConcurrency.USE_CONCURRENT = false;
+		return alg;
+	}
+
+	/**
+	 * Features and their descriptions should be identical to the single threaded version
+	 */
+	@Test
+	public void compareToSerial() {
+		GrayF32 input = new GrayF32(320,240);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		DetectDescribePoint<GrayF32, BrightFeature> serial = FactoryDetectDescribe.surfFast(null,null,null, GrayF32.class);
+		BoofConcurrency.USE_CONCURRENT = true;
+		DetectDescribePoint<GrayF32, BrightFeature> concurrent = FactoryDetectDescribe.surfFast(null,null,null, GrayF32.class);
+		BoofConcurrency.USE_CONCURRENT = false;
+
+		assertTrue(concurrent instanceof WrapDetectDescribeSurf_MT);
+
+		serial.detect(input);
+		concurrent.detect(input);
+
+		assertTrue(serial.getNumberOfFeatures() > 0);
+		assertEquals(serial.getNumberOfFeatures(), concurrent.getNumberOfFeatures());
+		for (int i = 0; i < serial.getNumberOfFeatures(); i++) {
+			assertEquals(serial.getLocation(i).x, concurrent.getLocation(i).x, 0);
+			assertEquals(serial.getLocation(i).y, concurrent.getLocation(i).y, 0);
+			assertEquals(serial.getRadius(i), concurrent.getRadius(i), 0);
+			assertEquals(serial.getOrientation(i), concurrent.getOrientation(i), 0);
+
+			BrightFeature e = serial.getDescription(i);
+			BrightFeature f = concurrent.getDescription(i);
+			assertEquals(e.white, f.white);
+			for (int j = 0; j < e.size(); j++) {
+				assertEquals(e.value[j], f.value[j], 0);
+			}
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare against the generic implementation, which is known to work
+	 */
+	@Test
+	public void compareToGeneric() {
+		for( int numBits : new int[]{32,96,256} ) {
+			for( boolean backwards : new boolean[]{false,true} ) {
+				compareToGeneric(numBits, backwards, Double.MAX_VALUE);
+				compareToGeneric(numBits, backwards, numBits/8);
+			}
+		}
+	}
+
+	private void compareToGeneric( int numBits , boolean backwards , double maxError ) {
+		FastQueue<TupleDesc_B> src = createRandom(numBits, 150);
+		FastQueue<TupleDesc_B> dst = createNoisy(src, 130);
+
+		AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(new ScoreAssociateHamming_B(), backwards);
+		expected.setMaxFitError(maxError);
+		expected.associate(src, dst);
+
+		AssociateGreedyHamming alg = new AssociateGreedyHamming(backwards, 1.0);
+		alg.setMaxFitError(maxError);
+		// small tiles to make sure tiling doesn't change the results
+		alg.setTileSize(17);
+		alg.associate(src, dst);
+
+		int matched = 0;
+		for( int i = 0; i < src.size; i++ ) {
+			assertEquals(expected.getPairs()[i], alg.getPairs()[i]);
+			assertEquals(expected.getFitQuality()[i], alg.getFitQuality()[i], 1e-8);
+			if( alg.getPairs()[i] >= 0 )
+				matched++;
+		}
+		// sanity check to make sure the test isn't trivial
+		assertTrue(matched > 0);
+	}
+
+	/**
+	 * Process different sized inputs with the same instance
+	 */
+	@Test
+	public void multipleCalls() {
+		AssociateGreedyHamming alg = new AssociateGreedyHamming(true, 1.0);
+		AssociateGreedy<TupleDesc_B> expected = new AssociateGreedy<>(new ScoreAssociateHamming_B(), true);
+
+		for( int trial = 0; trial < 4; trial++ ) {
+			FastQueue<TupleDesc_B> src = createRandom(64, 20 + trial*30);
+			FastQueue<TupleDesc_B> dst = createNoisy(src, 70 - trial*15);
+
+			expected.associate(src, dst);
+			alg.associate(src, dst);
+
+			for( int i = 0; i < src.size; i++ ) {
+				assertEquals(expected.getPairs()[i], alg.getPairs()[i]);
+			}
+		}
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_B> src = createRandom(64, 2);
+		FastQueue<TupleDesc_B> dst = createRandom(64, 0);
+
+		// first source feature has two matches with similar scores, 10 and 11
+		dst.grow().setTo(src.get(0));
+		dst.grow().setTo(src.get(0));
+		dst.get(0).data[0] ^= 0x3FF;
+		dst.get(1).data[0] ^= 0x7FF;
+		// second has a single good match
+		dst.grow().setTo(src.get(1));
+		dst.get(2).data[0] ^= 0x01;
+
+		AssociateGreedyHamming alg = new AssociateGreedyHamming(false, 1.0);
+		alg.associate(src, dst);
+		assertEquals(0, alg.getPairs()[0]);
+		assertEquals(2, alg.getPairs()[1]);
+
+		alg.setRatioTest(0.8);
+		alg.associate(src, dst);
+		assertEquals(-1, alg.getPairs()[0]);
+		assertEquals(2, alg.getPairs()[1]);
+	}
+
+	@Test
+	public void emptyInputs() {
+		AssociateGreedyHamming alg = new AssociateGreedyHamming(true, 1.0);
+		alg.associate(createRandom(64, 0), createRandom(64, 10));
+		alg.associate(createRandom(64, 10), createRandom(64, 0));
+		for( int i = 0; i < 10; i++ ) {
+			assertEquals(-1, alg.getPairs()[i]);
+		}
+	}
+
+	FastQueue<TupleDesc_B> createRandom( final int numBits , int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(10,TupleDesc_B.class, true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Creates a list of descriptors which are copies of the src with a few bits flipped
+	 */
+	FastQueue<TupleDesc_B> createNoisy( FastQueue<TupleDesc_B> src , int total ) {
+		int numBits = src.get(0).numBits;
+		FastQueue<TupleDesc_B> ret = createRandom(numBits, total);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.get(i);
+			d.setTo(src.get(rand.nextInt(src.size)));
+			int flips = rand.nextInt(numBits/4);
+			for( int j = 0; j < flips; j++ ) {
+				int bit = rand.nextInt(numBits);
+				d.data[bit/32] ^= 1 << (bit%32);
+			}
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming_MT {
+
+	int originalThreads;
+	int originalMinBlock;
+
+	TestAssociateGreedyHamming helper = new TestAssociateGreedyHamming();
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMinBlock = AssociateGreedyHamming_MT.MIN_BLOCK;
+		AssociateGreedyHamming_MT.MIN_BLOCK = 5;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		AssociateGreedyHamming_MT.MIN_BLOCK = originalMinBlock;
+	}
+
+	@Test
+	public void compareToSerial() {
+		for( int threads : new int[]{2,4} ) {
+			BoofConcurrency.setMaxThreads(threads);
+			for( boolean backwards : new boolean[]{false,true} ) {
+				compareToSerial(96, backwards, 1.0);
+				compareToSerial(256, backwards, 0.8);
+			}
+		}
+	}
+
+	private void compareToSerial( int numBits , boolean backwards , double ratio ) {
+		FastQueue<TupleDesc_B> src = helper.createRandom(numBits, 120);
+		FastQueue<TupleDesc_B> dst = helper.createNoisy(src, 140);
+
+		AssociateGreedyHamming expected = new AssociateGreedyHamming(backwards, ratio);
+		AssociateGreedyHamming_MT alg = new AssociateGreedyHamming_MT(backwards, ratio);
+		expected.setMaxFitError(numBits/6);
+		alg.setMaxFitError(numBits/6);
+
+		expected.associate(src, dst);
+		alg.associate(src, dst);
+
+		for( int i = 0; i < src.size; i++ ) {
+			assertEquals(expected.getPairs()[i], alg.getPairs()[i]);
+			assertEquals(expected.getFitQuality()[i], alg.getFitQuality()[i], 1e-8);
+		}
+	}
+}
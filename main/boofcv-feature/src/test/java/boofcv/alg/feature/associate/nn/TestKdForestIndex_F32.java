@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_F32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestKdForestIndex_F32 {
+
+	Random rand = new Random(234);
+
+	/**
+	 * If there is no limit on the number of checks the search should be exact
+	 */
+	@Test
+	public void exact() {
+		FastQueue<TupleDesc_F32> points = createRandom(16, 1000);
+		FastQueue<TupleDesc_F32> queries = createRandom(16, 200);
+
+		KdForestIndex_F32 alg = new KdForestIndex_F32(3, 5, 0, 234);
+		alg.setPoints(points);
+		DescriptorIndex.Search<TupleDesc_F32> search = alg.createSearch();
+
+		for( int i = 0; i < queries.size; i++ ) {
+			int expected = bruteForce(points, queries.get(i));
+			assertEquals(expected, search.findNearest(queries.get(i), -1));
+			assertEquals(distance(points.get(expected), queries.get(i)), search.getDistance(), 1e-4);
+		}
+	}
+
+	/**
+	 * Approximate search should find most of the true nearest neighbors.  More trees should improve the recall.
+	 */
+	@Test
+	public void recall() {
+		FastQueue<TupleDesc_F32> points = createRandom(64, 5000);
+		FastQueue<TupleDesc_F32> queries = createNoisy(points, 300, 0.15f);
+
+		int[] expected = new int[queries.size];
+		for( int i = 0; i < queries.size; i++ ) {
+			expected[i] = bruteForce(points, queries.get(i));
+		}
+
+		double recallOne = recall(new KdForestIndex_F32(1, 5, 64, 234), points, queries, expected);
+		double recallMany = recall(new KdForestIndex_F32(8, 5, 64, 234), points, queries, expected);
+
+		assertTrue(recallMany > recallOne);
+		assertTrue(recallMany > 0.9);
+	}
+
+	private double recall( KdForestIndex_F32 alg ,
+						   FastQueue<TupleDesc_F32> points , FastQueue<TupleDesc_F32> queries , int[] expected ) {
+		alg.setPoints(points);
+		KdForestIndex_F32.ForestSearch search = (KdForestIndex_F32.ForestSearch)alg.createSearch();
+
+		int correct = 0;
+		for( int i = 0; i < queries.size; i++ ) {
+			if( search.findNearest(queries.get(i), -1) == expected[i] )
+				correct++;
+			// should stop after the leaf which exceeds the maximum checks
+			assertTrue(search.getChecked() < 64 + alg.getNumTrees()*alg.getLeafSize()*2);
+		}
+		return correct/(double)queries.size;
+	}
+
+	@Test
+	public void maxDistance() {
+		FastQueue<TupleDesc_F32> points = createRandom(4, 20);
+		TupleDesc_F32 query = points.get(5).copy();
+		query.value[0] += 0.05f;
+
+		KdForestIndex_F32 alg = new KdForestIndex_F32(2, 2, 0, 234);
+		alg.setPoints(points);
+		DescriptorIndex.Search<TupleDesc_F32> search = alg.createSearch();
+
+		assertEquals(5, search.findNearest(query, 0.0026));
+		assertEquals(0.0025, search.getDistance(), 1e-6);
+		assertEquals(-1, search.findNearest(query, 0.0024));
+	}
+
+	/**
+	 * All the points are identical.  Tree can't be split
+	 */
+	@Test
+	public void duplicatePoints() {
+		FastQueue<TupleDesc_F32> points = createRandom(8, 100);
+		for( int i = 1; i < points.size; i++ ) {
+			points.get(i).setTo(points.get(0));
+		}
+
+		KdForestIndex_F32 alg = new KdForestIndex_F32(2, 3, 16, 234);
+		alg.setPoints(points);
+		DescriptorIndex.Search<TupleDesc_F32> search = alg.createSearch();
+
+		assertEquals(0, search.findNearest(points.get(10), -1));
+		assertEquals(0, search.getDistance(), 1e-8);
+	}
+
+	/**
+	 * Rebuild the index with a different number of points and size
+	 */
+	@Test
+	public void setPoints_multiple() {
+		KdForestIndex_F32 alg = new KdForestIndex_F32(2, 3, 0, 234);
+		DescriptorIndex.Search<TupleDesc_F32> search = alg.createSearch();
+
+		alg.setPoints(createRandom(8, 0));
+		assertEquals(-1, search.findNearest(createRandom(8, 1).get(0), -1));
+
+		for( int dof : new int[]{32, 3, 10} ) {
+			FastQueue<TupleDesc_F32> points = createRandom(dof, 200 + dof);
+			alg.setPoints(points);
+			for( int i = 0; i < points.size; i += 7 ) {
+				assertEquals(i, search.findNearest(points.get(i), -1));
+			}
+		}
+	}
+
+	static int bruteForce( FastQueue<TupleDesc_F32> points , TupleDesc_F32 query ) {
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE;
+		for( int i = 0; i < points.size; i++ ) {
+			double d = distance(points.get(i), query);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	static double distance( TupleDesc_F32 a , TupleDesc_F32 b ) {
+		double total = 0;
+		for( int i = 0; i < a.value.length; i++ ) {
+			double d = a.value[i] - b.value[i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	FastQueue<TupleDesc_F32> createRandom( final int dof , int total ) {
+		FastQueue<TupleDesc_F32> ret = new FastQueue<TupleDesc_F32>(10,TupleDesc_F32.class, true) {
+			@Override
+			protected TupleDesc_F32 createInstance() {
+				return new TupleDesc_F32(dof);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F32 d = ret.grow();
+			for( int j = 0; j < dof; j++ ) {
+				d.value[j] = rand.nextFloat();
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Copies of randomly selected points with noise added
+	 */
+	FastQueue<TupleDesc_F32> createNoisy( FastQueue<TupleDesc_F32> points , int total , float sigma ) {
+		int dof = points.get(0).value.length;
+		FastQueue<TupleDesc_F32> ret = createRandom(dof, total);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F32 d = ret.get(i);
+			d.setTo(points.get(rand.nextInt(points.size)));
+			for( int j = 0; j < dof; j++ ) {
+				d.value[j] += (float)rand.nextGaussian()*sigma;
+			}
+		}
+		return ret;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLshHammingIndex {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Identical descriptors are always in the same bucket and should always be found
+	 */
+	@Test
+	public void findIdentical() {
+		FastQueue<TupleDesc_B> points = createRandom(256, 500);
+
+		LshHammingIndex alg = new LshHammingIndex(4, 16, 0, 234);
+		alg.setPoints(points);
+		DescriptorIndex.Search<TupleDesc_B> search = alg.createSearch();
+
+		for( int i = 0; i < points.size; i++ ) {
+			assertEquals(i, search.findNearest(points.get(i), -1));
+			assertEquals(0, search.getDistance(), 1e-8);
+		}
+	}
+
+	/**
+	 * Compare against brute force.  Multi-probe should improve the recall.
+	 */
+	@Test
+	public void recall() {
+		FastQueue<TupleDesc_B> points = createRandom(256, 2000);
+		FastQueue<TupleDesc_B> queries = createNoisy(points, 300, 20);
+
+		int[] expected = new int[queries.size];
+		for( int i = 0; i < queries.size; i++ ) {
+			expected[i] = bruteForce(points, queries.get(i));
+		}
+
+		double previous = 0;
+		for( int probe = 0; probe <= 2; probe++ ) {
+			LshHammingIndex alg = new LshHammingIndex(8, 16, probe, 234);
+			alg.setPoints(points);
+			DescriptorIndex.Search<TupleDesc_B> search = alg.createSearch();
+
+			int correct = 0;
+			for( int i = 0; i < queries.size; i++ ) {
+				int found = search.findNearest(queries.get(i), -1);
+				if( found == expected[i] )
+					correct++;
+				// the returned distance should be the true distance
+				if( found >= 0 )
+					assertEquals(hamming(points.get(found), queries.get(i)), search.getDistance(), 1e-8);
+			}
+			double recall = correct/(double)queries.size;
+			assertTrue(recall >= previous);
+			previous = recall;
+		}
+		assertTrue(previous > 0.95);
+	}
+
+	@Test
+	public void maxDistance() {
+		FastQueue<TupleDesc_B> points = createRandom(64, 10);
+		TupleDesc_B query = points.get(3).copy();
+		query.data[0] ^= 0x0F;
+
+		LshHammingIndex alg = new LshHammingIndex(4, 8, 2, 234);
+		alg.setPoints(points);
+		DescriptorIndex.Search<TupleDesc_B> search = alg.createSearch();
+
+		assertEquals(3, search.findNearest(query, 4));
+		assertEquals(4, search.getDistance(), 1e-8);
+		assertEquals(-1, search.findNearest(query, 3));
+	}
+
+	/**
+	 * Rebuild the index with a different number of points and descriptor size
+	 */
+	@Test
+	public void setPoints_multiple() {
+		LshHammingIndex alg = new LshHammingIndex(4, 12, 1, 234);
+		DescriptorIndex.Search<TupleDesc_B> search = alg.createSearch();
+
+		alg.setPoints(createRandom(256, 0));
+		assertEquals(-1, search.findNearest(createRandom(256, 1).get(0), -1));
+
+		for( int numBits : new int[]{512, 8, 96} ) {
+			FastQueue<TupleDesc_B> points = createRandom(numBits, 100 + numBits);
+			alg.setPoints(points);
+			for( int i = 0; i < points.size; i += 7 ) {
+				assertEquals(0, hamming(points.get(search.findNearest(points.get(i), -1)), points.get(i)));
+			}
+		}
+	}
+
+	static int bruteForce( FastQueue<TupleDesc_B> points , TupleDesc_B query ) {
+		int best = -1;
+		int bestDistance = Integer.MAX_VALUE;
+		for( int i = 0; i < points.size; i++ ) {
+			int d = hamming(points.get(i), query);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	static int hamming( TupleDesc_B a , TupleDesc_B b ) {
+		int total = 0;
+		for( int i = 0; i < a.data.length; i++ ) {
+			total += Integer.bitCount(a.data[i] ^ b.data[i]);
+		}
+		return total;
+	}
+
+	FastQueue<TupleDesc_B> createRandom( final int numBits , int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(10,TupleDesc_B.class, true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < d.data.length; j++ ) {
+				d.data[j] = rand.nextInt();
+			}
+			// zero bits past the end
+			if( numBits % 32 != 0 )
+				d.data[d.data.length-1] &= (1 << (numBits%32)) - 1;
+		}
+		return ret;
+	}
+
+	/**
+	 * Copies of randomly selected points with bits flipped
+	 */
+	FastQueue<TupleDesc_B> createNoisy( FastQueue<TupleDesc_B> points , int total , int flips ) {
+		int numBits = points.get(0).numBits;
+		FastQueue<TupleDesc_B> ret = createRandom(numBits, total);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.get(i);
+			d.setTo(points.get(rand.nextInt(points.size)));
+			for( int j = 0; j < flips; j++ ) {
+				int bit = rand.nextInt(numBits);
+				d.data[bit/32] ^= 1 << (bit%32);
+			}
+		}
+		return ret;
+	}
+}
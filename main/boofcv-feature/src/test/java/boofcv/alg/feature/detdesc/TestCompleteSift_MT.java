@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detdesc.ConfigCompleteSift;
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.abst.feature.detdesc.DetectDescribe_CompleteSift;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCompleteSift_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	/**
+	 * Features and their descriptions should be identical to the single threaded version for any number of threads
+	 */
+	@Test
+	public void compareToSerial() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		ConfigCompleteSift config = new ConfigCompleteSift();
+		config.scaleSpace.numScales = 5;
+
+		DetectDescribePoint<GrayF32,BrightFeature> serial = FactoryDetectDescribe.sift(config);
+		serial.detect(image);
+		assertTrue(serial.getNumberOfFeatures() > 10);
+
+		for (int threads = 2; threads <= 4; threads += 2) {
+			BoofConcurrency.setMaxThreads(threads);
+			BoofConcurrency.USE_CONCURRENT = true;
+			DetectDescribePoint<GrayF32,BrightFeature> concurrent = FactoryDetectDescribe.sift(config);
+			BoofConcurrency.USE_CONCURRENT = false;
+			assertTrue(((DetectDescribe_CompleteSift)concurrent).getAlg() instanceof CompleteSift_MT);
+
+			// process twice to make sure the results are reset
+			concurrent.detect(image);
+			concurrent.detect(image);
+
+			assertEquals(serial.getNumberOfFeatures(), concurrent.getNumberOfFeatures());
+			for (int i = 0; i < serial.getNumberOfFeatures(); i++) {
+				assertEquals(serial.getLocation(i).x, concurrent.getLocation(i).x, 0);
+				assertEquals(serial.getLocation(i).y, concurrent.getLocation(i).y, 0);
+				assertEquals(serial.getRadius(i), concurrent.getRadius(i), 0);
+				assertEquals(serial.getOrientation(i), concurrent.getOrientation(i), 0);
+
+				BrightFeature e = serial.getDescription(i);
+				BrightFeature f = concurrent.getDescription(i);
+				assertEquals(e.white, f.white);
+				for (int j = 0; j < e.size(); j++) {
+					assertEquals(e.value[j], f.value[j], 0);
+				}
+			}
+		}
+	}
+}
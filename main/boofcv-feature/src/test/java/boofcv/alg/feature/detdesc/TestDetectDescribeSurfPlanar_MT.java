@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.feature.describe.DescribePointSurfPlanar;
+import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.core.image.ConvertImage;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.Planar;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDetectDescribeSurfPlanar_MT {
+
+	int width = 200;
+	int height = 250;
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Features and their descriptions should be identical to the single threaded version
+	 */
+	@Test
+	public void compareToSerial() {
+		Planar<GrayF32> input = new Planar<>(GrayF32.class,width,height,3);
+		GImageMiscOps.addUniform(input, rand, 0, 200);
+
+		GrayF32 gray = ConvertImage.average(input, null);
+		GrayF32 grayII = GIntegralImageOps.transform(gray, null);
+		Planar<GrayF32> colorII = new Planar<>(GrayF32.class,width,height,3);
+		for (int i = 0; i < 3; i++) {
+			GIntegralImageOps.transform(input.getBand(i), colorII.getBand(i));
+		}
+
+		FastHessianFeatureDetector<GrayF32> detector = FactoryInterestPointAlgs.fastHessian(null);
+		DetectDescribeSurfPlanar<GrayF32> serial = new DetectDescribeSurfPlanar<>(detector,
+				createOrientation().newInstance(), createDescribe().newInstance());
+		DetectDescribeSurfPlanar<GrayF32> concurrent = new DetectDescribeSurfPlanar_MT<>(detector,
+				createOrientation(), createDescribe());
+
+		serial.detect(grayII,colorII);
+		concurrent.detect(grayII,colorII);
+
+		assertTrue(serial.getNumberOfFeatures() > 0);
+		assertEquals(serial.getNumberOfFeatures(), concurrent.getNumberOfFeatures());
+		for (int i = 0; i < serial.getNumberOfFeatures(); i++) {
+			assertEquals(serial.getLocation(i).x, concurrent.getLocation(i).x, 0);
+			assertEquals(serial.getLocation(i).y, concurrent.getLocation(i).y, 0);
+			assertEquals(serial.getOrientation(i), concurrent.getOrientation(i), 0);
+
+			BrightFeature e = serial.getDescription(i);
+			BrightFeature f = concurrent.getDescription(i);
+			assertEquals(e.white, f.white);
+			for (int j = 0; j < e.size(); j++) {
+				assertEquals(e.value[j], f.value[j], 0);
+			}
+		}
+	}
+
+	private InstanceFactory<OrientationIntegral<GrayF32>> createOrientation() {
+		return new InstanceFactory<OrientationIntegral<GrayF32>>() {
+			@Override
+			public OrientationIntegral<GrayF32> newInstance() {
+				return FactoryOrientationAlgs.sliding_ii(null, GrayF32.class);
+			}
+		};
+	}
+
+	private InstanceFactory<DescribePointSurfPlanar<GrayF32>> createDescribe() {
+		return new InstanceFactory<DescribePointSurfPlanar<GrayF32>>() {
+			@Override
+			public DescribePointSurfPlanar<GrayF32> newInstance() {
+				return new DescribePointSurfPlanar<>(new DescribePointSurf<>(GrayF32.class),3);
+			}
+		};
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.interest.ConfigFastHessian;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT {
+
+	Random rand = new Random(234);
+	int width = 320;
+	int height = 240;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	/**
+	 * The same features should be found in the same order as the single threaded version
+	 */
+	@Test
+	public void compareToSerial() {
+		compareToSerial(new ConfigFastHessian());
+		// all the features are returned when the maximum number per scale is not positive
+		compareToSerial(new ConfigFastHessian(1, 2, -1, 1, 9, 4, 4));
+		// octaves which are larger than the image are skipped
+		compareToSerial(new ConfigFastHessian(1, 2, 100, 1, 9, 4, 8));
+	}
+
+	private void compareToSerial( ConfigFastHessian config ) {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		GrayF32 integral = IntegralImageOps.transform(input,null);
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		FastHessianFeatureDetector<GrayF32> serial = FactoryInterestPointAlgs.fastHessian(config);
+		BoofConcurrency.USE_CONCURRENT = true;
+		FastHessianFeatureDetector<GrayF32> concurrent = FactoryInterestPointAlgs.fastHessian(config);
+		BoofConcurrency.USE_CONCURRENT = false;
+
+		assertTrue(concurrent instanceof FastHessianFeatureDetector_MT);
+
+		// process it twice to make sure the internal state is correctly reset
+		for (int trial = 0; trial < 2; trial++) {
+			serial.detect(integral);
+			concurrent.detect(integral);
+
+			List<ScalePoint> expected = serial.getFoundPoints();
+			List<ScalePoint> found = concurrent.getFoundPoints();
+
+			assertTrue(expected.size() > 0);
+			assertEquals(expected.size(), found.size());
+			for (int i = 0; i < expected.size(); i++) {
+				ScalePoint e = expected.get(i);
+				ScalePoint f = found.get(i);
+				assertEquals(e.x, f.x, 0);
+				assertEquals(e.y, f.y, 0);
+				assertEquals(e.scale, f.scale, 0);
+			}
+		}
+	}
+}
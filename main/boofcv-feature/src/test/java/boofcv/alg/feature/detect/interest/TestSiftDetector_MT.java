@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.describe.ConfigSiftScaleSpace;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSiftDetector_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	/**
+	 * The same features should be found in the same order as the single threaded version for any number of threads
+	 */
+	@Test
+	public void compareToSerial() {
+		GrayF32 image = new GrayF32(300,290);
+		GImageMiscOps.fillUniform(image,rand,0,200);
+
+		ConfigSiftScaleSpace configSS = new ConfigSiftScaleSpace();
+		configSS.numScales = 5;
+
+		SiftDetector serial = FactoryInterestPointAlgs.sift(configSS,null);
+		serial.process(image);
+		FastQueue<ScalePoint> expected = serial.getDetections();
+		assertTrue(expected.size > 10);
+
+		for (int threads = 2; threads <= 4; threads += 2) {
+			BoofConcurrency.setMaxThreads(threads);
+			BoofConcurrency.USE_CONCURRENT = true;
+			SiftDetector concurrent = FactoryInterestPointAlgs.sift(configSS,null);
+			BoofConcurrency.USE_CONCURRENT = false;
+			assertTrue(concurrent instanceof SiftDetector_MT);
+
+			concurrent.process(image);
+			FastQueue<ScalePoint> found = concurrent.getDetections();
+
+			assertEquals(expected.size, found.size);
+			for (int i = 0; i < expected.size; i++) {
+				ScalePoint e = expected.get(i);
+				ScalePoint f = found.get(i);
+				assertEquals(e.x, f.x, 0);
+				assertEquals(e.y, f.y, 0);
+				assertEquals(e.scale, f.scale, 0);
+				assertEquals(e.white, f.white);
+			}
+		}
+	}
+}
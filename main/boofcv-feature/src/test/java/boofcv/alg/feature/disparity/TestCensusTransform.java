@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestCensusTransform {
+	Random rand = new Random(234);
+
+	Class[] inputTypes = new Class[]{GrayU8.class, GrayS16.class, GrayF32.class};
+
+	@Test
+	public void compareToNaive() {
+		for( Class type : inputTypes ) {
+			for( int radius = 1; radius <= 3; radius++ ) {
+				compareToNaive(type, radius, 30, 25);
+				// image smaller than the region
+				compareToNaive(type, radius, 2*radius, 3);
+			}
+		}
+	}
+
+	private void compareToNaive( Class type , int radius , int width , int height ) {
+		ImageGray input = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		Class outputType = CensusTransform.getOutputType(radius);
+		ImageGray found = GeneralizedImageOps.createSingleBand(outputType, 1, 1);
+		CensusTransform.transform(input, radius, found);
+		checkNaive(input, radius, found);
+
+		// 64-bit descriptors can store all the radius which are supported
+		GrayS64 found64 = new GrayS64(1,1);
+		CensusTransform.transform(input, radius, found64);
+		checkNaive(input, radius, found64);
+
+		// sub-images
+		ImageGray inputSub = BoofTesting.createSubImageOf(input);
+		ImageGray foundSub = BoofTesting.createSubImageOf(found);
+		CensusTransform.transform(inputSub, radius, foundSub);
+		BoofTesting.assertEquals(found, foundSub, 0);
+	}
+
+	private void checkNaive( ImageGray input , int radius , ImageGray found ) {
+		assertEquals(input.width, found.width);
+		assertEquals(input.height, found.height);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				double center = GeneralizedImageOps.get(input, x, y);
+				long expected = 0;
+				int bit = 0;
+				for (int dy = -radius; dy <= radius; dy++) {
+					for (int dx = -radius; dx <= radius; dx++) {
+						if( dx == 0 && dy == 0 )
+							continue;
+						int xx = Math.min(input.width-1, Math.max(0, x+dx));
+						int yy = Math.min(input.height-1, Math.max(0, y+dy));
+						if( GeneralizedImageOps.get(input, xx, yy) > center )
+							expected |= 1L << bit;
+						bit++;
+					}
+				}
+
+				long value;
+				if( found instanceof GrayS32 )
+					value = ((GrayS32)found).get(x, y) & 0xFFFFFFFFL;
+				else
+					value = ((GrayS64)found).get(x, y);
+				assertEquals(x+" "+y, expected, value);
+			}
+		}
+	}
+
+	@Test
+	public void getOutputType() {
+		assertSame(GrayS32.class, CensusTransform.getOutputType(1));
+		assertSame(GrayS32.class, CensusTransform.getOutputType(2));
+		assertSame(GrayS64.class, CensusTransform.getOutputType(3));
+
+		try {
+			CensusTransform.getOutputType(4);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+
+	/**
+	 * A 7x7 region has too many bits for a 32-bit image
+	 */
+	@Test
+	public void tooManyBits() {
+		try {
+			CensusTransform.transform(new GrayU8(10, 10), 3, new GrayS32(10, 10));
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreHamming_S32;
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreHamming_S64;
+import boofcv.alg.feature.disparity.impl.ImplSelectRectBasicWta_S32_U8;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreCensus {
+	Random rand = new Random(234);
+
+	int width = 40;
+	int height = 30;
+
+	@Test
+	public void compareToNaive() {
+		Class[] types = new Class[]{GrayU8.class, GrayS16.class, GrayF32.class};
+		for( Class type : types ) {
+			for( int censusRadius = 1; censusRadius <= 3; censusRadius++ ) {
+				compareToNaive(type, censusRadius, 0, 10, 3, 2);
+				compareToNaive(type, censusRadius, 4, 10, 2, 3);
+			}
+		}
+	}
+
+	private void compareToNaive( Class type , int censusRadius ,
+								 int minDisparity , int maxDisparity , int radiusX , int radiusY ) {
+		ImageGray left = GeneralizedImageOps.createSingleBand(type, width, height);
+		ImageGray right = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(left, rand, 0, 100);
+		GImageMiscOps.fillUniform(right, rand, 0, 100);
+
+		DisparityScoreCensus alg = create(censusRadius, minDisparity, maxDisparity, radiusX, radiusY, type);
+
+		GrayU8 found = new GrayU8(width, height);
+		alg.process(left, right, found);
+
+		ImageGray censusLeft = GeneralizedImageOps.createSingleBand(GrayS64.class, 1, 1);
+		ImageGray censusRight = GeneralizedImageOps.createSingleBand(GrayS64.class, 1, 1);
+		CensusTransform.transform(left, censusRadius, censusLeft);
+		CensusTransform.transform(right, censusRadius, censusRight);
+
+		for (int y = radiusY; y < height-radiusY; y++) {
+			for (int x = radiusX+minDisparity; x < width-radiusX; x++) {
+				// take in account image border when computing max disparity
+				int max = x-Math.max(radiusX-1, x-maxDisparity);
+
+				int best = Integer.MAX_VALUE;
+				int bestDisparity = -1;
+				for (int d = minDisparity; d < max; d++) {
+					int score = hamming((GrayS64)censusLeft, (GrayS64)censusRight, x, x-d, y, radiusX, radiusY);
+					if( score < best ) {
+						best = score;
+						bestDisparity = d;
+					}
+				}
+
+				assertEquals(x+" "+y, bestDisparity-minDisparity, found.get(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void checkBorder() {
+		DisparityScoreCensus alg = create(2, 0, 10, 3, 2, GrayU8.class);
+		assertEquals(3, alg.getBorderX());
+		assertEquals(2, alg.getBorderY());
+		assertEquals(GrayU8.class, alg.getInputType());
+		assertEquals(GrayU8.class, alg.getDisparityType());
+	}
+
+	private DisparityScoreCensus create( int censusRadius ,
+										 int minDisparity , int maxDisparity , int radiusX , int radiusY ,
+										 Class type ) {
+		DisparityScoreRowFormat scorer;
+		if( CensusTransform.getOutputType(censusRadius) == (Class)GrayS32.class )
+			scorer = new ImplDisparityScoreHamming_S32(minDisparity, maxDisparity, radiusX, radiusY,
+					new ImplSelectRectBasicWta_S32_U8());
+		else
+			scorer = new ImplDisparityScoreHamming_S64(minDisparity, maxDisparity, radiusX, radiusY,
+					new ImplSelectRectBasicWta_S32_U8());
+
+		return new DisparityScoreCensus(censusRadius, scorer, type);
+	}
+
+	private int hamming( GrayS64 left , GrayS64 right , int leftX , int rightX , int y , int radiusX , int radiusY ) {
+		int total = 0;
+		for (int dy = -radiusY; dy <= radiusY; dy++) {
+			for (int dx = -radiusX; dx <= radiusX; dx++) {
+				total += Long.bitCount(left.get(leftX+dx, y+dy) ^ right.get(rightX+dx, y+dy));
+			}
+		}
+		return total;
+	}
+}
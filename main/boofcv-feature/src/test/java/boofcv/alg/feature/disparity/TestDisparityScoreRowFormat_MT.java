@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GConvertImage;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.disparity.DisparityAlgorithms;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDisparityScoreRowFormat_MT {
+	Random rand = new Random(234);
+
+	int width = 160;
+	int height = 200;
+
+	GrayU8 left = new GrayU8(width,height);
+	GrayU8 right = new GrayU8(width,height);
+
+	int maxThreads;
+
+	// if true the census algorithm is created instead of SAD
+	boolean census;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+
+		// right image is the left image shifted with some noise added
+		ImageMiscOps.fillUniform(left, rand, 0, 200);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int xx = Math.min(width-1,x+5+(y/40));
+				right.set(x, y, left.get(xx, y) + rand.nextInt(10));
+			}
+		}
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		for( DisparityAlgorithms which : new DisparityAlgorithms[]{DisparityAlgorithms.RECT,DisparityAlgorithms.RECT_FIVE}) {
+			compareToSingleThread(which, GrayU8.class, false);
+			compareToSingleThread(which, GrayS16.class, false);
+			compareToSingleThread(which, GrayF32.class, false);
+			compareToSingleThread(which, GrayU8.class, true);
+			compareToSingleThread(which, GrayS16.class, true);
+			compareToSingleThread(which, GrayF32.class, true);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_census() {
+		census = true;
+		compareToSingleThread(null, GrayU8.class, false);
+		compareToSingleThread(null, GrayF32.class, true);
+	}
+
+	/**
+	 * Floating point images are filled with integer values so that the scores have no round off error. That way
+	 * the output should be identical to the single threaded algorithm.
+	 */
+	private <T extends ImageGray<T>> void compareToSingleThread( DisparityAlgorithms which , Class<T> imageType ,
+																 boolean subpixel ) {
+		T left = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		T right = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GConvertImage.convert(this.left, left);
+		GConvertImage.convert(this.right, right);
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		ImageGray expected = process(create(which, imageType, subpixel), left, right);
+
+		BoofConcurrency.USE_CONCURRENT = true;
+		for( int threads : new int[]{2,4}) {
+			BoofConcurrency.setMaxThreads(threads);
+			StereoDisparity<T,?> alg = create(which, imageType, subpixel);
+			ImageGray found = process(alg, left, right);
+
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// process a second time to make sure the bands are correctly reused
+			found = process(alg, left, right);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	private <T extends ImageGray<T>> StereoDisparity<T,?> create( DisparityAlgorithms which , Class<T> imageType ,
+																  boolean subpixel ) {
+		if( census ) {
+			if( subpixel )
+				return FactoryStereoDisparity.regionCensusSubpixelWta(2, 30, 3, 2, 2, 8, 1, 0.1, imageType);
+			else
+				return FactoryStereoDisparity.regionCensusWta(2, 30, 3, 2, 2, 8, 1, 0.1, imageType);
+		}
+		if( subpixel )
+			return FactoryStereoDisparity.regionSubpixelWta(which, 2, 30, 3, 2, 30, 1, 0.1, imageType);
+		else
+			return FactoryStereoDisparity.regionWta(which, 2, 30, 3, 2, 30, 1, 0.1, imageType);
+	}
+
+	private <T extends ImageGray<T>> ImageGray process( StereoDisparity<T,?> alg , T left , T right ) {
+		alg.process(left, right);
+		return (ImageGray)alg.getDisparity().clone();
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation {
+	Random rand = new Random(234);
+
+	int width = 15;
+	int height = 12;
+	int rangeD = 9;
+
+	@Test
+	public void compareToNaive() {
+		SgmCostVolume cost = createRandom(200);
+
+		for( int paths : new int[]{4,8} ) {
+			SgmCostAggregation alg = new SgmCostAggregation(5, 40, paths);
+			alg.process(cost);
+
+			int[] expected = naive(cost, 5, 40, paths == 4 ? SgmCostAggregation.DIRECTIONS_4 : SgmCostAggregation.DIRECTIONS_8);
+			SgmCostVolume found = alg.getAggregated();
+
+			assertEquals(cost.x0, found.x0);
+			assertEquals(cost.y0, found.y0);
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], found.data[i] & 0xFFFF);
+			}
+		}
+	}
+
+	/**
+	 * The aggregated cost should saturate instead of overflowing
+	 */
+	@Test
+	public void saturate() {
+		SgmCostVolume cost = createRandom(1);
+		cost.fill(SgmCostVolume.MAX_VALUE);
+
+		SgmCostAggregation alg = new SgmCostAggregation(5, 40, 8);
+		alg.process(cost);
+
+		SgmCostVolume found = alg.getAggregated();
+		for (int i = 0; i < width*height*rangeD; i++) {
+			assertEquals(SgmCostVolume.MAX_VALUE, found.data[i] & 0xFFFF);
+		}
+	}
+
+	/**
+	 * Lines which are a single pixel long
+	 */
+	@Test
+	public void singleRowAndColumn() {
+		for( int[] shape : new int[][]{{1,5},{5,1},{1,1}} ) {
+			SgmCostVolume cost = new SgmCostVolume();
+			cost.reshape(0, 0, shape[0], shape[1], rangeD);
+			for (int i = 0; i < shape[0]*shape[1]*rangeD; i++) {
+				cost.data[i] = (short)rand.nextInt(100);
+			}
+
+			SgmCostAggregation alg = new SgmCostAggregation(5, 40, 8);
+			alg.process(cost);
+
+			int[] expected = naive(cost, 5, 40, SgmCostAggregation.DIRECTIONS_8);
+			for (int i = 0; i < expected.length; i++) {
+				assertEquals(expected[i], alg.getAggregated().data[i] & 0xFFFF);
+			}
+		}
+	}
+
+	SgmCostVolume createRandom( int maxCost ) {
+		SgmCostVolume cost = new SgmCostVolume();
+		cost.reshape(2, 3, width, height, rangeD);
+		for (int i = 0; i < width*height*rangeD; i++) {
+			cost.data[i] = (short)rand.nextInt(maxCost);
+		}
+		return cost;
+	}
+
+	/**
+	 * Straight forward implementation which computes the path cost for every pixel in a direction at once
+	 */
+	static int[] naive( SgmCostVolume cost , int P1 , int P2 , int[][] directions ) {
+		int W = cost.width, H = cost.height, D = cost.rangeD;
+		int[] sum = new int[W*H*D];
+
+		for( int[] dir : directions ) {
+			int dx = dir[0], dy = dir[1];
+			int[] L = new int[W*H*D];
+
+			// traverse so that the previous pixel along the path has already been computed
+			for (int i = 0; i < H; i++) {
+				int y = dy >= 0 ? i : H-1-i;
+				for (int j = 0; j < W; j++) {
+					int x = dx >= 0 ? j : W-1-j;
+					int px = x-dx, py = y-dy;
+					boolean inside = px >= 0 && py >= 0 && px < W && py < H;
+
+					for (int d = 0; d < D; d++) {
+						int c = cost.data[(y*W+x)*D+d] & 0xFFFF;
+						if( !inside ) {
+							L[(y*W+x)*D+d] = c;
+							continue;
+						}
+						int indexPrev = (py*W+px)*D;
+						int minPrev = Integer.MAX_VALUE;
+						for (int k = 0; k < D; k++) {
+							minPrev = Math.min(minPrev, L[indexPrev+k]);
+						}
+						int best = L[indexPrev+d];
+						if( d > 0 ) best = Math.min(best, L[indexPrev+d-1]+P1);
+						if( d < D-1 ) best = Math.min(best, L[indexPrev+d+1]+P1);
+						best = Math.min(best, minPrev+P2);
+						L[(y*W+x)*D+d] = c + best - minPrev;
+					}
+				}
+			}
+
+			for (int i = 0; i < sum.length; i++) {
+				sum[i] = Math.min(SgmCostVolume.MAX_VALUE, sum[i] + L[i]);
+			}
+		}
+
+		return sum;
+	}
+}
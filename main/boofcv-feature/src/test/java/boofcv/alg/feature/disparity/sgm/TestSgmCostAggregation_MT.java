@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostAggregation_MT {
+	Random rand = new Random(234);
+
+	int maxThreads;
+	int minLines;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+		minLines = SgmCostAggregation_MT.MIN_LINES;
+		// make sure it's split into blocks with this small volume
+		SgmCostAggregation_MT.MIN_LINES = 2;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(maxThreads);
+		SgmCostAggregation_MT.MIN_LINES = minLines;
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		SgmCostVolume cost = new SgmCostVolume();
+		cost.reshape(1, 2, 30, 25, 12);
+		for (int i = 0; i < cost.data.length; i++) {
+			cost.data[i] = (short)rand.nextInt(300);
+		}
+
+		for( int paths : new int[]{4,8}) {
+			SgmCostAggregation expected = new SgmCostAggregation(8, 60, paths);
+			expected.process(cost);
+
+			for( int threads : new int[]{2,4}) {
+				BoofConcurrency.setMaxThreads(threads);
+				SgmCostAggregation_MT found = new SgmCostAggregation_MT(8, 60, paths);
+				found.process(cost);
+
+				for (int i = 0; i < cost.data.length; i++) {
+					assertEquals(expected.getAggregated().data[i], found.getAggregated().data[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.alg.feature.disparity.impl.ImplDisparityScoreSadRect_U8;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmCostFromScores {
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 20;
+
+	/**
+	 * Compares the cost volume against a brute force SAD computation
+	 */
+	@Test
+	public void compareToNaive() {
+		GrayU8 left = new GrayU8(width, height);
+		GrayU8 right = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(left, rand, 0, 100);
+		ImageMiscOps.fillUniform(right, rand, 0, 100);
+
+		int minDisparity = 2, maxDisparity = 10, radius = 1;
+		int maxCost = 400;
+
+		SgmCostVolume volume = new SgmCostVolume();
+		volume.reshape(radius, radius, width-2*radius, height-2*radius, maxDisparity-minDisparity);
+		volume.fill(maxCost);
+
+		SgmCostFromScores alg = new SgmCostFromScores(volume, maxCost);
+		ImplDisparityScoreSadRect_U8<GrayU8> scorer =
+				new ImplDisparityScoreSadRect_U8<>(minDisparity, maxDisparity, radius, radius, alg);
+		scorer.process(left, right, new GrayU8(width, height));
+
+		for (int y = radius; y < height-radius; y++) {
+			for (int x = radius; x < width-radius; x++) {
+				for (int d = minDisparity; d < maxDisparity; d++) {
+					int expected = maxCost;
+					if( x-d-radius >= 0 ) {
+						int sum = 0;
+						for (int i = -radius; i <= radius; i++) {
+							for (int j = -radius; j <= radius; j++) {
+								sum += Math.abs(left.get(x+j, y+i) - right.get(x-d+j, y+i));
+							}
+						}
+						expected = Math.min(maxCost, sum);
+					}
+					assertEquals(x+" "+y+" "+d, expected, volume.get(x, y, d-minDisparity));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.disparity.sgm;
+
+import boofcv.abst.feature.disparity.StereoDisparity;
+import boofcv.abst.feature.disparity.WrapDisparitySadRect;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.disparity.ConfigDisparitySgm;
+import boofcv.factory.feature.disparity.DisparityError;
+import boofcv.factory.feature.disparity.FactoryStereoDisparity;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSgmStereoDisparity {
+	Random rand = new Random(234);
+
+	int width = 80;
+	int height = 60;
+	int disparity = 7;
+
+	GrayU8 left = new GrayU8(width,height);
+	GrayU8 right = new GrayU8(width,height);
+
+	int maxThreads;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+
+		// right image is the left image shifted by a constant disparity
+		ImageMiscOps.fillUniform(left, rand, 0, 200);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				right.set(x, y, left.get(Math.min(width-1, x+disparity), y));
+			}
+		}
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	@Test
+	public void knownDisparity() {
+		for( DisparityError error : DisparityError.values() ) {
+			checkKnownDisparity(config(error, 0));
+			// split the disparity range into tiles
+			checkKnownDisparity(config(error, 5));
+		}
+	}
+
+	private void checkKnownDisparity( ConfigDisparitySgm config ) {
+		StereoDisparity<GrayU8,GrayU8> alg = FactoryStereoDisparity.sgm(config, GrayU8.class);
+		alg.process(left, right);
+		checkDisparity(alg.getDisparity(), alg.getBorderX(), alg.getBorderY(), 0.5);
+
+		StereoDisparity<GrayU8,GrayF32> algSub = FactoryStereoDisparity.sgmSubpixel(config, GrayU8.class);
+		algSub.process(left, right);
+		checkDisparity(algSub.getDisparity(), algSub.getBorderX(), algSub.getBorderY(), 0.5);
+	}
+
+	/**
+	 * The vast majority of pixels should have the correct disparity and all pixels which can't match should
+	 * be invalid.
+	 */
+	private void checkDisparity( ImageGray found , int borderX , int borderY , double tol ) {
+		int total = 0, correct = 0;
+		for (int y = borderY; y < height-borderY; y++) {
+			for (int x = borderX+disparity; x < width-borderX; x++) {
+				double value = found instanceof GrayU8 ? ((GrayU8)found).get(x,y) : ((GrayF32)found).get(x,y);
+				total++;
+				if( Math.abs(value-disparity) <= tol )
+					correct++;
+			}
+		}
+		assertTrue(correct + " / " + total, correct >= total*0.95);
+
+		// outside the image border
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				if( x >= borderX && y >= borderY && x < width-borderX && y < height-borderY )
+					continue;
+				double value = found instanceof GrayU8 ? ((GrayU8)found).get(x,y) : ((GrayF32)found).get(x,y);
+				assertTrue(value > 20);
+			}
+		}
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		for( DisparityError error : DisparityError.values() ) {
+			for( int tileSize : new int[]{0,6} ) {
+				ConfigDisparitySgm config = config(error, tileSize);
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				StereoDisparity<GrayU8, GrayF32> expected = FactoryStereoDisparity.sgmSubpixel(config, GrayU8.class);
+				expected.process(left, right);
+
+				BoofConcurrency.USE_CONCURRENT = true;
+				for( int threads : new int[]{2,4} ) {
+					BoofConcurrency.setMaxThreads(threads);
+					StereoDisparity<GrayU8, GrayF32> found = FactoryStereoDisparity.sgmSubpixel(config, GrayU8.class);
+					found.process(left, right);
+
+					BoofTesting.assertEquals(expected.getDisparity(), found.getDisparity(), 0);
+				}
+				BoofConcurrency.USE_CONCURRENT = false;
+			}
+		}
+	}
+
+	/**
+	 * Splitting the disparity range into tiles should reduce the amount of memory used
+	 */
+	@Test
+	public void tilesReduceMemory() {
+		StereoDisparity<GrayU8,GrayU8> full = FactoryStereoDisparity.sgm(config(DisparityError.CENSUS, 0), GrayU8.class);
+		StereoDisparity<GrayU8,GrayU8> tiled = FactoryStereoDisparity.sgm(config(DisparityError.CENSUS, 5), GrayU8.class);
+
+		full.process(left, right);
+		tiled.process(left, right);
+
+		long memoryFull = ((SgmStereoDisparity)((WrapDisparitySadRect)full).getAlg()).getMemoryBytes();
+		long memoryTiled = ((SgmStereoDisparity)((WrapDisparitySadRect)tiled).getAlg()).getMemoryBytes();
+
+		assertTrue(memoryTiled < memoryFull/2);
+	}
+
+	@Test
+	public void checkBorderAndType() {
+		StereoDisparity<GrayU8,GrayF32> alg = FactoryStereoDisparity.sgmSubpixel(config(DisparityError.CENSUS, 0), GrayU8.class);
+		assertEquals(1, alg.getBorderX());
+		assertEquals(1, alg.getBorderY());
+		assertEquals(0, alg.getMinDisparity());
+		assertEquals(20, alg.getMaxDisparity());
+		assertEquals(GrayF32.class, alg.getDisparityType());
+	}
+
+	private ConfigDisparitySgm config( DisparityError error , int tileSize ) {
+		ConfigDisparitySgm config = new ConfigDisparitySgm(0, 20, error);
+		config.disparityTileSize = tileSize;
+		if( error == DisparityError.SAD ) {
+			config.penaltySmall = 50;
+			config.penaltyLarge = 500;
+		}
+		return config;
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.shapes.polygon;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.shape.ConfigPolygonDetector;
+import boofcv.factory.shape.FactoryShapeDetector;
+import boofcv.struct.image.GrayU8;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDetectPolygonBinaryGrayRefine_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+	int originalMin;
+	boolean originalConcurrent;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMin = DetectPolygonBinaryGrayRefine_MT.MIN_POLYGONS;
+		originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		DetectPolygonBinaryGrayRefine_MT.MIN_POLYGONS = 2;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+		DetectPolygonBinaryGrayRefine_MT.MIN_POLYGONS = originalMin;
+	}
+
+	/**
+	 * Compare the refined polygons against the single threaded version. They should be identical. Threshold bias
+	 * adjustment is turned on so that each thread's copy of it is exercised.
+	 */
+	@Test
+	public void refineAll() {
+		GrayU8 gray = TestDetectPolygonFromContour_MT.renderSquares(rand);
+		GrayU8 binary = gray.createSameShape();
+		ThresholdImageOps.threshold(gray, binary, 100, true);
+
+		ConfigPolygonDetector config = new ConfigPolygonDetector(4, 4);
+		config.refineContour = true;
+		config.adjustForThresholdBias = true;
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		DetectPolygonBinaryGrayRefine<GrayU8> expected = FactoryShapeDetector.polygon(config, GrayU8.class);
+		BoofConcurrency.USE_CONCURRENT = true;
+		DetectPolygonBinaryGrayRefine<GrayU8> found = FactoryShapeDetector.polygon(config, GrayU8.class);
+		assertTrue(found instanceof DetectPolygonBinaryGrayRefine_MT);
+
+		expected.process(gray, binary);
+		expected.refineAll();
+		assertTrue(expected.getPolygonInfo().size() > 20);
+
+		for (int threads : new int[]{2, 4}) {
+			BoofConcurrency.setMaxThreads(threads);
+
+			found.process(gray, binary);
+			found.refineAll();
+			TestDetectPolygonFromContour_MT.compare(expected.getPolygonInfo(), found.getPolygonInfo());
+		}
+	}
+}
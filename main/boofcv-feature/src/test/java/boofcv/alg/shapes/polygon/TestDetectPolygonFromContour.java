@@ -25,6 +25,7 @@ import boofcv.factory.filter.binary.FactoryThresholdBinary;
 import boofcv.factory.shape.ConfigPolygonFromContour;
 import boofcv.factory.shape.FactoryShapeDetector;
 import boofcv.io.image.ConvertBufferedImage;
+import boofcv.struct.ConfigMinimumSize;
 import boofcv.struct.distort.PixelTransform2_F32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -311,6 +312,36 @@ public class TestDetectPolygonFromContour extends CommonFitPolygonChecks {
 		}
 	}
 
+	/**
+	 * Size relative parameters should be computed from the reference shape when one is specified
+	 */
+	@Test
+	public void setReferenceShape() {
+		GrayU8 gray = new GrayU8(400,400);
+		ImageMiscOps.fill(gray,255);
+		ImageMiscOps.fillRectangle(gray,0,180,180,25,25);
+		GrayU8 sub = gray.subimage(160,160,230,230,null);
+		GrayU8 binarySub = new GrayU8(sub.width,sub.height);
+		FactoryThresholdBinary.globalFixed(100,true,GrayU8.class).process(sub,binarySub);
+
+		ConfigPolygonFromContour config = new ConfigPolygonFromContour(4,4);
+		config.minimumContour = ConfigMinimumSize.bySize(0.3);
+		DetectPolygonFromContour<GrayU8> alg = FactoryShapeDetector.polygonContour(config,GrayU8.class);
+
+		// relative to the sub-image the square is large enough
+		alg.process(sub,binarySub);
+		assertEquals(1,alg.getFound().size);
+
+		// relative to the entire image it's too small
+		alg.setReferenceShape(gray.width,gray.height);
+		alg.process(sub,binarySub);
+		assertEquals(0,alg.getFound().size);
+
+		alg.setReferenceShape(0,0);
+		alg.process(sub,binarySub);
+		assertEquals(1,alg.getFound().size);
+	}
+
 	@Test
 	public void touchesBorder_false() {
 		List<Point2D_I32> contour = new ArrayList<>();
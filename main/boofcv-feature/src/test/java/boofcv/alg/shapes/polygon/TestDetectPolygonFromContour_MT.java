@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.shapes.polygon;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.shape.ConfigPolygonFromContour;
+import boofcv.factory.shape.FactoryShapeDetector;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.shapes.Polygon2D_F64;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDetectPolygonFromContour_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+	int originalMin;
+	boolean originalConcurrent;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMin = DetectPolygonFromContour_MT.MIN_CONTOURS;
+		originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		DetectPolygonFromContour_MT.MIN_CONTOURS = 3;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+		DetectPolygonFromContour_MT.MIN_CONTOURS = originalMin;
+	}
+
+	/**
+	 * Compare the results against the single threaded version. They should be identical
+	 */
+	@Test
+	public void compare() {
+		GrayU8 gray = renderSquares(rand);
+		GrayU8 binary = gray.createSameShape();
+		ThresholdImageOps.threshold(gray, binary, 100, true);
+
+		ConfigPolygonFromContour config = new ConfigPolygonFromContour(4, 4);
+
+		BoofConcurrency.USE_CONCURRENT = false;
+		DetectPolygonFromContour<GrayU8> expected = FactoryShapeDetector.polygonContour(config, GrayU8.class);
+		BoofConcurrency.USE_CONCURRENT = true;
+		DetectPolygonFromContour<GrayU8> found = FactoryShapeDetector.polygonContour(config, GrayU8.class);
+		assertTrue(found instanceof DetectPolygonFromContour_MT);
+
+		expected.process(gray, binary);
+		assertTrue(expected.getFound().size > 20);
+
+		for (int threads : new int[]{2, 4}) {
+			BoofConcurrency.setMaxThreads(threads);
+
+			// process twice to make sure the workspace is correctly recycled
+			for (int trial = 0; trial < 2; trial++) {
+				found.process(gray, binary);
+				compare(expected.getFound().toList(), found.getFound().toList());
+			}
+		}
+	}
+
+	/**
+	 * Renders a grid of dark squares with different sizes against a light background
+	 */
+	static GrayU8 renderSquares( Random rand ) {
+		GrayU8 gray = new GrayU8(400, 360);
+		ImageMiscOps.fill(gray, 200);
+		for (int row = 0; row < 8; row++) {
+			for (int col = 0; col < 9; col++) {
+				int width = 16 + ((row + col) % 5)*3;
+				ImageMiscOps.fillRectangle(gray, 20, col*44 + 5, row*44 + 5, width, width);
+			}
+		}
+		ImageMiscOps.addUniform(gray, rand, -10, 10);
+		return gray;
+	}
+
+	static void compare( List<DetectPolygonFromContour.Info> expected , List<DetectPolygonFromContour.Info> found ) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			DetectPolygonFromContour.Info e = expected.get(i);
+			DetectPolygonFromContour.Info f = found.get(i);
+
+			assertEquals(e.label, f.label);
+			assertEquals(e.edgeInside, f.edgeInside, 0);
+			assertEquals(e.edgeOutside, f.edgeOutside, 0);
+			assertEquals(e.contourTouchesBorder, f.contourTouchesBorder);
+			assertEquals(e.splits.size, f.splits.size);
+			for (int j = 0; j < e.splits.size; j++) {
+				assertEquals(e.splits.get(j), f.splits.get(j));
+			}
+			assertEquals(e.contour.size(), f.contour.size());
+			assertEquals(e.borderCorners.size, f.borderCorners.size);
+			compare(e.polygon, f.polygon);
+			compare(e.polygonDistorted, f.polygonDistorted);
+		}
+	}
+
+	static void compare( Polygon2D_F64 expected , Polygon2D_F64 found ) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(0, expected.get(i).distance(found.get(i)), 0);
+		}
+	}
+}
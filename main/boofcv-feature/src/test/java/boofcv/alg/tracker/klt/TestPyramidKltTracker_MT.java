@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tracker.klt;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.InstanceFactory;
+import boofcv.struct.image.GrayF32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidKltTracker_MT extends PyramidKltTestBase {
+
+	int numFeatures = 60;
+
+	int originalThreads;
+	int originalMin;
+
+	@Before
+	public void setup() {
+		super.setup();
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMin = PyramidKltTracker_MT.MIN_FEATURES;
+		PyramidKltTracker_MT.MIN_FEATURES = 5;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		PyramidKltTracker_MT.MIN_FEATURES = originalMin;
+	}
+
+	/**
+	 * Compare the results against the single threaded version. They should be identical
+	 */
+	@Test
+	public void compare() {
+		for (int threads : new int[]{2, 4}) {
+			BoofConcurrency.setMaxThreads(threads);
+			compare(threads);
+		}
+	}
+
+	private void compare( int threads ) {
+		PyramidKltTracker_MT<GrayF32,GrayF32> alg = new PyramidKltTracker_MT<>(
+				new InstanceFactory<KltTracker<GrayF32, GrayF32>>() {
+					@Override
+					public KltTracker<GrayF32, GrayF32> newInstance() {
+						return TestKltTracker.createDefaultTracker();
+					}
+				});
+
+		List<PyramidKltFeature> expected = createFeatures();
+		List<PyramidKltFeature> found = createFeatures();
+
+		boolean[] expectedSuccess = new boolean[numFeatures];
+		boolean[] foundSuccess = new boolean[numFeatures];
+
+		tracker.setImage(pyramid,derivX,derivY);
+		alg.setImage(pyramid,derivX,derivY);
+		tracker.setDescription(expected,expectedSuccess);
+		alg.setDescription(found,foundSuccess);
+
+		for (int i = 0; i < numFeatures; i++) {
+			assertEquals(expectedSuccess[i],foundSuccess[i]);
+			assertEquals(expected.get(i).desc[0].Gxx,found.get(i).desc[0].Gxx,0.0f);
+		}
+
+		// move the features away from where they were described
+		for (int i = 0; i < numFeatures; i++) {
+			float dx = (float)rand.nextGaussian();
+			float dy = (float)rand.nextGaussian();
+			expected.get(i).setPosition(expected.get(i).x+dx,expected.get(i).y+dy);
+			found.get(i).setPosition(found.get(i).x+dx,found.get(i).y+dy);
+		}
+
+		KltTrackFault[] expectedFaults = new KltTrackFault[numFeatures];
+		KltTrackFault[] foundFaults = new KltTrackFault[numFeatures];
+
+		tracker.track(expected,expectedFaults);
+		alg.track(found,foundFaults);
+
+		int total = 0;
+		for (int i = 0; i < numFeatures; i++) {
+			assertEquals(expectedFaults[i],foundFaults[i]);
+			assertEquals(expected.get(i).x,found.get(i).x,0.0f);
+			assertEquals(expected.get(i).y,found.get(i).y,0.0f);
+			if( foundFaults[i] == KltTrackFault.SUCCESS )
+				total++;
+		}
+		// sanity check
+		assertTrue(total > 0);
+		// make sure it was run with multiple workers
+		assertEquals(threads,BoofConcurrency.computeNumBlocks(numFeatures,PyramidKltTracker_MT.MIN_FEATURES));
+	}
+
+	private List<PyramidKltFeature> createFeatures() {
+		List<PyramidKltFeature> list = new ArrayList<>();
+		for (int i = 0; i < numFeatures; i++) {
+			PyramidKltFeature f = new PyramidKltFeature(pyramid.getNumLayers(),featureReadius);
+			// positions are selected so that every feature is the same each time this is called
+			f.setPosition(cornerX + (i%10)*2 - 10,cornerY + (i/10)*2 - 6);
+			list.add(f);
+		}
+		return list;
+	}
+}
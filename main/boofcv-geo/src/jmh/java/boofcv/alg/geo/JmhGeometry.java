@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.factory.geo.EnumEssential;
+import boofcv.factory.geo.EnumFundamental;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.struct.geo.Point2D3D;
+import georegression.geometry.ConvertRotation3D_F64;
+import georegression.struct.EulerType;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ejml.data.DMatrixRMaj;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for estimating homographies, epipolar matrices, and camera pose from noise free
+ * observations in normalized image coordinates.  Covers the same operations as BenchmarkRuntimeHomography,
+ * BenchmarkRuntimeFundamental, and BenchmarkRuntimePose.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhGeometry {
+	// number of observations passed to estimators which can use more than the minimum
+	@Param({"8", "500"})
+	public int numPoints;
+
+	List<AssociatedPair> pairsPlanar;
+	List<AssociatedPair> pairs;
+	List<Point2D3D> observations;
+
+	Estimate1ofEpipolar homography = FactoryMultiView.computeHomography(true);
+	Estimate1ofEpipolar fundamental8 = FactoryMultiView.computeFundamental_1(EnumFundamental.LINEAR_8, 0);
+	Estimate1ofEpipolar essential5 = FactoryMultiView.computeEssential_1(EnumEssential.NISTER_5, 1);
+	Estimate1ofPnP p3p = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT, -1, 1);
+	Estimate1ofPnP epnp = FactoryMultiView.computePnP_1(EnumPNP.EPNP, 10, 0);
+
+	DMatrixRMaj found = new DMatrixRMaj(3,3);
+	Se3_F64 foundPose = new Se3_F64();
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+
+		Se3_F64 motion = new Se3_F64();
+		motion.getR().set(ConvertRotation3D_F64.eulerToMatrix(EulerType.XYZ, 0.5, -0.2, 0.15, null));
+		motion.getT().set(0.1, -0.2, 0.01);
+
+		List<Point3D_F64> planar = new ArrayList<>();
+		for (int i = 0; i < numPoints; i++) {
+			planar.add(new Point3D_F64((rand.nextDouble()-0.5)*2, (rand.nextDouble()-0.5)*2, 3));
+		}
+		List<Point3D_F64> cloud = GeoTestingOps.randomPoints_F64(-1, 1, -1, 1, 2, 3, numPoints, rand);
+
+		pairsPlanar = observe(motion, planar, null);
+		observations = new ArrayList<>();
+		pairs = observe(motion, cloud, observations);
+	}
+
+	private static List<AssociatedPair> observe( Se3_F64 motion, List<Point3D_F64> points,
+												 List<Point2D3D> observations ) {
+		List<AssociatedPair> pairs = new ArrayList<>();
+		for (Point3D_F64 p1 : points) {
+			Point3D_F64 p2 = SePointOps_F64.transform(motion, p1, null);
+
+			AssociatedPair pair = new AssociatedPair();
+			pair.p1.set(p1.x/p1.z, p1.y/p1.z);
+			pair.p2.set(p2.x/p2.z, p2.y/p2.z);
+			pairs.add(pair);
+
+			if( observations != null )
+				observations.add(new Point2D3D(pair.p2, p1));
+		}
+		return pairs;
+	}
+
+	@Benchmark
+	public boolean homography() {
+		return homography.process(pairsPlanar, found);
+	}
+
+	@Benchmark
+	public boolean fundamentalLinear8() {
+		return fundamental8.process(pairs, found);
+	}
+
+	@Benchmark
+	public boolean essentialNister5() {
+		return essential5.process(pairs.subList(0, 6), found);
+	}
+
+	@Benchmark
+	public boolean pnpGrunert() {
+		return p3p.process(observations.subList(0, p3p.getMinimumPoints()), foundPose);
+	}
+
+	@Benchmark
+	public boolean pnpEPnP() {
+		return epnp.process(observations, foundPose);
+	}
+}
@@ -23,6 +23,10 @@ import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.*;
 import boofcv.alg.transform.pyramid.PyramidOps;
+import boofcv.misc.profile.ProfileCounter;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.PyramidDiscrete;
@@ -39,7 +43,7 @@ import java.util.List;
  * @author Peter Abeles
  */
 public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D>>
-		implements PointTracker<I>
+		implements PointTracker<I>, Profiled
 {
 	// reference to input image
 	protected I input;
@@ -70,6 +74,12 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	// the tracker
 	protected PyramidKltTracker<I, D> tracker;
 
+	// workspace for processing tracks in a batch. Indexes match the list of features being processed
+	protected KltTrackFault[] faults = new KltTrackFault[0];
+	protected boolean[] described = new boolean[0];
+	// features which were successfully tracked and will have their description updated
+	protected List<PyramidKltFeature> candidates = new ArrayList<>();
+
 	// selects point features
 	private GeneralFeatureDetector<I, D> detector;
 	// list of corners which should be ignored by the corner detector
@@ -78,6 +88,15 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	// number of features tracked so far
 	private long totalFeatures = 0;
 
+	// runtime profiling
+	protected final ProfileScope profile = new ProfileScope(getClass().getSimpleName());
+	protected final ProfileTimer timerPyramid = profile.timer("pyramid");
+	protected final ProfileTimer timerTrack = profile.timer("track");
+	protected final ProfileTimer timerSpawn = profile.timer("spawn");
+	protected final ProfileCounter counterTracked = profile.counter("tracked");
+	protected final ProfileCounter counterDropped = profile.counter("dropped");
+	protected final ProfileCounter counterSpawned = profile.counter("spawned");
+
 	/**
 	 * Constructor which specified the KLT track manager and how the image pyramids are computed.
 	 *
@@ -98,15 +117,35 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 								  InterpolateRectangle<I> interpInput,
 								  InterpolateRectangle<D> interpDeriv,
 								  Class<D> derivType ) {
+		this(config, templateRadius, pyramid, detector, gradient,
+				new PyramidKltTracker<>(new KltTracker<>(interpInput, interpDeriv, config)), derivType);
+	}
+
+	/**
+	 * Constructor which specified the KLT track manager and how the image pyramids are computed.
+	 *
+	 * @param config KLT tracker configuration
+	 * @param templateRadius Radius of square templates that are tracked
+	 * @param pyramid The image pyramid which KLT is tracking inside of
+	 * @param detector Feature detector.   If null then no feature detector will be available and spawn won't work.
+	 * @param gradient Computes gradient image pyramid.
+	 * @param tracker Pyramidal KLT tracker. Can be {@link PyramidKltTracker_MT} to track features concurrently.
+	 * @param derivType Type of image the gradient is
+	 */
+	public PointTrackerKltPyramid(KltConfig config,
+								  int templateRadius ,
+								  PyramidDiscrete<I> pyramid,
+								  GeneralFeatureDetector<I, D> detector,
+								  ImageGradient<I, D> gradient,
+								  PyramidKltTracker<I, D> tracker,
+								  Class<D> derivType ) {
 
 		this.config = config;
 		this.templateRadius = templateRadius;
 		this.gradient = gradient;
 		this.basePyramid = pyramid;
 		this.derivType = derivType;
-
-		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
-		tracker = new PyramidKltTracker<>(klt);
+		this.tracker = tracker;
 
 		if( detector != null) {
 			if (detector.getRequiresHessian())
@@ -163,6 +202,7 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 	@Override
 	public void spawnTracks() {
+		long time = timerSpawn.start();
 		spawned.clear();
 
 		// used to convert it from the scale of the bottom layer into the original image
@@ -210,6 +250,9 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 				unused.add(t);
 			}
 		}
+
+		timerSpawn.stop(time);
+		counterSpawned.add(spawned.size());
 	}
 
 	/**
@@ -234,34 +277,71 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		dropped.clear();
 
 		// update image pyramids
+		long time = timerPyramid.start();
 		basePyramid.process(image);
 		declareOutput();
 		PyramidOps.gradient(basePyramid, gradient, derivX,derivY);
+		time = timerPyramid.stop(time);
 
-		// track features
+		// track features. All the features are tracked and described as a batch so that it can be done concurrently
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < active.size(); ) {
+		growWorkspace(active.size());
+		tracker.track(active,faults);
+
+		// discard a track if its center drifts outside the image.
+		candidates.clear();
+		for( int i = 0; i < active.size(); i++ ) {
 			PyramidKltFeature t = active.get(i);
-			KltTrackFault ret = tracker.track(t);
+			if( faults[i] == KltTrackFault.SUCCESS && image.isInBounds((int)t.x,(int)t.y) )
+				candidates.add(t);
+		}
+		tracker.setDescription(candidates,described);
 
-			boolean success = false;
+		// update the lists while preserving the order of active tracks
+		int indexCandidate = 0;
+		int numActive = 0;
+		for( int i = 0; i < active.size(); i++ ) {
+			PyramidKltFeature t = active.get(i);
 
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( image.isInBounds((int)t.x,(int)t.y) && tracker.setDescription(t) ) {
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					i++;
-					success = true;
-				}
+			boolean success = false;
+			if( indexCandidate < candidates.size() && candidates.get(indexCandidate) == t ) {
+				success = described[indexCandidate++];
 			}
 
-			if( !success ) {
-				active.remove(i);
+			if( success ) {
+				PointTrack p = t.getCookie();
+				p.set(t.x,t.y);
+				active.set(numActive++,t);
+			} else {
 				dropped.add( t );
 				unused.add( t );
 			}
 		}
+		removeTail(active,numActive);
+		candidates.clear();
+
+		timerTrack.stop(time);
+		counterTracked.add(active.size());
+		counterDropped.add(dropped.size());
+	}
+
+	/**
+	 * Ensures the batch workspace can store results for the specified number of features
+	 */
+	protected void growWorkspace( int numFeatures ) {
+		if( faults.length < numFeatures ) {
+			faults = new KltTrackFault[numFeatures];
+			described = new boolean[numFeatures];
+		}
+	}
+
+	/**
+	 * Removes all elements in the list after the specified size
+	 */
+	protected static void removeTail( List<PyramidKltFeature> list , int size ) {
+		while( list.size() > size ) {
+			list.remove(list.size()-1);
+		}
 	}
 
 	protected void declareOutput() {
@@ -341,6 +421,14 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		}
 	}
 
+	/**
+	 * Runtime profiling. Timers: pyramid, track, spawn. Counters: tracked, dropped, spawned
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
+	}
+
 	@Override
 	public void reset() {
 		dropAllTracks();
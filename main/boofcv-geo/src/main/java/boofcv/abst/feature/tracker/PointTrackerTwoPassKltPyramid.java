@@ -24,8 +24,10 @@ import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.KltConfig;
 import boofcv.alg.tracker.klt.KltTrackFault;
 import boofcv.alg.tracker.klt.PyramidKltFeature;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
 import boofcv.alg.transform.pyramid.PyramidOps;
 import boofcv.misc.BoofMiscOps;
+import boofcv.misc.profile.ProfileTimer;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.pyramid.PyramidDiscrete;
 
@@ -49,6 +51,10 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageGray<I>,D extends Imag
 	// has finished tracking been called
 	boolean finishedTracking;
 
+	// runtime profiling
+	protected final ProfileTimer timerSecondPass = profile.timer("second_pass");
+	protected final ProfileTimer timerDescribe = profile.timer("describe");
+
 	public PointTrackerTwoPassKltPyramid(KltConfig config,
 										 int templateRadius ,
 										 PyramidDiscrete<I> pyramid,
@@ -61,6 +67,17 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageGray<I>,D extends Imag
 				gradient.getDerivativeType().getImageClass());
 	}
 
+	public PointTrackerTwoPassKltPyramid(KltConfig config,
+										 int templateRadius ,
+										 PyramidDiscrete<I> pyramid,
+										 GeneralFeatureDetector<I, D> detector,
+										 ImageGradient<I, D> gradient,
+										 PyramidKltTracker<I, D> tracker)
+	{
+		super(config, templateRadius, pyramid , detector, gradient, tracker,
+				gradient.getDerivativeType().getImageClass());
+	}
+
 	@Override
 	public void process(I image) {
 		this.input = image;
@@ -70,62 +87,49 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageGray<I>,D extends Imag
 		dropped.clear();
 
 		// update image pyramids
+		long time = timerPyramid.start();
 		basePyramid.process(image);
 		declareOutput();
 		PyramidOps.gradient(basePyramid, gradient, derivX, derivY);
+		time = timerPyramid.stop(time);
 
 		// setup active list
 		originalActive.clear();
 		originalActive.addAll( active );
 
 		// track features
-		candidateDrop.clear();
-		active.clear();
-
 		tracker.setImage(basePyramid,derivX,derivY);
-		for( int i = 0; i < originalActive.size(); i++ ) {
-			PyramidKltFeature t = originalActive.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if( BoofMiscOps.checkInside(input, t.x, t.y)) {
-					active.add(t);
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					success = true;
-				}
-			}
-
-			if( !success ) {
-				candidateDrop.add(t);
-			}
-		}
+		trackOriginalActive();
+		timerTrack.stop(time);
 	}
 
 	@Override
 	public void performSecondPass() {
+		long time = timerSecondPass.start();
+		trackOriginalActive();
+		timerSecondPass.stop(time);
+	}
+
+	/**
+	 * Tracks all the features in the original active list as a batch and sorts them into active and
+	 * candidate drop lists
+	 */
+	private void trackOriginalActive() {
 		candidateDrop.clear();
 		active.clear();
 
+		growWorkspace(originalActive.size());
+		tracker.track(originalActive,faults);
+
 		for( int i = 0; i < originalActive.size(); i++ ) {
 			PyramidKltFeature t = originalActive.get(i);
-			KltTrackFault ret = tracker.track(t);
-
-			boolean success = false;
-
-			if( ret == KltTrackFault.SUCCESS ) {
-				// discard a track if its center drifts outside the image.
-				if(BoofMiscOps.checkInside(input, t.x, t.y)) {
-					active.add(t);
-					PointTrack p = t.getCookie();
-					p.set(t.x,t.y);
-					success = true;
-				}
-			}
-			if( !success) {
+
+			// discard a track if its center drifts outside the image.
+			if( faults[i] == KltTrackFault.SUCCESS && BoofMiscOps.checkInside(input, t.x, t.y)) {
+				active.add(t);
+				PointTrack p = t.getCookie();
+				p.set(t.x,t.y);
+			} else {
 				candidateDrop.add(t);
 			}
 		}
@@ -133,15 +137,20 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageGray<I>,D extends Imag
 
 	@Override
 	public void finishTracking() {
-		for( int i = 0; i < active.size(); ) {
+		long time = timerDescribe.start();
+		growWorkspace(active.size());
+		tracker.setDescription(active,described);
+
+		int numActive = 0;
+		for( int i = 0; i < active.size(); i++ ) {
 			PyramidKltFeature t = active.get(i);
-			if( tracker.setDescription(t) ) {
-				i++;
+			if( described[i] ) {
+				active.set(numActive++,t);
 			} else {
 				candidateDrop.add(t);
-				active.remove(i);
 			}
 		}
+		removeTail(active,numActive);
 
 		for( int i = 0; i < candidateDrop.size(); i++ ) {
 			PyramidKltFeature t = candidateDrop.get(i);
@@ -150,6 +159,10 @@ public class PointTrackerTwoPassKltPyramid<I extends ImageGray<I>,D extends Imag
 		}
 
 		finishedTracking = true;
+
+		timerDescribe.stop(time);
+		counterTracked.add(active.size());
+		counterDropped.add(dropped.size());
 	}
 
 	@Override
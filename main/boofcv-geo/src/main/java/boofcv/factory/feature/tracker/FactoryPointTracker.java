@@ -46,9 +46,9 @@ import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
 import boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
-import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.combined.CombinedTrackerScalePoint;
 import boofcv.alg.tracker.klt.PkltConfig;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
@@ -61,7 +61,6 @@ import boofcv.factory.feature.orientation.FactoryOrientation;
 import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.filter.derivative.FactoryDerivative;
-import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.factory.tracker.FactoryTrackerAlg;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.feature.*;
@@ -132,15 +131,14 @@ public class FactoryPointTracker {
 
 		GeneralFeatureDetector<I, D> detector = createShiTomasi(configExtract, derivType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
+		PyramidKltTracker<I,D> tracker = FactoryTrackerAlg.kltPyramid(config.config, imageType, derivType);
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType, derivType);
 
 		PyramidDiscrete<I> pyramid = FactoryPyramid.discreteGaussian(config.pyramidScaling,-1,2,true, ImageType.single(imageType));
 
 		return new PointTrackerKltPyramid<>(config.config, config.templateRadius, pyramid, detector,
-				gradient, interpInput, interpDeriv, derivType);
+				gradient, tracker, derivType);
 	}
 
 	/**
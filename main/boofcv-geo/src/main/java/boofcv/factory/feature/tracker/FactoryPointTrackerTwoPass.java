@@ -26,10 +26,10 @@ import boofcv.abst.feature.tracker.*;
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
-import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.PkltConfig;
+import boofcv.alg.tracker.klt.PyramidKltTracker;
 import boofcv.factory.filter.derivative.FactoryDerivative;
-import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.factory.tracker.FactoryTrackerAlg;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
@@ -56,8 +56,7 @@ public class FactoryPointTrackerTwoPass {
 
 		GeneralFeatureDetector<I, D> detector = createShiTomasi(configExtract, derivType);
 
-		InterpolateRectangle<I> interpInput = FactoryInterpolation.<I>bilinearRectangle(imageType);
-		InterpolateRectangle<D> interpDeriv = FactoryInterpolation.<D>bilinearRectangle(derivType);
+		PyramidKltTracker<I,D> tracker = FactoryTrackerAlg.kltPyramid(config.config, imageType, derivType);
 
 		ImageGradient<I,D> gradient = FactoryDerivative.sobel(imageType, derivType);
 
@@ -65,7 +64,7 @@ public class FactoryPointTrackerTwoPass {
 				config.pyramidScaling,-1,2,true, ImageType.single(imageType));
 
 		return new PointTrackerTwoPassKltPyramid<>(config.config, config.templateRadius, pyramid, detector,
-				gradient, interpInput, interpDeriv);
+				gradient, tracker);
 	}
 
 	public static <I extends ImageGray<I>, D extends ImageGray<D>, Desc extends TupleDesc>
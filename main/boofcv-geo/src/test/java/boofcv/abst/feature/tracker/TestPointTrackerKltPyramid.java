@@ -21,6 +21,8 @@ package boofcv.abst.feature.tracker;
 import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.profile.ProfileHistogramSink;
 import boofcv.factory.feature.tracker.FactoryPointTracker;
 import boofcv.struct.image.GrayF32;
 import org.junit.Test;
@@ -157,6 +159,74 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<GrayF32> {
 
 	}
 
+	/**
+	 * Makes sure measurements are recorded when profiling is turned on
+	 */
+	@Test
+	public void profiling() {
+		PointTrackerKltPyramid<GrayF32,GrayF32> alg =
+				(PointTrackerKltPyramid<GrayF32,GrayF32>)createTracker();
+
+		ProfileHistogramSink sink = new ProfileHistogramSink();
+		alg.getProfileScope().setSink(sink);
+
+		alg.process(image);
+		alg.spawnTracks();
+		alg.process(image);
+
+		assertEquals(2, sink.getHistogram(alg.timerPyramid).getCount());
+		assertEquals(2, sink.getHistogram(alg.timerTrack).getCount());
+		assertEquals(1, sink.getHistogram(alg.timerSpawn).getCount());
+		assertEquals(alg.active.size(), sink.getHistogram(alg.counterTracked).getMax());
+		assertEquals(alg.active.size(), sink.getHistogram(alg.counterSpawned).getMax());
+	}
+
+	/**
+	 * The concurrent tracker should produce identical results to the single threaded tracker
+	 */
+	@Test
+	public void compareToConcurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		int originalMin = PyramidKltTracker_MT.MIN_FEATURES;
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			PyramidKltTracker_MT.MIN_FEATURES = 5;
+
+			PointTrackerKltPyramid<GrayF32,GrayF32> serial =
+					(PointTrackerKltPyramid<GrayF32,GrayF32>)createTracker();
+			BoofConcurrency.USE_CONCURRENT = true;
+			PointTrackerKltPyramid<GrayF32,GrayF32> concurrent =
+					(PointTrackerKltPyramid<GrayF32,GrayF32>)createTracker();
+			BoofConcurrency.USE_CONCURRENT = false;
+
+			assertTrue(concurrent.tracker instanceof PyramidKltTracker_MT);
+
+			serial.process(image);
+			serial.spawnTracks();
+			concurrent.process(image);
+			concurrent.spawnTracks();
+
+			// modify the image so that the tracks need to move and some are dropped
+			GImageMiscOps.addGaussian(image,rand,5,0,255);
+			serial.process(image);
+			concurrent.process(image);
+
+			assertTrue(serial.active.size() > 20);
+			assertEquals(serial.active.size(),concurrent.active.size());
+			assertEquals(serial.dropped.size(),concurrent.dropped.size());
+			for (int i = 0; i < serial.active.size(); i++) {
+				PyramidKltFeature a = serial.active.get(i);
+				PyramidKltFeature b = concurrent.active.get(i);
+				assertEquals(a.x,b.x,0.0f);
+				assertEquals(a.y,b.y,0.0f);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(originalThreads);
+			PyramidKltTracker_MT.MIN_FEATURES = originalMin;
+		}
+	}
+
 	/**
 	 * Don't change the track state
 	 */
@@ -168,6 +168,142 @@ public class ConvertBufferedImage {
 		throw new IllegalArgumentException("Buffered image does not have a gray scale byte raster");
 	}
 
+	/**
+	 * <p>
+	 * Checks to see if the BufferedImage's data array can be used directly by an image of the specified type without
+	 * copying.  This is possible when the raster is a single byte array with a {@link ComponentSampleModel} and the
+	 * image type is {@link GrayU8} or {@link InterleavedU8}.  Each pixel must have exactly one byte per band with no
+	 * padding.  For gray images the raster must have one band.  If orderRgb is true then the bands must already be
+	 * in RGB order, e.g. TYPE_3BYTE_BGR can only be wrapped if orderRgb is false.
+	 * </p>
+	 *
+	 * @param src Input BufferedImage
+	 * @param orderRgb If the bands would be reordered into RGB by {@link #convertFrom(BufferedImage, boolean, ImageType)}
+	 * @param imageType Type of image it is to be converted into
+	 * @return true if {@link #wrapOrConvert} will wrap the data or false if it will copy it
+	 */
+	public static boolean isWrappable( BufferedImage src , boolean orderRgb , ImageType<?> imageType ) {
+		if( imageType.getDataType() != ImageDataType.U8 )
+			return false;
+		if( imageType.getFamily() == ImageType.Family.PLANAR )
+			return false;
+
+		WritableRaster raster;
+		try {
+			raster = src.getRaster();
+		} catch( java.security.AccessControlException e) {
+			return false;
+		}
+
+		if( !(raster.getDataBuffer() instanceof DataBufferByte) || raster.getDataBuffer().getNumBanks() != 1 )
+			return false;
+		if( !(raster.getSampleModel() instanceof ComponentSampleModel) )
+			return false;
+		// indexed and other color models store values which are not intensities
+		if( !(src.getColorModel() instanceof ComponentColorModel) )
+			return false;
+
+		ComponentSampleModel sampleModel = (ComponentSampleModel)raster.getSampleModel();
+		int numBands = sampleModel.getNumBands();
+		if( sampleModel.getPixelStride() != numBands )
+			return false;
+		if( imageType.getFamily() == ImageType.Family.GRAY && numBands != 1 )
+			return false;
+
+		int bankIndices[] = sampleModel.getBankIndices();
+		int bandOffsets[] = sampleModel.getBandOffsets();
+		int minOffset = minimum(bandOffsets);
+		boolean found[] = new boolean[numBands];
+		for (int i = 0; i < numBands; i++) {
+			if( bankIndices[i] != 0 )
+				return false;
+			int offset = bandOffsets[i]-minOffset;
+			if( offset >= numBands || found[offset] )
+				return false;
+			found[offset] = true;
+			if( orderRgb && numBands > 1 && offset != i )
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Converts a BufferedImage into the specified image type, avoiding a copy when possible.  If
+	 * {@link #isWrappable} is true then the returned image shares its data array with the BufferedImage and
+	 * changes to one will be seen in the other.  Otherwise the pixels are copied into 'storage', exactly as
+	 * {@link #convertFrom(BufferedImage, boolean, ImageBase)} would.
+	 * </p>
+	 *
+	 * <p>
+	 * To find out which path was taken, either call {@link #isWrappable} first or check to see if the returned
+	 * image is 'storage'.  A wrapped image is always a new instance, so 'storage' is never modified to reference the
+	 * BufferedImage's data.
+	 * </p>
+	 *
+	 * @param src Input BufferedImage
+	 * @param orderRgb If applicable, should it adjust the ordering of each color band to maintain color consistency
+	 * @param imageType Type of image it is to be converted into
+	 * @param storage (Optional) Storage for the copied image.  Only used if it can't be wrapped.  Can be null.
+	 * @return Image which either wraps the BufferedImage's data or is a copy of it
+	 */
+	public static <T extends ImageBase<T>> T wrapOrConvert( BufferedImage src , boolean orderRgb ,
+															ImageType<T> imageType , T storage ) {
+		if( isWrappable(src, orderRgb, imageType) ) {
+			return (T)wrap(src, imageType);
+		}
+
+		if( storage == null )
+			storage = imageType.createImage(src.getWidth(),src.getHeight());
+		return convertFrom(src, orderRgb, storage);
+	}
+
+	/**
+	 * Creates an image which references the BufferedImage's data.  Assumes {@link #isWrappable} is true.
+	 */
+	private static ImageBase wrap( BufferedImage src , ImageType<?> imageType ) {
+		WritableRaster raster = src.getRaster();
+		ComponentSampleModel sampleModel = (ComponentSampleModel)raster.getSampleModel();
+		DataBufferByte buffer = (DataBufferByte)raster.getDataBuffer();
+
+		int pixelStride = sampleModel.getPixelStride();
+		int stride = sampleModel.getScanlineStride();
+
+		// location of the first pixel in the raster's coordinate system inside the data array
+		int startIndex = buffer.getOffset() + minimum(sampleModel.getBandOffsets()) +
+				(raster.getMinX()-raster.getSampleModelTranslateX())*pixelStride +
+				(raster.getMinY()-raster.getSampleModelTranslateY())*stride;
+
+		ImageBase ret;
+		if( imageType.getFamily() == ImageType.Family.GRAY ) {
+			GrayU8 gray = new GrayU8();
+			gray.data = buffer.getData();
+			ret = gray;
+		} else {
+			InterleavedU8 interleaved = new InterleavedU8();
+			interleaved.data = buffer.getData();
+			interleaved.numBands = pixelStride;
+			interleaved.imageType.numBands = pixelStride;
+			ret = interleaved;
+		}
+		ret.width = src.getWidth();
+		ret.height = src.getHeight();
+		ret.startIndex = startIndex;
+		ret.stride = stride;
+		// if the data doesn't start at the beginning or rows are padded then it's treated as a sub-image
+		ret.subImage = startIndex != 0 || stride != ret.width*pixelStride;
+
+		return ret;
+	}
+
+	private static int minimum( int values[] ) {
+		int min = Integer.MAX_VALUE;
+		for (int i = 0; i < values.length; i++) {
+			min = Math.min(min,values[i]);
+		}
+		return min;
+	}
+
 	/**
 	 * Creates a new BufferedImage that internally uses the same data as the provided
 	 * {@link InterleavedU8}.  If 3 bands then the image will be of type TYPE_3BYTE_BGR
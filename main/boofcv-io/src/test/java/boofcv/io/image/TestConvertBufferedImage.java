@@ -29,6 +29,7 @@ import org.junit.Test;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.util.Random;
 
 import static org.junit.Assert.*;
@@ -172,6 +173,93 @@ public class TestConvertBufferedImage {
 		}
 	}
 
+	@Test
+	public void isWrappable() {
+		ImageType<GrayU8> gray = ImageType.single(GrayU8.class);
+		ImageType<InterleavedU8> interleaved = ImageType.il(3, InterleavedU8.class);
+
+		BufferedImage imgGray = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		BufferedImage imgBGR = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+
+		assertTrue(ConvertBufferedImage.isWrappable(imgGray, true, gray));
+		assertTrue(ConvertBufferedImage.isWrappable(imgGray, true, interleaved));
+		assertTrue(ConvertBufferedImage.isWrappable(imgBGR, false, interleaved));
+		assertTrue(ConvertBufferedImage.isWrappable(imgBGR.getSubimage(1,2,5,6), false, interleaved));
+
+		// band order needs to be changed
+		assertFalse(ConvertBufferedImage.isWrappable(imgBGR, true, interleaved));
+		// gray requires averaging bands
+		assertFalse(ConvertBufferedImage.isWrappable(imgBGR, false, gray));
+		// types which require a conversion
+		assertFalse(ConvertBufferedImage.isWrappable(imgGray, true, ImageType.single(GrayF32.class)));
+		assertFalse(ConvertBufferedImage.isWrappable(imgBGR, false, ImageType.pl(3, GrayU8.class)));
+		// values are not intensities or are not stored in a byte array
+		assertFalse(ConvertBufferedImage.isWrappable(
+				new BufferedImage(imgWidth,imgHeight,BufferedImage.TYPE_BYTE_INDEXED), true, gray));
+		assertFalse(ConvertBufferedImage.isWrappable(
+				TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand), false, interleaved));
+	}
+
+	/**
+	 * Wrapped images should have the same pixel values as a copy and share data with the BufferedImage
+	 */
+	@Test
+	public void wrapOrConvert_wrap() {
+		for( int numBands : new int[]{1,3,4}) {
+			BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, numBands, rand);
+			ImageType<InterleavedU8> type = ImageType.il(numBands, InterleavedU8.class);
+
+			InterleavedU8 storage = type.createImage(1,1);
+			InterleavedU8 found = ConvertBufferedImage.wrapOrConvert(origImg, false, type, storage);
+			assertTrue(found != storage);
+			assertTrue(found.data == ((DataBufferByte)origImg.getRaster().getDataBuffer()).getData());
+			assertFalse(found.isSubimage());
+			InterleavedU8 expected = ConvertBufferedImage.convertFrom(origImg, false, type.createImage(1,1));
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// changes should be seen in the BufferedImage
+			found.setBand(2,3,0,123);
+			expected = ConvertBufferedImage.convertFrom(origImg, false, type.createImage(1,1));
+			assertEquals(123,expected.getBand(2,3,0));
+
+			// sub-images
+			BufferedImage subImg = origImg.getSubimage(1,2,5,6);
+			found = ConvertBufferedImage.wrapOrConvert(subImg, false, type, null);
+			assertTrue(found.isSubimage());
+			expected = ConvertBufferedImage.convertFrom(subImg, false, type.createImage(1,1));
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		GrayU8 found = ConvertBufferedImage.wrapOrConvert(origImg, true, ImageType.single(GrayU8.class), null);
+		assertTrue(found.data == ((DataBufferByte)origImg.getRaster().getDataBuffer()).getData());
+		BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(origImg, (GrayU8)null), found, 0);
+	}
+
+	/**
+	 * If it can't be wrapped then the storage image should be used and the results identical to convertFrom
+	 */
+	@Test
+	public void wrapOrConvert_copy() {
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+		ImageType<InterleavedU8> type = ImageType.il(3, InterleavedU8.class);
+
+		InterleavedU8 storage = type.createImage(1,1);
+		InterleavedU8 found = ConvertBufferedImage.wrapOrConvert(origImg, true, type, storage);
+		assertTrue(found == storage);
+		assertTrue(found.data != ((DataBufferByte)origImg.getRaster().getDataBuffer()).getData());
+		InterleavedU8 expected = ConvertBufferedImage.convertFrom(origImg, true, type.createImage(1,1));
+		BoofTesting.assertEquals(expected, found, 0);
+
+		// storage is optional
+		found = ConvertBufferedImage.wrapOrConvert(origImg, true, type, null);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		ImageType<GrayF32> typeF32 = ImageType.single(GrayF32.class);
+		GrayF32 foundF32 = ConvertBufferedImage.wrapOrConvert(origImg, true, typeF32, null);
+		BoofTesting.assertEquals(ConvertBufferedImage.convertFrom(origImg, (GrayF32)null), foundF32, 0);
+	}
+
 	@Test
 	public void extractBuffered_InterleavedU8() {
 		// test it with 3 bands
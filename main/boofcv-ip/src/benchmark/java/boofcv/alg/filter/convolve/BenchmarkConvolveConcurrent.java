@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_F32;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+
+import java.util.Random;
+
+/**
+ * Compares the single threaded convolution against concurrent convolution as the number of threads is changed.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkConvolveConcurrent {
+	static private int imgWidth = 4000;
+	static private int imgHeight = 3000;
+
+	static private Kernel1D_F32 kernelF32;
+	static private Kernel2D_F32 kernel2D_F32;
+	static private Kernel1D_S32 kernelI32;
+
+	static private GrayF32 src_F32 = new GrayF32(imgWidth,imgHeight);
+	static private GrayF32 dst_F32 = new GrayF32(imgWidth,imgHeight);
+	static private GrayU8 src_U8 = new GrayU8(imgWidth,imgHeight);
+	static private GrayS16 dst_S16 = new GrayS16(imgWidth,imgHeight);
+	static private GrayU8 dst_U8 = new GrayU8(imgWidth,imgHeight);
+
+	static private ImageBorder_F32 border_F32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+	public static int TEST_TIME = 2000;
+
+	static {
+		Random rand = new Random(234234);
+		ImageMiscOps.fillUniform(src_U8,rand, 0, 100);
+		ImageMiscOps.fillUniform(src_F32,rand,0,100);
+	}
+
+	public static void setUp( int radius ) {
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+	}
+
+	public static class Horizontal_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveImageNoBorder.horizontal(kernelF32, src_F32, dst_F32);
+		}
+	}
+
+	public static class Vertical_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveImageNoBorder.vertical(kernelF32, src_F32, dst_F32);
+		}
+	}
+
+	public static class Convolve2D_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveImageNoBorder.convolve(kernel2D_F32, src_F32, dst_F32);
+		}
+	}
+
+	public static class Vertical_U8_S16 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveImageNoBorder.vertical(kernelI32, src_U8, dst_S16);
+		}
+	}
+
+	public static class Normalized_Horizontal_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveNormalized.horizontal(kernelF32, src_F32, dst_F32);
+		}
+	}
+
+	public static class Normalized_Vertical_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveNormalized.vertical(kernelI32, src_U8, dst_U8);
+		}
+	}
+
+	public static class Border_Vertical_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ConvolveWithBorder.vertical(kernelF32, src_F32, dst_F32, border_F32);
+		}
+	}
+
+	public static void profile() {
+		ProfileOperation.printOpsPerSec(new Horizontal_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Vertical_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Convolve2D_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Vertical_U8_S16(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Normalized_Horizontal_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Normalized_Vertical_U8(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Border_Vertical_F32(), TEST_TIME);
+	}
+
+	public static void main( String args[] ) {
+		System.out.println("=========  Profile Image Size "+ imgWidth +" x "+ imgHeight +" ==========");
+
+		int maxThreads = Runtime.getRuntime().availableProcessors();
+
+		for( int radius : new int[]{2,5}) {
+			System.out.println();
+			System.out.println("Radius "+radius);
+			setUp(radius);
+
+			System.out.println("  Single Threaded");
+			BoofConcurrency.USE_CONCURRENT = false;
+			profile();
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			for( int threads = 1; threads <= maxThreads; threads *= 2 ) {
+				System.out.println("  Concurrent threads = "+threads);
+				BoofConcurrency.setMaxThreads(threads);
+				profile();
+			}
+		}
+	}
+}
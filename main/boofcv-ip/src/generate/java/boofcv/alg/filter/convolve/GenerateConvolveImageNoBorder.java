@@ -57,6 +57,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 		out.print(
 				"import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.alg.filter.convolve.noborder.*;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -76,6 +77,9 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				" * the whole kernel can be convolved image borders are skipped.  In special cases where there is a clear way to\n" +
 				" * handle image edges specialized functions are provided.\n" +
 				" * </p>\n" +
+				" * <p>\n" +
+				" * Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link ConvolveImageNoBorder_MT} is used.\n" +
+				" * </p>\n" +
 				" * <p>Automatically generated by "+getClass().getSimpleName()+" DO NOT MODIFY</p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
@@ -138,9 +142,14 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 		out.print("\tpublic static void "+name+"(Kernel"+dimen+"_"+kernelType+" kernel,\n" +
 				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tConvolveImageNoBorder_MT."+name+"(kernel, input, output"+divideInput+");\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
 				"\n");
 		if( singleBand ) {
-			out.print("\t\tif (!ConvolveImageUnrolled_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
+			out.print("\t\tif (!ConvolveImageUnrolled_SB_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
 					"\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n");
 		} else {
 			out.print("\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
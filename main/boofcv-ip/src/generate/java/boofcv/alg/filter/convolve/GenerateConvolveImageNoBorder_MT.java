@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+/**
+ * Generates the concurrent version of {@link ConvolveImageNoBorder}.  Each function splits the image into
+ * row bands and processes each band using the same single threaded code.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateConvolveImageNoBorder_MT extends CodeGeneratorBase {
+
+	String kernelType;
+	String inputName, outputName, typeIn, typeOut;
+
+	int totalFunctions = 0;
+
+	@Override
+	public void generate() {
+		printPreamble();
+		printAllOps(AutoTypeImage.F32, AutoTypeImage.F32, false, false);
+		printAllOps(AutoTypeImage.F64, AutoTypeImage.F64, false, false);
+		printAllOps(AutoTypeImage.U8,  AutoTypeImage.I16, false, false);
+		printAllOps(AutoTypeImage.U8,  AutoTypeImage.S32, false, false);
+		printAllOps(AutoTypeImage.U16, AutoTypeImage.I8,  true,  true);
+		printAllOps(AutoTypeImage.S16, AutoTypeImage.I16, false, false);
+		printAllOps(AutoTypeImage.U8,  AutoTypeImage.I8,  true,  false);
+		printAllOps(AutoTypeImage.S16, AutoTypeImage.I16, true,  false);
+		printAllOps(AutoTypeImage.S32, AutoTypeImage.I16, true,  true);
+		printAllOps(AutoTypeImage.S32, AutoTypeImage.S32, false, false);
+		printAllOps(AutoTypeImage.S32, AutoTypeImage.S32, true,  false);
+
+		out.println("}");
+
+		System.out.println("Total functions generated "+totalFunctions);
+	}
+
+	private void printPreamble() {
+		out.print(
+				"import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.filter.convolve.noborder.*;\n" +
+				"import boofcv.concurrency.ImageRowBands;\n" +
+				"import boofcv.concurrency.ImageRowBands.Task;\n" +
+				"import boofcv.struct.convolve.*;\n" +
+				"import boofcv.struct.image.*;\n");
+		out.println();
+		out.print("/**\n" +
+				" * <p>\n" +
+				" * Concurrent version of {@link ConvolveImageNoBorder}.  The image is split into bands of rows which are\n" +
+				" * convolved in parallel using the same single threaded code.  Input bands are expanded by the kernel's\n" +
+				" * size so that the output is identical to the single threaded version.  Calling these functions directly\n" +
+				" * will always run concurrently, independent of {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT}.\n" +
+				" * </p>\n" +
+				" * <p>Automatically generated by "+getClass().getSimpleName()+" DO NOT MODIFY</p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"@SuppressWarnings({\"ForLoopReplaceableByForEach\"})\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	private void printAllOps(AutoTypeImage input, AutoTypeImage output, boolean hasDivide,
+							 boolean justVertical )
+	{
+		kernelType = input.getKernelType();
+		typeIn = input.name();
+		typeOut = output.name();
+
+		inputName = input.getSingleBandName();
+		outputName = output.getSingleBandName();
+
+		if( justVertical ) {
+			printFunction("vertical", true, hasDivide);
+			inputName = input.getInterleavedName();
+			outputName = output.getInterleavedName();
+			printFunction("vertical", false, hasDivide);
+		} else {
+			printFunction("horizontal", true, hasDivide);
+			printFunction("vertical", true, hasDivide);
+			printFunction("convolve", true, hasDivide);
+
+			inputName = input.getInterleavedName();
+			outputName = output.getInterleavedName();
+			printFunction("horizontal", false, hasDivide);
+			printFunction("vertical", false, hasDivide);
+			printFunction("convolve", false, hasDivide);
+		}
+	}
+
+	/**
+	 * Unrolled implementations don't exist for all combinations of input and output
+	 */
+	private boolean hasUnrolled( boolean hasDivide ) {
+		if( typeIn.equals("U8") && typeOut.equals("S32"))
+			return false;
+		if( typeIn.equals("U16") && typeOut.equals("I8"))
+			return false;
+		if( typeIn.equals("S32") && typeOut.equals("I16") && hasDivide )
+			return false;
+		return true;
+	}
+
+	private void printFunction(  String name , boolean singleBand , boolean hasDivide ) {
+
+		totalFunctions++;
+
+		String divideArg = hasDivide ? ", final int divisor" : "";
+		String divideSuf = hasDivide ? "_Div" : "";
+		String divideInput = hasDivide ? ", divisor" : "";
+
+		String dimen = name.equals("convolve") ? "2D" : "1D";
+
+		String halo = name.equals("horizontal") ? "" :
+				"\n\t\t\t\tkernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1,";
+
+		out.print("\tpublic static void "+name+"(final Kernel"+dimen+"_"+kernelType+" kernel,\n" +
+				"\t\t\t\t\t\t\t\t  "+inputName+" input, "+outputName+" output"+divideArg+") {\n" +
+				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\n" +
+				"\t\tImageRowBands.process(input, output,"+halo+" new Task<"+inputName+","+outputName+">() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process("+inputName+" input, "+outputName+" output) {\n");
+		if( singleBand ) {
+			if( hasUnrolled(hasDivide) ) {
+				out.print("\t\t\t\tif (!ConvolveImageUnrolled_SB_" + typeIn + "_" + typeOut + divideSuf + "." + name + "(kernel, input, output" + divideInput + "))\n" +
+						"\t\t\t\t\tConvolveImageStandard_SB." + name + "(kernel, input, output" + divideInput + ");\n");
+			} else {
+				out.print("\t\t\t\tConvolveImageStandard_SB." + name + "(kernel, input, output" + divideInput + ");\n");
+			}
+		} else {
+			out.print("\t\t\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
+		}
+		out.print("\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public static void main(String[] args) {
+		GenerateConvolveImageNoBorder_MT gen = new GenerateConvolveImageNoBorder_MT();
+		gen.generate();
+	}
+}
@@ -35,6 +35,9 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 
 	int totalFunctions = 0;
 
+	// if true the inner portion of the image is convolved concurrently
+	protected boolean concurrent = false;
+
 	@Override
 	public void generate() {
 		printPreamble();
@@ -62,6 +65,11 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 				" * Convolves a kernel across an image and scales the kernel such that the sum of the portion inside\n" +
 				" * the image sums up to one.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent version.  The inner portion of the image is convolved using {@link ConvolveImageNoBorder_MT}\n" +
+				" * and the image border is processed in the calling thread.\n" +
+				" * </p>\n" : "") +
 				" * <p>Automatically generated by "+getClass().getSimpleName()+". DO NOT MODIFY</p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
@@ -133,7 +141,7 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 			out.print("\t\tif( "+insideTest+" ) {\n" +
 					"\t\t\tConvolveNormalizedNaive_"+suffice+"."+name+"(kernel, src, dst);\n" +
 					"\t\t} else {\n" +
-					"\t\t\tConvolveImageNoBorder."+name+"(kernel, src, dst, kernel.computeSum());\n" +
+					"\t\t\tConvolveImageNoBorder"+(concurrent?"_MT":"")+"."+name+"(kernel, src, dst, kernel.computeSum());\n" +
 					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel, src, dst);\n" +
 					"\t\t}\n");
 		} else {
@@ -145,7 +153,7 @@ public class GenerateConvolveNormalized extends CodeGeneratorBase {
 					"\t\t\t\tKernelMath.normalizeSumToOne(k);\n" +
 					"\t\t\t\tkernel = k;\n" +
 					"\t\t\t}\n" +
-					"\t\t\tConvolveImageNoBorder."+name+"(kernel,src,dst);\n" +
+					"\t\t\tConvolveImageNoBorder"+(concurrent?"_MT":"")+"."+name+"(kernel,src,dst);\n" +
 					"\t\t\tConvolveNormalized_JustBorder_"+suffice+"."+name+"(kernel,src,dst);\n" +
 					"\t\t}\n");
 		}
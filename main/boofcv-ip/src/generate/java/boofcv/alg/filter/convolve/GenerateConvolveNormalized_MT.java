@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+/**
+ * Generates the concurrent version of {@link ConvolveNormalized}
+ *
+ * @author Peter Abeles
+ */
+public class GenerateConvolveNormalized_MT extends GenerateConvolveNormalized {
+
+	public GenerateConvolveNormalized_MT() {
+		concurrent = true;
+	}
+
+	public static void main(String[] args) {
+		GenerateConvolveNormalized_MT gen = new GenerateConvolveNormalized_MT();
+		gen.generate();
+	}
+}
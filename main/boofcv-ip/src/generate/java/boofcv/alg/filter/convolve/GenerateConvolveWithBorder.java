@@ -34,6 +34,9 @@ public class GenerateConvolveWithBorder extends CodeGeneratorBase {
 
 	int totalFunctions = 0;
 
+	// if true the inner portion of the image is convolved concurrently
+	protected boolean concurrent = false;
+
 	@Override
 	public void generate() {
 		printPreamble();
@@ -61,6 +64,11 @@ public class GenerateConvolveWithBorder extends CodeGeneratorBase {
 				" * <p>\n" +
 				" * Convolves a kernel across an image and handles the image border using the specified method.\n" +
 				" * </p>\n" +
+				(concurrent ?
+				" * <p>\n" +
+				" * Concurrent version.  The inner portion of the image is convolved using {@link ConvolveImageNoBorder_MT}\n" +
+				" * and the image border is processed in the calling thread.\n" +
+				" * </p>\n" : "") +
 				" * <p>Automatically generated by "+getClass().getSimpleName()+". DO NOT MODIFY</p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
@@ -126,7 +134,7 @@ public class GenerateConvolveWithBorder extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape"+suffice2+"(input, output);\n" +
 				"\n" +
 				"\t\tborder.setImage(input);\n" +
-				"\t\tConvolveImageNoBorder."+name+"(kernel,input,output);\n" +
+				"\t\tConvolveImageNoBorder"+(concurrent?"_MT":"")+"."+name+"(kernel,input,output);\n" +
 				"\t\tConvolveJustBorder_General_"+suffice+"."+name+"(kernel, border,output);\n" +
 				"\t}\n\n"
 		);
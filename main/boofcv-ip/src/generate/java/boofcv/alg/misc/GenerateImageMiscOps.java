@@ -25,13 +25,15 @@ import java.io.FileNotFoundException;
 
 
 /**
- * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps}.
+ * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps} and {@link boofcv.alg.misc.ImageMiscOps_MT}.
  *
  * @author Peter Abeles
  */
 public class GenerateImageMiscOps extends CodeGeneratorBase {
 
-	String className = "ImageMiscOps";
+	// if true then the concurrent variant is generated, which processes bands of rows in parallel.  Only
+	// functions which write to each row independently and don't use random numbers have a concurrent variant
+	protected boolean concurrent = false;
 
 	private AutoTypeImage imageType;
 	private String imageName;
@@ -46,15 +48,31 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
-		out.print("import boofcv.struct.image.*;\n" +
-				"\n" +
-				"import java.util.Random;\n" +
-				"\n" +
-				"\n" +
+		String concurrency;
+		if( concurrent ) {
+			out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+					"import boofcv.concurrency.ImageRowBands;\n" +
+					"import boofcv.concurrency.IntRangeConsumer;\n" +
+					"import boofcv.struct.image.*;\n" +
+					"\n");
+			concurrency = " * <p>Concurrent version of {@link ImageMiscOps}.  The image is split into bands of rows which are\n" +
+					" * processed in parallel.  The output is identical to the single threaded version.  Functions which use\n" +
+					" * random numbers or only touch a small part of the image are not included.</p>\n";
+		} else {
+			out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+					"import boofcv.struct.image.*;\n" +
+					"\n" +
+					"import java.util.Random;\n" +
+					"\n");
+			concurrency = " * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then functions which have\n" +
+					" * a concurrent implementation in {@link ImageMiscOps_MT} will use it.</p>\n";
+		}
+		out.print("\n" +
 				"/**\n" +
 				" * Basic image operations which have no place better to go.\n" +
 				" *\n" +
+				concurrency +
+				" *\n" +
 				" * <p>DO NOT MODIFY: Generated by " + getClass().getSimpleName() + ".</p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
@@ -75,6 +93,12 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 			printFillInterleaved_bands();
 			printFillBand_Interleaved();
 			printInsertBandInterleaved();
+			if( concurrent ) {
+				printFlipHorizontal();
+				printRotateCW_two();
+				printRotateCCW_two();
+				continue;
+			}
 			printFillBorder();
 			printFillRectangle();
 			printFillRectangleInterleaved();
@@ -92,6 +116,9 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 	}
 
 	public void printAllSpecific() {
+		if( concurrent )
+			return;
+
 		AutoTypeImage types[] = AutoTypeImage.getSpecificTypes();
 
 		for( AutoTypeImage t : types ) {
@@ -106,6 +133,50 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 		}
 	}
 
+	/**
+	 * Prints a loop through every row in the image.  The concurrent version splits the rows into bands which are
+	 * processed in parallel.
+	 *
+	 * @param image Name of the image whose rows are being processed
+	 * @param header Header of the serial loop
+	 * @param body Body of the loop.  Indented for the serial version.
+	 */
+	private void printRowLoop( String image , String header , String body ) {
+		if( concurrent ) {
+			out.print("\t\tImageRowBands.loopRows(" + image + ", new IntRangeConsumer() {\n" +
+					"\t\t\t@Override\n" +
+					"\t\t\tpublic void accept(int y0, int y1) {\n" +
+					"\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+					body.replaceAll("(?m)^(?=.)", "\t\t") +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n");
+		} else {
+			out.print("\t\t" + header + "\n" +
+					body +
+					"\t\t}\n");
+		}
+	}
+
+	/**
+	 * The serial version checks to see if it should use the concurrent version instead
+	 */
+	private void printDispatch( String funcName , String args ) {
+		if( concurrent )
+			return;
+		out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\t" + className + "_MT." + funcName + "(" + args + ");\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n\n");
+	}
+
+	/**
+	 * Variables referenced inside of the concurrent version's anonymous classes need to be final
+	 */
+	private String fin() {
+		return concurrent ? "final " : "";
+	}
+
 	public void printCopy() {
 		out.print("\t/**\n" +
 				"\t * Copies a rectangular region from one image into another.<br>\n" +
@@ -120,23 +191,38 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param input Input image\n" +
 				"\t * @param output output image\n" +
 				"\t */\n" +
-				"\tpublic static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,\n" +
-				"\t\t\t\t\t\t\t "+imageName+" input , "+imageName+" output ) {\n" +
+				"\tpublic static void copy( "+fin()+"int srcX , "+fin()+"int srcY , "+fin()+"int dstX , "+fin()+"int dstY , "+fin()+"int width , "+fin()+"int height ,\n" +
+				"\t\t\t\t\t\t\t "+fin()+imageName+" input , "+fin()+imageName+" output ) {\n" +
 				"\n" +
 				"\t\tif( input.width < srcX+width || input.height < srcY+height )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained input image\");\n" +
 				"\t\tif( output.width < dstX+width || output.height < dstY+height )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained output image\");\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < height; y++) {\n" +
+				"\n");
+		printDispatch("copy", "srcX, srcY, dstX, dstY, width, height, input, output");
+		String body =
 				"\t\t\tint indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;\n" +
 				"\t\t\tint indexDst = output.startIndex + (dstY + y) * output.stride + dstX;\n" +
 				"\n" +
 				"\t\t\tfor (int x = 0; x < width; x++) {\n" +
 				"\t\t\t\toutput.data[indexDst++] = input.data[indexSrc++];\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n";
+		if( concurrent ) {
+			// the region being copied might not start at the first row
+			out.print("\t\tBoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {\n" +
+					"\t\t\t@Override\n" +
+					"\t\t\tpublic void accept(int y0, int y1) {\n" +
+					"\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+					body.replaceAll("(?m)^(?=.)", "\t\t") +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n");
+		} else {
+			out.print("\t\tfor (int y = 0; y < height; y++) {\n" +
+					body +
+					"\t\t}\n");
+		}
+		out.print("\t}\n\n");
 	}
 
 	public void printFill()
@@ -148,15 +234,15 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param input An image.\n" +
 				"\t * @param value The value that the image is being filled with.\n" +
 				"\t */\n" +
-				"\tpublic static void fill("+imageName+" input, "+imageType.getSumType()+" value) {\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\tpublic static void fill("+fin()+imageName+" input, "+fin()+imageType.getSumType()+" value) {\n" +
+				"\n");
+		printDispatch("fill", "input, value");
+		printRowLoop("input", "for (int y = 0; y < input.height; y++) {",
 				"\t\t\tint index = input.getStartIndex() + y * input.getStride();\n" +
 				"\t\t\tfor (int x = 0; x < input.width; x++) {\n" +
 				"\t\t\t\tinput.data[index++] = "+typeCast+"value;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillInterleaved()
@@ -169,16 +255,16 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param input An image.\n" +
 				"\t * @param value The value that the image is being filled with.\n" +
 				"\t */\n" +
-				"\tpublic static void fill("+imageName+" input, "+imageType.getSumType()+" value) {\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\tpublic static void fill("+fin()+imageName+" input, "+fin()+imageType.getSumType()+" value) {\n" +
+				"\n");
+		printDispatch("fill", "input, value");
+		printRowLoop("input", "for (int y = 0; y < input.height; y++) {",
 				"\t\t\tint index = input.getStartIndex() + y * input.getStride();\n" +
 				"\t\t\tint end = index + input.width*input.numBands;\n" +
 				"\t\t\tfor (; index < end; index++ ) {\n" +
 				"\t\t\t\tinput.data[index] = "+typeCast+"value;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillInterleaved_bands()
@@ -192,10 +278,11 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param input An image.\n" +
 				"\t * @param values Array which contains the values each band is to be filled with.\n" +
 				"\t */\n" +
-				"\tpublic static void fill("+imageName+" input, "+imageType.getSumType()+"[] values) {\n" +
-				"\n" +
-				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\tpublic static void fill("+fin()+imageName+" input, "+fin()+imageType.getSumType()+"[] values) {\n" +
+				"\n");
+		printDispatch("fill", "input, values");
+		out.print("\t\tfinal int numBands = input.numBands;\n");
+		printRowLoop("input", "for (int y = 0; y < input.height; y++) {",
 				"\t\t\tfor( int band = 0; band < numBands; band++ ) {\n" +
 				"\t\t\t\tint index = input.getStartIndex() + y * input.getStride() + band;\n" +
 				"\t\t\t\tint end = index + input.width*numBands - band;\n" +
@@ -203,9 +290,8 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t\t\t\tfor (; index < end; index += numBands ) {\n" +
 				"\t\t\t\t\tinput.data[index] = "+typeCast+"value;\n" +
 				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillBand_Interleaved()
@@ -220,17 +306,17 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param band Which band is to be filled with the specified value   \n" +
 				"\t * @param value The value that the image is being filled with.\n" +
 				"\t */\n" +
-				"\tpublic static void fillBand("+imageName+" input, int band , "+imageType.getSumType()+" value) {\n" +
-				"\n" +
-				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\tpublic static void fillBand("+fin()+imageName+" input, "+fin()+"int band , "+fin()+imageType.getSumType()+" value) {\n" +
+				"\n");
+		printDispatch("fillBand", "input, band, value");
+		out.print("\t\tfinal int numBands = input.numBands;\n");
+		printRowLoop("input", "for (int y = 0; y < input.height; y++) {",
 				"\t\t\tint index = input.getStartIndex() + y * input.getStride() + band;\n" +
 				"\t\t\tint end = index + input.width*numBands - band;\n" +
 				"\t\t\tfor (; index < end; index += numBands ) {\n" +
 				"\t\t\t\tinput.data[index] = "+typeCast+"value;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printInsertBandInterleaved()
@@ -245,18 +331,18 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param band Which band the image is to be inserted into\n" +
 				"\t * @param output The multi-band image which the input image is to be inserted into\n" +
 				"\t */\n" +
-				"\tpublic static void insertBand( "+singleName+" input, int band , "+interleavedName+" output) {\n" +
-				"\n" +
-				"\t\tfinal int numBands = output.numBands;\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\tpublic static void insertBand( "+fin()+singleName+" input, "+fin()+"int band , "+fin()+interleavedName+" output) {\n" +
+				"\n");
+		printDispatch("insertBand", "input, band, output");
+		out.print("\t\tfinal int numBands = output.numBands;\n");
+		printRowLoop("input", "for (int y = 0; y < input.height; y++) {",
 				"\t\t\tint indexIn = input.getStartIndex() + y * input.getStride();\n" +
 				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride() + band;\n" +
 				"\t\t\tint end = indexOut + output.width*numBands - band;\n" +
 				"\t\t\tfor (; indexOut < end; indexOut += numBands , indexIn++ ) {\n" +
 				"\t\t\t\toutput.data[indexOut] = input.data[indexIn];\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillBorder()
@@ -674,10 +760,11 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 		out.print("\t/**\n" +
 				"\t * Flips the image from left to right\n" +
 				"\t */\n" +
-				"\tpublic static void flipHorizontal( "+imageName+" input ) {\n" +
-				"\t\tint w2 = input.width/2;\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\tpublic static void flipHorizontal( "+fin()+imageName+" input ) {\n");
+		printDispatch("flipHorizontal", "input");
+		out.print("\t\t"+fin()+"int w2 = input.width/2;\n" +
+				"\n");
+		printRowLoop("input", "for( int y = 0; y < input.height; y++ ) {",
 				"\t\t\tint index1 = input.getStartIndex() + y * input.getStride();\n" +
 				"\t\t\tint index2 = index1 + input.width-1;\n" +
 				"\n" +
@@ -687,9 +774,8 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t\t\t\t"+sumType+" tmp = input.data[index1];\n" +
 				"\t\t\t\tinput.data[index1++] = input.data[index2];\n" +
 				"\t\t\t\tinput.data[index2--] = ("+dataType+")tmp;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printRotateCW_one() {
@@ -731,19 +817,19 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 		out.print("\t/**\n" +
 				"\t * Rotates the image 90 degrees in the clockwise direction.\n" +
 				"\t */\n" +
-				"\tpublic static void rotateCW( "+imageName+" input , "+imageName+" output ) {\n" +
+				"\tpublic static void rotateCW( "+fin()+imageName+" input , "+fin()+imageName+" output ) {\n" +
 				"\t\tif( input.width != output.height || input.height != output.width )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Incompatible shapes\");\n" +
-				"\n" +
-				"\t\tint h = input.height-1;\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\n");
+		printDispatch("rotateCW", "input, output");
+		out.print("\t\t"+fin()+"int h = input.height-1;\n" +
+				"\n");
+		printRowLoop("input", "for( int y = 0; y < input.height; y++ ) {",
 				"\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
 				"\t\t\tfor (int x = 0; x < input.width; x++) {\n" +
 				"\t\t\t\toutput.unsafe_set(h-y,x,input.data[indexIn++]);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printRotateCCW_one() {
@@ -785,19 +871,19 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 		out.print("\t/**\n" +
 				"\t * Rotates the image 90 degrees in the counter-clockwise direction.\n" +
 				"\t */\n" +
-				"\tpublic static void rotateCCW( "+imageName+" input , "+imageName+" output ) {\n" +
+				"\tpublic static void rotateCCW( "+fin()+imageName+" input , "+fin()+imageName+" output ) {\n" +
 				"\t\tif( input.width != output.height || input.height != output.width )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Incompatible shapes\");\n" +
-				"\n" +
-				"\t\tint w = input.width-1;\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\n");
+		printDispatch("rotateCCW", "input, output");
+		out.print("\t\t"+fin()+"int w = input.width-1;\n" +
+				"\n");
+		printRowLoop("input", "for( int y = 0; y < input.height; y++ ) {",
 				"\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
 				"\t\t\tfor (int x = 0; x < input.width; x++) {\n" +
 				"\t\t\t\toutput.unsafe_set(y,w-x,input.data[indexIn++]);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
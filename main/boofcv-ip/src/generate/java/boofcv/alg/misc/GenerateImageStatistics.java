@@ -46,10 +46,14 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 		out.print("import boofcv.struct.image.*;\n" +
 				"import javax.annotation.Generated;\n" +
 				"import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"\n" +
 				"/**\n" +
 				" * Computes statistical properties of pixels inside an image.\n" +
 				" *\n" +
+				" * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then functions which have a concurrent\n" +
+				" * implementation in {@link ImageStatistics_MT} will use it.</p>\n" +
+				" *\n" +
 				" * <p>DO NOT MODIFY: Generated by "+getClass().getName()+"</p>.\n"+
 				" *\n"+
 				" * @author Peter Abeles\n" +
@@ -89,6 +93,15 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 		}
 	}
 
+	/**
+	 * Code which passes the call on to the concurrent implementation when concurrency is turned on
+	 */
+	private static String dispatch( String call ) {
+		return "\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\treturn ImageStatistics_MT."+call+";\n" +
+				"\t\t}\n";
+	}
+
 	public void printHistogram() {
 		String sumType = input.getSumType();
 
@@ -100,6 +113,11 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
 				"\t */\n" +
 				"\tpublic static void histogram( "+input.getSingleBandName()+" input , "+sumType+" minValue , int histogram[] ) {\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImageStatistics_MT.histogram(input,minValue,histogram);\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
+				"\n" +
 				"\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
 				"\t\t\thistogram[i] = 0;\n" +
 				"\t\t\n" +
@@ -213,6 +231,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param img Input image. Not modified.\n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" sum( "+input.getImageName(family)+" img ) {\n" +
+				dispatch("sum(img)") +
 				"\n" +
 				"\t\tfinal int rows = img.height;\n" +
 				"\t\tfinal int columns = img.width"+columns+";\n" +
@@ -260,6 +279,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @return Pixel variance   \n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" variance( "+input.getSingleBandName()+" img , "+sumType+" mean ) {\n" +
+				dispatch("variance(img,mean)") +
 				"\n" +
 				"\t\t"+sumType+" variance = 0;\n" +
 				"\n" +
@@ -440,6 +460,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 
 			out.println(javaDoc);
 			out.print("\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
+					dispatch(name+"(input)") +
 					"\t\treturn "+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
 					"\t}\n\n");
 		}
@@ -490,6 +511,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			out.println(javaDoc);
 			out.print("\tpublic static double "+name+"("+imageName+" imgA, "+imageName+" imgB ) {\n" +
 					"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
+					dispatch(name+"(imgA,imgB)") +
 					"\t\treturn "+nameUn+"(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,\n" +
 					"\t\t\t\timgA.height, "+columns+");\n" +
 					"\t}\n\n");
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageType;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Generates {@link ImageStatistics_MT}, the concurrent version of {@link ImageStatistics}.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImageStatistics_MT extends CodeGeneratorBase {
+
+	private AutoTypeImage input;
+
+	ImageType.Family families[] = new ImageType.Family[]{ImageType.Family.GRAY,ImageType.Family.INTERLEAVED};
+
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+
+		for( AutoTypeImage t : AutoTypeImage.getSpecificTypes() ) {
+			input = t;
+
+			printExtreme("min","Returns the minimum element value.","Minimum pixel value.","<",false);
+			printExtreme("max","Returns the maximum element value.","Maximum pixel value.",">",false);
+			printExtreme("maxAbs","Returns the maximum element absolute value.","Maximum pixel absolute value.",">",true);
+			printDifference("meanDiffSq","<p>Computes the mean squared error (MSE) between the two images.</p>",
+					"difference*difference");
+			printDifference("meanDiffAbs","<p>Computes the mean of absolute value error between the two images.</p>",
+					"Math.abs(difference)");
+			printSum();
+			printVariance();
+			printHistogram();
+		}
+
+		out.println("}");
+	}
+
+	private void printPreamble() {
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.ImageRowBands;\n" +
+				"import boofcv.concurrency.IntRangeConsumer;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"import javax.annotation.Generated;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent version of {@link ImageStatistics}.  Statistics are computed for blocks of rows in parallel and\n" +
+				" * then combined.  Calling these functions directly will always run concurrently, independent of\n" +
+				" * {@link BoofConcurrency#USE_CONCURRENT}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * Results are deterministic.  Blocks always have {@link #BLOCK_ROWS} rows, no matter how many threads there\n" +
+				" * are, and their results are combined in order.  Integer results and min/max are identical to\n" +
+				" * {@link ImageStatistics}.  Floating point sums are computed in a different order than the single threaded\n" +
+				" * version, so they can differ from it by round off error, but are the same for any number of threads.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by "+getClass().getName()+"</p>.\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				generatedString() +
+				"public class "+className+" {\n\n" +
+				"\t/**\n" +
+				"\t * Number of rows in each block that partial results are computed for.\n" +
+				"\t */\n" +
+				"\tpublic static final int BLOCK_ROWS = 64;\n\n");
+	}
+
+	/**
+	 * Low level functions which process raw arrays need a different name for signed and unsigned types since
+	 * they use the same array type
+	 */
+	private String lowName( String name ) {
+		return name + (input.isSigned() ? "" : "U");
+	}
+
+	/**
+	 * Prints the code which computes the partial results for each block of rows
+	 */
+	private void printBlocks( String image , String resultType , String call ) {
+		out.print("\t\tfinal "+resultType+"[] results = new "+resultType+"[BoofConcurrency.computeNumBlocksFixed("+image+".height,BLOCK_ROWS)];\n" +
+				"\t\tBoofConcurrency.loopBlocksFixed(0, "+image+".height, BLOCK_ROWS, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int y0, int y1) {\n" +
+				"\t\t\t\tresults[y0/BLOCK_ROWS] = "+call+";\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n");
+	}
+
+	public void printExtreme( String name , String description , String returnDoc , String comparison ,
+							  boolean absolute ) {
+		String sumType = input.getSumType();
+		String nameLow = lowName(name);
+
+		for( ImageType.Family family : families ) {
+			String columns = family == ImageType.Family.INTERLEAVED ? "input.width*input.numBands" : "input.width";
+
+			out.print("\t/**\n" +
+					"\t * "+description+"\n" +
+					"\t * \n" +
+					"\t * @param input Input image. Not modified.\n" +
+					"\t * @return "+returnDoc+"\n" +
+					"\t */\n" +
+					"\tpublic static "+sumType+" "+name+"( final "+input.getImageName(family)+" input ) {\n" +
+					"\t\tfinal int columns = "+columns+";\n");
+			printBlocks("input", sumType, nameLow+"(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride)");
+			out.print("\n" +
+					"\t\t"+sumType+" output = results[0];\n" +
+					"\t\tfor (int i = 1; i < results.length; i++) {\n" +
+					"\t\t\tif( results[i] "+comparison+" output )\n" +
+					"\t\t\t\toutput = results[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn output;\n" +
+					"\t}\n\n");
+		}
+
+		String value = absolute && input.isSigned() ? "Math.abs(array[index])" : "array[index] "+input.getBitWise();
+
+		out.print("\tprivate static "+sumType+" "+nameLow+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ) {\n" +
+				"\n" +
+				"\t\t"+sumType+" output = "+value.replace("index","startIndex")+";\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
+				"\t\t\tint index = startIndex + y*stride;\n" +
+				"\t\t\tint end = index + columns;\n" +
+				"\n" +
+				"\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t"+sumType+" v = "+value+";\n" +
+				"\t\t\t\tif( v "+comparison+" output )\n" +
+				"\t\t\t\t\toutput = v;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	public void printDifference( String name , String description , String operation ) {
+		String sumType = input.getSumType();
+		String dataType = input.getDataType();
+		String bitWise = input.getBitWise();
+		String nameLow = lowName(name);
+
+		for( ImageType.Family family : families ) {
+			String columns = family == ImageType.Family.INTERLEAVED ? "imgA.width*imgA.numBands" : "imgA.width";
+			String imageName = input.getImageName(family);
+
+			out.print("\t/**\n" +
+					"\t * "+description+"\n" +
+					"\t *\n" +
+					"\t * @param imgA first image. Not modified.\n" +
+					"\t * @param imgB second image. Not modified.\n" +
+					"\t * @return error between the two images.\n" +
+					"\t */\n" +
+					"\tpublic static double "+name+"( final "+imageName+" imgA, final "+imageName+" imgB ) {\n" +
+					"\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
+					"\t\tfinal int columns = "+columns+";\n");
+			printBlocks("imgA", sumType, nameLow+"(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,\n" +
+					"\t\t\t\t\t\timgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns)");
+			out.print("\n" +
+					"\t\t"+sumType+" total = 0;\n" +
+					"\t\tfor (int i = 0; i < results.length; i++) {\n" +
+					"\t\t\ttotal += results[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn total / (double)(imgA.height*columns);\n" +
+					"\t}\n\n");
+		}
+
+		out.print("\tprivate static "+sumType+" "+nameLow+"("+dataType+" []dataA, int startIndexA , int strideA,\n" +
+				"\t\t\t\t\t\t\t\t\t"+dataType+" []dataB, int startIndexB , int strideB,\n" +
+				"\t\t\t\t\t\t\t\t\tint rows , int columns ) {\n" +
+				"\t\t"+sumType+" total = 0;\n" +
+				"\n" +
+				"\t\tfor (int y = 0; y < rows; y++) {\n" +
+				"\t\t\tint indexA = startIndexA + y * strideA;\n" +
+				"\t\t\tint indexB = startIndexB + y * strideB;\n" +
+				"\t\t\t\n" +
+				"\t\t\tint indexEnd = indexA+columns;\n" +
+				"\t\t\t\n" +
+				"\t\t\tfor (; indexA < indexEnd; indexA++,indexB++) {\n" +
+				"\t\t\t\t"+sumType+" difference = (dataA[indexA]"+bitWise+")-(dataB[indexB]"+bitWise+");\n" +
+				"\t\t\t\ttotal += "+operation+";\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn total;\n" +
+				"\t}\n\n");
+	}
+
+	public void printSum() {
+		String sumType = input.getSumType();
+		String meanType = input.isInteger() ? "double" : sumType;
+		String nameLow = lowName("sum");
+
+		for( ImageType.Family family : families ) {
+			String columns = family == ImageType.Family.INTERLEAVED ? "img.width*img.numBands" : "img.width";
+			String imageName = input.getImageName(family);
+
+			out.print("\t/**\n" +
+					"\t * <p>\n" +
+					"\t * Returns the sum of all the pixels in the image.\n" +
+					"\t * </p>\n" +
+					"\t * \n" +
+					"\t * @param img Input image. Not modified.\n" +
+					"\t */\n" +
+					"\tpublic static "+sumType+" sum( final "+imageName+" img ) {\n" +
+					"\t\tfinal int columns = "+columns+";\n");
+			printBlocks("img", sumType, nameLow+"(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride)");
+			out.print("\n" +
+					"\t\t"+sumType+" total = 0;\n" +
+					"\t\tfor (int i = 0; i < results.length; i++) {\n" +
+					"\t\t\ttotal += results[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn total;\n" +
+					"\t}\n\n");
+
+			out.print("\t/**\n" +
+					"\t * Returns the mean pixel intensity value.\n" +
+					"\t * \n" +
+					"\t * @param img Input image.  Not modified.\n" +
+					"\t * @return Mean pixel intensity value\n" +
+					"\t */\n" +
+					"\tpublic static "+meanType+" mean( "+imageName+" img ) {\n" +
+					"\t\treturn sum(img)/("+meanType+")("+columns+"*img.height);\n" +
+					"\t}\n\n");
+		}
+
+		out.print("\tprivate static "+sumType+" "+nameLow+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ) {\n" +
+				"\n" +
+				"\t\t"+sumType+" total = 0;\n" +
+				"\n" +
+				"\t\tfor (int y = 0; y < rows; y++) {\n" +
+				"\t\t\tint index = startIndex + y * stride;\n" +
+				"\n" +
+				"\t\t\tint indexEnd = index+columns;\n" +
+				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
+				"\t\t\t\ttotal += array[index] "+input.getBitWise()+";\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\treturn total;\n" +
+				"\t}\n\n");
+	}
+
+	public void printVariance() {
+		String sumType = input.isInteger() ? "double" : input.getSumType();
+		String nameLow = lowName("variance");
+
+		out.print("\t/**\n" +
+				"\t * Computes the variance of pixel intensity values inside the image.\n" +
+				"\t *\n" +
+				"\t * @param img Input image. Not modified.\n" +
+				"\t * @param mean Mean pixel intensity value.   \n" +
+				"\t * @return Pixel variance   \n" +
+				"\t */\n" +
+				"\tpublic static "+sumType+" variance( final "+input.getSingleBandName()+" img , final "+sumType+" mean ) {\n");
+		printBlocks("img", sumType, nameLow+"(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean)");
+		out.print("\n" +
+				"\t\t"+sumType+" variance = 0;\n" +
+				"\t\tfor (int i = 0; i < results.length; i++) {\n" +
+				"\t\t\tvariance += results[i];\n" +
+				"\t\t}\n" +
+				"\t\treturn variance/(img.width*img.height);\n" +
+				"\t}\n\n");
+
+		out.print("\tprivate static "+sumType+" "+nameLow+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ,\n" +
+				"\t\t\t\t\t\t\t\t\t  "+sumType+" mean ) {\n" +
+				"\n" +
+				"\t\t"+sumType+" variance = 0;\n" +
+				"\n" +
+				"\t\tfor (int y = 0; y < rows; y++) {\n" +
+				"\t\t\tint index = startIndex + y * stride;\n" +
+				"\n" +
+				"\t\t\tint indexEnd = index+columns;\n" +
+				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
+				"\t\t\t\t"+sumType+" d = (array[index]"+input.getBitWise()+") - mean;\n" +
+				"\t\t\t\tvariance += d*d;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\treturn variance;\n" +
+				"\t}\n\n");
+	}
+
+	public void printHistogram() {
+		String sumType = input.getSumType();
+		String nameLow = lowName("histogram");
+
+		out.print("\t/**\n" +
+				"\t * Computes the histogram of intensity values for the image.  Each band of rows is counted in\n" +
+				"\t * its own histogram, which is then added to the output.\n" +
+				"\t * \n" +
+				"\t * @param input (input) Image.\n" +
+				"\t * @param minValue (input) Minimum possible intensity value   \n" +
+				"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
+				"\t */\n" +
+				"\tpublic static void histogram( final "+input.getSingleBandName()+" input , final "+sumType+" minValue , final int histogram[] ) {\n" +
+				"\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
+				"\t\t\thistogram[i] = 0;\n" +
+				"\n" +
+				"\t\tImageRowBands.loopRows(input, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int y0, int y1) {\n" +
+				"\t\t\t\tint[] local = new int[histogram.length];\n" +
+				"\t\t\t\t"+nameLow+"(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,\n" +
+				"\t\t\t\t\t\tminValue, local);\n" +
+				"\t\t\t\tsynchronized( histogram ) {\n" +
+				"\t\t\t\t\tfor( int i = 0; i < local.length; i++ )\n" +
+				"\t\t\t\t\t\thistogram[i] += local[i];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+
+		String bin;
+		if( input.isInteger() && input.getNumBits() != 64 )
+			bin = "(array[index]"+input.getBitWise()+") - minValue";
+		else
+			bin = "(int)(array[index] - minValue)";
+
+		out.print("\tprivate static void "+nameLow+"( "+input.getDataType()+"[] array , int startIndex , int rows , int columns , int stride ,\n" +
+				"\t\t\t\t\t\t\t\t   "+sumType+" minValue , int histogram[] ) {\n" +
+				"\t\tfor( int y = 0; y < rows; y++ ) {\n" +
+				"\t\t\tint index = startIndex + y*stride;\n" +
+				"\t\t\tint end = index + columns;\n" +
+				"\n" +
+				"\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\thistogram["+bin+"]++;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImageStatistics_MT gen = new GenerateImageStatistics_MT();
+		gen.generate();
+	}
+}
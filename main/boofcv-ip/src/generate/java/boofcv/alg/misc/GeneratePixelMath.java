@@ -30,13 +30,14 @@ import static boofcv.misc.AutoTypeImage.*;
 
 
 /**
- * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps}.
+ * Generates functions inside of {@link boofcv.alg.misc.PixelMath} and {@link boofcv.alg.misc.PixelMath_MT}.
  *
  * @author Peter Abeles
  */
 public class GeneratePixelMath extends CodeGeneratorBase {
 
-	String className = "PixelMath";
+	// if true then the concurrent variant is generated, which processes bands of rows in parallel
+	protected boolean concurrent = false;
 
 	private AutoTypeImage input;
 
@@ -65,16 +66,29 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
+		String concurrency;
+		if( concurrent ) {
+			out.print("import boofcv.alg.InputSanityCheck;\n" +
+					"import boofcv.concurrency.ImageRowBands;\n" +
+					"import boofcv.concurrency.IntRangeConsumer;\n");
+			concurrency = " * <p>Concurrent version of {@link PixelMath}.  The image is split into bands of rows which are\n" +
+					" * processed in parallel.  The output is identical to the single threaded version.  Calling these functions\n" +
+					" * directly will always run concurrently, independent of {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT}.</p>\n";
+		} else {
+			out.print("import boofcv.alg.InputSanityCheck;\n" +
+					"import boofcv.concurrency.BoofConcurrency;\n");
+			concurrency = " * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link PixelMath_MT} is used.</p>\n";
+		}
 		out.print("import boofcv.struct.image.*;\n" +
 				"\n" +
-				"import boofcv.alg.InputSanityCheck;\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
 				" * Functions which perform basic arithmetic (e.g. addition, subtraction, multiplication, or " +
 				"division) on a pixel by pixel basis.\n" +
 				" *\n" +
+				concurrency +
+				" *\n" +
 				" * <p>DO NOT MODIFY: Generated by " + getClass().getName() + ".</p>\n" +
 				" *\n" +
 				" * @author Peter Abeles\n" +
@@ -125,16 +139,13 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 					columns = "input.width";
 				}
 
-				out.println(javadoc + "\n" +
-						"\tpublic static void " + funcName + "( " + inputName + " input , " + inputName + " output ) {\n" +
+				out.print(javadoc + "\n" +
+						"\tpublic static void " + funcName + "( " + fin() + inputName + " input , " + fin() + inputName + " output ) {\n" +
 						"\n" +
 						"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-						"\n" +
-						"\t\tint columns = " + columns + ";\n" +
-						"\t\t" + funcName + "(input.data,input.startIndex,input.stride,\n" +
-						"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-						"\t\t\t\tinput.height,columns);\n" +
-						"\t}\n");
+						"\n");
+				printDispatch(funcName, "input,output");
+				printArrayCall(funcName, columns, "");
 			}
 			printArray(funcName,operation);
 		}
@@ -217,42 +228,41 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 					String sumType = input.getSumType();
 
 					String prototype;
+					String args;
 					if (template.isImageFirst()) {
-						prototype = "( " + inputName + " input , " + variableType + " " + varName +
-								" , " + sumType +" lower , " +sumType+ " upper , " + inputName + " output )";
+						prototype = "( " + fin() + inputName + " input , " + fin() + variableType + " " + varName +
+								" , " + fin() + sumType +" lower , " + fin() + sumType+ " upper , " + fin() + inputName + " output )";
+						args = "input," + varName + ",lower,upper,output";
 					} else {
-						prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " +
-								sumType +" lower , " +sumType+ " upper , " + inputName + " output )";;
+						prototype = "( " + fin() + variableType + " " + varName + " , " + fin() + inputName + " input , " +
+								fin() + sumType +" lower , " + fin() + sumType+ " upper , " + fin() + inputName + " output )";
+						args = varName + ",input,lower,upper,output";
 					}
 
 					out.println(template.getJavaDoc());
-					out.println("\tpublic static void " + funcName + prototype + " {\n" +
+					out.print("\tpublic static void " + funcName + prototype + " {\n" +
 							"\n" +
 							"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-							"\n" +
-							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
-							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
-							"\t}\n");
+							"\n");
+					printDispatch(funcName, args);
+					printArrayCall(funcArrayName, columns, varName + ", lower, upper ,");
 				} else {
-					String prototype;
+					String prototype, args;
 					if (template.isImageFirst()) {
-						prototype = "( " + inputName + " input , " + variableType + " " + varName + " , " + inputName + " output )";
+						prototype = "( " + fin() + inputName + " input , " + fin() + variableType + " " + varName + " , " + fin() + inputName + " output )";
+						args = "input," + varName + ",output";
 					} else {
-						prototype = "( " + variableType + " " + varName + " , " + inputName + " input , " + inputName + " output )";
+						prototype = "( " + fin() + variableType + " " + varName + " , " + fin() + inputName + " input , " + fin() + inputName + " output )";
+						args = varName + ",input,output";
 					}
 
 					out.println(template.getJavaDoc());
-					out.println("\tpublic static void " + funcName + prototype + " {\n" +
+					out.print("\tpublic static void " + funcName + prototype + " {\n" +
 							"\n" +
 							"\t\tInputSanityCheck.checkSameShape"+banded+"(input,output);\n" +
-							"\n" +
-							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
-							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
-							"\t}\n");
+							"\n");
+					printDispatch(funcName, args);
+					printArrayCall(funcArrayName, columns, varName + " , ");
 				}
 			}
 			if( bounded ) {
@@ -313,6 +323,74 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t}\n");
 	}
 
+	/**
+	 * Prints the call to the low level function which processes raw arrays.  The concurrent version calls it once
+	 * for each band of rows.
+	 */
+	private void printArrayCall( String funcArrayName , String columns , String scalars ) {
+		out.print("\t\t" + fin() + "int columns = " + columns + ";\n");
+		if( concurrent ) {
+			out.print("\t\tImageRowBands.loopRows(input, new IntRangeConsumer() {\n" +
+					"\t\t\t@Override\n" +
+					"\t\t\tpublic void accept(int y0, int y1) {\n" +
+					"\t\t\t\t" + funcArrayName + "(input.data,input.startIndex + y0*input.stride,input.stride," + scalars + "\n" +
+					"\t\t\t\t\t\toutput.data,output.startIndex + y0*output.stride,output.stride,\n" +
+					"\t\t\t\t\t\ty1-y0,columns);\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n" +
+					"\t}\n\n");
+		} else {
+			out.print("\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + scalars + "\n" +
+					"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
+					"\t\t\t\tinput.height,columns);\n" +
+					"\t}\n\n");
+		}
+	}
+
+	/**
+	 * Prints a loop through every row in the image.  The concurrent version splits the rows into bands which are
+	 * processed in parallel.
+	 *
+	 * @param image Name of the image whose rows are being processed
+	 * @param rows Number of rows in the image
+	 * @param body Body of the loop.  Indented for the serial version.
+	 */
+	private void printRowLoop( String image , String rows , String body ) {
+		if( concurrent ) {
+			out.print("\t\tImageRowBands.loopRows(" + image + ", new IntRangeConsumer() {\n" +
+					"\t\t\t@Override\n" +
+					"\t\t\tpublic void accept(int y0, int y1) {\n" +
+					"\t\t\t\tfor (int y = y0; y < y1; y++) {\n" +
+					body.replaceAll("(?m)^(?=.)", "\t\t") +
+					"\t\t\t\t}\n" +
+					"\t\t\t}\n" +
+					"\t\t});\n");
+		} else {
+			out.print("\t\tfor (int y = 0; y < " + rows + "; y++) {\n" +
+					body +
+					"\t\t}\n");
+		}
+	}
+
+	/**
+	 * The serial version checks to see if it should use the concurrent version instead
+	 */
+	private void printDispatch( String funcName , String args ) {
+		if( concurrent )
+			return;
+		out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\t" + className + "_MT." + funcName + "(" + args + ");\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n\n");
+	}
+
+	/**
+	 * Variables referenced inside of the concurrent version's anonymous classes need to be final
+	 */
+	private String fin() {
+		return concurrent ? "final " : "";
+	}
+
 	public void printBoundImage() {
 
 		String bitWise = input.getBitWise();
@@ -325,13 +403,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param min minimum value.\n" +
 				"\t * @param max maximum value.\n" +
 				"\t */\n" +
-				"\tpublic static void boundImage( "+input.getSingleBandName()+" img , "+sumType+" min , "+sumType+" max ) {\n" +
-				"\t\tfinal int h = img.getHeight();\n" +
+				"\tpublic static void boundImage( "+fin()+input.getSingleBandName()+" img , "+fin()+sumType+" min , "+fin()+sumType+" max ) {\n");
+		printDispatch("boundImage", "img,min,max");
+		out.print("\t\tfinal int h = img.getHeight();\n" +
 				"\t\tfinal int w = img.getWidth();\n" +
 				"\n" +
-				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
+				"\t\t"+fin()+input.getDataType()+"[] data = img.data;\n" +
+				"\n");
+		printRowLoop("img", "h",
 				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
 				"\t\t\tint indexEnd = index+w;\n" +
 				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
@@ -341,9 +420,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
 				"\t\t\t\telse if( value > max )\n" +
 				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printDiffAbs() {
@@ -360,13 +438,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param diff Absolute value of difference image. Modified.\n" +
 				"\t */\n" +
-				"\tpublic static void diffAbs( "+input.getSingleBandName()+" imgA , "+input.getSingleBandName()+" imgB , "+input.getSingleBandName()+" diff ) {\n" +
+				"\tpublic static void diffAbs( "+fin()+input.getSingleBandName()+" imgA , "+fin()+input.getSingleBandName()+" imgB , "+fin()+input.getSingleBandName()+" diff ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,diff);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
+				"\t\t\n");
+		printDispatch("diffAbs", "imgA,imgB,diff");
+		out.print("\t\tfinal int h = imgA.getHeight();\n" +
 				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
+				"\n");
+		printRowLoop("imgA", "h",
 				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
 				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
 				"\t\t\tint indexDiff = diff.getStartIndex() + y * diff.getStride();\n" +
@@ -375,32 +454,28 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
 				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {\n" +
 				"\t\t\t\tdiff.data[indexDiff] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
-	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
-
+	/**
+	 * Prints a function which combines two images together pixel by pixel
+	 */
+	private void printTwoImages( String funcName , String javaDoc , String operator ,
+								 AutoTypeImage typeIn , AutoTypeImage typeOut ) {
 		String bitWise = typeIn.getBitWise();
 		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
 
-		out.print("\t/**\n" +
-				"\t * <p>\n" +
-				"\t * Performs pixel-wise addition<br>\n" +
-				"\t * output(x,y) = imgA(x,y) + imgB(x,y)\n" +
-				"\t * </p>\n" +
-				"\t * @param imgA Input image. Not modified.\n" +
-				"\t * @param imgB Input image. Not modified.\n" +
-				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void add( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
+		out.print(javaDoc +
+				"\tpublic static void "+funcName+"( "+fin()+typeIn.getSingleBandName()+" imgA , "+fin()+typeIn.getSingleBandName()+" imgB , "
+				+fin()+typeOut.getSingleBandName()+" output ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
+				"\t\t\n");
+		printDispatch(funcName, "imgA,imgB,output");
+		out.print("\t\tfinal int h = imgA.getHeight();\n" +
 				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
+				"\n");
+		printRowLoop("imgA", "h",
 				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
 				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
 				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
@@ -408,18 +483,27 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\t\tint indexEnd = indexA+w;\n" +
 				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
 				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") + (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") "+operator+" (imgB.data[indexB] "+bitWise+"));\n" +
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
-	public void printSubtractTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
+	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
+		printTwoImages("add",
+				"\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise addition<br>\n" +
+				"\t * output(x,y) = imgA(x,y) + imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n", "+", typeIn, typeOut);
+	}
 
-		out.print("\t/**\n" +
+	public void printSubtractTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		printTwoImages("subtract",
+				"\t/**\n" +
 				"\t * <p>\n" +
 				"\t * Performs pixel-wise subtraction.<br>\n" +
 				"\t * output(x,y) = imgA(x,y) - imgB(x,y)\n" +
@@ -427,34 +511,12 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void subtract( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "
-				+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n", "-", typeIn, typeOut);
 	}
 
 	public void printMultTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
+		printTwoImages("multiply",
+				"\t/**\n" +
 				"\t * <p>\n" +
 				"\t * Performs pixel-wise multiplication<br>\n" +
 				"\t * output(x,y) = imgA(x,y) * imgB(x,y)\n" +
@@ -462,143 +524,93 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void multiply( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
+				"\t */\n", "*", typeIn, typeOut);
+	}
+
+	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
+		printTwoImages("divide",
+				"\t/**\n" +
+				"\t * <p>\n" +
+				"\t * Performs pixel-wise division<br>\n" +
+				"\t * output(x,y) = imgA(x,y) / imgB(x,y)\n" +
+				"\t * </p>\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n", "/", typeIn, typeOut);
+	}
+
+	/**
+	 * Prints a function which applies an operation to each pixel in the input image and writes the results
+	 * into the output image
+	 */
+	private void printUnary( String funcName , String javaDoc , String body ,
+							 AutoTypeImage typeIn , AutoTypeImage typeOut ) {
+		out.print(javaDoc +
+				"\tpublic static void "+funcName+"( "+fin()+typeIn.getSingleBandName()+" input , "+fin()+typeOut.getSingleBandName()+" output ) {\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") * (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
+				"\n");
+		printDispatch(funcName, "input,output");
+		printRowLoop("input", "input.height",
+				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
+				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				body +
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 	public void printLog( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
 		String bitWise = typeIn.getBitWise();
 		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
 
-		out.print("\t/**\n" +
+		printUnary("log",
+				"\t/**\n" +
 				"\t * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.\n" +
 				"\t * Both the input and output image can be the same instance.\n" +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the log image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void log( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n",
+				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n",
+				typeIn, typeOut);
 	}
 
 	public void printPow2( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
 		String bitWise = typeIn.getBitWise();
 
-		out.print("\t/**\n" +
+		printUnary("pow2",
+				"\t/**\n" +
 				"\t * Raises each pixel in the input image to the power of two. Both the input and output image can be the \n" +
 				"\t * same instance." +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the pow2 image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void pow2( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
+				"\t */\n",
 				"\t\t\t\t"+typeOut.getDataType()+" v = input.data[indexSrc]"+bitWise+";\n" +
-				"\t\t\t\toutput.data[indexDst] = v*v;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t\toutput.data[indexDst] = v*v;\n",
+				typeIn, typeOut);
 	}
 
 	public void printSqrt( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
 		String bitWise = typeIn.getBitWise();
 		String typeCast = typeOut != AutoTypeImage.F64 ? "("+typeOut.getDataType()+")" : "";
 
-		out.print("\t/**\n" +
+		printUnary("sqrt",
+				"\t/**\n" +
 				"\t * Computes the square root of each pixel in the input image. Both the input and output image can be the\n" +
 				"\t * same instance.\n" +
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the sqrt() image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void sqrt( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.sqrt(input.data[indexSrc]"+bitWise+");\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n",
+				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.sqrt(input.data[indexSrc]"+bitWise+");\n",
+				typeIn, typeOut);
 	}
 
-	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
-
-		String bitWise = typeIn.getBitWise();
-		String typeCast = typeOut.isInteger() ? "("+typeOut.getDataType()+")" : "";
-
-		out.print("\t/**\n" +
-				"\t * <p>\n" +
-				"\t * Performs pixel-wise division<br>\n" +
-				"\t * output(x,y) = imgA(x,y) / imgB(x,y)\n" +
-				"\t * </p>\n" +
-				"\t * @param imgA Input image. Not modified.\n" +
-				"\t * @param imgB Input image. Not modified.\n" +
-				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void divide( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") / (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
-	}
-
-
 	public void printAverageBand() {
 		
 		String imageName = input.getSingleBandName();
@@ -612,13 +624,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param input Planar image\n" +
 				"\t * @param output Gray scale image containing average pixel values\n" +
 				"\t */\n" +
-				"\tpublic static void averageBand( Planar<"+imageName+"> input , "+imageName+" output ) {\n" +
-				"\t\tfinal int h = input.getHeight();\n" +
+				"\tpublic static void averageBand( "+fin()+"Planar<"+imageName+"> input , "+fin()+imageName+" output ) {\n");
+		printDispatch("averageBand", "input,output");
+		out.print("\t\tfinal int h = input.getHeight();\n" +
 				"\t\tfinal int w = input.getWidth();\n" +
 				"\n" +
-				"\t\t"+imageName+"[] bands = input.bands;\n" +
-				"\t\t\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
+				"\t\t"+fin()+imageName+"[] bands = input.bands;\n" +
+				"\t\t\n");
+		printRowLoop("input", "h",
 				"\t\t\tint indexInput = input.getStartIndex() + y * input.getStride();\n" +
 				"\t\t\tint indexOutput = output.getStartIndex() + y * output.getStride();\n" +
 				"\n" +
@@ -630,9 +643,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t\t\t\t\ttotal += bands[i].data[ indexInput ]"+bitwise+";\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t\toutput.data[indexOutput] = "+typecast+"(total / bands.length);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t\t}\n");
+		out.print("\t}\n\n");
 	}
 
 
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import java.io.FileNotFoundException;
+
+/**
+ * Generates {@link PixelMath_MT}, the concurrent version of {@link PixelMath}.
+ *
+ * @author Peter Abeles
+ */
+public class GeneratePixelMath_MT extends GeneratePixelMath {
+
+	public GeneratePixelMath_MT() {
+		concurrent = true;
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GeneratePixelMath_MT gen = new GeneratePixelMath_MT();
+		gen.generate();
+	}
+}
@@ -31,11 +31,21 @@ import java.io.PrintStream;
  * @author Peter Abeles
  */
 public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
-	String className = "ImplIntegralImageOps";
+	String className;
 
 	PrintStream out;
 
+	// if true then the concurrent variant is generated
+	protected boolean concurrent;
+
 	public GenerateImplIntegralImageOps() throws FileNotFoundException {
+		this(false);
+	}
+
+	protected GenerateImplIntegralImageOps( boolean concurrent ) throws FileNotFoundException {
+		super(false);
+		this.concurrent = concurrent;
+		className = concurrent ? "ImplIntegralImageOps_MT" : "ImplIntegralImageOps";
 		out = new PrintStream(new FileOutputStream(className + ".java"));
 	}
 
@@ -53,44 +63,92 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		singleInput(AutoTypeImage.F64);
 		singleInput(AutoTypeImage.S64);
 
+		if( !concurrent )
+			printSparseOffsets();
+
 		out.print("\n" +
 				"}\n");
 	}
 
 	private void printPreamble() {
 		out.print(CodeGeneratorUtil.copyright);
-		out.print("package boofcv.alg.transform.ii.impl;\n" +
-				"\n" +
-				"import boofcv.alg.transform.ii.IntegralKernel;\n" +
-				"import boofcv.struct.ImageRectangle;\n" +
-				"import boofcv.struct.image.*;\n" +
-				"\n" +
-				"\n" +
-				"/**\n" +
-				" * <p>\n" +
-				" * Compute the integral image for different types of input images.\n" +
-				" * </p>\n" +
-				" * \n" +
-				" * <p>\n" +
-				" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.\n" +
-				" * </p>\n" +
-				" * \n" +
-				" * @author Peter Abeles\n" +
-				" */\n" +
-				"public class "+className+" {\n\n");
+		if( concurrent ) {
+			out.print("package boofcv.alg.transform.ii.impl;\n" +
+					"\n" +
+					"import boofcv.alg.transform.ii.IntegralKernel;\n" +
+					"import boofcv.concurrency.BoofConcurrency;\n" +
+					"import boofcv.concurrency.ImageRowBands;\n" +
+					"import boofcv.concurrency.IntRangeConsumer;\n" +
+					"import boofcv.struct.image.*;\n" +
+					"import georegression.struct.point.Point2D_I32;\n" +
+					"\n" +
+					"import java.util.List;\n" +
+					"\n" +
+					"\n" +
+					"/**\n" +
+					" * <p>\n" +
+					" * Concurrent version of {@link ImplIntegralImageOps}.  The integral image is computed in two passes.  First\n" +
+					" * the prefix sum of each row is computed with rows split between threads, then the rows are summed down each\n" +
+					" * column with columns split between threads.  The additions are the same as in the single threaded version,\n" +
+					" * so the output is identical.\n" +
+					" * </p>\n" +
+					" * \n" +
+					" * <p>\n" +
+					" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps_MT}.\n" +
+					" * </p>\n" +
+					" * \n" +
+					" * @author Peter Abeles\n" +
+					" */\n" +
+					"public class "+className+" {\n\n" +
+					"\t/**\n" +
+					"\t * Sparse convolution will not split the locations into blocks smaller than this\n" +
+					"\t */\n" +
+					"\tpublic static int MIN_SPARSE_BLOCK = 200;\n\n");
+		} else {
+			out.print("package boofcv.alg.transform.ii.impl;\n" +
+					"\n" +
+					"import boofcv.alg.transform.ii.IntegralKernel;\n" +
+					"import boofcv.struct.ImageRectangle;\n" +
+					"import boofcv.struct.image.*;\n" +
+					"import georegression.struct.point.Point2D_I32;\n" +
+					"\n" +
+					"import java.util.List;\n" +
+					"\n" +
+					"\n" +
+					"/**\n" +
+					" * <p>\n" +
+					" * Compute the integral image for different types of input images.\n" +
+					" * </p>\n" +
+					" * \n" +
+					" * <p>\n" +
+					" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.\n" +
+					" * </p>\n" +
+					" * \n" +
+					" * @author Peter Abeles\n" +
+					" */\n" +
+					"public class "+className+" {\n\n");
+		}
 	}
 
 	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
-		printTransform(imageIn,imageOut);
-
+		if( concurrent )
+			printTransformConcurrent(imageIn,imageOut);
+		else
+			printTransform(imageIn,imageOut);
 	}
 
 	private void singleInput(AutoTypeImage image) {
-		printConvolve(image,image);
-		printConvolveBorder(image,image);
-		printConvolveSparse(image);
-		printBlockUnsafe(image);
-		printBlockZero(image);
+		if( concurrent ) {
+			printConvolveConcurrent(image);
+			printConvolveSparseBatchConcurrent(image);
+		} else {
+			printConvolve(image,image);
+			printConvolveBorder(image,image);
+			printConvolveSparse(image);
+			printConvolveSparseBatch(image);
+			printBlockUnsafe(image);
+			printBlockZero(image);
+		}
 	}
 
 	private void printTransform( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
@@ -126,6 +184,49 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printTransformConcurrent( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+		String typeCast = imageOut.getTypeCastFromSum();
+
+		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\t// prefix sum along each row\n" +
+				"\t\tImageRowBands.loopRows(input, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\t// add the previous row to each row, going down the columns\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int x0, int x1) {\n" +
+				"\t\t\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\t\t\tint end = indexDst + x1 - x0;\n" +
+				"\n" +
+				"\t\t\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
 	private void printConvolve( AutoTypeImage imageIn , AutoTypeImage imageOut) {
 		out.print("\tpublic static void convolve( "+imageIn.getSingleBandName()+" integral ,\n" +
 				"\t\t\t\t\t\t\t\t IntegralKernel kernel,\n" +
@@ -208,6 +309,123 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printConvolveConcurrent( AutoTypeImage image ) {
+		out.print("\tpublic static void convolve( final "+image.getSingleBandName()+" integral ,\n" +
+				"\t\t\t\t\t\t\t\t final IntegralKernel kernel,\n" +
+				"\t\t\t\t\t\t\t\t final "+image.getSingleBandName()+" output )\n" +
+				"\t{\n" +
+				"\t\tImageRowBands.loopRows(integral, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tfor( int x = 0; x < integral.width; x++ ) {\n" +
+				"\t\t\t\t\t\toutput.set(x,y,ImplIntegralImageOps.convolveSparse(integral,kernel,x,y));\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	private void printConvolveSparseBatch( AutoTypeImage image ) {
+		String sumType = image.getSumType();
+		String bitWise = image.getBitWise();
+
+		out.print("\tpublic static void convolveSparse( "+image.getSingleBandName()+" integral , IntegralKernel[] kernels ,\n" +
+				"\t\t\t\t\t\t\t\t\t   List<Point2D_I32> locations , int idx0 , int idx1 , "+sumType+"[] output )\n" +
+				"\t{\n" +
+				"\t\tint[] bounds = new int[kernels.length*4];\n" +
+				"\t\tint[] offsets = sparseOffsets(kernels, integral.stride, bounds);\n" +
+				"\n" +
+				"\t\tfor( int i = idx0; i < idx1; i++ ) {\n" +
+				"\t\t\tPoint2D_I32 p = locations.get(i);\n" +
+				"\t\t\tint indexPixel = integral.startIndex + p.y*integral.stride + p.x;\n" +
+				"\t\t\tint indexOut = i*kernels.length;\n" +
+				"\t\t\tint indexOffset = 0;\n" +
+				"\n" +
+				"\t\t\tfor( int k = 0; k < kernels.length; k++ ) {\n" +
+				"\t\t\t\tIntegralKernel kernel = kernels[k];\n" +
+				"\t\t\t\tint N = kernel.blocks.length;\n" +
+				"\t\t\t\t"+sumType+" total = 0;\n" +
+				"\n" +
+				"\t\t\t\tif( p.x + bounds[k*4] >= 0 && p.y + bounds[k*4+1] >= 0 &&\n" +
+				"\t\t\t\t\t\tp.x + bounds[k*4+2] < integral.width && p.y + bounds[k*4+3] < integral.height ) {\n" +
+				"\t\t\t\t\tfor( int j = 0; j < N; j++ ) {\n" +
+				"\t\t\t\t\t\t"+sumType+" br = integral.data[ indexPixel + offsets[indexOffset++] ]"+bitWise+";\n" +
+				"\t\t\t\t\t\t"+sumType+" tr = integral.data[ indexPixel + offsets[indexOffset++] ]"+bitWise+";\n" +
+				"\t\t\t\t\t\t"+sumType+" bl = integral.data[ indexPixel + offsets[indexOffset++] ]"+bitWise+";\n" +
+				"\t\t\t\t\t\t"+sumType+" tl = integral.data[ indexPixel + offsets[indexOffset++] ]"+bitWise+";\n" +
+				"\t\t\t\t\t\ttotal += (br-tr-bl+tl)*kernel.scales[j];\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t} else {\n" +
+				"\t\t\t\t\tfor( int j = 0; j < N; j++ ) {\n" +
+				"\t\t\t\t\t\tImageRectangle r = kernel.blocks[j];\n" +
+				"\t\t\t\t\t\ttotal += block_zero(integral,p.x+r.x0,p.y+r.y0,p.x+r.x1,p.y+r.y1)*kernel.scales[j];\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t\tindexOffset += N*4;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\toutput[indexOut+k] = total;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printConvolveSparseBatchConcurrent( AutoTypeImage image ) {
+		String sumType = image.getSumType();
+
+		out.print("\tpublic static void convolveSparse( final "+image.getSingleBandName()+" integral , final IntegralKernel[] kernels ,\n" +
+				"\t\t\t\t\t\t\t\t\t   final List<Point2D_I32> locations , final "+sumType+"[] output )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0, locations.size(), MIN_SPARSE_BLOCK, new IntRangeConsumer() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void accept(int idx0, int idx1) {\n" +
+				"\t\t\t\tImplIntegralImageOps.convolveSparse(integral,kernels,locations,idx0,idx1,output);\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	private void printSparseOffsets() {
+		out.print("\t/**\n" +
+				"\t * Computes the index offset of each block's corners relative to the pixel the kernels are centered at,\n" +
+				"\t * and the bounding box of each kernel.  Corners are ordered br, tr, bl, tl.  The bounding box of kernel k\n" +
+				"\t * is written to bounds[k*4] as min x, min y, max x, max y.\n" +
+				"\t */\n" +
+				"\tpublic static int[] sparseOffsets( IntegralKernel[] kernels , int stride , int[] bounds )\n" +
+				"\t{\n" +
+				"\t\tint totalBlocks = 0;\n" +
+				"\t\tfor( int k = 0; k < kernels.length; k++ ) {\n" +
+				"\t\t\ttotalBlocks += kernels[k].blocks.length;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tint[] offsets = new int[totalBlocks*4];\n" +
+				"\t\tint index = 0;\n" +
+				"\t\tfor( int k = 0; k < kernels.length; k++ ) {\n" +
+				"\t\t\tint minX = 0, minY = 0, maxX = 0, maxY = 0;\n" +
+				"\t\t\tImageRectangle[] blocks = kernels[k].blocks;\n" +
+				"\t\t\tfor( int j = 0; j < blocks.length; j++ ) {\n" +
+				"\t\t\t\tImageRectangle r = blocks[j];\n" +
+				"\t\t\t\toffsets[index++] = r.y1*stride + r.x1;\n" +
+				"\t\t\t\toffsets[index++] = r.y0*stride + r.x1;\n" +
+				"\t\t\t\toffsets[index++] = r.y1*stride + r.x0;\n" +
+				"\t\t\t\toffsets[index++] = r.y0*stride + r.x0;\n" +
+				"\n" +
+				"\t\t\t\tif( j == 0 ) {\n" +
+				"\t\t\t\t\tminX = r.x0; minY = r.y0; maxX = r.x1; maxY = r.y1;\n" +
+				"\t\t\t\t} else {\n" +
+				"\t\t\t\t\tminX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);\n" +
+				"\t\t\t\t\tmaxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\tbounds[k*4  ] = minX;\n" +
+				"\t\t\tbounds[k*4+1] = minY;\n" +
+				"\t\t\tbounds[k*4+2] = maxX;\n" +
+				"\t\t\tbounds[k*4+3] = maxY;\n" +
+				"\t\t}\n" +
+				"\t\treturn offsets;\n" +
+				"\t}\n\n");
+	}
+
 	private void printBlockUnsafe( AutoTypeImage image ) {
 		String sumType = image.getSumType();
 		String bitWise = image.getBitWise();
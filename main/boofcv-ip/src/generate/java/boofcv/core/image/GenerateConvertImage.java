@@ -48,6 +48,15 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 			printIntegerRange(in);
 		}
 
+		for( AutoTypeImage in : new AutoTypeImage[]{AutoTypeImage.U8,AutoTypeImage.U16} ) {
+			printScaledSingle(in);
+			printScaledInterleaved(in);
+			// Planar images of different band types have the same erasure
+			if( in == AutoTypeImage.U8 )
+				printScaledMulti(in);
+			printScaledInterleaveToMulti(in);
+		}
+
 		out.print("\n" +
 				"}\n");
 	}
@@ -266,6 +275,112 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printScaledSingle(AutoTypeImage imageIn) {
+		String inputName = imageIn.getSingleBandName();
+
+		out.print("\t/**\n" +
+				"\t * Converts a {@link "+inputName+"} into a {@link GrayF32} and applies a linear transform to each\n" +
+				"\t * pixel in a single pass, i.e. output = scale*input + offset.\n" +
+				"\t *\n" +
+				"\t * @param input Input image which is being converted. Not modified.\n" +
+				"\t * @param scale Value each pixel is multiplied by\n" +
+				"\t * @param offset Value added to each pixel after scaling\n" +
+				"\t * @param output (Optional) The output image.  If null a new image is created. Modified.\n" +
+				"\t * @return Converted image.\n" +
+				"\t */\n" +
+				"\tpublic static GrayF32 convert( "+inputName+" input , float scale , float offset , GrayF32 output ) {\n" +
+				"\t\tif (output == null) {\n" +
+				"\t\t\toutput = new GrayF32(input.width, input.height);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tImplConvertImage.convert(input, scale, offset, output);\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	private void printScaledInterleaved(AutoTypeImage imageIn) {
+		String inputName = imageIn.getInterleavedName();
+
+		out.print("\t/**\n" +
+				"\t * Converts a {@link "+inputName+"} into a {@link InterleavedF32} and applies a linear transform to each\n" +
+				"\t * pixel in a single pass, i.e. output = scale*input + offset.\n" +
+				"\t *\n" +
+				"\t * @param input Input image which is being converted. Not modified.\n" +
+				"\t * @param scale Value each pixel is multiplied by\n" +
+				"\t * @param offset Value added to each pixel after scaling\n" +
+				"\t * @param output (Optional) The output image.  If null a new image is created. Modified.\n" +
+				"\t * @return Converted image.\n" +
+				"\t */\n" +
+				"\tpublic static InterleavedF32 convert( "+inputName+" input , float scale , float offset , InterleavedF32 output ) {\n" +
+				"\t\tif (output == null) {\n" +
+				"\t\t\toutput = new InterleavedF32(input.width, input.height, input.numBands);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tImplConvertImage.convert(input, scale, offset, output);\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	private void printScaledMulti(AutoTypeImage imageIn) {
+		String bandName = imageIn.getSingleBandName();
+
+		out.print("\t/**\n" +
+				"\t * Converts a {@link Planar} into a {@link Planar} of {@link GrayF32} and applies a linear transform to\n" +
+				"\t * each pixel in a single pass, i.e. output = scale*input + offset.\n" +
+				"\t *\n" +
+				"\t * @param input (Input) Planar image that is being converted. Not modified.\n" +
+				"\t * @param scale Value each pixel is multiplied by\n" +
+				"\t * @param offset Value added to each pixel after scaling\n" +
+				"\t * @param output (Optional) The output image.  If null a new image is created. Modified.\n" +
+				"\t * @return Converted image.\n" +
+				"\t */\n" +
+				"\tpublic static Planar<GrayF32> convert( Planar<"+bandName+"> input , float scale , float offset , Planar<GrayF32> output ) {\n" +
+				"\t\tif (output == null) {\n" +
+				"\t\t\toutput = new Planar<GrayF32>(GrayF32.class,input.width, input.height,input.getNumBands());\n" +
+				"\t\t} else {\n" +
+				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor (int i = 0; i < input.getNumBands(); i++) {\n" +
+				"\t\t\tImplConvertImage.convert(input.getBand(i), scale, offset, output.getBand(i));\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	private void printScaledInterleaveToMulti(AutoTypeImage imageIn) {
+		String inputName = imageIn.getInterleavedName();
+
+		out.print("\t/**\n" +
+				"\t * Converts a {@link "+inputName+"} into a {@link Planar} of {@link GrayF32} and applies a linear\n" +
+				"\t * transform to each pixel, i.e. output = scale*input + offset.  The input is only read once.\n" +
+				"\t *\n" +
+				"\t * @param input (Input) ImageInterleaved that is being converted. Not modified.\n" +
+				"\t * @param scale Value each pixel is multiplied by\n" +
+				"\t * @param offset Value added to each pixel after scaling\n" +
+				"\t * @param output (Optional) The output image.  If null a new image is created. Modified.\n" +
+				"\t * @return Converted image.\n" +
+				"\t */\n" +
+				"\tpublic static Planar<GrayF32> convert( "+inputName+" input , float scale , float offset , Planar<GrayF32> output ) {\n" +
+				"\t\tif (output == null) {\n" +
+				"\t\t\toutput = new Planar<GrayF32>(GrayF32.class,input.width, input.height,input.numBands);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tImplConvertImage.convert(input, scale, offset, output);\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateConvertImage app = new GenerateConvertImage();
 
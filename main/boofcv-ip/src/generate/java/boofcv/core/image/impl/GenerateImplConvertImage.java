@@ -29,12 +29,6 @@ import java.io.FileNotFoundException;
  */
 public class GenerateImplConvertImage extends CodeGeneratorBase {
 
-	String className = "ImplConvertImage";
-
-	public GenerateImplConvertImage() throws FileNotFoundException {
-		setOutputFile(className);
-	}
-
 	@Override
 	public void generate() throws FileNotFoundException {
 		printPreamble();
@@ -51,6 +45,12 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 			printMultiToInterleaved(in);
 		}
 
+		for( AutoTypeImage in : new AutoTypeImage[]{AutoTypeImage.U8,AutoTypeImage.U16} ) {
+			printScaledSingle(in);
+			printScaledInterleaved(in);
+			printScaledInterleaveToMulti(in);
+		}
+
 		out.print("}\n");
 	}
 
@@ -200,6 +200,54 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printScaledSingle(AutoTypeImage imageIn) {
+		out.print("\tpublic static void convert( "+imageIn.getSingleBandName()+" from, float scale , float offset , GrayF32 to ) {\n" +
+				"\n" +
+				"\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				"\t\t\tint indexFrom = from.startIndex + y*from.stride;\n" +
+				"\t\t\tint indexTo = to.startIndex + y*to.stride;\n" +
+				"\t\t\tint indexEnd = indexFrom + from.width;\n" +
+				"\n" +
+				"\t\t\tfor (; indexFrom < indexEnd; indexFrom++ ) {\n" +
+				"\t\t\t\tto.data[indexTo++] = scale*(from.data[indexFrom] "+imageIn.getBitWise()+") + offset;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printScaledInterleaved(AutoTypeImage imageIn) {
+		out.print("\tpublic static void convert( "+imageIn.getInterleavedName()+" from, float scale , float offset , InterleavedF32 to ) {\n" +
+				"\n" +
+				"\t\tfinal int N = from.width * from.getNumBands();\n" +
+				"\t\tfor (int y = 0; y < from.height; y++) {\n" +
+				"\t\t\tint indexFrom = from.startIndex + y*from.stride;\n" +
+				"\t\t\tint indexTo = to.startIndex + y*to.stride;\n" +
+				"\t\t\tint indexEnd = indexFrom + N;\n" +
+				"\n" +
+				"\t\t\tfor (; indexFrom < indexEnd; indexFrom++ ) {\n" +
+				"\t\t\t\tto.data[indexTo++] = scale*(from.data[indexFrom] "+imageIn.getBitWise()+") + offset;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printScaledInterleaveToMulti(AutoTypeImage imageIn) {
+		out.print("\tpublic static void convert( "+imageIn.getInterleavedName()+" input , float scale , float offset , Planar<GrayF32> output ) {\n" +
+				"\n" +
+				"\t\tfinal int numBands = input.numBands;\n" +
+				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
+				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+				"\n" +
+				"\t\t\tfor (int x = 0; x < input.width; x++, indexDst++ ) {\n" +
+				"\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+				"\t\t\t\t\toutput.bands[i].data[indexDst] = scale*(input.data[indexSrc++] "+imageIn.getBitWise()+") + offset;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplConvertImage app = new GenerateImplConvertImage();
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for distorting images.  Covers the same operations as BenchmarkImageDistort.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhImageDistort {
+	@Param({"640", "1920", "4000"})
+	public int width;
+
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	ImageGray input;
+	ImageGray output;
+
+	ImageDistort homography;
+	ImageDistort homographyCached;
+
+	@Setup
+	public void setup() {
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		Class imageType = ImageDataType.typeToSingleClass(type);
+		int height = width*3/4;
+
+		input = GeneralizedImageOps.createSingleBand(type, width, height);
+		output = (ImageGray)input.createSameShape();
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		// small rotation, scale, and perspective distortion which keeps most of the image inside
+		Homography2D_F32 H = new Homography2D_F32(
+				0.95f, 0.05f, 10f,
+				-0.05f, 0.95f, 5f,
+				1e-6f, 2e-6f, 1f);
+		PixelTransformHomography_F32 transform = new PixelTransformHomography_F32(H);
+
+		InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+		homography = FactoryDistort.distortSB(false, interp, imageType);
+		homography.setModel(transform);
+
+		interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+		homographyCached = FactoryDistort.distortSB(true, interp, imageType);
+		homographyCached.setModel(transform);
+		// the cache is computed the first time it's called. Don't include that in the benchmark
+		homographyCached.apply(input, output);
+	}
+
+	@Benchmark
+	public void homographyBilinear() {
+		homography.apply(input, output);
+	}
+
+	@Benchmark
+	public void homographyBilinearCached() {
+		homographyCached.apply(input, output);
+	}
+}
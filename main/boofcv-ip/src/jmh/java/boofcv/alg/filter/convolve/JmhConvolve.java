@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for normalized convolution.  Covers the same operations as BenchmarkConvolveNormalizeEdge
+ * and BenchmarkConvolveConcurrent.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhConvolve {
+	@Param({"640", "1920", "4000"})
+	public int width;
+
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	@Param({"2", "5"})
+	public int radius;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	ImageGray input;
+	ImageGray output;
+	Kernel1D kernel1D;
+	Kernel2D kernel2D;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		Class imageType = ImageDataType.typeToSingleClass(type);
+		input = GeneralizedImageOps.createSingleBand(type, width, width*3/4);
+		output = (ImageGray)input.createSameShape();
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+
+		kernel1D = FactoryKernelGaussian.gaussian1D(imageType, -1, radius);
+		kernel2D = FactoryKernelGaussian.gaussian2D(imageType, -1, radius);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void horizontal() {
+		GConvolveImageOps.horizontalNormalized(kernel1D, input, output);
+	}
+
+	@Benchmark
+	public void vertical() {
+		GConvolveImageOps.verticalNormalized(kernel1D, input, output);
+	}
+
+	@Benchmark
+	public void convolve2D() {
+		GConvolveImageOps.convolveNormalized(kernel2D, input, output);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.interpolate;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for interpolating pixel values inside an image.  Covers the same operations as
+ * BenchmarkInterpolatePixel.  Each benchmark samples every pixel once.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhInterpolatePixel {
+	@Param({"640", "1920"})
+	public int width;
+
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	@Param({"NEAREST_NEIGHBOR", "BILINEAR", "BICUBIC", "POLYNOMIAL4"})
+	public String interpolation;
+
+	ImageGray image;
+	InterpolatePixelS interp;
+
+	@Setup
+	public void setup() {
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		image = GeneralizedImageOps.createSingleBand(type, width, width*3/4);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 100);
+
+		interp = FactoryInterpolation.createPixelS(0, 255, InterpolationType.valueOf(interpolation),
+				BorderType.EXTENDED, image.getClass());
+		interp.setImage(image);
+	}
+
+	@Benchmark
+	public float inside() {
+		float total = 0;
+		for (int y = 0; y < image.height-1; y++) {
+			for (int x = 0; x < image.width-1; x++) {
+				total += interp.get(x+0.4f, y+0.6f);
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public float border() {
+		// samples along the image border where border handling is needed
+		float total = 0;
+		for (int x = 0; x < image.width; x++) {
+			total += interp.get(x+0.5f, -0.5f);
+			total += interp.get(x+0.5f, image.height-0.5f);
+		}
+		for (int y = 0; y < image.height; y++) {
+			total += interp.get(-0.5f, y+0.5f);
+			total += interp.get(image.width-0.5f, y+0.5f);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for computing integral images and sampling them with box kernels.  The sparse benchmarks
+ * evaluate the Hessian kernels used by Fast Hessian at every other pixel, one call at a time and as a batch.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhIntegralImage {
+	@Param({"640", "1920", "4000"})
+	public int width;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	GrayU8 inputU8;
+	GrayF32 inputF32;
+	GrayS32 integralS32;
+	GrayF32 integralF32;
+	GrayF32 output;
+
+	IntegralKernel kernels[];
+	List<Point2D_I32> locations = new ArrayList<>();
+	float sparse[];
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		int height = width*3/4;
+		Random rand = new Random(234);
+		inputU8 = new GrayU8(width, height);
+		inputF32 = new GrayF32(width, height);
+		integralS32 = new GrayS32(width, height);
+		integralF32 = new GrayF32(width, height);
+		output = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 100);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+		IntegralImageOps.transform(inputF32, integralF32);
+
+		kernels = new IntegralKernel[]{
+				DerivativeIntegralImage.kernelDerivXX(15, null),
+				DerivativeIntegralImage.kernelDerivYY(15, null),
+				DerivativeIntegralImage.kernelDerivXY(15, null)};
+
+		locations.clear();
+		for (int y = 0; y < height; y += 2) {
+			for (int x = 0; x < width; x += 2) {
+				locations.add(new Point2D_I32(x, y));
+			}
+		}
+		sparse = new float[locations.size()*kernels.length];
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public void transform_U8() {
+		IntegralImageOps.transform(inputU8, integralS32);
+	}
+
+	@Benchmark
+	public void transform_F32() {
+		IntegralImageOps.transform(inputF32, integralF32);
+	}
+
+	@Benchmark
+	public void convolve() {
+		IntegralImageOps.convolve(integralF32, kernels[0], output);
+	}
+
+	@Benchmark
+	public float convolveSparse_single() {
+		float total = 0;
+		for (int i = 0; i < locations.size(); i++) {
+			Point2D_I32 p = locations.get(i);
+			for (int k = 0; k < kernels.length; k++) {
+				total += IntegralImageOps.convolveSparse(integralF32, kernels[k], p.x, p.y);
+			}
+		}
+		return total;
+	}
+
+	@Benchmark
+	public float[] convolveSparse_batch() {
+		return IntegralImageOps.convolveSparse(integralF32, kernels, locations, sparse);
+	}
+}
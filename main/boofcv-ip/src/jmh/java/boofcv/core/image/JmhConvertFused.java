@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.color.ColorHsv;
+import boofcv.alg.color.ColorRgb;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.PixelMath;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares single pass color conversions against the equivalent sequence of multiple passes.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhConvertFused {
+	@Param({"640", "1920", "4000"})
+	public int width;
+
+	InterleavedU8 interleaved;
+	Planar<GrayU8> planarU8;
+	Planar<GrayF32> planarF32;
+	Planar<GrayF32> hsv;
+	GrayU8 grayU8;
+	GrayF32 grayF32;
+
+	@Setup
+	public void setup() {
+		int height = width*3/4;
+
+		interleaved = new InterleavedU8(width, height, 3);
+		planarU8 = new Planar<>(GrayU8.class, width, height, 3);
+		planarF32 = new Planar<>(GrayF32.class, width, height, 3);
+		hsv = new Planar<>(GrayF32.class, width, height, 3);
+		grayU8 = new GrayU8(width, height);
+		grayF32 = new GrayF32(width, height);
+
+		GImageMiscOps.fillUniform(interleaved, new Random(234), 0, 255);
+	}
+
+	@Benchmark
+	public void normalize_multiPass() {
+		ConvertImage.convert(interleaved, planarU8);
+		for (int i = 0; i < 3; i++) {
+			ConvertImage.convert(planarU8.getBand(i), planarF32.getBand(i));
+			PixelMath.multiply(planarF32.getBand(i), 1.0f/255.0f, planarF32.getBand(i));
+		}
+	}
+
+	@Benchmark
+	public void normalize_fused() {
+		ConvertImage.convert(interleaved, 1.0f/255.0f, 0, planarF32);
+	}
+
+	@Benchmark
+	public void gray_multiPass() {
+		ColorRgb.rgbToGray_Weighted(interleaved, grayU8);
+		ConvertImage.convert(grayU8, grayF32);
+	}
+
+	@Benchmark
+	public void gray_fused() {
+		ColorRgb.rgbToGray_Weighted(interleaved, grayF32);
+	}
+
+	@Benchmark
+	public void hsv_multiPass() {
+		ConvertImage.convert(interleaved, planarU8);
+		for (int i = 0; i < 3; i++) {
+			ConvertImage.convert(planarU8.getBand(i), planarF32.getBand(i));
+		}
+		ColorHsv.rgbToHsv_F32(planarF32, hsv);
+	}
+
+	@Benchmark
+	public void hsv_fused() {
+		ColorHsv.rgbToHsv_U8(interleaved, hsv);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for converting between image types.  Covers the same operations as BenchmarkConvertImage.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhConvertImage {
+	@Param({"640", "1920", "4000"})
+	public int width;
+
+	// data type of the input image
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	ImageGray gray;
+	ImageGray grayOther;
+	ImageInterleaved interleaved;
+	Planar planar;
+
+	@Setup
+	public void setup() {
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		ImageDataType other = type == ImageDataType.U8 ? ImageDataType.F32 : ImageDataType.U8;
+		int height = width*3/4;
+
+		Random rand = new Random(234);
+		gray = GeneralizedImageOps.createSingleBand(type, width, height);
+		grayOther = GeneralizedImageOps.createSingleBand(other, width, height);
+		interleaved = GeneralizedImageOps.createInterleaved(type, width, height, 3);
+		planar = new Planar(ImageDataType.typeToSingleClass(type), width, height, 3);
+
+		GImageMiscOps.fillUniform(gray, rand, 0, 100);
+		GImageMiscOps.fillUniform(interleaved, rand, 0, 100);
+		GImageMiscOps.fillUniform(planar, rand, 0, 100);
+	}
+
+	@Benchmark
+	public void grayToOtherType() {
+		GConvertImage.convert(gray, grayOther);
+	}
+
+	@Benchmark
+	public void interleavedToPlanar() {
+		GConvertImage.convert(interleaved, planar);
+	}
+
+	@Benchmark
+	public void planarToInterleaved() {
+		GConvertImage.convert(planar, interleaved);
+	}
+
+	@Benchmark
+	public void interleavedAverage() {
+		GConvertImage.average(interleaved, gray);
+	}
+
+	@Benchmark
+	public void planarAverage() {
+		GConvertImage.average(planar, gray);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.tile;
+
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Filter which can be applied to an image one tile at a time by {@link boofcv.alg.filter.tile.TileScheduler}.
+ * Each tile is expanded by a halo along each side, which is the number of pixels the filter needs to look
+ * at around a pixel to compute its value.  Output pixels inside the tile are then identical to the output from
+ * processing the whole image at once and output pixels in the halo are discarded.  Borders which depend on the
+ * far side of the image, e.g. {@link boofcv.core.image.border.BorderType#WRAP}, can't be used.
+ * </p>
+ *
+ * <p>
+ * Tiles are processed concurrently.  Each thread processes its tiles with its own instance from {@link #copy()},
+ * so workspace can be allocated once per thread and reused for every tile.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface TileFilter<Input extends ImageBase<Input>, Output extends ImageBase<Output>>
+{
+	/**
+	 * Processes a tile, including its halo, and writes the results to the output image.
+	 *
+	 * @param input Input tile.  Not modified.
+	 * @param output Output tile.  Same shape as the input.  Modified.
+	 */
+	void process( Input input , Output output );
+
+	/**
+	 * Creates a filter with the same configuration which can be used at the same time as this one in a different
+	 * thread.  Filters without internal state can return themselves.
+	 *
+	 * @return Filter which can be used in another thread
+	 */
+	TileFilter<Input,Output> copy();
+
+	/**
+	 * Number of pixels to the left and right of a pixel which can influence its value.
+	 *
+	 * @return Halo width in pixels.
+	 */
+	int getHorizontalHalo();
+
+	/**
+	 * Number of pixels above and below a pixel which can influence its value.
+	 *
+	 * @return Halo height in pixels.
+	 */
+	int getVerticalHalo();
+
+	/**
+	 * Specifies the input image type
+	 *
+	 * @return Input image type.
+	 */
+	ImageType<Input> getInputType();
+
+	/**
+	 * Specifies the output image type
+	 *
+	 * @return Output image type.
+	 */
+	ImageType<Output> getOutputType();
+}
@@ -20,6 +20,8 @@ package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 
 /**
@@ -401,4 +403,95 @@ public class ColorHsv {
 			}
 		}
 	}
+
+	/**
+	 * Converts a U8 image from RGB into a F32 HSV image in a single pass.  "Value" will have a range of [0,255].
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format
+	 */
+	public static void rgbToHsv_U8(Planar<GrayU8> rgb , Planar<GrayF32> hsv ) {
+
+		InputSanityCheck.checkSameShape(rgb, hsv);
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		float[] H = hsv.getBand(0).data;
+		float[] S = hsv.getBand(1).data;
+		float[] V = hsv.getBand(2).data;
+
+		for( int row = 0; row < hsv.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+
+			for( int col = 0; col < hsv.width; col++ , indexHsv++ , indexRgb++) {
+				rgbToHsv(R.data[indexRgb]&0xFF, G.data[indexRgb]&0xFF, B.data[indexRgb]&0xFF, H, S, V, indexHsv);
+			}
+		}
+	}
+
+	/**
+	 * Converts an interleaved U8 image from RGB into a F32 HSV image in a single pass.  "Value" will have a
+	 * range of [0,255].
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format
+	 */
+	public static void rgbToHsv_U8(InterleavedU8 rgb , Planar<GrayF32> hsv ) {
+
+		InputSanityCheck.checkSameShape(rgb, hsv);
+
+		float[] H = hsv.getBand(0).data;
+		float[] S = hsv.getBand(1).data;
+		float[] V = hsv.getBand(2).data;
+
+		for( int row = 0; row < hsv.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+
+			for( int col = 0; col < hsv.width; col++ , indexHsv++ ) {
+				int r = rgb.data[indexRgb++]&0xFF;
+				int g = rgb.data[indexRgb++]&0xFF;
+				int b = rgb.data[indexRgb++]&0xFF;
+
+				rgbToHsv(r, g, b, H, S, V, indexHsv);
+			}
+		}
+	}
+
+	/**
+	 * Converts a single pixel and writes the results directly into the HSV bands
+	 */
+	private static void rgbToHsv( float r , float g , float b , float[] H , float[] S , float[] V , int index ) {
+		float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+		float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+		float delta = max - min;
+
+		V[index] = max;
+
+		if( max != 0 )
+			S[index] = delta / max;
+		else {
+			H[index] = Float.NaN;
+			S[index] = 0;
+			return;
+		}
+
+		float h;
+		if( r == max )
+			h = ( g - b ) / delta;
+		else if( g == max )
+			h = 2 + ( b - r ) / delta;
+		else
+			h = 4 + ( r - g ) / delta;
+
+		h *= d60_F32;
+		if( h < 0 )
+			h += PI2_F32;
+
+		H[index] = h;
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.color;
 
+import boofcv.alg.InputSanityCheck;
 import boofcv.struct.image.*;
 
 /**
@@ -47,6 +48,9 @@ public class ColorRgb {
 		if( rgb instanceof Planar ) {
 			Planar p = (Planar)rgb;
 			if( p.getBandType() == GrayU8.class ) {
+				if( gray instanceof GrayF32 ) {
+					rgbToGray_Weighted_U8(p,(GrayF32)gray);return;
+				}
 				rgbToGray_Weighted_U8(p,(GrayU8)gray);return;
 			} else if( p.getBandType() == GrayF32.class ) {
 				rgbToGray_Weighted_F32(p,(GrayF32)gray);return;
@@ -55,6 +59,9 @@ public class ColorRgb {
 			}
 		} else if( rgb instanceof ImageInterleaved ) {
 			if( rgb instanceof InterleavedU8 ) {
+				if( gray instanceof GrayF32 ) {
+					rgbToGray_Weighted((InterleavedU8)rgb,(GrayF32)gray);return;
+				}
 				rgbToGray_Weighted((InterleavedU8)rgb,(GrayU8)gray);return;
 			} else if( rgb instanceof InterleavedF32 ) {
 				rgbToGray_Weighted((InterleavedF32)rgb,(GrayF32)gray);return;
@@ -84,6 +91,32 @@ public class ColorRgb {
 		}
 	}
 
+	/**
+	 * Converts a U8 RGB image directly into a F32 gray scale image in a single pass.  Unlike converting to
+	 * a U8 gray image first and then to F32, the weighted sum is not truncated to an integer.
+	 */
+	public static void rgbToGray_Weighted_U8(Planar<GrayU8> rgb , GrayF32 gray ) {
+
+		InputSanityCheck.checkSameShape(rgb, gray);
+
+		GrayU8 R = rgb.getBand(0);
+		GrayU8 G = rgb.getBand(1);
+		GrayU8 B = rgb.getBand(2);
+
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indedGra = gray.startIndex + row*gray.stride;
+
+			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
+				float r = R.data[indexRgb]&0xFF;
+				float g = G.data[indexRgb]&0xFF;
+				float b = B.data[indexRgb]&0xFF;
+
+				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+			}
+		}
+	}
+
 	public static void rgbToGray_Weighted_F32(Planar<GrayF32> rgb , GrayF32 gray ) {
 		GrayF32 R = rgb.getBand(0);
 		GrayF32 G = rgb.getBand(1);
@@ -137,6 +170,28 @@ public class ColorRgb {
 		}
 	}
 
+	/**
+	 * Converts a U8 RGB image directly into a F32 gray scale image in a single pass.  Unlike converting to
+	 * a U8 gray image first and then to F32, the weighted sum is not truncated to an integer.
+	 */
+	public static void rgbToGray_Weighted(InterleavedU8 rgb , GrayF32 gray ) {
+
+		InputSanityCheck.checkSameShape(rgb, gray);
+
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indedGra = gray.startIndex + row*gray.stride;
+
+			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
+				float r = rgb.data[indexRgb++]&0xFF;
+				float g = rgb.data[indexRgb++]&0xFF;
+				float b = rgb.data[indexRgb++]&0xFF;
+
+				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
+			}
+		}
+	}
+
 	public static void rgbToGray_Weighted(InterleavedF32 rgb , GrayF32 gray ) {
 		for( int row = 0; row < rgb.height; row++ ) {
 			int indexRgb = rgb.startIndex + row*rgb.stride;
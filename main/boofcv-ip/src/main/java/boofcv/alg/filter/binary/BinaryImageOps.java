@@ -23,6 +23,7 @@ import boofcv.alg.filter.binary.impl.BinaryThinning;
 import boofcv.alg.filter.binary.impl.ImplBinaryBorderOps;
 import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -419,6 +420,7 @@ public class BinaryImageOps {
 	 * </p>
 	 *
 	 * @see LinearContourLabelChang2004
+	 * @see LinearContourLabelChang2004_MT
 	 *
 	 * @param input Input binary image.  Not modified.
 	 * @param rule Connectivity rule.  Can be 4 or 8.  8 is more commonly used.
@@ -432,7 +434,12 @@ public class BinaryImageOps {
 			InputSanityCheck.checkSameShape(input,output);
 		}
 
-		LinearContourLabelChang2004 alg = new LinearContourLabelChang2004(rule);
+		LinearContourLabelChang2004 alg;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			alg = new LinearContourLabelChang2004_MT(rule);
+		} else {
+			alg = new LinearContourLabelChang2004(rule);
+		}
 		alg.process(input,output);
 		return alg.getContours().toList();
 	}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Computes the Otsu threshold from a histogram. This includes a modification from the traditional Otsu algorithm
+ * where the threshold can optionally be adjusted in low variance regions.  All the state needed to compute the
+ * threshold is contained in this class, so concurrent algorithms can use one instance per thread.
+ *
+ * @see GThresholdImageOps#computeOtsu(ImageGray, int, int)
+ *
+ * @author Peter Abeles
+ */
+public class ComputeOtsu {
+	/**
+	 * Tuning parameter that tweaks the otsu value depending on local variance.
+	 */
+	public double tuning;
+	/**
+	 * Scale factor applied to the threshold after it has been adjusted
+	 */
+	public double scale;
+	/**
+	 * If true then the threshold is adjusted down, otherwise up
+	 */
+	public boolean down;
+
+	/**
+	 * The computed threshold
+	 */
+	public int threshold;
+	/**
+	 * Between class variance at the selected threshold
+	 */
+	public double variance;
+
+	public ComputeOtsu(double tuning, double scale, boolean down) {
+		this.tuning = tuning;
+		this.scale = scale;
+		this.down = down;
+	}
+
+	/**
+	 * Computes the threshold from the histogram
+	 *
+	 * @param histogram The histogram
+	 * @param length Number of elements in the histogram
+	 * @param totalPixels Sum of all elements in the histogram
+	 */
+	public void compute( int histogram[] , int length , int totalPixels ) {
+		double dlength = length;
+		double sum = 0;
+		for (int i=0 ; i< length ; i++)
+			sum += (i/dlength)*histogram[i];
+
+		compute(histogram, length, totalPixels, sum);
+	}
+
+	/**
+	 * Computes the threshold when the weighted sum of the histogram is already known. If the histogram is
+	 * being updated incrementally then the sum can be too, saving a pass through the histogram.
+	 *
+	 * @param histogram The histogram
+	 * @param length Number of elements in the histogram
+	 * @param totalPixels Sum of all elements in the histogram
+	 * @param sum Sum of (i/length)*histogram[i]
+	 */
+	public void compute( int histogram[] , int length , int totalPixels , double sum ) {
+		double dlength = length;
+		double sumB = 0;
+		int wB = 0;
+
+		variance = 0;
+		threshold = 0;
+
+		int i;
+		for (i=0 ; i<length ; i++) {
+			wB += histogram[i];               // Weight Background
+			if (wB == 0) continue;
+
+			int wF = totalPixels - wB;         // Weight Foreground
+			if (wF == 0) break;
+
+			sumB += (i/dlength)*histogram[i];
+
+			double mB = sumB / wB;            // Mean Background
+			double mF = (sum - sumB) / wF;    // Mean Foreground
+
+			// Calculate Between Class Variance
+			double varBetween = (double)wB*(double)wF*(mB - mF)*(mB - mF);
+
+			// Check if new maximum found
+			if (varBetween > variance) {
+				variance = varBetween;
+				threshold = i;
+			}
+		}
+
+		// apply optional penalty to low texture regions
+		variance += 0.001; // avoid divide by zero
+		// multiply by threshold twice in an effort to have the image's scaling not effect the tuning parameter
+		int adjustment =  (int)(tuning*threshold*tuning*threshold/variance+0.5);
+		threshold += down ? -adjustment : adjustment;
+		threshold = (int)(scale*Math.max(threshold,0)+0.5);
+	}
+}
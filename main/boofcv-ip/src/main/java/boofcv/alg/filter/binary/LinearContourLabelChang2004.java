@@ -72,12 +72,12 @@ public class LinearContourLabelChang2004 {
 	private ContourTracer tracer;
 
 	// binary image with a border of zero.
-	private GrayU8 border = new GrayU8(1,1);
+	protected GrayU8 border = new GrayU8(1,1);
 
 	// predeclared/recycled data structures
 	private FastQueue<Point2D_I32> storagePoints = new FastQueue<>(Point2D_I32.class, true);
 	private FastQueue<List<Point2D_I32>> storageLists = new FastQueue<>((Class) ArrayList.class, true);
-	private FastQueue<Contour> contours = new FastQueue<>(Contour.class, true);
+	protected FastQueue<Contour> contours = new FastQueue<>(Contour.class, true);
 
 	// internal book keeping variables
 	private int x,y,indexIn,indexOut;
@@ -100,12 +100,7 @@ public class LinearContourLabelChang2004 {
 	public void process(GrayU8 binary , GrayS32 labeled ) {
 		// initialize data structures
 
-		// ensure that the image border pixels are filled with zero by enlarging the image
-		if( border.width != binary.width+2 || border.height != binary.height+2)  {
-			border.reshape(binary.width + 2, binary.height + 2);
-			ImageMiscOps.fillBorder(border, 0, 1);
-		}
-		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
+		copyIntoBorder(binary);
 
 		// labeled image must initially be filled with zeros
 		ImageMiscOps.fill(labeled,0);
@@ -148,6 +143,18 @@ public class LinearContourLabelChang2004 {
 		}
 	}
 
+	/**
+	 * Copies the binary image into the center of an image which has a border of zeros around it
+	 */
+	protected void copyIntoBorder( GrayU8 binary ) {
+		// ensure that the image border pixels are filled with zero by enlarging the image
+		if( border.width != binary.width+2 || border.height != binary.height+2)  {
+			border.reshape(binary.width + 2, binary.height + 2);
+			ImageMiscOps.fillBorder(border, 0, 1);
+		}
+		border.subimage(1,1,border.width-1,border.height-1, null).setTo(binary);
+	}
+
 	public FastQueue<Contour> getContours() {
 		return contours;
 	}
@@ -0,0 +1,495 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent version of {@link LinearContourLabelChang2004}.  Instead of labeling the image with a single raster
+ * scan the image is labeled in two passes.  In the first pass the image is split into strips of rows and each
+ * strip is run length encoded and connected using union-find in parallel.  In the second pass runs along the seams
+ * between strips are merged.  Labels are assigned in the order each blob is first encountered in a raster scan and
+ * background regions which don't touch the image border are the holes inside of blobs.  Contours are then traced
+ * in parallel using {@link ContourTracer} starting from the first pixel in each blob and the pixel above each hole.
+ * </p>
+ *
+ * <p>
+ * The labeled image and contours are identical to the ones found by {@link LinearContourLabelChang2004}.  Black
+ * pixels are connected using the specified rule and background pixels with the other rule.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT extends LinearContourLabelChang2004 {
+
+	/**
+	 * Minimum number of rows in a strip
+	 */
+	public static int MIN_ROWS = 32;
+
+	/**
+	 * Minimum number of blobs traced by a thread
+	 */
+	public static int MIN_BLOBS = 20;
+
+	// true if black pixels are 8-connected and background pixels are 4-connected
+	private final boolean eight;
+
+	// run length encoding of each strip of rows
+	private final FastQueue<Strip> strips = new FastQueue<Strip>(1,Strip.class,true) {
+		@Override
+		protected Strip createInstance() {
+			return new Strip();
+		}
+	};
+
+	// contour tracer for each thread
+	private final FastQueue<Tracer> tracers;
+
+	// Union-find which merges the strips. Index is the run's index in the whole image. Only roots inside
+	// of a strip are used
+	private final GrowQueue_I32 parent = new GrowQueue_I32();
+	// label of each black region. Indexed by the root run in a strip
+	private final GrowQueue_I32 labels = new GrowQueue_I32();
+	// true if a background region touches the image border. Indexed by the root run in a strip
+	private final GrowQueue_B outside = new GrowQueue_B();
+
+	// first pixel in each blob. The external contour is traced from here
+	private final GrowQueue_I32 blobX = new GrowQueue_I32();
+	private final GrowQueue_I32 blobY = new GrowQueue_I32();
+
+	// pixel above the first pixel in each hole. The internal contour is traced from here
+	private final GrowQueue_I32 holeX = new GrowQueue_I32();
+	private final GrowQueue_I32 holeY = new GrowQueue_I32();
+	// holes sorted by which blob they are inside of. holeStart has the index of the first hole for each blob
+	private final GrowQueue_I32 holeStart = new GrowQueue_I32();
+	private final GrowQueue_I32 holeOrder = new GrowQueue_I32();
+
+	// references to the images being processed
+	private GrayU8 binary;
+	private GrayS32 labeled;
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param rule Connectivity rule.  4 or 8
+	 */
+	public LinearContourLabelChang2004_MT( final ConnectRule rule ) {
+		super(rule);
+		this.eight = rule == ConnectRule.EIGHT;
+
+		tracers = new FastQueue<Tracer>(1,Tracer.class,true) {
+			@Override
+			protected Tracer createInstance() {
+				return new Tracer(rule);
+			}
+		};
+	}
+
+	@Override
+	public void process(GrayU8 binary, GrayS32 labeled) {
+		copyIntoBorder(binary);
+		this.binary = binary;
+		this.labeled = labeled;
+
+		// run length encode and connect the rows inside of each strip
+		BoofConcurrency.loopBlocks(0, binary.height, MIN_ROWS, strips, encodeStrip);
+
+		mergeStrips();
+		assignLabels();
+
+		BoofConcurrency.loopBlocks(0, strips.size, labelStrips);
+
+		sortHoles();
+
+		BoofConcurrency.loopBlocks(0, contours.size, MIN_BLOBS, tracers, traceBlobs);
+
+		this.binary = null;
+		this.labeled = null;
+	}
+
+	/**
+	 * Connects the strips together along their seams and marks background regions which touch the image border
+	 */
+	private void mergeStrips() {
+		int total = 0;
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			s.offset = total;
+			total += s.x0.size;
+		}
+		parent.resize(total);
+		outside.resize(total);
+		labels.resize(total);
+
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			for (int j = 0; j < s.roots.size; j++) {
+				int g = s.offset + s.roots.data[j];
+				parent.data[g] = g;
+				outside.data[g] = false;
+			}
+		}
+
+		for (int i = 1; i < strips.size; i++) {
+			Strip a = strips.get(i-1);
+			Strip b = strips.get(i);
+			int rowA = a.rowStart.size-2;
+			connectRows(a, a.rowStart.data[rowA], a.rowStart.data[rowA+1],
+					b, b.rowStart.data[0], b.rowStart.data[1], true);
+		}
+
+		// The background around the image is connected to every region which touches the image border
+		int endY = binary.height-1;
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			for (int y = s.y0; y < s.y1; y++) {
+				int r0 = s.rowStart.data[y-s.y0];
+				int r1 = s.rowStart.data[y-s.y0+1];
+				if( y == 0 || y == endY ) {
+					for (int r = r0; r < r1; r++) {
+						markOutside(s, r);
+					}
+				} else if( r1 > r0 ) {
+					markOutside(s, r0);
+					markOutside(s, r1-1);
+				}
+			}
+		}
+	}
+
+	private void markOutside( Strip s , int run ) {
+		if( !s.black.data[run] )
+			outside.data[find(parent.data, s.offset + s.parent.data[run])] = true;
+	}
+
+	/**
+	 * Assigns a label to each blob in the order they are encountered in a raster scan and finds where each
+	 * hole starts.
+	 */
+	private void assignLabels() {
+		blobX.reset();
+		blobY.reset();
+		holeX.reset();
+		holeY.reset();
+
+		int total = 0;
+		for (int i = 0; i < strips.size; i++) {
+			Strip s = strips.get(i);
+			for (int j = 0; j < s.roots.size; j++) {
+				int r = s.roots.data[j];
+				int g = s.offset + r;
+				int root = find(parent.data, g);
+
+				if( s.black.data[r] ) {
+					// the root is the first run in raster order
+					if( root == g ) {
+						labels.data[g] = ++total;
+						blobX.add(s.x0.data[r]);
+						blobY.add(s.rootY.data[j]);
+					} else {
+						labels.data[g] = labels.data[root];
+					}
+				} else {
+					labels.data[g] = 0;
+					if( root == g && !outside.data[g] ) {
+						holeX.add(s.x0.data[r]);
+						holeY.add(s.rootY.data[j]-1);
+					}
+				}
+			}
+		}
+
+		contours.reset();
+		for (int i = 0; i < total; i++) {
+			Contour c = contours.grow();
+			c.reset();
+			c.id = i+1;
+		}
+	}
+
+	/**
+	 * Sorts the holes by the blob they are inside of while preserving their raster order. When done the holes
+	 * inside of blob 'i' are holeStart[i] &le; j &lt; holeStart[i+1] in holeOrder
+	 */
+	private void sortHoles() {
+		holeStart.resize(contours.size+1);
+		holeStart.fill(0);
+		holeOrder.resize(holeX.size);
+
+		// count the holes in each blob then convert it into the end of each blob's holes
+		for (int i = 0; i < holeX.size; i++) {
+			holeStart.data[labeled.unsafe_get(holeX.data[i], holeY.data[i])]++;
+		}
+		for (int i = 1; i < holeStart.size; i++) {
+			holeStart.data[i] += holeStart.data[i-1];
+		}
+		// Add holes in reverse order. Afterwards the element of each blob will point to its first hole
+		for (int i = holeX.size-1; i >= 0; i--) {
+			int label = labeled.unsafe_get(holeX.data[i], holeY.data[i]);
+			holeOrder.data[--holeStart.data[label]] = i;
+		}
+		// shift down by one since labels start at 1
+		for (int i = 1; i < holeStart.size; i++) {
+			holeStart.data[i-1] = holeStart.data[i];
+		}
+		holeStart.data[holeStart.size-1] = holeX.size;
+	}
+
+	/**
+	 * Connects runs in a row to the runs in the row above it
+	 *
+	 * @param a Strip containing the row above
+	 * @param b Strip containing the row below
+	 * @param seam If true the rows are in different strips and runs are connected using the union-find for
+	 *             the whole image
+	 */
+	private void connectRows( Strip a , int a0 , int a1 , Strip b , int b0 , int b1 , boolean seam ) {
+		int[] parent = seam ? this.parent.data : b.parent.data;
+
+		int i = a0;
+		for (int j = b0; j < b1; j++) {
+			boolean black = b.black.data[j];
+			// diagonal pixels are connected with the 8-connect rule
+			int extend = black == eight ? 1 : 0;
+			int lo = b.x0.data[j] - extend;
+			int hi = b.x1.data[j] + extend;
+
+			while( a.x1.data[i] <= lo )
+				i++;
+
+			for (int k = i; k < a1 && a.x0.data[k] < hi; k++) {
+				if( a.black.data[k] != black )
+					continue;
+				if( seam )
+					union(parent, a.offset + a.parent.data[k], b.offset + b.parent.data[j]);
+				else
+					union(parent, k, j);
+			}
+		}
+	}
+
+	/**
+	 * Finds the root and compresses the path along the way
+	 */
+	private static int find( int[] parent , int i ) {
+		while( parent[i] != i ) {
+			parent[i] = parent[parent[i]];
+			i = parent[i];
+		}
+		return i;
+	}
+
+	/**
+	 * Merges two sets.  The root with the lower index is always kept so that the root is the first run in
+	 * raster order.
+	 */
+	private static void union( int[] parent , int a , int b ) {
+		a = find(parent, a);
+		b = find(parent, b);
+		if( a < b )
+			parent[b] = a;
+		else if( b < a )
+			parent[a] = b;
+	}
+
+	/**
+	 * Run length encodes a strip of rows and connects the runs inside of it
+	 */
+	private final IntRangeObjectConsumer<Strip> encodeStrip = new IntRangeObjectConsumer<Strip>() {
+		@Override
+		public void accept(Strip s, int minInclusive, int maxExclusive) {
+			s.reset();
+			s.y0 = minInclusive;
+			s.y1 = maxExclusive;
+
+			for (int y = minInclusive; y < maxExclusive; y++) {
+				s.rowStart.add(s.x0.size);
+				s.encodeRow(binary, y);
+				if( y > minInclusive ) {
+					int row = y-minInclusive;
+					connectRows(s, s.rowStart.data[row-1], s.rowStart.data[row],
+							s, s.rowStart.data[row], s.x0.size, false);
+				}
+			}
+			s.rowStart.add(s.x0.size);
+
+			// Point every run directly at its root. Parents always have a lower index so they are already done
+			int[] parent = s.parent.data;
+			for (int row = 0; row < s.rowStart.size-1; row++) {
+				for (int r = s.rowStart.data[row]; r < s.rowStart.data[row+1]; r++) {
+					if( parent[r] == r ) {
+						s.roots.add(r);
+						s.rootY.add(s.y0+row);
+					} else {
+						parent[r] = parent[parent[r]];
+					}
+				}
+			}
+		}
+	};
+
+	/**
+	 * Writes the label of each run into the labeled image
+	 */
+	private final IntRangeConsumer labelStrips = new IntRangeConsumer() {
+		@Override
+		public void accept(int minInclusive, int maxExclusive) {
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				Strip s = strips.get(i);
+				for (int y = s.y0; y < s.y1; y++) {
+					int indexRow = labeled.startIndex + y*labeled.stride;
+					for (int r = s.rowStart.data[y-s.y0]; r < s.rowStart.data[y-s.y0+1]; r++) {
+						int value = s.black.data[r] ? labels.data[s.offset + s.parent.data[r]] : 0;
+						int end = indexRow + s.x1.data[r];
+						for (int index = indexRow + s.x0.data[r]; index < end; index++) {
+							labeled.data[index] = value;
+						}
+					}
+				}
+			}
+		}
+	};
+
+	/**
+	 * Traces the external and internal contours of blobs
+	 */
+	private final IntRangeObjectConsumer<Tracer> traceBlobs = new IntRangeObjectConsumer<Tracer>() {
+		@Override
+		public void accept(Tracer t, int minInclusive, int maxExclusive) {
+			t.storagePoints.reset();
+			t.storageLists.reset();
+			t.tracer.setInputs(border, labeled, t.storagePoints);
+
+			int minContourSize = getMinContourSize();
+			int maxContourSize = getMaxContourSize();
+			boolean saveInternalContours = isSaveInternalContours();
+
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				Contour c = contours.get(i);
+
+				// coordinates are shifted by one because of the border
+				t.tracer.setMaxContourSize(maxContourSize);
+				t.tracer.trace(c.id, blobX.data[i]+1, blobY.data[i]+1, true, c.external);
+
+				// release the unused contour
+				if( c.external.size() >= maxContourSize || c.external.size() < minContourSize ) {
+					t.storagePoints.size -= c.external.size();
+					c.external.clear();
+				}
+
+				for (int j = holeStart.data[i]; j < holeStart.data[i+1]; j++) {
+					int hole = holeOrder.data[j];
+					List<Point2D_I32> inner = t.storageLists.grow();
+					inner.clear();
+					t.tracer.setMaxContourSize(saveInternalContours?maxContourSize:0);
+					t.tracer.trace(c.id, holeX.data[hole]+1, holeY.data[hole]+1, false, inner);
+
+					// See if the inner contour exceeded the maximum size. If so free its points
+					if( inner.size() >= maxContourSize ) {
+						t.storagePoints.size -= inner.size();
+						inner.clear();
+					}
+					c.internal.add(inner);
+				}
+			}
+		}
+	};
+
+	/**
+	 * Run length encoding of black and background pixels in a strip of rows
+	 */
+	private static class Strip {
+		// rows in the strip
+		int y0, y1;
+		// index of the first run in the whole image
+		int offset;
+
+		// first pixel in a run, inclusive
+		GrowQueue_I32 x0 = new GrowQueue_I32();
+		// last pixel in a run, exclusive
+		GrowQueue_I32 x1 = new GrowQueue_I32();
+		// true if the run is black and false if background
+		GrowQueue_B black = new GrowQueue_B();
+		// index of the first run in each row.  Has one extra element for the end of the last row
+		GrowQueue_I32 rowStart = new GrowQueue_I32();
+
+		// union-find for runs in the strip
+		GrowQueue_I32 parent = new GrowQueue_I32();
+		// runs which are roots and their row
+		GrowQueue_I32 roots = new GrowQueue_I32();
+		GrowQueue_I32 rootY = new GrowQueue_I32();
+
+		void reset() {
+			x0.reset();
+			x1.reset();
+			black.reset();
+			rowStart.reset();
+			parent.reset();
+			roots.reset();
+			rootY.reset();
+		}
+
+		void encodeRow( GrayU8 binary , int y ) {
+			int indexRow = binary.startIndex + y*binary.stride;
+			int x = 0;
+			while( x < binary.width ) {
+				boolean b = binary.data[indexRow+x] == 1;
+				int start = x++;
+				if( b ) {
+					while( x < binary.width && binary.data[indexRow+x] == 1 )
+						x++;
+				} else {
+					while( x < binary.width && binary.data[indexRow+x] != 1 )
+						x++;
+				}
+				parent.add(x0.size);
+				x0.add(start);
+				x1.add(x);
+				black.add(b);
+			}
+		}
+	}
+
+	/**
+	 * Contour tracer and storage for a single thread
+	 */
+	private static class Tracer {
+		ContourTracer tracer;
+		FastQueue<Point2D_I32> storagePoints = new FastQueue<>(Point2D_I32.class, true);
+		FastQueue<List<Point2D_I32>> storageLists = new FastQueue<>((Class) ArrayList.class, true);
+
+		Tracer( ConnectRule rule ) {
+			tracer = new ContourTracer(rule);
+		}
+	}
+}
@@ -20,6 +20,8 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
@@ -40,6 +42,10 @@ import boofcv.struct.image.ImageType;
  *
  * <p>The block based approach used here was inspired by a high level description found in AprilTags.</p>
  *
+ * <p>When {@link BoofConcurrency#USE_CONCURRENT} is true the statistics are computed and the threshold is applied
+ * to rows of blocks in parallel.  Implementations of {@link #computeBlockStatistics} and {@link #thresholdBlock}
+ * are invoked by multiple threads at once and can only write to the block they were given.</p>
+ *
  * @author Peter Abeles
  */
 public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends ImageBase<S>>
@@ -105,8 +111,24 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	/**
 	 * Applies the dynamically computed threshold to each pixel in the image, one block at a time
 	 */
-	private void applyThreshold( T input, GrayU8 output ) {
-		for (int blockY = 0; blockY < stats.height; blockY++) {
+	protected void applyThreshold( final T input, final GrayU8 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, stats.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int minInclusive, int maxExclusive) {
+					applyThreshold(minInclusive, maxExclusive, input, output);
+				}
+			});
+		} else {
+			applyThreshold(0, stats.height, input, output);
+		}
+	}
+
+	/**
+	 * Applies the threshold to the specified rows of blocks
+	 */
+	private void applyThreshold( int blockY0 , int blockY1 , T input, GrayU8 output ) {
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
 			for (int blockX = 0; blockX < stats.width; blockX++) {
 				thresholdBlock(blockX,blockY,input,output);
 			}
@@ -116,27 +138,35 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	/**
 	 * Computes the min-max value for each block in the image
 	 */
-	protected void computeStatistics(T input, int innerWidth, int innerHeight) {
+	protected void computeStatistics(final T input, final int innerWidth, final int innerHeight) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, stats.height, new IntRangeConsumer() {
+				@Override
+				public void accept(int minInclusive, int maxExclusive) {
+					computeStatistics(minInclusive, maxExclusive, input, innerWidth, innerHeight);
+				}
+			});
+		} else {
+			computeStatistics(0, stats.height, input, innerWidth, innerHeight);
+		}
+	}
+
+	/**
+	 * Computes statistics for the specified rows of blocks
+	 */
+	private void computeStatistics(int blockY0 , int blockY1 , T input, int innerWidth, int innerHeight) {
 		int statPixelStride = stats.getImageType().getNumBands();
 
-		int indexStats = 0;
-		for (int y = 0; y < innerHeight; y += blockHeight) {
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
+			int y = blockY*blockHeight;
+			// handle the case where the image's height isn't evenly divisible by the block's height
+			int blockHeight = y < innerHeight ? this.blockHeight : input.height-innerHeight;
+
+			int indexStats = stats.startIndex + blockY*stats.stride;
 			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
 				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
 			}
 			// handle the case where the image's width isn't evenly divisible by the block's width
-			if( innerWidth != input.width ) {
-				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
-				indexStats += statPixelStride;
-			}
-		}
-		// handle the case where the image's height isn't evenly divisible by the block's height
-		if( innerHeight != input.height ) {
-			int y = innerHeight;
-			int blockHeight = input.height-innerHeight;
-			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
-				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
-			}
 			if( innerWidth != input.width ) {
 				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
 			}
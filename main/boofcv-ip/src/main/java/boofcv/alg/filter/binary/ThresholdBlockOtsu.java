@@ -18,10 +18,14 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.InterleavedS32;
 
+import org.ddogleg.struct.FastQueue;
+
 import java.util.Arrays;
 
 /**
@@ -34,13 +38,14 @@ import java.util.Arrays;
  * <p>NOTE: This produces visually different results from {@link ThresholdBlockOtsu} because the block algorithm
  * combines histograms from its neighboring blocks. That's why it appears to have a wider effective block.</p>
  *
+ * <p>When concurrency is turned on each thread uses its own histogram and {@link ComputeOtsu}.</p>
+ *
  * @see GThresholdImageOps#computeOtsu(ImageGray, int, int)
  *
  * @author Peter Abeles
  */
 public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS32> {
 
-	int histogram[] = new int[256];
 	boolean down;
 	double scale;
 
@@ -49,8 +54,10 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 	 */
 	double tuning;
 
-	int threshold;
-	double variance;
+	// storage used when thresholding blocks in the calling thread
+	ApplyOtsu work;
+	// storage for each thread when thresholding blocks concurrently
+	FastQueue<ApplyOtsu> workers;
 
 	/**
 	 * Configures the detector
@@ -64,6 +71,13 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		this.scale = scale;
 		this.tuning = tuning;
 		stats = new InterleavedS32(1,1,256);
+		work = new ApplyOtsu();
+		workers = new FastQueue<ApplyOtsu>(1,ApplyOtsu.class,true) {
+			@Override
+			protected ApplyOtsu createInstance() {
+				return new ApplyOtsu();
+			}
+		};
 	}
 
 	@Override
@@ -84,94 +98,79 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 	}
 
 	@Override
-	protected void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output) {
-
-		int x0 = blockX0*blockWidth;
-		int y0 = blockY0*blockHeight;
-
-		int x1 = blockX0== stats.width-1 ? input.width : (blockX0+1)*blockWidth;
-		int y1 = blockY0== stats.height-1 ? input.height: (blockY0+1)*blockHeight;
-
-		// define the local 3x3 region in blocks, taking in account the image border
-		int blockX1 = Math.min(stats.width-1,blockX0+1);
-		int blockY1 = Math.min(stats.height-1,blockY0+1);
-
-		blockX0 = Math.max(0,blockX0-1);
-		blockY0 = Math.max(0,blockY0-1);
-
-
-		// sum up histogram in local region
-		Arrays.fill(histogram,0,256,0);
-
-		for (int y = blockY0; y <= blockY1; y++) {
-			for (int x = blockX0; x <= blockX1; x++) {
-				int indexStats = stats.getIndex(x,y,0);
-				for (int i = 0; i < 256; i++) {
-					histogram[i] += stats.data[indexStats+i];
+	protected void applyThreshold(final GrayU8 input, final GrayU8 output) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, stats.height, 1, workers, new IntRangeObjectConsumer<ApplyOtsu>() {
+				@Override
+				public void accept(ApplyOtsu work, int minInclusive, int maxExclusive) {
+					for (int blockY = minInclusive; blockY < maxExclusive; blockY++) {
+						for (int blockX = 0; blockX < stats.width; blockX++) {
+							work.thresholdBlock(blockX, blockY, input, output);
+						}
+					}
 				}
-			}
+			});
+		} else {
+			super.applyThreshold(input, output);
 		}
+	}
 
-		// this can vary across the image at the borders
-		int total = 0;
-		for (int i = 0; i < 256; i++) {
-			total += histogram[i];
-		}
-
-		// compute threshold
-		computeOtsu(histogram,256,total);
-
-
-		// apply optional penalty to low texture regions
-		variance += 0.001; // avoid divide by zero
-		// multiply by threshold twice in an effort to have the image's scaling not effect the tuning parameter
-		int adjustment =  (int)(tuning*threshold*tuning*threshold/variance+0.5);
-		threshold += down ? -adjustment : adjustment;
-		threshold = (int)(scale*Math.max(threshold,0)+0.5);
-
-		for (int y = y0; y < y1; y++) {
-			int indexInput = input.startIndex + y*input.stride + x0;
-			int indexOutput = output.startIndex + y*output.stride + x0;
-			int end = indexOutput + (x1-x0);
-			for (; indexOutput < end; indexOutput++, indexInput++ ) {
-				output.data[indexOutput] = down == (input.data[indexInput]&0xFF) <= threshold ? (byte)1 : 0;
-			}
-		}
+	@Override
+	protected void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output) {
+		work.thresholdBlock(blockX0, blockY0, input, output);
 	}
 
-	public void computeOtsu( int histogram[] , int length , int totalPixels ) {
+	/**
+	 * Contains the histogram and Otsu state used to threshold a single block
+	 */
+	class ApplyOtsu {
+		int histogram[] = new int[256];
+		ComputeOtsu otsu = new ComputeOtsu(tuning,scale,down);
 
-		double dlength = length;
-		double sum = 0;
-		for (int i=0 ; i< length ; i++)
-			sum += (i/dlength)*histogram[i];
+		void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output) {
 
-		double sumB = 0;
-		int wB = 0;
+			int x0 = blockX0*blockWidth;
+			int y0 = blockY0*blockHeight;
 
-		variance = 0;
-		threshold = 0;
+			int x1 = blockX0== stats.width-1 ? input.width : (blockX0+1)*blockWidth;
+			int y1 = blockY0== stats.height-1 ? input.height: (blockY0+1)*blockHeight;
 
-		int i;
-		for (i=0 ; i<length ; i++) {
-			wB += histogram[i];               // Weight Background
-			if (wB == 0) continue;
+			// define the local 3x3 region in blocks, taking in account the image border
+			int blockX1 = Math.min(stats.width-1,blockX0+1);
+			int blockY1 = Math.min(stats.height-1,blockY0+1);
 
-			int wF = totalPixels - wB;         // Weight Foreground
-			if (wF == 0) break;
+			blockX0 = Math.max(0,blockX0-1);
+			blockY0 = Math.max(0,blockY0-1);
 
-			sumB += (i/dlength)*histogram[i];
+			// sum up histogram in local region
+			Arrays.fill(histogram,0,256,0);
 
-			double mB = sumB / wB;            // Mean Background
-			double mF = (sum - sumB) / wF;    // Mean Foreground
+			for (int y = blockY0; y <= blockY1; y++) {
+				for (int x = blockX0; x <= blockX1; x++) {
+					int indexStats = stats.getIndex(x,y,0);
+					for (int i = 0; i < 256; i++) {
+						histogram[i] += stats.data[indexStats+i];
+					}
+				}
+			}
 
-			// Calculate Between Class Variance
-			double varBetween = (double)wB*(double)wF*(mB - mF)*(mB - mF);
+			// this can vary across the image at the borders
+			int total = 0;
+			for (int i = 0; i < 256; i++) {
+				total += histogram[i];
+			}
+
+			// compute threshold
+			otsu.compute(histogram,256,total);
+			int threshold = otsu.threshold;
 
-			// Check if new maximum found
-			if (varBetween > variance) {
-				variance = varBetween;
-				threshold = i;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = input.startIndex + y*input.stride + x0;
+				int indexOutput = output.startIndex + y*output.stride + x0;
+				int end = indexOutput + (x1-x0);
+				for (; indexOutput < end; indexOutput++, indexInput++ ) {
+					output.data[indexOutput] = down == (input.data[indexInput]&0xFF) <= threshold ? (byte)1 : 0;
+				}
 			}
 		}
 	}
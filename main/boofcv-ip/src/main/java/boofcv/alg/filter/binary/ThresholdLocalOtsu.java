@@ -20,9 +20,12 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import org.ddogleg.struct.FastQueue;
 
 import java.util.Arrays;
 
@@ -32,6 +35,11 @@ import java.util.Arrays;
  * This implementation includes a modification from the traditional Otsu algorithm. The threshold can optionally
  * be adjusted in low variance regions. See code for details.
  *
+ * <p>The local histogram is updated incrementally. Along a row it's shifted by one column at each pixel and
+ * the histogram at the start of a row is found by shifting the previous row's down by one. When concurrency
+ * is turned on the inner image is split into bands of rows which are processed in parallel, each with its own
+ * histogram. Only the first row in a band needs to compute its histogram from scratch.</p>
+ *
  * @see GThresholdImageOps#computeOtsu(ImageGray, int, int)
  *
  * @author Peter Abeles
@@ -40,7 +48,6 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 	ImageType<GrayU8> imageType = ImageType.single(GrayU8.class);
 
-	int histogram[] = new int[256];
 	boolean down;
 	/**
 	 * Tuning parameter that tweaks the otsu value depending on local variance.
@@ -53,11 +60,13 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	// number of pixels inside the local square region
 	int numPixels;
 
-	// Computed Otsu threshold
-	int threshold = 0;
-
 	double scale;
 
+	// storage used by the calling thread. The image border is always processed with this
+	ApplyHelper helper;
+	// storage for each band of rows when processing the inner image concurrently
+	FastQueue<ApplyHelper> helpers;
+
 	/**
 	 * Configures the detector
 	 *
@@ -69,6 +78,14 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 		this.down = down;
 		this.scale = scale;
 		this.tuning = tuning;
+
+		helper = new ApplyHelper();
+		helpers = new FastQueue<ApplyHelper>(1,ApplyHelper.class,true) {
+			@Override
+			protected ApplyHelper createInstance() {
+				return new ApplyHelper();
+			}
+		};
 	}
 
 	/**
@@ -76,7 +93,7 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	 * @param input Input image
 	 * @param output Output binary image
 	 */
-	public void process(GrayU8 input , GrayU8 output ) {
+	public void process(final GrayU8 input , final GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
 		if (input.width < regionWidth || input.height < regionWidth) {
@@ -85,74 +102,25 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 		numPixels = regionWidth*regionWidth;
 
-		int y0 = regionWidth/2;
-		int y1 = input.height-(regionWidth-y0);
-		int x0 = regionWidth/2;
-		int x1 = input.width-(regionWidth-x0);
+		final int y0 = regionWidth/2;
+		final int y1 = input.height-(regionWidth-y0);
+		final int x0 = regionWidth/2;
+		final int x1 = input.width-(regionWidth-x0);
 
 		// handle the inner portion first
-		for (int y = y0; y < y1; y++) {
-			int indexInput = input.startIndex + y*input.stride + x0;
-			int indexOutput = output.startIndex + y*output.stride + x0;
-
-			computeHistogram(0,y-y0,input);
-			output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
-
-			for (int x = x0+1; x < x1; x++) {
-				updateHistogramX(x-x0,y-y0,input);
-				output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
-			}
-		}
-
-		applyToBorder(input, output, y0, y1, x0, x1);
-	}
-
-	/**
-	 * Apply around the image border. Use a region that's the full size but apply to all pixels that the region
-	 * would go outside of it was centered on them.
-	 */
-	private void applyToBorder(GrayU8 input, GrayU8 output, int y0, int y1, int x0, int x1) {
-		// top-left corner
-		computeHistogram(0,0,input);
-		applyToBlock(0,0,x0+1,y0+1,input,output);
-		// top-middle
-		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,0,input);
-			applyToBlock(x,0,x+1,y0,input,output);
-		}
-		// top-right
-		updateHistogramX(x1-x0,0,input);
-		applyToBlock(x1,0,input.width,y0+1,input,output);
-
-		// middle-right
-		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(x1-x0,y-y0,input);
-			applyToBlock(x1,y,input.width,y+1,input,output);
-		}
-
-		// bottom-right
-		updateHistogramY(x1-x0,y1-y0,input);
-		applyToBlock(x1,y1,input.width,input.height,input,output);
-
-		//Start over in the top-left. Yes this step could be avoided...
-
-		// middle-left
-		computeHistogram(0,0,input);
-
-		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(0,y-y0,input);
-			applyToBlock(0,y,x0,y+1,input,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			// the first row in each band computes its histogram from scratch, which limits how small a band can be
+			BoofConcurrency.loopBlocks(y0, y1, regionWidth, helpers, new IntRangeObjectConsumer<ApplyHelper>() {
+				@Override
+				public void accept(ApplyHelper helper, int minInclusive, int maxExclusive) {
+					helper.applyToInner(minInclusive, maxExclusive, input, output, y0, x0, x1);
+				}
+			});
+		} else {
+			helper.applyToInner(y0, y1, input, output, y0, x0, x1);
 		}
 
-		// bottom-left
-		updateHistogramY(0,y1-y0,input);
-		applyToBlock(0,y1,x0+1,input.height,input,output);
-
-		// bottom-middle
-		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,y1-y0,input);
-			applyToBlock(x,y1,x+1,input.height,input,output);
-		}
+		helper.applyToBorder(input, output, y0, y1, x0, x1);
 	}
 
 	@Override
@@ -160,91 +128,155 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 		return null;
 	}
 
-	private void applyToBlock( int x0 , int y0 , int x1 , int y1 , GrayU8 input , GrayU8 output ) {
-		for (int y = y0; y < y1; y++) {
-			int indexInput = input.startIndex + y*input.stride + x0;
-			int indexOutput = output.startIndex + y*output.stride + x0;
-			int end = indexOutput + (x1-x0);
-			while ( indexOutput < end ) {
-				output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
-			}
-		}
+	public ImageType<GrayU8> getImageType() {
+		return imageType;
 	}
 
-	protected void computeHistogram(int x0, int y0, GrayU8 input) {
-
-		Arrays.fill(histogram,0);
-		for (int y = 0; y < regionWidth; y++) {
-			int indexInput = input.startIndex + (y0+y)*input.stride + x0;
-			for (int x = 0; x < regionWidth; x++) {
-				histogram[input.data[indexInput++] & 0xFF]++;
+	/**
+	 * Contains the local histogram and computes the threshold from it. One instance is needed for each thread.
+	 */
+	class ApplyHelper {
+		int histogram[] = new int[256];
+		// sum of pixel intensities inside the local region
+		int sumIntensity;
+
+		// histogram at the start of the most recently processed row
+		int rowHistogram[] = new int[256];
+		int rowSumIntensity;
+
+		ComputeOtsu otsu = new ComputeOtsu(tuning,scale,down);
+
+		/**
+		 * Thresholds the inner image in the specified range of rows
+		 */
+		void applyToInner(int rowStart, int rowEnd, GrayU8 input, GrayU8 output, int y0, int x0, int x1) {
+			for (int y = rowStart; y < rowEnd; y++) {
+				int indexInput = input.startIndex + y*input.stride + x0;
+				int indexOutput = output.startIndex + y*output.stride + x0;
+
+				if( y == rowStart ) {
+					computeHistogram(0,y-y0,input);
+				} else {
+					// shift the histogram at the start of the previous row down instead of computing a new one
+					System.arraycopy(rowHistogram,0,histogram,0,256);
+					sumIntensity = rowSumIntensity;
+					updateHistogramY(0,y-y0,input);
+				}
+				System.arraycopy(histogram,0,rowHistogram,0,256);
+				rowSumIntensity = sumIntensity;
+
+				output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= otsu.threshold ? (byte)1 : 0;
+
+				for (int x = x0+1; x < x1; x++) {
+					updateHistogramX(x-x0,y-y0,input);
+					output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= otsu.threshold ? (byte)1 : 0;
+				}
 			}
 		}
-		computeOtsu(histogram,numPixels);
-	}
-
-	protected void updateHistogramX(int x0, int y0, GrayU8 input) {
-		for (int y = 0; y < regionWidth; y++) {
-			int indexInput = input.startIndex + (y0+y)*input.stride + x0-1;
-			histogram[input.data[indexInput] & 0xFF]--;
-			histogram[input.data[indexInput+regionWidth] & 0xFF]++;
-		}
-		computeOtsu(histogram,numPixels);
-	}
-	protected void updateHistogramY(int x0, int y0, GrayU8 input) {
-		int offset = regionWidth*input.stride;
-		for (int x = 0; x < regionWidth; x++) {
-			int indexInput = input.startIndex + (y0-1)*input.stride + x0+x;
-			histogram[input.data[indexInput] & 0xFF]--;
-			histogram[input.data[indexInput+offset] & 0xFF]++;
-		}
-		computeOtsu(histogram,numPixels);
-	}
 
-	public void computeOtsu( int histogram[] , int totalPixels ) {
+		/**
+		 * Apply around the image border. Use a region that's the full size but apply to all pixels that the region
+		 * would go outside of it was centered on them.
+		 */
+		void applyToBorder(GrayU8 input, GrayU8 output, int y0, int y1, int x0, int x1) {
+			// top-left corner
+			computeHistogram(0,0,input);
+			applyToBlock(0,0,x0+1,y0+1,input,output);
+			// top-middle
+			for (int x = x0+1; x < x1; x++) {
+				updateHistogramX(x-x0,0,input);
+				applyToBlock(x,0,x+1,y0,input,output);
+			}
+			// top-right
+			updateHistogramX(x1-x0,0,input);
+			applyToBlock(x1,0,input.width,y0+1,input,output);
+
+			// middle-right
+			for (int y = y0+1; y < y1; y++) {
+				updateHistogramY(x1-x0,y-y0,input);
+				applyToBlock(x1,y,input.width,y+1,input,output);
+			}
 
-		double dlength = 256;
-		double sum = 0;
-		for (int i=0 ; i< 256 ; i++)
-			sum += (i/dlength)*histogram[i];
+			// bottom-right
+			updateHistogramY(x1-x0,y1-y0,input);
+			applyToBlock(x1,y1,input.width,input.height,input,output);
 
-		double sumB = 0;
-		int wB = 0;
+			//Start over in the top-left. Yes this step could be avoided...
 
-		double variance = 0;
+			// middle-left
+			computeHistogram(0,0,input);
 
-		int i;
-		for (i=0 ; i<256 ; i++) {
-			wB += histogram[i];               // Weight Background
-			if (wB == 0) continue;
+			for (int y = y0+1; y < y1; y++) {
+				updateHistogramY(0,y-y0,input);
+				applyToBlock(0,y,x0,y+1,input,output);
+			}
 
-			int wF = totalPixels - wB;         // Weight Foreground
-			if (wF == 0) break;
+			// bottom-left
+			updateHistogramY(0,y1-y0,input);
+			applyToBlock(0,y1,x0+1,input.height,input,output);
 
-			sumB += (i/dlength)*histogram[i];
+			// bottom-middle
+			for (int x = x0+1; x < x1; x++) {
+				updateHistogramX(x-x0,y1-y0,input);
+				applyToBlock(x,y1,x+1,input.height,input,output);
+			}
+		}
 
-			double mB = sumB / wB;            // Mean Background
-			double mF = (sum - sumB) / wF;    // Mean Foreground
+		void applyToBlock( int x0 , int y0 , int x1 , int y1 , GrayU8 input , GrayU8 output ) {
+			int threshold = otsu.threshold;
+			for (int y = y0; y < y1; y++) {
+				int indexInput = input.startIndex + y*input.stride + x0;
+				int indexOutput = output.startIndex + y*output.stride + x0;
+				int end = indexOutput + (x1-x0);
+				while ( indexOutput < end ) {
+					output.data[indexOutput++] = down == (input.data[indexInput++]&0xFF) <= threshold ? (byte)1 : 0;
+				}
+			}
+		}
 
-			// Calculate Between Class Variance
-			double varBetween = (double)wB*(double)wF*(mB - mF)*(mB - mF);
+		void computeHistogram(int x0, int y0, GrayU8 input) {
+
+			Arrays.fill(histogram,0);
+			sumIntensity = 0;
+			for (int y = 0; y < regionWidth; y++) {
+				int indexInput = input.startIndex + (y0+y)*input.stride + x0;
+				for (int x = 0; x < regionWidth; x++) {
+					int value = input.data[indexInput++] & 0xFF;
+					histogram[value]++;
+					sumIntensity += value;
+				}
+			}
+			computeOtsu();
+		}
 
-			// Check if new maximum found
-			if (varBetween > variance) {
-				variance = varBetween;
-				threshold = i;
+		void updateHistogramX(int x0, int y0, GrayU8 input) {
+			for (int y = 0; y < regionWidth; y++) {
+				int indexInput = input.startIndex + (y0+y)*input.stride + x0-1;
+				int valueOut = input.data[indexInput] & 0xFF;
+				int valueIn = input.data[indexInput+regionWidth] & 0xFF;
+				histogram[valueOut]--;
+				histogram[valueIn]++;
+				sumIntensity += valueIn - valueOut;
 			}
+			computeOtsu();
 		}
 
-		// apply optional penalty to low texture regions
-		variance += 0.001; // avoid divide by zero
-		// multiply by threshold twice in an effort to have the image's scaling not effect the tuning parameter
-		int adjustment =  (int)(tuning*threshold*tuning*threshold/variance+0.5);
-		threshold += down ? -adjustment : adjustment;
-		threshold = (int)(scale*Math.max(threshold,0)+0.5);
-	}
+		void updateHistogramY(int x0, int y0, GrayU8 input) {
+			int offset = regionWidth*input.stride;
+			for (int x = 0; x < regionWidth; x++) {
+				int indexInput = input.startIndex + (y0-1)*input.stride + x0+x;
+				int valueOut = input.data[indexInput] & 0xFF;
+				int valueIn = input.data[indexInput+offset] & 0xFF;
+				histogram[valueOut]--;
+				histogram[valueIn]++;
+				sumIntensity += valueIn - valueOut;
+			}
+			computeOtsu();
+		}
 
-	public ImageType<GrayU8> getImageType() {
-		return imageType;
+		void computeOtsu() {
+			// pixel values are integers so dividing the sum is exactly the same as summing (i/256)*histogram[i]
+			otsu.compute(histogram,256,numPixels,sumIntensity/256.0);
+		}
 	}
 }
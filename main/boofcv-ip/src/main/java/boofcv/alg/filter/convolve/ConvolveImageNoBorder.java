@@ -20,6 +20,7 @@ package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
@@ -39,6 +40,9 @@ import boofcv.struct.image.*;
  * the whole kernel can be convolved image borders are skipped.  In special cases where there is a clear way to
  * handle image edges specialized functions are provided.
  * </p>
+ * <p>
+ * Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link ConvolveImageNoBorder_MT} is used.
+ * </p>
  * <p>Automatically generated by GenerateConvolveImageNoBorder DO NOT MODIFY</p>
  *
  * @author Peter Abeles
@@ -50,6 +54,11 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -58,6 +67,11 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -66,6 +80,11 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -74,6 +93,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -81,6 +105,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -88,6 +117,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF32 input, InterleavedF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -95,6 +129,11 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -103,6 +142,11 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -111,6 +155,11 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -119,6 +168,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -126,6 +180,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -133,6 +192,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedF64 input, InterleavedF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -140,6 +204,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -148,6 +217,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -156,6 +230,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -164,6 +243,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -171,6 +255,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -178,6 +267,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -185,6 +279,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 //		if (!ConvolveImageUnrolled_U8_S32.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -193,6 +292,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 //		if (!ConvolveImageUnrolled_U8_S32.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -201,6 +305,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 //		if (!ConvolveImageUnrolled_U8_S32.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -209,6 +318,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -216,6 +330,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -223,6 +342,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -230,6 +354,11 @@ public class ConvolveImageNoBorder {
 								  GrayU16 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 //		if (!ConvolveImageUnrolled_U16_I8_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
 	}
@@ -238,6 +367,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU16 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
 	}
 
@@ -245,6 +379,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -253,6 +392,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -261,6 +405,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -269,6 +418,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -276,6 +430,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -283,6 +442,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -290,6 +454,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
 	}
@@ -298,6 +467,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
 	}
@@ -306,6 +480,11 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
 	}
@@ -314,6 +493,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
 	}
 
@@ -321,6 +505,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
 	}
 
@@ -328,6 +517,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedU8 input, InterleavedI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
 	}
 
@@ -335,6 +529,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
 	}
@@ -343,6 +542,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
 	}
@@ -351,6 +555,11 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
 	}
@@ -359,6 +568,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
 	}
 
@@ -366,6 +580,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
 	}
 
@@ -373,6 +592,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS16 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
 	}
 
@@ -380,6 +604,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 //		if (!ConvolveImageUnrolled_S32_I16_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
 	}
@@ -388,6 +617,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
 	}
 
@@ -395,6 +629,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
 	}
@@ -403,6 +642,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
 	}
@@ -411,6 +655,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
 	}
@@ -419,6 +668,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output);
 	}
 
@@ -426,6 +680,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output);
 	}
 
@@ -433,6 +692,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output);
 	}
 
@@ -440,6 +704,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
 	}
@@ -448,6 +717,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
 	}
@@ -456,6 +730,11 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
 			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
 	}
@@ -464,6 +743,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
 	}
 
@@ -471,6 +755,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
 	}
 
@@ -478,6 +767,11 @@ public class ConvolveImageNoBorder {
 								  InterleavedS32 input, InterleavedS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel, input, output, divisor);
+			return;
+		}
+
 		ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
 	}
 
@@ -0,0 +1,801 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.ImageRowBands.Task;
+import boofcv.struct.convolve.*;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent version of {@link ConvolveImageNoBorder}.  The image is split into bands of rows which are
+ * convolved in parallel using the same single threaded code.  Input bands are expanded by the kernel's
+ * size so that the output is identical to the single threaded version.  Calling these functions directly
+ * will always run concurrently, independent of {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT}.
+ * </p>
+ * <p>Automatically generated by GenerateConvolveImageNoBorder_MT DO NOT MODIFY</p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"ForLoopReplaceableByForEach"})
+public class ConvolveImageNoBorder_MT {
+
+	public static void horizontal(final Kernel1D_F32 kernel,
+								  GrayF32 input, GrayF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayF32,GrayF32>() {
+			@Override
+			public void process(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_F32 kernel,
+								  GrayF32 input, GrayF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayF32,GrayF32>() {
+			@Override
+			public void process(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_F32 kernel,
+								  GrayF32 input, GrayF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayF32,GrayF32>() {
+			@Override
+			public void process(GrayF32 input, GrayF32 output) {
+				if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_F32 kernel,
+								  InterleavedF32 input, InterleavedF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedF32,InterleavedF32>() {
+			@Override
+			public void process(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_F32 kernel,
+								  InterleavedF32 input, InterleavedF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedF32,InterleavedF32>() {
+			@Override
+			public void process(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_F32 kernel,
+								  InterleavedF32 input, InterleavedF32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedF32,InterleavedF32>() {
+			@Override
+			public void process(InterleavedF32 input, InterleavedF32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_F64 kernel,
+								  GrayF64 input, GrayF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayF64,GrayF64>() {
+			@Override
+			public void process(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_F64 kernel,
+								  GrayF64 input, GrayF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayF64,GrayF64>() {
+			@Override
+			public void process(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_F64 kernel,
+								  GrayF64 input, GrayF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayF64,GrayF64>() {
+			@Override
+			public void process(GrayF64 input, GrayF64 output) {
+				if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_F64 kernel,
+								  InterleavedF64 input, InterleavedF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedF64,InterleavedF64>() {
+			@Override
+			public void process(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_F64 kernel,
+								  InterleavedF64 input, InterleavedF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedF64,InterleavedF64>() {
+			@Override
+			public void process(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_F64 kernel,
+								  InterleavedF64 input, InterleavedF64 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedF64,InterleavedF64>() {
+			@Override
+			public void process(InterleavedF64 input, InterleavedF64 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayU8,GrayI16>() {
+			@Override
+			public void process(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayI16>() {
+			@Override
+			public void process(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayU8 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayI16>() {
+			@Override
+			public void process(GrayU8 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedU8,InterleavedI16>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedI16>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedU8 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedI16>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayU8,GrayS32>() {
+			@Override
+			public void process(GrayU8 input, GrayS32 output) {
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayS32>() {
+			@Override
+			public void process(GrayU8 input, GrayS32 output) {
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayU8 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayS32>() {
+			@Override
+			public void process(GrayU8 input, GrayS32 output) {
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedU8,InterleavedS32>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedS32>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedU8 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedS32>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU16 input, GrayI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU16,GrayI8>() {
+			@Override
+			public void process(GrayU16 input, GrayI8 output) {
+				ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU16 input, InterleavedI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU16,InterleavedI8>() {
+			@Override
+			public void process(InterleavedU16 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS16 input, GrayI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayU8,GrayI8>() {
+			@Override
+			public void process(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayI8>() {
+			@Override
+			public void process(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayU8 input, GrayI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayU8,GrayI8>() {
+			@Override
+			public void process(GrayU8 input, GrayI8 output) {
+				if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedU8,InterleavedI8>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedI8>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedU8 input, InterleavedI8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedU8,InterleavedI8>() {
+			@Override
+			public void process(InterleavedU8 input, InterleavedI8 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS16 input, GrayI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS16,GrayI16>() {
+			@Override
+			public void process(GrayS16 input, GrayI16 output) {
+				if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS16 input, InterleavedI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS16,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS16 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS32,GrayI16>() {
+			@Override
+			public void process(GrayS32 input, GrayI16 output) {
+				ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedI16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS32,InterleavedI16>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedI16 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
+					ConvolveImageStandard_SB.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS32 input, GrayS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
+					ConvolveImageStandard_SB.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  GrayS32 input, GrayS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<GrayS32,GrayS32>() {
+			@Override
+			public void process(GrayS32 input, GrayS32 output) {
+				if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
+					ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void horizontal(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void vertical(final Kernel1D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	public static void convolve(final Kernel2D_S32 kernel,
+								  InterleavedS32 input, InterleavedS32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ImageRowBands.process(input, output,
+				kernel.getOffset(), kernel.getWidth()-kernel.getOffset()-1, new Task<InterleavedS32,InterleavedS32>() {
+			@Override
+			public void process(InterleavedS32 input, InterleavedS32 output) {
+				ConvolveImageStandard_IL.convolve(kernel, input, output, divisor);
+			}
+		});
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.tile;
+
+import boofcv.abst.filter.tile.TileFilter;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.OffHeapImage;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Applies a {@link TileFilter} to an image by splitting it into tiles, processing each tile along with a halo
+ * of surrounding pixels, and then stitching the inside of each tile into the output.  The results are identical
+ * to applying the filter to the entire image.  Memory is bounded by the tile size, independent of the image size,
+ * when the images are stored in an {@link OffHeapImage}.
+ * </p>
+ *
+ * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true tiles are processed in parallel.  Each thread has its own
+ * tile storage and copy of the filter, see {@link TileFilter#copy()}, which are recycled between calls.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TileScheduler<In extends ImageBase<In>, Out extends ImageBase<Out>> {
+
+	// filter which is applied to each tile
+	TileFilter<In,Out> filter;
+
+	// size of the inside of a tile
+	int tileWidth, tileHeight;
+
+	// tile storage for each block of tiles
+	FastQueue<Workspace> workspace;
+
+	/**
+	 * Configures the scheduler
+	 *
+	 * @param filter Filter that's applied to each tile
+	 * @param tileWidth Width of the inside of a tile.  Halo not included.
+	 * @param tileHeight Height of the inside of a tile.  Halo not included.
+	 */
+	public TileScheduler(TileFilter<In, Out> filter, int tileWidth, int tileHeight) {
+		if( tileWidth <= 0 || tileHeight <= 0 )
+			throw new IllegalArgumentException("Tile width and height must be positive");
+		this.filter = filter;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+
+		workspace = new FastQueue<Workspace>(1,(Class)Workspace.class,true) {
+			@Override
+			protected Workspace createInstance() {
+				return new Workspace();
+			}
+		};
+	}
+
+	/**
+	 * Filters an image which is stored in memory.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Output image.  Reshaped to be the same size as the input.  Modified.
+	 */
+	public void process( final In input , final Out output ) {
+		output.reshape(input.width,input.height);
+
+		processTiles(input.width, input.height, new TileIO() {
+			@Override
+			In read(Workspace ws, int x0, int y0, int x1, int y1) {
+				return ws.subInput = input.subimage(x0, y0, x1, y1, ws.subInput);
+			}
+
+			@Override
+			void write(Out tile, int x0, int y0) {
+				output.subimage(x0, y0, x0 + tile.width, y0 + tile.height, null).setTo(tile);
+			}
+		});
+	}
+
+	/**
+	 * Filters an image which is stored outside of the Java heap.  Tiles are read from the input and written
+	 * into the output, so only the tiles being processed are on the heap.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Output image.  Must be the same size as the input.  Modified.
+	 */
+	public void process( final OffHeapImage<In> input , final OffHeapImage<Out> output ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must be the same shape");
+
+		processTiles(input.getWidth(), input.getHeight(), new TileIO() {
+			@Override
+			In read(Workspace ws, int x0, int y0, int x1, int y1) {
+				return ws.input = input.read(x0, y0, x1, y1, ws.input);
+			}
+
+			@Override
+			void write(Out tile, int x0, int y0) {
+				output.write(tile, x0, y0);
+			}
+		});
+	}
+
+	/**
+	 * Processes every tile in the image
+	 */
+	private void processTiles( final int width , final int height , final TileIO io ) {
+		final int haloX = filter.getHorizontalHalo();
+		final int haloY = filter.getVerticalHalo();
+		final int tilesX = (width + tileWidth - 1)/tileWidth;
+		final int numTiles = tilesX*((height + tileHeight - 1)/tileHeight);
+
+		IntRangeObjectConsumer<Workspace> consumer = new IntRangeObjectConsumer<Workspace>() {
+			@Override
+			public void accept(Workspace ws, int minInclusive, int maxExclusive) {
+				for (int tile = minInclusive; tile < maxExclusive; tile++) {
+					// inside of the tile
+					int x0 = (tile%tilesX)*tileWidth;
+					int y0 = (tile/tilesX)*tileHeight;
+					int x1 = Math.min(width, x0 + tileWidth);
+					int y1 = Math.min(height, y0 + tileHeight);
+
+					// tile expanded by the halo
+					int hx0 = Math.max(0, x0 - haloX);
+					int hy0 = Math.max(0, y0 - haloY);
+					int hx1 = Math.min(width, x1 + haloX);
+					int hy1 = Math.min(height, y1 + haloY);
+
+					In tileIn = io.read(ws, hx0, hy0, hx1, hy1);
+					ws.output.reshape(tileIn.width, tileIn.height);
+					ws.filter.process(tileIn, ws.output);
+
+					ws.subOutput = ws.output.subimage(x0 - hx0, y0 - hy0, x1 - hx0, y1 - hy0, ws.subOutput);
+					io.write(ws.subOutput, x0, y0);
+				}
+			}
+		};
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, numTiles, 1, workspace, consumer);
+		} else {
+			workspace.resize(1);
+			consumer.accept(workspace.get(0), 0, numTiles);
+		}
+	}
+
+	public TileFilter<In, Out> getFilter() {
+		return filter;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	/**
+	 * Reads tiles from the input and writes them to the output
+	 */
+	private abstract class TileIO {
+		/**
+		 * Returns the specified region of the input image
+		 */
+		abstract In read( Workspace ws , int x0 , int y0 , int x1 , int y1 );
+
+		/**
+		 * Writes a tile into the output image with its top-left corner at (x0,y0)
+		 */
+		abstract void write( Out tile , int x0 , int y0 );
+	}
+
+	/**
+	 * Storage for tiles which are processed by a single thread
+	 */
+	class Workspace {
+		// this thread's copy of the filter
+		TileFilter<In,Out> filter = TileScheduler.this.filter.copy();
+		// input tile when it needs to be copied
+		In input;
+		// sub-image of the input when it doesn't need to be copied
+		In subInput;
+		// output for the entire tile, including the halo
+		Out output = TileScheduler.this.filter.getOutputType().createImage(1,1);
+		// inside of the output tile
+		Out subOutput;
+	}
+}
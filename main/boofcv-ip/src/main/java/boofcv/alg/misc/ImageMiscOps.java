@@ -18,6 +18,7 @@
 
 package boofcv.alg.misc;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import java.util.Random;
@@ -26,6 +27,9 @@ import java.util.Random;
 /**
  * Basic image operations which have no place better to go.
  *
+ * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then functions which have
+ * a concurrent implementation in {@link ImageMiscOps_MT} will use it.</p>
+ *
  * <p>DO NOT MODIFY: Generated by GenerateImageMiscOps.</p>
  *
  * @author Peter Abeles
@@ -53,6 +57,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -71,6 +80,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayI8 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -87,6 +101,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedI8 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -104,6 +123,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedI8 input, int[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -126,6 +150,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedI8 input, int band , int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -145,6 +174,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayI8 input, int band , InterleavedI8 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -363,6 +397,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayI8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -418,6 +457,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -467,6 +511,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -498,6 +547,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -516,6 +570,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayI16 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -532,6 +591,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedI16 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -549,6 +613,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedI16 input, int[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -571,6 +640,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedI16 input, int band , int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -590,6 +664,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayI16 input, int band , InterleavedI16 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -808,6 +887,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayI16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -863,6 +947,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -912,6 +1001,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -943,6 +1037,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -961,6 +1060,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayS32 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -977,6 +1081,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedS32 input, int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -994,6 +1103,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedS32 input, int[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -1016,6 +1130,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedS32 input, int band , int value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -1035,6 +1154,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayS32 input, int band , InterleavedS32 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -1253,6 +1377,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1308,6 +1437,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1357,6 +1491,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1388,6 +1527,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -1406,6 +1550,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayS64 input, long value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -1422,6 +1571,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedS64 input, long value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -1439,6 +1593,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedS64 input, long[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -1461,6 +1620,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedS64 input, int band , long value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -1480,6 +1644,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayS64 input, int band , InterleavedS64 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -1698,6 +1867,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1753,6 +1927,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1802,6 +1981,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -1833,6 +2017,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -1851,6 +2040,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayF32 input, float value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -1867,6 +2061,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedF32 input, float value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -1884,6 +2083,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedF32 input, float[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -1906,6 +2110,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedF32 input, int band , float value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -1925,6 +2134,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayF32 input, int band , InterleavedF32 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -2143,6 +2357,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -2198,6 +2417,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -2247,6 +2471,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -2278,6 +2507,11 @@ public class ImageMiscOps {
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX, srcY, dstX, dstY, width, height, input, output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
@@ -2296,6 +2530,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(GrayF64 input, double value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			for (int x = 0; x < input.width; x++) {
@@ -2312,6 +2551,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedF64 input, double value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, value);
+			return;
+		}
+
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride();
 			int end = index + input.width*input.numBands;
@@ -2329,6 +2573,11 @@ public class ImageMiscOps {
 	 */
 	public static void fill(InterleavedF64 input, double[] values) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input, values);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			for( int band = 0; band < numBands; band++ ) {
@@ -2351,6 +2600,11 @@ public class ImageMiscOps {
 	 */
 	public static void fillBand(InterleavedF64 input, int band , double value) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fillBand(input, band, value);
+			return;
+		}
+
 		final int numBands = input.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int index = input.getStartIndex() + y * input.getStride() + band;
@@ -2370,6 +2624,11 @@ public class ImageMiscOps {
 	 */
 	public static void insertBand(GrayF64 input, int band , InterleavedF64 output) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.insertBand(input, band, output);
+			return;
+		}
+
 		final int numBands = output.numBands;
 		for (int y = 0; y < input.height; y++) {
 			int indexIn = input.getStartIndex() + y * input.getStride();
@@ -2588,6 +2847,11 @@ public class ImageMiscOps {
 	 * Flips the image from left to right
 	 */
 	public static void flipHorizontal( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.flipHorizontal(input);
+			return;
+		}
+
 		int w2 = input.width/2;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -2643,6 +2907,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCW(input, output);
+			return;
+		}
+
 		int h = input.height-1;
 
 		for( int y = 0; y < input.height; y++ ) {
@@ -2692,6 +2961,11 @@ public class ImageMiscOps {
 		if( input.width != output.height || input.height != output.width )
 			throw new IllegalArgumentException("Incompatible shapes");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.rotateCCW(input, output);
+			return;
+		}
+
 		int w = input.width-1;
 
 		for( int y = 0; y < input.height; y++ ) {
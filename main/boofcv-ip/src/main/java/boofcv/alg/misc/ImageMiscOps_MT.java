@@ -0,0 +1,1377 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+
+
+/**
+ * Basic image operations which have no place better to go.
+ *
+ * <p>Concurrent version of {@link ImageMiscOps}.  The image is split into bands of rows which are
+ * processed in parallel.  The output is identical to the single threaded version.  Functions which use
+ * random numbers or only touch a small part of the image are not included.</p>
+ *
+ * <p>DO NOT MODIFY: Generated by GenerateImageMiscOps_MT.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageMiscOps_MT {
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayI8 input , final GrayI8 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayI8 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedI8 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedI8 input, final int[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						int value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = (byte)value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedI8 input, final int band , final int value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayI8 input, final int band , final InterleavedI8 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayI8 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (byte)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayI8 input , final GrayI8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayI8 input , final GrayI8 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayI16 input , final GrayI16 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayI16 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedI16 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedI16 input, final int[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						int value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = (short)value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedI16 input, final int band , final int value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayI16 input, final int band , final InterleavedI16 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayI16 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (short)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayI16 input , final GrayI16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayI16 input , final GrayI16 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayS32 input , final GrayS32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayS32 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedS32 input, final int value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedS32 input, final int[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						int value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedS32 input, final int band , final int value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayS32 input, final int band , final InterleavedS32 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayS32 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						int tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (int)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayS32 input , final GrayS32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayS32 input , final GrayS32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayS64 input , final GrayS64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayS64 input, final long value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedS64 input, final long value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedS64 input, final long[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						long value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedS64 input, final int band , final long value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayS64 input, final int band , final InterleavedS64 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayS64 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						long tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (long)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayS64 input , final GrayS64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayS64 input , final GrayS64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayF32 input , final GrayF32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayF32 input, final float value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedF32 input, final float value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedF32 input, final float[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						float value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedF32 input, final int band , final float value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayF32 input, final int band , final InterleavedF32 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayF32 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						float tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (float)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayF32 input , final GrayF32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayF32 input , final GrayF32 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width , final int height ,
+							 final GrayF64 input , final GrayF64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0, height, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					for (int x = 0; x < width; x++) {
+						output.data[indexDst++] = input.data[indexSrc++];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final GrayF64 input, final double value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					for (int x = 0; x < input.width; x++) {
+						input.data[index++] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill(final InterleavedF64 input, final double value) {
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride();
+					int end = index + input.width*input.numBands;
+					for (; index < end; index++ ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills each band in the image with the specified values
+	 *
+	 * @param input An image.
+	 * @param values Array which contains the values each band is to be filled with.
+	 */
+	public static void fill(final InterleavedF64 input, final double[] values) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					for( int band = 0; band < numBands; band++ ) {
+						int index = input.getStartIndex() + y * input.getStride() + band;
+						int end = index + input.width*numBands - band;
+						double value = values[band];
+						for (; index < end; index += numBands ) {
+							input.data[index] = value;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value   
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand(final InterleavedF64 input, final int band , final double value) {
+
+		final int numBands = input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = input.getStartIndex() + y * input.getStride() + band;
+					int end = index + input.width*numBands - band;
+					for (; index < end; index += numBands ) {
+						input.data[index] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Inserts a single band into into one of the bands in a multi-band image
+	 *
+	 * @param input Single band image
+	 * @param band Which band the image is to be inserted into
+	 * @param output The multi-band image which the input image is to be inserted into
+	 */
+	public static void insertBand( final GrayF64 input, final int band , final InterleavedF64 output) {
+
+		final int numBands = output.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.getStartIndex() + y * input.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride() + band;
+					int end = indexOut + output.width*numBands - band;
+					for (; indexOut < end; indexOut += numBands , indexIn++ ) {
+						output.data[indexOut] = input.data[indexIn];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Flips the image from left to right
+	 */
+	public static void flipHorizontal( final GrayF64 input ) {
+		final int w2 = input.width/2;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index1 = input.getStartIndex() + y * input.getStride();
+					int index2 = index1 + input.width-1;
+
+					int end = index1 + w2;
+
+					while( index1 < end ) {
+						double tmp = input.data[index1];
+						input.data[index1++] = input.data[index2];
+						input.data[index2--] = (double)tmp;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the clockwise direction.
+	 */
+	public static void rotateCW( final GrayF64 input , final GrayF64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int h = input.height-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(h-y,x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Rotates the image 90 degrees in the counter-clockwise direction.
+	 */
+	public static void rotateCCW( final GrayF64 input , final GrayF64 output ) {
+		if( input.width != output.height || input.height != output.width )
+			throw new IllegalArgumentException("Incompatible shapes");
+
+		final int w = input.width-1;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexIn = input.startIndex + y*input.stride;
+					for (int x = 0; x < input.width; x++) {
+						output.unsafe_set(y,w-x,input.data[indexIn++]);
+					}
+				}
+			}
+		});
+	}
+
+}
@@ -18,6 +18,7 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
@@ -25,6 +26,9 @@ import javax.annotation.Generated;
 /**
  * Computes statistical properties of pixels inside an image.
  *
+ * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then functions which have a concurrent
+ * implementation in {@link ImageStatistics_MT} will use it.</p>
+ *
  * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.GenerateImageStatistics</p>.
  *
  * @author Peter Abeles
@@ -39,6 +43,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -49,6 +56,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -76,6 +86,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -86,6 +99,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -113,6 +129,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -123,6 +142,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedU8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -152,6 +174,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayU8 imgA, GrayU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -165,6 +190,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedU8 imgA, InterleavedU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -198,6 +226,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayU8 imgA, GrayU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -211,6 +242,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedU8 imgA, InterleavedU8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -243,6 +277,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -279,6 +316,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -315,6 +355,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU8 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -340,6 +383,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU8 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -360,6 +408,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -370,6 +421,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -397,6 +451,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -407,6 +464,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -434,6 +494,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -444,6 +507,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS8 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -473,6 +539,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS8 imgA, GrayS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -486,6 +555,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS8 imgA, InterleavedS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -519,6 +591,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS8 imgA, GrayS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -532,6 +607,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS8 imgA, InterleavedS8 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -564,6 +642,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -600,6 +681,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS8 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -636,6 +720,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS8 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -661,6 +748,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS8 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -681,6 +773,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -691,6 +786,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -718,6 +816,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -728,6 +829,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -755,6 +859,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbsU( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -765,6 +872,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedU16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbsU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -794,6 +904,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayU16 imgA, GrayU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -807,6 +920,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedU16 imgA, InterleavedU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSqU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -840,6 +956,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayU16 imgA, GrayU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -853,6 +972,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedU16 imgA, InterleavedU16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbsU(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -885,6 +1007,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -921,6 +1046,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -957,6 +1085,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU16 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -982,6 +1113,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU16 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1002,6 +1138,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1012,6 +1151,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1039,6 +1181,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1049,6 +1194,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1076,6 +1224,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1086,6 +1237,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS16 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1115,6 +1269,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS16 imgA, GrayS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1128,6 +1285,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS16 imgA, InterleavedS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1161,6 +1321,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS16 imgA, GrayS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1174,6 +1337,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS16 imgA, InterleavedS16 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1206,6 +1372,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1242,6 +1411,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS16 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1278,6 +1450,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS16 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -1303,6 +1478,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS16 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1323,6 +1503,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1333,6 +1516,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1360,6 +1546,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1370,6 +1559,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1397,6 +1589,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( GrayS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1407,6 +1602,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int maxAbs( InterleavedS32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1436,6 +1634,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS32 imgA, GrayS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1449,6 +1650,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS32 imgA, InterleavedS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1482,6 +1686,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS32 imgA, GrayS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1495,6 +1702,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS32 imgA, InterleavedS32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1527,6 +1737,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1563,6 +1776,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1599,6 +1815,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS32 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -1624,6 +1843,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS32 input , int minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1644,6 +1868,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1654,6 +1881,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1681,6 +1911,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1691,6 +1924,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1718,6 +1954,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long maxAbs( GrayS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1728,6 +1967,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long maxAbs( InterleavedS64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -1757,6 +1999,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayS64 imgA, GrayS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1770,6 +2015,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedS64 imgA, InterleavedS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1803,6 +2051,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayS64 imgA, GrayS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -1816,6 +2067,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedS64 imgA, InterleavedS64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -1848,6 +2102,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( GrayS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -1884,6 +2141,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( InterleavedS64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -1920,6 +2180,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS64 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -1945,6 +2208,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS64 input , long minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -1965,6 +2233,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -1975,6 +2246,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2002,6 +2276,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2012,6 +2289,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2039,6 +2319,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float maxAbs( GrayF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2049,6 +2332,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float maxAbs( InterleavedF32 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2078,6 +2364,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayF32 imgA, GrayF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2091,6 +2380,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedF32 imgA, InterleavedF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2124,6 +2416,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayF32 imgA, GrayF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2137,6 +2432,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedF32 imgA, InterleavedF32 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2169,6 +2467,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( GrayF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -2205,6 +2506,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( InterleavedF32 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -2241,6 +2545,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static float variance( GrayF32 img , float mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		float variance = 0;
 
@@ -2266,6 +2573,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF32 input , float minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -2286,6 +2598,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2296,6 +2611,9 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
 		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2323,6 +2641,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2333,6 +2654,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
 		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2360,6 +2684,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double maxAbs( GrayF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width , input.stride );
 	}
 
@@ -2370,6 +2697,9 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double maxAbs( InterleavedF64 input ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
 		return maxAbs( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 	}
 
@@ -2399,6 +2729,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(GrayF64 imgA, GrayF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2412,6 +2745,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffSq(InterleavedF64 imgA, InterleavedF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
 		return meanDiffSq(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2445,6 +2781,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(GrayF64 imgA, GrayF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width);
 	}
@@ -2458,6 +2797,9 @@ public class ImageStatistics {
 	 */
 	public static double meanDiffAbs(InterleavedF64 imgA, InterleavedF64 imgB ) {
 		InputSanityCheck.checkSameShape(imgA,imgB);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
 		return meanDiffAbs(imgA.data,imgA.startIndex,imgA.stride, imgB.data,imgB.startIndex,imgB.stride,
 				imgA.height, imgA.width*imgA.numBands);
 	}
@@ -2490,6 +2832,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( GrayF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width;
@@ -2526,6 +2871,9 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( InterleavedF64 img ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		final int rows = img.height;
 		final int columns = img.width*img.numBands;
@@ -2562,6 +2910,9 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayF64 img , double mean ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
 
 		double variance = 0;
 
@@ -2587,6 +2938,11 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF64 input , double minValue , int histogram[] ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
 		
@@ -0,0 +1,4054 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Concurrent version of {@link ImageStatistics}.  Statistics are computed for blocks of rows in parallel and
+ * then combined.  Calling these functions directly will always run concurrently, independent of
+ * {@link BoofConcurrency#USE_CONCURRENT}.
+ * </p>
+ *
+ * <p>
+ * Results are deterministic.  Blocks always have {@link #BLOCK_ROWS} rows, no matter how many threads there
+ * are, and their results are combined in order.  Integer results and min/max are identical to
+ * {@link ImageStatistics}.  Floating point sums are computed in a different order than the single threaded
+ * version, so they can differ from it by round off error, but are the same for any number of threads.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.GenerateImageStatistics_MT</p>.
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.misc.GenerateImageStatistics_MT")
+public class ImageStatistics_MT {
+
+	/**
+	 * Number of rows in each block that partial results are computed for.
+	 */
+	public static final int BLOCK_ROWS = 64;
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final GrayU8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = minU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final InterleavedU8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = minU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int minU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFF;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final GrayU8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final InterleavedU8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFF;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final GrayU8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbsU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final InterleavedU8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbsU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxAbsU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFF;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayU8 imgA, final GrayU8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSqU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedU8 imgA, final InterleavedU8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSqU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffSqU(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA]& 0xFF)-(dataB[indexB]& 0xFF);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayU8 imgA, final GrayU8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbsU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedU8 imgA, final InterleavedU8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbsU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffAbsU(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA]& 0xFF)-(dataB[indexB]& 0xFF);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final GrayU8 img ) {
+		final int columns = img.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sumU(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayU8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final InterleavedU8 img ) {
+		final int columns = img.width*img.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sumU(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedU8 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static int sumU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] & 0xFF;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayU8 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = varianceU(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double varianceU( byte[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]& 0xFF) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayU8 input , final int minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogramU(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogramU( byte[] array , int startIndex , int rows , int columns , int stride ,
+								   int minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(array[index]& 0xFF) - minValue]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final GrayS8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final InterleavedS8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int min( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final GrayS8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final InterleavedS8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int max( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final GrayS8 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final InterleavedS8 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxAbs( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayS8 imgA, final GrayS8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedS8 imgA, final InterleavedS8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffSq(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayS8 imgA, final GrayS8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedS8 imgA, final InterleavedS8 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffAbs(byte []dataA, int startIndexA , int strideA,
+									byte []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final GrayS8 img ) {
+		final int columns = img.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayS8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final InterleavedS8 img ) {
+		final int columns = img.width*img.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedS8 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static int sum( byte[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayS8 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double variance( byte[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayS8 input , final int minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( byte[] array , int startIndex , int rows , int columns , int stride ,
+								   int minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(array[index]) - minValue]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final GrayU16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = minU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final InterleavedU16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = minU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int minU( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFFFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFFFF;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final GrayU16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final InterleavedU16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxU( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFFFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFFFF;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final GrayU16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbsU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final InterleavedU16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbsU(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxAbsU( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] & 0xFFFF;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] & 0xFFFF;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayU16 imgA, final GrayU16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSqU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedU16 imgA, final InterleavedU16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSqU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffSqU(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA]& 0xFFFF)-(dataB[indexB]& 0xFFFF);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayU16 imgA, final GrayU16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbsU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedU16 imgA, final InterleavedU16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbsU(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffAbsU(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA]& 0xFFFF)-(dataB[indexB]& 0xFFFF);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final GrayU16 img ) {
+		final int columns = img.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sumU(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayU16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final InterleavedU16 img ) {
+		final int columns = img.width*img.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sumU(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedU16 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static int sumU( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] & 0xFFFF;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayU16 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = varianceU(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double varianceU( short[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]& 0xFFFF) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayU16 input , final int minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogramU(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogramU( short[] array , int startIndex , int rows , int columns , int stride ,
+								   int minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(array[index]& 0xFFFF) - minValue]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final GrayS16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final InterleavedS16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int min( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final GrayS16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final InterleavedS16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int max( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final GrayS16 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final InterleavedS16 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxAbs( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayS16 imgA, final GrayS16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedS16 imgA, final InterleavedS16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffSq(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayS16 imgA, final GrayS16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedS16 imgA, final InterleavedS16 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffAbs(short []dataA, int startIndexA , int strideA,
+									short []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final GrayS16 img ) {
+		final int columns = img.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayS16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final InterleavedS16 img ) {
+		final int columns = img.width*img.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedS16 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static int sum( short[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayS16 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double variance( short[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayS16 input , final int minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( short[] array , int startIndex , int rows , int columns , int stride ,
+								   int minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(array[index]) - minValue]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final GrayS32 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final InterleavedS32 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int min( int[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final GrayS32 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final InterleavedS32 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int max( int[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final GrayS32 input ) {
+		final int columns = input.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static int maxAbs( final InterleavedS32 input ) {
+		final int columns = input.width*input.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		int output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static int maxAbs( int[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				int v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayS32 imgA, final GrayS32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedS32 imgA, final InterleavedS32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffSq(int []dataA, int startIndexA , int strideA,
+									int []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayS32 imgA, final GrayS32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedS32 imgA, final InterleavedS32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static int meanDiffAbs(int []dataA, int startIndexA , int strideA,
+									int []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				int difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final GrayS32 img ) {
+		final int columns = img.width;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayS32 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final InterleavedS32 img ) {
+		final int columns = img.width*img.numBands;
+		final int[] results = new int[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		int total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedS32 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static int sum( int[] array , int startIndex , int rows , int columns , int stride ) {
+
+		int total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayS32 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double variance( int[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayS32 input , final int minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( int[] array , int startIndex , int rows , int columns , int stride ,
+								   int minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(array[index]) - minValue]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static long min( final GrayS64 input ) {
+		final int columns = input.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static long min( final InterleavedS64 input ) {
+		final int columns = input.width*input.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static long min( long[] array , int startIndex , int rows , int columns , int stride ) {
+
+		long output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				long v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static long max( final GrayS64 input ) {
+		final int columns = input.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static long max( final InterleavedS64 input ) {
+		final int columns = input.width*input.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static long max( long[] array , int startIndex , int rows , int columns , int stride ) {
+
+		long output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				long v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static long maxAbs( final GrayS64 input ) {
+		final int columns = input.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static long maxAbs( final InterleavedS64 input ) {
+		final int columns = input.width*input.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		long output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static long maxAbs( long[] array , int startIndex , int rows , int columns , int stride ) {
+
+		long output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				long v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayS64 imgA, final GrayS64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedS64 imgA, final InterleavedS64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static long meanDiffSq(long []dataA, int startIndexA , int strideA,
+									long []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				long difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayS64 imgA, final GrayS64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedS64 imgA, final InterleavedS64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static long meanDiffAbs(long []dataA, int startIndexA , int strideA,
+									long []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		long total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				long difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static long sum( final GrayS64 img ) {
+		final int columns = img.width;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayS64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static long sum( final InterleavedS64 img ) {
+		final int columns = img.width*img.numBands;
+		final long[] results = new long[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		long total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedS64 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static long sum( long[] array , int startIndex , int rows , int columns , int stride ) {
+
+		long total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayS64 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double variance( long[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayS64 input , final long minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( long[] array , int startIndex , int rows , int columns , int stride ,
+								   long minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(int)(array[index] - minValue)]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static float min( final GrayF32 input ) {
+		final int columns = input.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static float min( final InterleavedF32 input ) {
+		final int columns = input.width*input.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static float min( float[] array , int startIndex , int rows , int columns , int stride ) {
+
+		float output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				float v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static float max( final GrayF32 input ) {
+		final int columns = input.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static float max( final InterleavedF32 input ) {
+		final int columns = input.width*input.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static float max( float[] array , int startIndex , int rows , int columns , int stride ) {
+
+		float output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				float v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static float maxAbs( final GrayF32 input ) {
+		final int columns = input.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static float maxAbs( final InterleavedF32 input ) {
+		final int columns = input.width*input.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		float output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static float maxAbs( float[] array , int startIndex , int rows , int columns , int stride ) {
+
+		float output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				float v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayF32 imgA, final GrayF32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedF32 imgA, final InterleavedF32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static float meanDiffSq(float []dataA, int startIndexA , int strideA,
+									float []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		float total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				float difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayF32 imgA, final GrayF32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedF32 imgA, final InterleavedF32 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static float meanDiffAbs(float []dataA, int startIndexA , int strideA,
+									float []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		float total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				float difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static float sum( final GrayF32 img ) {
+		final int columns = img.width;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static float mean( GrayF32 img ) {
+		return sum(img)/(float)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static float sum( final InterleavedF32 img ) {
+		final int columns = img.width*img.numBands;
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		float total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static float mean( InterleavedF32 img ) {
+		return sum(img)/(float)(img.width*img.numBands*img.height);
+	}
+
+	private static float sum( float[] array , int startIndex , int rows , int columns , int stride ) {
+
+		float total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static float variance( final GrayF32 img , final float mean ) {
+		final float[] results = new float[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		float variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static float variance( float[] array , int startIndex , int rows , int columns , int stride ,
+									  float mean ) {
+
+		float variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				float d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayF32 input , final float minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( float[] array , int startIndex , int rows , int columns , int stride ,
+								   float minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(int)(array[index] - minValue)]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static double min( final GrayF64 input ) {
+		final int columns = input.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static double min( final InterleavedF64 input ) {
+		final int columns = input.width*input.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = min(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] < output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static double min( double[] array , int startIndex , int rows , int columns , int stride ) {
+
+		double output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				double v = array[index] ;
+				if( v < output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static double max( final GrayF64 input ) {
+		final int columns = input.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static double max( final InterleavedF64 input ) {
+		final int columns = input.width*input.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = max(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static double max( double[] array , int startIndex , int rows , int columns , int stride ) {
+
+		double output = array[startIndex] ;
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				double v = array[index] ;
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static double maxAbs( final GrayF64 input ) {
+		final int columns = input.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the maximum element absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel absolute value.
+	 */
+	public static double maxAbs( final InterleavedF64 input ) {
+		final int columns = input.width*input.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(input.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, input.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = maxAbs(input.data, input.startIndex + y0*input.stride, y1-y0, columns, input.stride);
+			}
+		});
+
+		double output = results[0];
+		for (int i = 1; i < results.length; i++) {
+			if( results[i] > output )
+				output = results[i];
+		}
+		return output;
+	}
+
+	private static double maxAbs( double[] array , int startIndex , int rows , int columns , int stride ) {
+
+		double output = Math.abs(array[startIndex]);
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				double v = Math.abs(array[index]);
+				if( v > output )
+					output = v;
+			}
+		}
+		return output;
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final GrayF64 imgA, final GrayF64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final InterleavedF64 imgA, final InterleavedF64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffSq(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static double meanDiffSq(double []dataA, int startIndexA , int strideA,
+									double []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				double difference = (dataA[indexA])-(dataB[indexB]);
+				total += difference*difference;
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final GrayF64 imgA, final GrayF64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	/**
+	 * <p>Computes the mean of absolute value error between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final InterleavedF64 imgA, final InterleavedF64 imgB ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		final int columns = imgA.width*imgA.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(imgA.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, imgA.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = meanDiffAbs(imgA.data,imgA.startIndex + y0*imgA.stride,imgA.stride,
+						imgB.data,imgB.startIndex + y0*imgB.stride,imgB.stride, y1-y0, columns);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total / (double)(imgA.height*columns);
+	}
+
+	private static double meanDiffAbs(double []dataA, int startIndexA , int strideA,
+									double []dataB, int startIndexB , int strideB,
+									int rows , int columns ) {
+		double total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int indexA = startIndexA + y * strideA;
+			int indexB = startIndexB + y * strideB;
+			
+			int indexEnd = indexA+columns;
+			
+			for (; indexA < indexEnd; indexA++,indexB++) {
+				double difference = (dataA[indexA])-(dataB[indexB]);
+				total += Math.abs(difference);
+			}
+		}
+
+		return total;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static double sum( final GrayF64 img ) {
+		final int columns = img.width;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( GrayF64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static double sum( final InterleavedF64 img ) {
+		final int columns = img.width*img.numBands;
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = sum(img.data, img.startIndex + y0*img.stride, y1-y0, columns, img.stride);
+			}
+		});
+
+		double total = 0;
+		for (int i = 0; i < results.length; i++) {
+			total += results[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( InterleavedF64 img ) {
+		return sum(img)/(double)(img.width*img.numBands*img.height);
+	}
+
+	private static double sum( double[] array , int startIndex , int rows , int columns , int stride ) {
+
+		double total = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				total += array[index] ;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final GrayF64 img , final double mean ) {
+		final double[] results = new double[BoofConcurrency.computeNumBlocksFixed(img.height,BLOCK_ROWS)];
+		BoofConcurrency.loopBlocksFixed(0, img.height, BLOCK_ROWS, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				results[y0/BLOCK_ROWS] = variance(img.data, img.startIndex + y0*img.stride, y1-y0, img.width, img.stride, mean);
+			}
+		});
+
+		double variance = 0;
+		for (int i = 0; i < results.length; i++) {
+			variance += results[i];
+		}
+		return variance/(img.width*img.height);
+	}
+
+	private static double variance( double[] array , int startIndex , int rows , int columns , int stride ,
+									  double mean ) {
+
+		double variance = 0;
+
+		for (int y = 0; y < rows; y++) {
+			int index = startIndex + y * stride;
+
+			int indexEnd = index+columns;
+			for (; index < indexEnd; index++ ) {
+				double d = (array[index]) - mean;
+				variance += d*d;
+			}
+		}
+		return variance;
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.  Each band of rows is counted in
+	 * its own histogram, which is then added to the output.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final GrayF64 input , final double minValue , final int histogram[] ) {
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				int[] local = new int[histogram.length];
+				histogram(input.data, input.startIndex + y0*input.stride, y1-y0, input.width, input.stride,
+						minValue, local);
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	private static void histogram( double[] array , int startIndex , int rows , int columns , int stride ,
+								   double minValue , int histogram[] ) {
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			for( ; index < end; index++ ) {
+				histogram[(int)(array[index] - minValue)]++;
+			}
+		}
+	}
+
+}
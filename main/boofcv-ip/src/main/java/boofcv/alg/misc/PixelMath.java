@@ -19,6 +19,7 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
@@ -26,6 +27,8 @@ import javax.annotation.Generated;
 /**
  * Functions which perform basic arithmetic (e.g. addition, subtraction, multiplication, or division) on a pixel by pixel basis.
  *
+ * <p>Concurrency: If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link PixelMath_MT} is used.</p>
+ *
  * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.GeneratePixelMath.</p>
  *
  * @author Peter Abeles
@@ -44,6 +47,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -61,6 +69,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -93,6 +106,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -110,6 +128,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -142,6 +165,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -159,6 +187,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -191,6 +224,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -208,6 +246,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -240,6 +283,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -257,6 +305,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -289,6 +342,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -306,6 +364,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		abs(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -337,6 +400,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -353,6 +421,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -384,6 +457,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -400,6 +478,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -431,6 +514,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -447,6 +535,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -478,6 +571,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -494,6 +592,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -525,6 +628,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -541,6 +649,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -572,6 +685,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -588,6 +706,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		invert(input.data,input.startIndex,input.stride,
 				output.data,output.startIndex,output.stride,
@@ -621,6 +744,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiplyU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -639,6 +767,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiplyU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -673,6 +806,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -691,6 +829,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -725,6 +868,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiplyU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -743,6 +891,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiplyU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -777,6 +930,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -795,6 +953,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -829,6 +992,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -847,6 +1015,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -881,6 +1054,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -899,6 +1077,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -933,6 +1116,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -951,6 +1139,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -985,6 +1178,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -1003,6 +1201,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -1037,6 +1240,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1055,6 +1263,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1092,6 +1305,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1110,6 +1328,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1147,6 +1370,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1165,6 +1393,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1202,6 +1435,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1220,6 +1458,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1257,6 +1500,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1275,6 +1523,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1312,6 +1565,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1330,6 +1588,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1367,6 +1630,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1385,6 +1653,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1422,6 +1695,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1440,6 +1718,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1476,6 +1759,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divideU_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1493,6 +1781,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divideU_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1526,6 +1819,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1543,6 +1841,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1576,6 +1879,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divideU_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1593,6 +1901,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divideU_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1626,6 +1939,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1643,6 +1961,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1676,6 +1999,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1693,6 +2021,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1726,6 +2059,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1743,6 +2081,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1776,6 +2119,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1793,6 +2141,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1826,6 +2179,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1843,6 +2201,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator , 
 				output.data,output.startIndex,output.stride,
@@ -1876,6 +2239,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1893,6 +2261,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1929,6 +2302,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1946,6 +2324,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1982,6 +2365,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -1999,6 +2387,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2035,6 +2428,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2052,6 +2450,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2088,6 +2491,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2105,6 +2513,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2141,6 +2554,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2158,6 +2576,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2194,6 +2617,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2211,6 +2639,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2247,6 +2680,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2264,6 +2702,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2300,6 +2743,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2317,6 +2765,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2350,6 +2803,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2367,6 +2825,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2400,6 +2863,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2417,6 +2885,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2450,6 +2923,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2467,6 +2945,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2500,6 +2983,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2517,6 +3005,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2550,6 +3043,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2567,6 +3065,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2600,6 +3103,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2617,6 +3125,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2650,6 +3163,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2667,6 +3185,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -2700,6 +3223,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2717,6 +3245,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2753,6 +3286,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2770,6 +3308,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2806,6 +3349,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2823,6 +3371,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2859,6 +3412,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2876,6 +3434,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2912,6 +3475,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2929,6 +3497,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2965,6 +3538,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -2982,6 +3560,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3018,6 +3601,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3035,6 +3623,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3071,6 +3664,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3088,6 +3686,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		plus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3124,6 +3727,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3141,6 +3749,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3174,6 +3787,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3191,6 +3809,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3224,6 +3847,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3241,6 +3869,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3274,6 +3907,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3291,6 +3929,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3324,6 +3967,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3341,6 +3989,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3374,6 +4027,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3391,6 +4049,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3424,6 +4087,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3441,6 +4109,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3474,6 +4147,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3491,6 +4169,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3524,6 +4207,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3541,6 +4229,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3577,6 +4270,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3594,6 +4292,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3630,6 +4333,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3647,6 +4355,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3683,6 +4396,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3700,6 +4418,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3736,6 +4459,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3753,6 +4481,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3789,6 +4522,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3806,6 +4544,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3842,6 +4585,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3859,6 +4607,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3895,6 +4648,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3912,6 +4670,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(input,value,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_A(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -3948,6 +4711,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3965,6 +4733,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -3998,6 +4771,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4015,6 +4793,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4048,6 +4831,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4065,6 +4853,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4098,6 +4891,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4115,6 +4913,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4148,6 +4951,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4165,6 +4973,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4198,6 +5011,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4215,6 +5033,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4248,6 +5071,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4265,6 +5093,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4298,6 +5131,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4315,6 +5153,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShapeB(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value , 
 				output.data,output.startIndex,output.stride,
@@ -4348,6 +5191,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4365,6 +5213,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4401,6 +5254,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4418,6 +5276,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4454,6 +5317,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4471,6 +5339,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minusU_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4507,6 +5380,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4524,6 +5402,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4560,6 +5443,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4577,6 +5465,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4613,6 +5506,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4630,6 +5528,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4666,6 +5569,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4683,6 +5591,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4719,6 +5632,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4736,6 +5654,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.minus(value,input,lower,upper,output);
+			return;
+		}
+
 		int columns = input.width*input.numBands;
 		minus_B(input.data,input.startIndex,input.stride,value, lower, upper ,
 				output.data,output.startIndex,output.stride,
@@ -4769,6 +5692,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayU8 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -4800,6 +5728,11 @@ public class PixelMath {
 	public static void diffAbs(GrayU8 imgA , GrayU8 imgB , GrayU8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -4823,6 +5756,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayU8> input , GrayU8 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -4852,6 +5790,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS8 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -4883,6 +5826,11 @@ public class PixelMath {
 	public static void diffAbs(GrayS8 imgA , GrayS8 imgB , GrayS8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -4906,6 +5854,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayS8> input , GrayS8 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -4935,6 +5888,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayU16 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -4966,6 +5924,11 @@ public class PixelMath {
 	public static void diffAbs(GrayU16 imgA , GrayU16 imgB , GrayU16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -4989,6 +5952,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayU16> input , GrayU16 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5018,6 +5986,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS16 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -5049,6 +6022,11 @@ public class PixelMath {
 	public static void diffAbs(GrayS16 imgA , GrayS16 imgB , GrayS16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5072,6 +6050,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayS16> input , GrayS16 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5101,6 +6084,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS32 img , int min , int max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -5132,6 +6120,11 @@ public class PixelMath {
 	public static void diffAbs(GrayS32 imgA , GrayS32 imgB , GrayS32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5155,6 +6148,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayS32> input , GrayS32 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5184,6 +6182,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS64 img , long min , long max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -5215,6 +6218,11 @@ public class PixelMath {
 	public static void diffAbs(GrayS64 imgA , GrayS64 imgB , GrayS64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5238,6 +6246,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayS64> input , GrayS64 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5267,6 +6280,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayF32 img , float min , float max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -5298,6 +6316,11 @@ public class PixelMath {
 	public static void diffAbs(GrayF32 imgA , GrayF32 imgB , GrayF32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5321,6 +6344,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayF32> input , GrayF32 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5350,6 +6378,11 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayF64 img , double min , double max ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
 		final int h = img.getHeight();
 		final int w = img.getWidth();
 
@@ -5381,6 +6414,11 @@ public class PixelMath {
 	public static void diffAbs(GrayF64 imgA , GrayF64 imgB , GrayF64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5404,6 +6442,11 @@ public class PixelMath {
 	 * @param output Gray scale image containing average pixel values
 	 */
 	public static void averageBand(Planar<GrayF64> input , GrayF64 output ) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.averageBand(input,output);
+			return;
+		}
+
 		final int h = input.getHeight();
 		final int w = input.getWidth();
 
@@ -5437,6 +6480,11 @@ public class PixelMath {
 	public static void add(GrayU8 imgA , GrayU8 imgB , GrayU16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5465,6 +6513,11 @@ public class PixelMath {
 	public static void subtract(GrayU8 imgA , GrayU8 imgB , GrayI16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5493,6 +6546,11 @@ public class PixelMath {
 	public static void add(GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5521,6 +6579,11 @@ public class PixelMath {
 	public static void subtract(GrayS8 imgA , GrayS8 imgB , GrayS16 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5549,6 +6612,11 @@ public class PixelMath {
 	public static void add(GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5577,6 +6645,11 @@ public class PixelMath {
 	public static void subtract(GrayU16 imgA , GrayU16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5605,6 +6678,11 @@ public class PixelMath {
 	public static void add(GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5633,6 +6711,11 @@ public class PixelMath {
 	public static void subtract(GrayS16 imgA , GrayS16 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5661,6 +6744,11 @@ public class PixelMath {
 	public static void add(GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5689,6 +6777,11 @@ public class PixelMath {
 	public static void subtract(GrayS32 imgA , GrayS32 imgB , GrayS32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5717,6 +6810,11 @@ public class PixelMath {
 	public static void add(GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5745,6 +6843,11 @@ public class PixelMath {
 	public static void subtract(GrayS64 imgA , GrayS64 imgB , GrayS64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5773,6 +6876,11 @@ public class PixelMath {
 	public static void add(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5801,6 +6909,11 @@ public class PixelMath {
 	public static void subtract(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5829,6 +6942,11 @@ public class PixelMath {
 	public static void multiply(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5857,6 +6975,11 @@ public class PixelMath {
 	public static void divide(GrayF32 imgA , GrayF32 imgB , GrayF32 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5884,6 +7007,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.log(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
@@ -5905,6 +7033,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.pow2(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
@@ -5928,6 +7061,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.sqrt(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
@@ -5951,6 +7089,11 @@ public class PixelMath {
 	public static void add(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -5979,6 +7122,11 @@ public class PixelMath {
 	public static void subtract(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -6007,6 +7155,11 @@ public class PixelMath {
 	public static void multiply(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -6035,6 +7188,11 @@ public class PixelMath {
 	public static void divide(GrayF64 imgA , GrayF64 imgB , GrayF64 output ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
 		
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(imgA,imgB,output);
+			return;
+		}
+
 		final int h = imgA.getHeight();
 		final int w = imgA.getWidth();
 
@@ -6062,6 +7220,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.log(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
@@ -6083,6 +7246,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.pow2(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
@@ -6106,6 +7274,11 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.sqrt(input,output);
+			return;
+		}
+
 		for( int y = 0; y < input.height; y++ ) {
 			int indexSrc = input.startIndex + y* input.stride;
 			int indexDst = output.startIndex + y* output.stride;
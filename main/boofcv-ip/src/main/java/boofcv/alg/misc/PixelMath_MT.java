@@ -0,0 +1,7295 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * Functions which perform basic arithmetic (e.g. addition, subtraction, multiplication, or division) on a pixel by pixel basis.
+ *
+ * <p>Concurrent version of {@link PixelMath}.  The image is split into bands of rows which are
+ * processed in parallel.  The output is identical to the single threaded version.  Calling these functions
+ * directly will always run concurrently, independent of {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT}.</p>
+ *
+ * <p>DO NOT MODIFY: Generated by boofcv.alg.misc.GeneratePixelMath_MT.</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.misc.GeneratePixelMath_MT")
+public class PixelMath_MT {
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayS8 input , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS8 input , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( byte[] input , int inputStart , int inputStride ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayS16 input , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS16 input , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( short[] input , int inputStart , int inputStride ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayS32 input , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS32 input , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( int[] input , int inputStart , int inputStride ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayS64 input , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedS64 input , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( long[] input , int inputStart , int inputStride ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( float[] input , int inputStart , int inputStride ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				abs(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void abs( double[] input , int inputStart , int inputStride ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayS8 input , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS8 input , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( byte[] input , int inputStart , int inputStride ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)-input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayS16 input , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS16 input , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( short[] input , int inputStart , int inputStride ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)-input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayS32 input , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS32 input , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( int[] input , int inputStart , int inputStride ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = -input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayS64 input , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedS64 input , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( long[] input , int inputStart , int inputStride ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = -input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( float[] input , int inputStart , int inputStride ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = -input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				invert(input.data,input.startIndex + y0*input.stride,input.stride,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void invert( double[] input , int inputStart , int inputStride ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = -input[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayU8 input , final double value , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU8 input , final double value , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
+							   double value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS8 input , final double value , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS8 input , final double value , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
+							   double value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayU16 input , final double value , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU16 input , final double value , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
+							   double value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS16 input , final double value , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS16 input , final double value , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( short[] input , int inputStart , int inputStride , 
+							   double value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS32 input , final double value , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS32 input , final double value , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( int[] input , int inputStart , int inputStride , 
+							   double value ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (int)Math.round((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS64 input , final double value , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS64 input , final double value , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( long[] input , int inputStart , int inputStride , 
+							   double value ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (long)Math.round((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayF32 input , final float value , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF32 input , final float value , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( float[] input , int inputStart , int inputStride , 
+							   float value ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayF64 input , final double value , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF64 input , final double value , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( double[] input , int inputStart , int inputStride , 
+							   double value ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayU8 input , final double value , final int lower , final int upper , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU8 input , final double value , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS8 input , final double value , final int lower , final int upper , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS8 input , final double value , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayU16 input , final double value , final int lower , final int upper , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedU16 input , final double value , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiplyU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFFFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS16 input , final double value , final int lower , final int upper , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS16 input , final double value , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( short[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS32 input , final double value , final int lower , final int upper , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS32 input , final double value , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( int[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayS64 input , final double value , final long lower , final long upper , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedS64 input , final double value , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( long[] input , int inputStart , int inputStride , 
+							   double value , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = (long)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayF32 input , final float value , final float lower , final float upper , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF32 input , final float value , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( float[] input , int inputStart , int inputStride , 
+							   float value , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final GrayF64 input , final double value , final double lower , final double upper , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final InterleavedF64 input , final double value , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				multiply_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void multiply_A( double[] input , int inputStart , int inputStride , 
+							   double value , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayU8 input , final double denominator , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU8 input , final double denominator , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS8 input , final double denominator , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS8 input , final double denominator , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayU16 input , final double denominator , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU16 input , final double denominator , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divideU_A( short[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS16 input , final double denominator , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS16 input , final double denominator , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( short[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS32 input , final double denominator , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS32 input , final double denominator , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( int[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (int)Math.round((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS64 input , final double denominator , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS64 input , final double denominator , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( long[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (long)Math.round((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayF32 input , final float denominator , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF32 input , final float denominator , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( float[] input , int inputStart , int inputStride , 
+							   float denominator ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayF64 input , final double denominator , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF64 input , final double denominator , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( double[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayU8 input , final double denominator , final int lower , final int upper , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU8 input , final double denominator , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS8 input , final double denominator , final int lower , final int upper , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS8 input , final double denominator , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayU16 input , final double denominator , final int lower , final int upper , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedU16 input , final double denominator , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divideU_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divideU_A( short[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFFFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS16 input , final double denominator , final int lower , final int upper , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS16 input , final double denominator , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( short[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS32 input , final double denominator , final int lower , final int upper , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS32 input , final double denominator , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( int[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayS64 input , final double denominator , final long lower , final long upper , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedS64 input , final double denominator , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( long[] input , int inputStart , int inputStride , 
+							   double denominator , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = (long)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayF32 input , final float denominator , final float lower , final float upper , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF32 input , final float denominator , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( float[] input , int inputStart , int inputStride , 
+							   float denominator , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final GrayF64 input , final double denominator , final double lower , final double upper , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final InterleavedF64 input , final double denominator , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				divide_A(input.data,input.startIndex + y0*input.stride,input.stride,denominator, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void divide_A( double[] input , int inputStart , int inputStride , 
+							   double denominator , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayU8 input , final int value , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU8 input , final int value , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plusU_A( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)((input[indexSrc] & 0xFF) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS8 input , final int value , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS8 input , final int value , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayU16 input , final int value , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU16 input , final int value , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plusU_A( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)((input[indexSrc] & 0xFFFF) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS16 input , final int value , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS16 input , final int value , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS32 input , final int value , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS32 input , final int value , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( int[] input , int inputStart , int inputStride , 
+							   int value ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS64 input , final long value , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS64 input , final long value , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( long[] input , int inputStart , int inputStride , 
+							   long value ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayF32 input , final float value , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF32 input , final float value , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( float[] input , int inputStart , int inputStride , 
+							   float value ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayF64 input , final double value , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF64 input , final double value , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( double[] input , int inputStart , int inputStride , 
+							   double value ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) + value);
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayU8 input , final int value , final int lower , final int upper , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU8 input , final int value , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plusU_A( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] & 0xFF) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS8 input , final int value , final int lower , final int upper , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS8 input , final int value , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayU16 input , final int value , final int lower , final int upper , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedU16 input , final int value , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plusU_A( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] & 0xFFFF) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS16 input , final int value , final int lower , final int upper , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS16 input , final int value , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS32 input , final int value , final int lower , final int upper , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS32 input , final int value , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( int[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayS64 input , final long value , final long lower , final long upper , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedS64 input , final long value , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( long[] input , int inputStart , int inputStride , 
+							   long value , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayF32 input , final float value , final float lower , final float upper , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF32 input , final float value , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( float[] input , int inputStart , int inputStride , 
+							   float value , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final GrayF64 input , final double value , final double lower , final double upper , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Adds a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final InterleavedF64 input , final double value , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				plus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void plus_A( double[] input , int inputStart , int inputStride , 
+							   double value , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) + value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayU8 input , final int value , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedU8 input , final int value , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_A( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)((input[indexSrc] & 0xFF) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS8 input , final int value , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS8 input , final int value , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayU16 input , final int value , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedU16 input , final int value , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_A( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)((input[indexSrc] & 0xFFFF) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS16 input , final int value , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS16 input , final int value , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS32 input , final int value , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS32 input , final int value , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( int[] input , int inputStart , int inputStride , 
+							   int value ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS64 input , final long value , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS64 input , final long value , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( long[] input , int inputStart , int inputStride , 
+							   long value ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayF32 input , final float value , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedF32 input , final float value , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( float[] input , int inputStart , int inputStride , 
+							   float value ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayF64 input , final double value , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedF64 input , final double value , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( double[] input , int inputStart , int inputStride , 
+							   double value ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) - value);
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayU8 input , final int value , final int lower , final int upper , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedU8 input , final int value , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_A( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] & 0xFF) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS8 input , final int value , final int lower , final int upper , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS8 input , final int value , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayU16 input , final int value , final int lower , final int upper , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedU16 input , final int value , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_A( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] & 0xFFFF) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS16 input , final int value , final int lower , final int upper , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS16 input , final int value , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS32 input , final int value , final int lower , final int upper , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS32 input , final int value , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( int[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayS64 input , final long value , final long lower , final long upper , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedS64 input , final long value , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( long[] input , int inputStart , int inputStride , 
+							   long value , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayF32 input , final float value , final float lower , final float upper , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedF32 input , final float value , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( float[] input , int inputStart , int inputStride , 
+							   float value , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final GrayF64 input , final double value , final double lower , final double upper , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts a scalar value from each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is subtracted from each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final InterleavedF64 input , final double value , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_A(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_A( double[] input , int inputStart , int inputStride , 
+							   double value , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) - value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayU8 input , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedU8 input , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_B( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)(value - (input[indexSrc] & 0xFF));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS8 input , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS8 input , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( byte[] input , int inputStart , int inputStride , 
+							   int value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)(value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayU16 input , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedU16 input , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_B( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)(value - (input[indexSrc] & 0xFFFF));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS16 input , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS16 input , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( short[] input , int inputStart , int inputStride , 
+							   int value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)(value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS32 input , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS32 input , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( int[] input , int inputStart , int inputStride , 
+							   int value ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final long value , final GrayS64 input , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final long value , final InterleavedS64 input , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( long[] input , int inputStart , int inputStride , 
+							   long value ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final float value , final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final float value , final InterleavedF32 input , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( float[] input , int inputStart , int inputStride , 
+							   float value ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final double value , final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final double value , final InterleavedF64 input , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShapeB(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value , 
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( double[] input , int inputStart , int inputStride , 
+							   double value ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (value - (input[indexSrc] ));
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayU8 input , final int lower , final int upper , final GrayU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedU8 input , final int lower , final int upper , final InterleavedU8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_B( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (value - (input[indexSrc] & 0xFF));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS8 input , final int lower , final int upper , final GrayS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS8 input , final int lower , final int upper , final InterleavedS8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( byte[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayU16 input , final int lower , final int upper , final GrayU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedU16 input , final int lower , final int upper , final InterleavedU16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minusU_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minusU_B( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (value - (input[indexSrc] & 0xFFFF));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS16 input , final int lower , final int upper , final GrayS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS16 input , final int lower , final int upper , final InterleavedS16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( short[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final GrayS32 input , final int lower , final int upper , final GrayS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final int value , final InterleavedS32 input , final int lower , final int upper , final InterleavedS32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( int[] input , int inputStart , int inputStride , 
+							   int value , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final long value , final GrayS64 input , final long lower , final long upper , final GrayS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final long value , final InterleavedS64 input , final long lower , final long upper , final InterleavedS64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( long[] input , int inputStart , int inputStride , 
+							   long value , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final float value , final GrayF32 input , final float lower , final float upper , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final float value , final InterleavedF32 input , final float lower , final float upper , final InterleavedF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( float[] input , int inputStart , int inputStride , 
+							   float value , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final double value , final GrayF64 input , final double lower , final double upper , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	/**
+	 * Subtracts each element's value from a scalar. Both input and output images can be the same instance.
+	 *
+	 * @param value Scalar value
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void minus( final double value , final InterleavedF64 input , final double lower , final double upper , final InterleavedF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		final int columns = input.width*input.numBands;
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				minus_B(input.data,input.startIndex + y0*input.stride,input.stride,value, lower, upper ,
+						output.data,output.startIndex + y0*output.stride,output.stride,
+						y1-y0,columns);
+			}
+		});
+	}
+
+	private static void minus_B( double[] input , int inputStart , int inputStride , 
+							   double value , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = (value - (input[indexSrc] ));
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayU8 img , final int min , final int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final byte[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						int value = data[index]& 0xFF;
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayU8 imgA , final GrayU8 imgB , final GrayU8 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayU8> input , final GrayU8 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayU8[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						int total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ]& 0xFF;
+						}
+						output.data[indexOutput] = (byte)(total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayS8 img , final int min , final int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final byte[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (byte)min;
+						else if( value > max )
+							data[index] = (byte)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayS8 imgA , final GrayS8 imgB , final GrayS8 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayS8> input , final GrayS8 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayS8[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						int total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (byte)(total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayU16 img , final int min , final int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final short[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						int value = data[index]& 0xFFFF;
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayU16 imgA , final GrayU16 imgB , final GrayU16 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayU16> input , final GrayU16 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayU16[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						int total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ]& 0xFFFF;
+						}
+						output.data[indexOutput] = (short)(total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayS16 img , final int min , final int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final short[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						int value = data[index];
+						if( value < min )
+							data[index] = (short)min;
+						else if( value > max )
+							data[index] = (short)max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayS16 imgA , final GrayS16 imgB , final GrayS16 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayS16> input , final GrayS16 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayS16[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						int total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (short)(total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayS32 img , final int min , final int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final int[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						int value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayS32 imgA , final GrayS32 imgB , final GrayS32 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayS32> input , final GrayS32 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayS32[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						int total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayS64 img , final long min , final long max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final long[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						long value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayS64 imgA , final GrayS64 imgB , final GrayS64 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayS64> input , final GrayS64 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayS64[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						long total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayF32 img , final float min , final float max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final float[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						float value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayF32> input , final GrayF32 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayF32[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						float total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final GrayF64 img , final double min , final double max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		final double[] data = img.data;
+
+		ImageRowBands.loopRows(img, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int index = img.getStartIndex() + y * img.getStride();
+					int indexEnd = index+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; index < indexEnd; index++) {
+						double value = data[index];
+						if( value < min )
+							data[index] = min;
+						else if( value > max )
+							data[index] = max;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final GrayF64 imgA , final GrayF64 imgB , final GrayF64 diff ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexDiff = diff.getStartIndex() + y * diff.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+						diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the average for each pixel across all bands in the {@link Planar} image.
+	 * 
+	 * @param input Planar image
+	 * @param output Gray scale image containing average pixel values
+	 */
+	public static void averageBand( final Planar<GrayF64> input , final GrayF64 output ) {
+		final int h = input.getHeight();
+		final int w = input.getWidth();
+
+		final GrayF64[] bands = input.bands;
+		
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexInput = input.getStartIndex() + y * input.getStride();
+					int indexOutput = output.getStartIndex() + y * output.getStride();
+
+					int indexEnd = indexInput+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexInput < indexEnd; indexInput++, indexOutput++ ) {
+						double total = 0;
+						for( int i = 0; i < bands.length; i++ ) {
+							total += bands[i].data[ indexInput ];
+						}
+						output.data[indexOutput] = (total / bands.length);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayU8 imgA , final GrayU8 imgB , final GrayU16 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) + (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayU8 imgA , final GrayU8 imgB , final GrayI16 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayS8 imgA , final GrayS8 imgB , final GrayS16 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayS8 imgA , final GrayS8 imgB , final GrayS16 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (short)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayU16 imgA , final GrayU16 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) + (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayU16 imgA , final GrayU16 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayS16 imgA , final GrayS16 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayS16 imgA , final GrayS16 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayS32 imgA , final GrayS32 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayS32 imgA , final GrayS32 imgB , final GrayS32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayS64 imgA , final GrayS64 imgB , final GrayS64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayS64 imgA , final GrayS64 imgB , final GrayS64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = (long)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final GrayF32 imgA , final GrayF32 imgB , final GrayF32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the 
+	 * same instance.	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						float v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final GrayF32 input , final GrayF32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = (float)Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final GrayF64 imgA , final GrayF64 imgB , final GrayF64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final GrayF64 imgA , final GrayF64 imgB , final GrayF64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final GrayF64 imgA , final GrayF64 imgB , final GrayF64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final GrayF64 imgA , final GrayF64 imgB , final GrayF64 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+		
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		ImageRowBands.loopRows(imgA, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexA = imgA.getStartIndex() + y * imgA.getStride();
+					int indexB = imgB.getStartIndex() + y * imgB.getStride();
+					int indexOut = output.getStartIndex() + y * output.getStride();
+					
+					int indexEnd = indexA+w;
+					// for(int x = 0; x < w; x++ ) {
+					for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
+						output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.log(1 + input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Raises each pixel in the input image to the power of two. Both the input and output image can be the 
+	 * same instance.	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the pow2 image is written to. Modified.
+	 */
+	public static void pow2( final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						double v = input.data[indexSrc];
+						output.data[indexDst] = v*v;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the square root of each pixel in the input image. Both the input and output image can be the
+	 * same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the sqrt() image is written to. Modified.
+	 */
+	public static void sqrt( final GrayF64 input , final GrayF64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + y* input.stride;
+					int indexDst = output.startIndex + y* output.stride;
+					int end = indexSrc + input.width;
+
+					for( ; indexSrc < end; indexSrc++ , indexDst++) {
+						output.data[indexDst] = Math.sqrt(input.data[indexSrc]);
+					}
+				}
+			}
+		});
+	}
+
+}
@@ -20,8 +20,13 @@ package boofcv.alg.transform.ii;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
+import georegression.struct.point.Point2D_I32;
+
+import java.util.List;
 
 
 /**
@@ -43,7 +48,11 @@ public class IntegralImageOps {
 	public static GrayF32 transform(GrayF32 input , GrayF32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -58,7 +67,11 @@ public class IntegralImageOps {
 	public static GrayF64 transform(GrayF64 input , GrayF64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -73,7 +86,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayU8 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -88,7 +105,11 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayS32 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input, transformed);
+		} else {
+			ImplIntegralImageOps.transform(input, transformed);
+		}
 
 		return transformed;
 	}
@@ -103,7 +124,11 @@ public class IntegralImageOps {
 	public static GrayS64 transform(GrayS64 input , GrayS64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input, transformed);
+		} else {
+			ImplIntegralImageOps.transform(input, transformed);
+		}
 
 		return transformed;
 	}
@@ -122,7 +147,11 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		ImplIntegralImageOps.convolve(integral, kernel, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolve(integral, kernel, output);
+		} else {
+			ImplIntegralImageOps.convolve(integral, kernel, output);
+		}
 
 		return output;
 	}
@@ -141,7 +170,11 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		ImplIntegralImageOps.convolve(integral,kernel,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolve(integral,kernel,output);
+		} else {
+			ImplIntegralImageOps.convolve(integral,kernel,output);
+		}
 
 		return output;
 	}
@@ -160,7 +193,11 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		ImplIntegralImageOps.convolve(integral, kernel, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolve(integral, kernel, output);
+		} else {
+			ImplIntegralImageOps.convolve(integral, kernel, output);
+		}
 
 		return output;
 	}
@@ -179,7 +216,11 @@ public class IntegralImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(integral,output);
 
-		ImplIntegralImageOps.convolve(integral,kernel,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolve(integral,kernel,output);
+		} else {
+			ImplIntegralImageOps.convolve(integral,kernel,output);
+		}
 
 		return output;
 	}
@@ -320,6 +361,122 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
 	}
 
+	/**
+	 * Convolves several kernels around several points in the integral image.  Produces the same results as
+	 * calling {@link #convolveSparse(GrayF32, IntegralKernel, int, int)} for every kernel and point, but the
+	 * location of each block relative to the point is only computed once and kernels which are entirely inside
+	 * the image skip bounds checking.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernels Convolution kernels.
+	 * @param locations Pixels the convolution is performed at.
+	 * @param output (Optional) Storage for the results.  If null or too small a new array is declared.
+	 *               The value of kernel k at location i is written to index i*kernels.length + k.
+	 * @return Array containing the results
+	 */
+	public static float[] convolveSparse(GrayF32 integral , IntegralKernel[] kernels ,
+										 List<Point2D_I32> locations , float[] output )
+	{
+		int N = locations.size()*kernels.length;
+		if( output == null || output.length < N )
+			output = new float[N];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolveSparse(integral, kernels, locations, output);
+		} else {
+			ImplIntegralImageOps.convolveSparse(integral, kernels, locations, 0, locations.size(), output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Convolves several kernels around several points in the integral image.  Produces the same results as
+	 * calling {@link #convolveSparse(GrayF64, IntegralKernel, int, int)} for every kernel and point, but the
+	 * location of each block relative to the point is only computed once and kernels which are entirely inside
+	 * the image skip bounds checking.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernels Convolution kernels.
+	 * @param locations Pixels the convolution is performed at.
+	 * @param output (Optional) Storage for the results.  If null or too small a new array is declared.
+	 *               The value of kernel k at location i is written to index i*kernels.length + k.
+	 * @return Array containing the results
+	 */
+	public static double[] convolveSparse(GrayF64 integral , IntegralKernel[] kernels ,
+										 List<Point2D_I32> locations , double[] output )
+	{
+		int N = locations.size()*kernels.length;
+		if( output == null || output.length < N )
+			output = new double[N];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolveSparse(integral, kernels, locations, output);
+		} else {
+			ImplIntegralImageOps.convolveSparse(integral, kernels, locations, 0, locations.size(), output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Convolves several kernels around several points in the integral image.  Produces the same results as
+	 * calling {@link #convolveSparse(GrayS32, IntegralKernel, int, int)} for every kernel and point, but the
+	 * location of each block relative to the point is only computed once and kernels which are entirely inside
+	 * the image skip bounds checking.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernels Convolution kernels.
+	 * @param locations Pixels the convolution is performed at.
+	 * @param output (Optional) Storage for the results.  If null or too small a new array is declared.
+	 *               The value of kernel k at location i is written to index i*kernels.length + k.
+	 * @return Array containing the results
+	 */
+	public static int[] convolveSparse(GrayS32 integral , IntegralKernel[] kernels ,
+										 List<Point2D_I32> locations , int[] output )
+	{
+		int N = locations.size()*kernels.length;
+		if( output == null || output.length < N )
+			output = new int[N];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolveSparse(integral, kernels, locations, output);
+		} else {
+			ImplIntegralImageOps.convolveSparse(integral, kernels, locations, 0, locations.size(), output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Convolves several kernels around several points in the integral image.  Produces the same results as
+	 * calling {@link #convolveSparse(GrayS64, IntegralKernel, int, int)} for every kernel and point, but the
+	 * location of each block relative to the point is only computed once and kernels which are entirely inside
+	 * the image skip bounds checking.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernels Convolution kernels.
+	 * @param locations Pixels the convolution is performed at.
+	 * @param output (Optional) Storage for the results.  If null or too small a new array is declared.
+	 *               The value of kernel k at location i is written to index i*kernels.length + k.
+	 * @return Array containing the results
+	 */
+	public static long[] convolveSparse(GrayS64 integral , IntegralKernel[] kernels ,
+										 List<Point2D_I32> locations , long[] output )
+	{
+		int N = locations.size()*kernels.length;
+		if( output == null || output.length < N )
+			output = new long[N];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.convolveSparse(integral, kernels, locations, output);
+		} else {
+			ImplIntegralImageOps.convolveSparse(integral, kernels, locations, 0, locations.size(), output);
+		}
+
+		return output;
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
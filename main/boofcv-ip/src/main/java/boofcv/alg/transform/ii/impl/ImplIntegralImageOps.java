@@ -21,6 +21,9 @@ package boofcv.alg.transform.ii.impl;
 import boofcv.alg.transform.ii.IntegralKernel;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
+import georegression.struct.point.Point2D_I32;
+
+import java.util.List;
 
 
 /**
@@ -239,6 +242,44 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayF32 integral , IntegralKernel[] kernels ,
+									   List<Point2D_I32> locations , int idx0 , int idx1 , float[] output )
+	{
+		int[] bounds = new int[kernels.length*4];
+		int[] offsets = sparseOffsets(kernels, integral.stride, bounds);
+
+		for( int i = idx0; i < idx1; i++ ) {
+			Point2D_I32 p = locations.get(i);
+			int indexPixel = integral.startIndex + p.y*integral.stride + p.x;
+			int indexOut = i*kernels.length;
+			int indexOffset = 0;
+
+			for( int k = 0; k < kernels.length; k++ ) {
+				IntegralKernel kernel = kernels[k];
+				int N = kernel.blocks.length;
+				float total = 0;
+
+				if( p.x + bounds[k*4] >= 0 && p.y + bounds[k*4+1] >= 0 &&
+						p.x + bounds[k*4+2] < integral.width && p.y + bounds[k*4+3] < integral.height ) {
+					for( int j = 0; j < N; j++ ) {
+						float br = integral.data[ indexPixel + offsets[indexOffset++] ];
+						float tr = integral.data[ indexPixel + offsets[indexOffset++] ];
+						float bl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						float tl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						total += (br-tr-bl+tl)*kernel.scales[j];
+		}
+				} else {
+					for( int j = 0; j < N; j++ ) {
+						ImageRectangle r = kernel.blocks[j];
+						total += block_zero(integral,p.x+r.x0,p.y+r.y0,p.x+r.x1,p.y+r.y1)*kernel.scales[j];
+		}
+					indexOffset += N*4;
+				}
+				output[indexOut+k] = total;
+			}
+		}
+	}
+
 	public static float block_unsafe(GrayF32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		float br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -343,6 +384,44 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayS32 integral , IntegralKernel[] kernels ,
+									   List<Point2D_I32> locations , int idx0 , int idx1 , int[] output )
+	{
+		int[] bounds = new int[kernels.length*4];
+		int[] offsets = sparseOffsets(kernels, integral.stride, bounds);
+
+		for( int i = idx0; i < idx1; i++ ) {
+			Point2D_I32 p = locations.get(i);
+			int indexPixel = integral.startIndex + p.y*integral.stride + p.x;
+			int indexOut = i*kernels.length;
+			int indexOffset = 0;
+
+			for( int k = 0; k < kernels.length; k++ ) {
+				IntegralKernel kernel = kernels[k];
+				int N = kernel.blocks.length;
+				int total = 0;
+
+				if( p.x + bounds[k*4] >= 0 && p.y + bounds[k*4+1] >= 0 &&
+						p.x + bounds[k*4+2] < integral.width && p.y + bounds[k*4+3] < integral.height ) {
+					for( int j = 0; j < N; j++ ) {
+						int br = integral.data[ indexPixel + offsets[indexOffset++] ];
+						int tr = integral.data[ indexPixel + offsets[indexOffset++] ];
+						int bl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						int tl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						total += (br-tr-bl+tl)*kernel.scales[j];
+		}
+				} else {
+					for( int j = 0; j < N; j++ ) {
+						ImageRectangle r = kernel.blocks[j];
+						total += block_zero(integral,p.x+r.x0,p.y+r.y0,p.x+r.x1,p.y+r.y1)*kernel.scales[j];
+		}
+					indexOffset += N*4;
+				}
+				output[indexOut+k] = total;
+			}
+		}
+	}
+
 	public static int block_unsafe(GrayS32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		int br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -447,6 +526,44 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayF64 integral , IntegralKernel[] kernels ,
+									   List<Point2D_I32> locations , int idx0 , int idx1 , double[] output )
+	{
+		int[] bounds = new int[kernels.length*4];
+		int[] offsets = sparseOffsets(kernels, integral.stride, bounds);
+
+		for( int i = idx0; i < idx1; i++ ) {
+			Point2D_I32 p = locations.get(i);
+			int indexPixel = integral.startIndex + p.y*integral.stride + p.x;
+			int indexOut = i*kernels.length;
+			int indexOffset = 0;
+
+			for( int k = 0; k < kernels.length; k++ ) {
+				IntegralKernel kernel = kernels[k];
+				int N = kernel.blocks.length;
+				double total = 0;
+
+				if( p.x + bounds[k*4] >= 0 && p.y + bounds[k*4+1] >= 0 &&
+						p.x + bounds[k*4+2] < integral.width && p.y + bounds[k*4+3] < integral.height ) {
+					for( int j = 0; j < N; j++ ) {
+						double br = integral.data[ indexPixel + offsets[indexOffset++] ];
+						double tr = integral.data[ indexPixel + offsets[indexOffset++] ];
+						double bl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						double tl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						total += (br-tr-bl+tl)*kernel.scales[j];
+		}
+				} else {
+					for( int j = 0; j < N; j++ ) {
+						ImageRectangle r = kernel.blocks[j];
+						total += block_zero(integral,p.x+r.x0,p.y+r.y0,p.x+r.x1,p.y+r.y1)*kernel.scales[j];
+		}
+					indexOffset += N*4;
+				}
+				output[indexOut+k] = total;
+			}
+		}
+	}
+
 	public static double block_unsafe(GrayF64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		double br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -551,6 +668,44 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( GrayS64 integral , IntegralKernel[] kernels ,
+									   List<Point2D_I32> locations , int idx0 , int idx1 , long[] output )
+	{
+		int[] bounds = new int[kernels.length*4];
+		int[] offsets = sparseOffsets(kernels, integral.stride, bounds);
+
+		for( int i = idx0; i < idx1; i++ ) {
+			Point2D_I32 p = locations.get(i);
+			int indexPixel = integral.startIndex + p.y*integral.stride + p.x;
+			int indexOut = i*kernels.length;
+			int indexOffset = 0;
+
+			for( int k = 0; k < kernels.length; k++ ) {
+				IntegralKernel kernel = kernels[k];
+				int N = kernel.blocks.length;
+				long total = 0;
+
+				if( p.x + bounds[k*4] >= 0 && p.y + bounds[k*4+1] >= 0 &&
+						p.x + bounds[k*4+2] < integral.width && p.y + bounds[k*4+3] < integral.height ) {
+					for( int j = 0; j < N; j++ ) {
+						long br = integral.data[ indexPixel + offsets[indexOffset++] ];
+						long tr = integral.data[ indexPixel + offsets[indexOffset++] ];
+						long bl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						long tl = integral.data[ indexPixel + offsets[indexOffset++] ];
+						total += (br-tr-bl+tl)*kernel.scales[j];
+		}
+				} else {
+					for( int j = 0; j < N; j++ ) {
+						ImageRectangle r = kernel.blocks[j];
+						total += block_zero(integral,p.x+r.x0,p.y+r.y0,p.x+r.x1,p.y+r.y1)*kernel.scales[j];
+		}
+					indexOffset += N*4;
+				}
+				output[indexOut+k] = total;
+			}
+		}
+	}
+
 	public static long block_unsafe(GrayS64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		long br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -582,5 +737,44 @@ public class ImplIntegralImageOps {
 		return br-tr-bl+tl;
 	}
 
+/**
+	 * Computes the index offset of each block's corners relative to the pixel the kernels are centered at,
+	 * and the bounding box of each kernel.  Corners are ordered br, tr, bl, tl.  The bounding box of kernel k
+	 * is written to bounds[k*4] as min x, min y, max x, max y.
+ */
+	public static int[] sparseOffsets( IntegralKernel[] kernels , int stride , int[] bounds )
+	{
+		int totalBlocks = 0;
+		for( int k = 0; k < kernels.length; k++ ) {
+			totalBlocks += kernels[k].blocks.length;
+		}
+
+		int[] offsets = new int[totalBlocks*4];
+		int index = 0;
+		for( int k = 0; k < kernels.length; k++ ) {
+			int minX = 0, minY = 0, maxX = 0, maxY = 0;
+			ImageRectangle[] blocks = kernels[k].blocks;
+			for( int j = 0; j < blocks.length; j++ ) {
+				ImageRectangle r = blocks[j];
+				offsets[index++] = r.y1*stride + r.x1;
+				offsets[index++] = r.y0*stride + r.x1;
+				offsets[index++] = r.y1*stride + r.x0;
+				offsets[index++] = r.y0*stride + r.x0;
+
+				if( j == 0 ) {
+					minX = r.x0; minY = r.y0; maxX = r.x1; maxY = r.y1;
+				} else {
+					minX = Math.min(minX,r.x0); minY = Math.min(minY,r.y0);
+					maxX = Math.max(maxX,r.x1); maxY = Math.max(maxY,r.y1);
+				}
+			}
+			bounds[k*4  ] = minX;
+			bounds[k*4+1] = minY;
+			bounds[k*4+2] = maxX;
+			bounds[k*4+3] = maxY;
+		}
+		return offsets;
+	}
+
 
 }
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.transform.ii.IntegralKernel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageRowBands;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.struct.image.*;
+import georegression.struct.point.Point2D_I32;
+
+import java.util.List;
+
+
+/**
+ * <p>
+ * Concurrent version of {@link ImplIntegralImageOps}.  The integral image is computed in two passes.  First
+ * the prefix sum of each row is computed with rows split between threads, then the rows are summed down each
+ * column with columns split between threads.  The additions are the same as in the single threaded version,
+ * so the output is identical.
+ * </p>
+ * 
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps_MT}.
+ * </p>
+ * 
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageOps_MT {
+
+	/**
+	 * Sparse convolution will not split the locations into blocks smaller than this
+	 */
+	public static int MIN_SPARSE_BLOCK = 200;
+
+	public static void transform( final GrayF32 input , final GrayF32 transformed )
+	{
+		// prefix sum along each row
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					float total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		// add the previous row to each row, going down the columns
+		BoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayF64 input , final GrayF64 transformed )
+	{
+		// prefix sum along each row
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		// add the previous row to each row, going down the columns
+		BoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayU8 input , final GrayS32 transformed )
+	{
+		// prefix sum along each row
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+					}
+				}
+			}
+		});
+
+		// add the previous row to each row, going down the columns
+		BoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS32 input , final GrayS32 transformed )
+	{
+		// prefix sum along each row
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		// add the previous row to each row, going down the columns
+		BoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	public static void transform( final GrayS64 input , final GrayS64 transformed )
+	{
+		// prefix sum along each row
+		ImageRowBands.loopRows(input, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		// add the previous row to each row, going down the columns
+		BoofConcurrency.loopBlocks(0, input.width, ImageRowBands.MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int x0, int x1) {
+				for( int y = 1; y < input.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + x1 - x0;
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	public static void convolve( final GrayF32 integral ,
+								 final IntegralKernel kernel,
+								 final GrayF32 output )
+	{
+		ImageRowBands.loopRows(integral, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < integral.width; x++ ) {
+						output.set(x,y,ImplIntegralImageOps.convolveSparse(integral,kernel,x,y));
+					}
+				}
+			}
+		});
+	}
+
+	public static void convolveSparse( final GrayF32 integral , final IntegralKernel[] kernels ,
+									   final List<Point2D_I32> locations , final float[] output )
+	{
+		BoofConcurrency.loopBlocks(0, locations.size(), MIN_SPARSE_BLOCK, new IntRangeConsumer() {
+			@Override
+			public void accept(int idx0, int idx1) {
+				ImplIntegralImageOps.convolveSparse(integral,kernels,locations,idx0,idx1,output);
+			}
+		});
+	}
+
+	public static void convolve( final GrayS32 integral ,
+								 final IntegralKernel kernel,
+								 final GrayS32 output )
+	{
+		ImageRowBands.loopRows(integral, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < integral.width; x++ ) {
+						output.set(x,y,ImplIntegralImageOps.convolveSparse(integral,kernel,x,y));
+					}
+				}
+			}
+		});
+	}
+
+	public static void convolveSparse( final GrayS32 integral , final IntegralKernel[] kernels ,
+									   final List<Point2D_I32> locations , final int[] output )
+	{
+		BoofConcurrency.loopBlocks(0, locations.size(), MIN_SPARSE_BLOCK, new IntRangeConsumer() {
+			@Override
+			public void accept(int idx0, int idx1) {
+				ImplIntegralImageOps.convolveSparse(integral,kernels,locations,idx0,idx1,output);
+			}
+		});
+	}
+
+	public static void convolve( final GrayF64 integral ,
+								 final IntegralKernel kernel,
+								 final GrayF64 output )
+	{
+		ImageRowBands.loopRows(integral, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < integral.width; x++ ) {
+						output.set(x,y,ImplIntegralImageOps.convolveSparse(integral,kernel,x,y));
+					}
+				}
+			}
+		});
+	}
+
+	public static void convolveSparse( final GrayF64 integral , final IntegralKernel[] kernels ,
+									   final List<Point2D_I32> locations , final double[] output )
+	{
+		BoofConcurrency.loopBlocks(0, locations.size(), MIN_SPARSE_BLOCK, new IntRangeConsumer() {
+			@Override
+			public void accept(int idx0, int idx1) {
+				ImplIntegralImageOps.convolveSparse(integral,kernels,locations,idx0,idx1,output);
+			}
+		});
+	}
+
+	public static void convolve( final GrayS64 integral ,
+								 final IntegralKernel kernel,
+								 final GrayS64 output )
+	{
+		ImageRowBands.loopRows(integral, new IntRangeConsumer() {
+			@Override
+			public void accept(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					for( int x = 0; x < integral.width; x++ ) {
+						output.set(x,y,ImplIntegralImageOps.convolveSparse(integral,kernel,x,y));
+					}
+				}
+			}
+		});
+	}
+
+	public static void convolveSparse( final GrayS64 integral , final IntegralKernel[] kernels ,
+									   final List<Point2D_I32> locations , final long[] output )
+	{
+		BoofConcurrency.loopBlocks(0, locations.size(), MIN_SPARSE_BLOCK, new IntRangeConsumer() {
+			@Override
+			public void accept(int idx0, int idx1) {
+				ImplIntegralImageOps.convolveSparse(integral,kernels,locations,idx0,idx1,output);
+			}
+		});
+	}
+
+
+}
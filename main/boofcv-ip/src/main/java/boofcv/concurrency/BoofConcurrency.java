@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * Central location for controlling how BoofCV algorithms make use of multiple threads.  Every concurrent
+ * algorithm in every module should submit its work through this class so that they all share the same thread pool
+ * and honor the same thread budget.
+ * </p>
+ *
+ * <ul>
+ *     <li>Concurrent implementations are opt-in.  Unless {@link #USE_CONCURRENT} is set to true the single threaded
+ *     code path is used everywhere, which is the same code path as before concurrent implementations existed.</li>
+ *     <li>Classes with an _MT suffix always run concurrently and can be called directly to override the global
+ *     setting for a single call.</li>
+ *     <li>Setting the maximum number of threads to one forces all work to be done serially in the calling thread,
+ *     including _MT classes.</li>
+ * </ul>
+ *
+ * <p>
+ * All work is submitted to a single shared {@link ForkJoinPool}.  Work is split into a fixed number of contiguous
+ * blocks whose boundaries only depend on the range, minimum block size, and number of threads, not on timing.  The
+ * results of algorithms which write to disjoint regions are identical to the single threaded version and results
+ * which are reduced from per-block workspaces in block order are reproducible.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+	/**
+	 * Global switch.  If true then algorithms which have a concurrent implementation will use it.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	// thread pool that all concurrent algorithms share
+	private static ForkJoinPool pool = new ForkJoinPool();
+	// if true then the pool was created here and can be shutdown here
+	private static boolean ownsPool = true;
+
+	/**
+	 * Changes the maximum number of threads which will be used by concurrent algorithms.  A new pool is
+	 * created with the specified parallelism.
+	 *
+	 * @param maxThreads Maximum number of threads.  Must be &ge; 1
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Must be at least one thread");
+		if( maxThreads == pool.getParallelism() )
+			return;
+		setPool(new ForkJoinPool(maxThreads), true);
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used by concurrent algorithms.
+	 */
+	public static int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Specifies the pool which all concurrent algorithms will use.  Allows BoofCV to share threads with the rest
+	 * of an application.  The pool passed in is not shutdown by BoofCV.
+	 *
+	 * @param pool The thread pool
+	 */
+	public static void setPool( ForkJoinPool pool ) {
+		setPool(pool,false);
+	}
+
+	private static synchronized void setPool( ForkJoinPool pool , boolean owned ) {
+		if( pool == null )
+			throw new IllegalArgumentException("Pool can't be null");
+		ForkJoinPool old = BoofConcurrency.pool;
+		boolean ownedOld = ownsPool;
+		BoofConcurrency.pool = pool;
+		BoofConcurrency.ownsPool = owned;
+		if( ownedOld && old != pool )
+			old.shutdown();
+	}
+
+	/**
+	 * Returns the pool which all concurrent algorithms use
+	 */
+	public static ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Computes the number of blocks a range will be split into.
+	 *
+	 * @param range Number of elements in the range
+	 * @param minBlock The smallest number of elements a block can have
+	 * @return Number of blocks.  Zero if the range is empty
+	 */
+	public static int computeNumBlocks( int range , int minBlock ) {
+		if( range <= 0 )
+			return 0;
+		return Math.max(1,Math.min(pool.getParallelism(), range/Math.max(1,minBlock)));
+	}
+
+	/**
+	 * Same as {@link #loopBlocks(int, int, int, IntRangeConsumer)} with a minimum block size of one.
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeConsumer consumer ) {
+		loopBlocks(start,endExclusive,1,consumer);
+	}
+
+	/**
+	 * Splits the range into contiguous blocks and processes each block in its own task.  The number of
+	 * blocks is the number of threads, unless that would make a block smaller than minBlock.  If only one
+	 * block is needed then it's processed in the calling thread.  Returns after all blocks have been processed.
+	 *
+	 * @param start First index in the range, inclusive
+	 * @param endExclusive Last index in the range, exclusive
+	 * @param minBlock The smallest number of elements a block can have
+	 * @param consumer Processes each block
+	 */
+	public static void loopBlocks( int start , int endExclusive , int minBlock ,
+								   final IntRangeConsumer consumer ) {
+		final int range = endExclusive-start;
+		final int numBlocks = computeNumBlocks(range,minBlock);
+		if( numBlocks == 0 )
+			return;
+		if( numBlocks == 1 ) {
+			consumer.accept(start,endExclusive);
+			return;
+		}
+
+		RecursiveAction[] tasks = new RecursiveAction[numBlocks];
+		for (int i = 0; i < numBlocks; i++) {
+			final int i0 = blockBoundary(start,range,numBlocks,i);
+			final int i1 = blockBoundary(start,range,numBlocks,i+1);
+			tasks[i] = new RecursiveAction() {
+				@Override
+				protected void compute() {
+					consumer.accept(i0,i1);
+				}
+			};
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * <p>
+	 * Splits the range into blocks, the same as {@link #loopBlocks(int, int, int, IntRangeConsumer)}, and provides
+	 * each block with its own workspace.  The workspace is reset and then grown to have one element for each block,
+	 * where element 'i' is passed to block 'i'.  Elements are only declared the first time they're needed, so by
+	 * reusing the same workspace no memory is allocated after the first call.
+	 * </p>
+	 *
+	 * <p>
+	 * Once this function returns the caller can combine the results in each workspace.  Combining them in
+	 * index order produces the same results for the same number of blocks.
+	 * </p>
+	 *
+	 * @param start First index in the range, inclusive
+	 * @param endExclusive Last index in the range, exclusive
+	 * @param minBlock The smallest number of elements a block can have
+	 * @param workspace Storage for per-block workspace.  Create instances by overriding createInstance() if needed.
+	 * @param consumer Processes each block
+	 */
+	public static <T> void loopBlocks( int start , int endExclusive , int minBlock ,
+									   final FastQueue<T> workspace ,
+									   final IntRangeObjectConsumer<T> consumer ) {
+		final int range = endExclusive-start;
+		final int numBlocks = computeNumBlocks(range,minBlock);
+		workspace.reset();
+		if( numBlocks == 0 )
+			return;
+		for (int i = 0; i < numBlocks; i++) {
+			workspace.grow();
+		}
+		if( numBlocks == 1 ) {
+			consumer.accept(workspace.get(0),start,endExclusive);
+			return;
+		}
+
+		RecursiveAction[] tasks = new RecursiveAction[numBlocks];
+		for (int i = 0; i < numBlocks; i++) {
+			final int i0 = blockBoundary(start,range,numBlocks,i);
+			final int i1 = blockBoundary(start,range,numBlocks,i+1);
+			final T data = workspace.get(i);
+			tasks[i] = new RecursiveAction() {
+				@Override
+				protected void compute() {
+					consumer.accept(data,i0,i1);
+				}
+			};
+		}
+		invokeAll(tasks);
+	}
+
+	/**
+	 * Computes the number of blocks {@link #loopBlocksFixed} will split a range into.
+	 *
+	 * @param range Number of elements in the range
+	 * @param blockSize Number of elements in each block
+	 * @return Number of blocks.  Zero if the range is empty
+	 */
+	public static int computeNumBlocksFixed( int range , int blockSize ) {
+		if( range <= 0 )
+			return 0;
+		return (range+blockSize-1)/blockSize;
+	}
+
+	/**
+	 * <p>
+	 * Splits the range into blocks which all have the same size, except for the last block which can be smaller.
+	 * Unlike {@link #loopBlocks(int, int, int, IntRangeConsumer)} block boundaries don't depend on the number of
+	 * threads.  Reductions which save one result for each block and then combine them in block order, e.g. summing
+	 * floating point numbers, will produce identical results for any number of threads.
+	 * </p>
+	 *
+	 * <p>
+	 * Block 'i' covers [start + i*blockSize, start + (i+1)*blockSize).  Blocks are distributed between the threads
+	 * and this function returns after all blocks have been processed.
+	 * </p>
+	 *
+	 * @param start First index in the range, inclusive
+	 * @param endExclusive Last index in the range, exclusive
+	 * @param blockSize Number of elements in each block.  Must be &ge; 1
+	 * @param consumer Processes each block
+	 */
+	public static void loopBlocksFixed( final int start , final int endExclusive , final int blockSize ,
+										final IntRangeConsumer consumer ) {
+		if( blockSize < 1 )
+			throw new IllegalArgumentException("Block size must be at least one");
+		int numBlocks = computeNumBlocksFixed(endExclusive-start,blockSize);
+		loopBlocks(0, numBlocks, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				for (int block = minInclusive; block < maxExclusive; block++) {
+					int i0 = start + block*blockSize;
+					consumer.accept(i0, Math.min(endExclusive, i0+blockSize));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Index of the first element in block 'i'
+	 */
+	private static int blockBoundary( int start , int range , int numBlocks , int i ) {
+		return start + (int)((long)range*i/numBlocks);
+	}
+
+	/**
+	 * Runs all the tasks and blocks until they have finished.  Exceptions thrown inside a task are
+	 * rethrown in the calling thread.
+	 */
+	private static void invokeAll( final RecursiveAction[] tasks ) {
+		if( ForkJoinTask.inForkJoinPool() ) {
+			// already inside a worker thread.  Don't block the worker, let it help instead
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(tasks);
+				}
+			});
+		}
+	}
+}
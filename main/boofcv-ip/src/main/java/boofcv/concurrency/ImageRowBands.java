@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import boofcv.struct.image.ImageBase;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * <p>
+ * Runs an operation concurrently by splitting the image into horizontal bands of rows.  Each band is passed to
+ * the single threaded operation as a pair of sub-images, so the operation itself doesn't need to be modified.
+ * </p>
+ *
+ * <p>
+ * Operations which skip over the image border, e.g. convolution without border handling, are supported by
+ * specifying the number of rows at the top and bottom which they don't write to.  Each input band is expanded
+ * by that halo so the operation writes to exactly the band's rows, making the output identical to processing
+ * the whole image at once.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings("unchecked")
+public class ImageRowBands {
+
+	/**
+	 * Bands will not be made smaller than this number of rows
+	 */
+	public static int MIN_BAND_HEIGHT = 16;
+
+	/**
+	 * Processes the image in bands with no halo.  Appropriate for operations where each output row only depends
+	 * on the same input row.
+	 *
+	 * @see #process(ImageBase, ImageBase, int, int, Task)
+	 */
+	public static <In extends ImageBase, Out extends ImageBase>
+	void process( In input , Out output , Task<In,Out> task ) {
+		process(input,output,0,0,task);
+	}
+
+	/**
+	 * Splits the image into bands and processes each band in its own thread.  Input and output must have
+	 * the same shape.
+	 *
+	 * @param input Input image
+	 * @param output Output image
+	 * @param haloTop Number of rows at the top which the operation reads from but doesn't write to
+	 * @param haloBottom Number of rows at the bottom which the operation reads from but doesn't write to
+	 * @param task The operation which is applied to each band
+	 */
+	public static <In extends ImageBase, Out extends ImageBase>
+	void process( final In input , final Out output ,
+				  final int haloTop , final int haloBottom , final Task<In,Out> task ) {
+		final int y0 = haloTop;
+		final int y1 = input.height-haloBottom;
+
+		if( BoofConcurrency.computeNumBlocks(y1-y0,MIN_BAND_HEIGHT) <= 1 ) {
+			task.process(input,output);
+			return;
+		}
+
+		BoofConcurrency.loopBlocks(y0, y1, MIN_BAND_HEIGHT, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				int top = minInclusive-haloTop;
+				int bottom = maxExclusive+haloBottom;
+				task.process((In)input.subimage(0,top,input.width,bottom,null),
+						(Out)output.subimage(0,top,output.width,bottom,null));
+			}
+		});
+	}
+
+	/**
+	 * Splits the image's rows into bands and processes each band in its own thread.  For operations which
+	 * iterate over the rows directly instead of working with sub-images.
+	 *
+	 * @param image The image whose rows are being processed
+	 * @param consumer Processes a range of rows
+	 */
+	public static void loopRows( ImageBase image , IntRangeConsumer consumer ) {
+		BoofConcurrency.loopBlocks(0,image.height,MIN_BAND_HEIGHT,consumer);
+	}
+
+	/**
+	 * Same as {@link #loopRows(ImageBase, IntRangeConsumer)} but each band is given its own workspace.
+	 *
+	 * @see BoofConcurrency#loopBlocks(int, int, int, FastQueue, IntRangeObjectConsumer)
+	 */
+	public static <T> void loopRows( ImageBase image , FastQueue<T> workspace , IntRangeObjectConsumer<T> consumer ) {
+		BoofConcurrency.loopBlocks(0,image.height,MIN_BAND_HEIGHT,workspace,consumer);
+	}
+
+	/**
+	 * Single threaded operation which is applied to each band.  The sub-images it's passed share data
+	 * with the original images.
+	 */
+	public interface Task<In extends ImageBase, Out extends ImageBase> {
+		void process( In input , Out output );
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+/**
+ * Processes a contiguous range of integers.  Typically the range is a set of image rows or array indexes
+ * which has been assigned to a single thread.
+ *
+ * @author Peter Abeles
+ */
+public interface IntRangeConsumer {
+	/**
+	 * Process all elements in the range
+	 *
+	 * @param minInclusive First element in the range, inclusive
+	 * @param maxExclusive Last element in the range, exclusive
+	 */
+	void accept( int minInclusive , int maxExclusive );
+}
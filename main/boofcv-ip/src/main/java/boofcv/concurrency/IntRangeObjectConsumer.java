@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+/**
+ * Processes a contiguous range of integers using a workspace which belongs to this range only.
+ *
+ * @see BoofConcurrency#loopBlocks(int, int, int, org.ddogleg.struct.FastQueue, IntRangeObjectConsumer)
+ *
+ * @author Peter Abeles
+ */
+public interface IntRangeObjectConsumer<T> {
+	/**
+	 * Process all elements in the range
+	 *
+	 * @param data Workspace which is used exclusively by this range
+	 * @param minInclusive First element in the range, inclusive
+	 * @param maxExclusive Last element in the range, exclusive
+	 */
+	void accept( T data , int minInclusive , int maxExclusive );
+}
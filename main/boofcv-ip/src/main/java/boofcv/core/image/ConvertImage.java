@@ -3289,5 +3289,161 @@ public class ConvertImage {
 	return output;
 	}
 
+	/**
+	 * Converts a {@link GrayU8} into a {@link GrayF32} and applies a linear transform to each
+	 * pixel in a single pass, i.e. output = scale*input + offset.
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static GrayF32 convert( GrayU8 input , float scale , float offset , GrayF32 output ) {
+		if (output == null) {
+			output = new GrayF32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link InterleavedU8} into a {@link InterleavedF32} and applies a linear transform to each
+	 * pixel in a single pass, i.e. output = scale*input + offset.
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static InterleavedF32 convert( InterleavedU8 input , float scale , float offset , InterleavedF32 output ) {
+		if (output == null) {
+			output = new InterleavedF32(input.width, input.height, input.numBands);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link Planar} into a {@link Planar} of {@link GrayF32} and applies a linear transform to
+	 * each pixel in a single pass, i.e. output = scale*input + offset.
+	 *
+	 * @param input (Input) Planar image that is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static Planar<GrayF32> convert( Planar<GrayU8> input , float scale , float offset , Planar<GrayF32> output ) {
+		if (output == null) {
+			output = new Planar<GrayF32>(GrayF32.class,input.width, input.height,input.getNumBands());
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		for (int i = 0; i < input.getNumBands(); i++) {
+			ImplConvertImage.convert(input.getBand(i), scale, offset, output.getBand(i));
+		}
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link InterleavedU8} into a {@link Planar} of {@link GrayF32} and applies a linear
+	 * transform to each pixel, i.e. output = scale*input + offset.  The input is only read once.
+	 *
+	 * @param input (Input) ImageInterleaved that is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static Planar<GrayF32> convert( InterleavedU8 input , float scale , float offset , Planar<GrayF32> output ) {
+		if (output == null) {
+			output = new Planar<GrayF32>(GrayF32.class,input.width, input.height,input.numBands);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link GrayU16} into a {@link GrayF32} and applies a linear transform to each
+	 * pixel in a single pass, i.e. output = scale*input + offset.
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static GrayF32 convert( GrayU16 input , float scale , float offset , GrayF32 output ) {
+		if (output == null) {
+			output = new GrayF32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link InterleavedU16} into a {@link InterleavedF32} and applies a linear transform to each
+	 * pixel in a single pass, i.e. output = scale*input + offset.
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static InterleavedF32 convert( InterleavedU16 input , float scale , float offset , InterleavedF32 output ) {
+		if (output == null) {
+			output = new InterleavedF32(input.width, input.height, input.numBands);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a {@link InterleavedU16} into a {@link Planar} of {@link GrayF32} and applies a linear
+	 * transform to each pixel, i.e. output = scale*input + offset.  The input is only read once.
+	 *
+	 * @param input (Input) ImageInterleaved that is being converted. Not modified.
+	 * @param scale Value each pixel is multiplied by
+	 * @param offset Value added to each pixel after scaling
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static Planar<GrayF32> convert( InterleavedU16 input , float scale , float offset , Planar<GrayF32> output ) {
+		if (output == null) {
+			output = new Planar<GrayF32>(GrayF32.class,input.width, input.height,input.numBands);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		ImplConvertImage.convert(input, scale, offset, output);
+
+		return output;
+	}
+
 
 }
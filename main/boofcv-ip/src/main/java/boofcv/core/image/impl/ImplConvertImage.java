@@ -2239,4 +2239,88 @@ public class ImplConvertImage {
 		}
 	}
 
+	public static void convert( GrayU8 from, float scale , float offset , GrayF32 to ) {
+
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.startIndex + y*from.stride;
+			int indexTo = to.startIndex + y*to.stride;
+			int indexEnd = indexFrom + from.width;
+
+			for (; indexFrom < indexEnd; indexFrom++ ) {
+				to.data[indexTo++] = scale*(from.data[indexFrom] & 0xFF) + offset;
+			}
+		}
+	}
+
+	public static void convert( InterleavedU8 from, float scale , float offset , InterleavedF32 to ) {
+
+		final int N = from.width * from.getNumBands();
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.startIndex + y*from.stride;
+			int indexTo = to.startIndex + y*to.stride;
+			int indexEnd = indexFrom + N;
+
+			for (; indexFrom < indexEnd; indexFrom++ ) {
+				to.data[indexTo++] = scale*(from.data[indexFrom] & 0xFF) + offset;
+			}
+		}
+	}
+
+	public static void convert( InterleavedU8 input , float scale , float offset , Planar<GrayF32> output ) {
+
+		final int numBands = input.numBands;
+		for (int y = 0; y < input.height; y++) {
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+
+			for (int x = 0; x < input.width; x++, indexDst++ ) {
+				for (int i = 0; i < numBands; i++) {
+					output.bands[i].data[indexDst] = scale*(input.data[indexSrc++] & 0xFF) + offset;
+				}
+			}
+		}
+	}
+
+	public static void convert( GrayU16 from, float scale , float offset , GrayF32 to ) {
+
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.startIndex + y*from.stride;
+			int indexTo = to.startIndex + y*to.stride;
+			int indexEnd = indexFrom + from.width;
+
+			for (; indexFrom < indexEnd; indexFrom++ ) {
+				to.data[indexTo++] = scale*(from.data[indexFrom] & 0xFFFF) + offset;
+			}
+		}
+	}
+
+	public static void convert( InterleavedU16 from, float scale , float offset , InterleavedF32 to ) {
+
+		final int N = from.width * from.getNumBands();
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.startIndex + y*from.stride;
+			int indexTo = to.startIndex + y*to.stride;
+			int indexEnd = indexFrom + N;
+
+			for (; indexFrom < indexEnd; indexFrom++ ) {
+				to.data[indexTo++] = scale*(from.data[indexFrom] & 0xFFFF) + offset;
+			}
+		}
+	}
+
+	public static void convert( InterleavedU16 input , float scale , float offset , Planar<GrayF32> output ) {
+
+		final int numBands = input.numBands;
+		for (int y = 0; y < input.height; y++) {
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+
+			for (int x = 0; x < input.width; x++, indexDst++ ) {
+				for (int i = 0; i < numBands; i++) {
+					output.bands[i].data[indexDst] = scale*(input.data[indexSrc++] & 0xFFFF) + offset;
+				}
+			}
+		}
+	}
+
 }
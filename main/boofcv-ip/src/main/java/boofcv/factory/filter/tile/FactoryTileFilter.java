@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.factory.filter.tile;
+
+import boofcv.abst.filter.tile.TileFilter;
+import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
+
+/**
+ * Factory for creating {@link TileFilter}s from common image processing operations.  The halo of each filter
+ * is found from the radius of its kernel.  Filters which need workspace allocate it once and reshape it for each
+ * tile.  Each thread gets its own filter, and workspace, from {@link TileFilter#copy()}.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryTileFilter {
+
+	/**
+	 * Horizontal 1D convolution.
+	 *
+	 * @see GConvolveImageOps#horizontal(Kernel1D, ImageBase, ImageBase, boofcv.core.image.border.ImageBorder)
+	 *
+	 * @param kernel Convolution kernel
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param border How image borders are handled.  Can't be SKIP or WRAP.
+	 */
+	public static <In extends ImageBase<In>, Out extends ImageBase<Out>>
+	TileFilter<In,Out> horizontal( final Kernel1D kernel , ImageType<In> inputType , ImageType<Out> outputType ,
+								   final BorderType border ) {
+		checkBorder(border);
+		return new Base<In,Out>(inputType,outputType,halo(kernel),0) {
+			@Override
+			public void process(In input, Out output) {
+				GConvolveImageOps.horizontal(kernel, input, output, FactoryImageBorder.wrap(border, input));
+			}
+		};
+	}
+
+	/**
+	 * Vertical 1D convolution.
+	 *
+	 * @see GConvolveImageOps#vertical(Kernel1D, ImageBase, ImageBase, boofcv.core.image.border.ImageBorder)
+	 *
+	 * @param kernel Convolution kernel
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param border How image borders are handled.  Can't be SKIP or WRAP.
+	 */
+	public static <In extends ImageBase<In>, Out extends ImageBase<Out>>
+	TileFilter<In,Out> vertical( final Kernel1D kernel , ImageType<In> inputType , ImageType<Out> outputType ,
+								 final BorderType border ) {
+		checkBorder(border);
+		return new Base<In,Out>(inputType,outputType,0,halo(kernel)) {
+			@Override
+			public void process(In input, Out output) {
+				GConvolveImageOps.vertical(kernel, input, output, FactoryImageBorder.wrap(border, input));
+			}
+		};
+	}
+
+	/**
+	 * 2D convolution.
+	 *
+	 * @see GConvolveImageOps#convolve(Kernel2D, ImageBase, ImageBase, boofcv.core.image.border.ImageBorder)
+	 *
+	 * @param kernel Convolution kernel
+	 * @param inputType Type of input image
+	 * @param outputType Type of output image
+	 * @param border How image borders are handled.  Can't be SKIP or WRAP.
+	 */
+	public static <In extends ImageBase<In>, Out extends ImageBase<Out>>
+	TileFilter<In,Out> convolve( final Kernel2D kernel , ImageType<In> inputType , ImageType<Out> outputType ,
+								 final BorderType border ) {
+		checkBorder(border);
+		int halo = halo(kernel);
+		return new Base<In,Out>(inputType,outputType,halo,halo) {
+			@Override
+			public void process(In input, Out output) {
+				GConvolveImageOps.convolve(kernel, input, output, FactoryImageBorder.wrap(border, input));
+			}
+		};
+	}
+
+	/**
+	 * Separable convolution, horizontal then vertical, with the kernel re-normalized along the image border.
+	 *
+	 * @see GConvolveImageOps#horizontalNormalized(Kernel1D, ImageBase, ImageBase)
+	 * @see GConvolveImageOps#verticalNormalized(Kernel1D, ImageBase, ImageBase)
+	 *
+	 * @param kernel Convolution kernel which is applied along both axes
+	 * @param imageType Type of input and output image
+	 */
+	public static <T extends ImageBase<T>>
+	TileFilter<T,T> convolveNormalized( final Kernel1D kernel , final ImageType<T> imageType ) {
+		int halo = halo(kernel);
+		return new Base<T,T>(imageType,imageType,halo,halo) {
+			T storage = imageType.createImage(1, 1);
+
+			@Override
+			public void process(T input, T output) {
+				storage.reshape(input.width, input.height);
+				GConvolveImageOps.horizontalNormalized(kernel, input, storage);
+				GConvolveImageOps.verticalNormalized(kernel, storage, output);
+			}
+
+			@Override
+			public TileFilter<T,T> copy() {
+				return convolveNormalized(kernel, imageType);
+			}
+		};
+	}
+
+	/**
+	 * Mean blur.
+	 *
+	 * @see GBlurImageOps#mean
+	 *
+	 * @param imageType Type of input and output image
+	 * @param radius Radius of the blur region
+	 */
+	public static <T extends ImageBase<T>>
+	TileFilter<T,T> blurMean( final ImageType<T> imageType , final int radius ) {
+		return new Base<T,T>(imageType,imageType,radius,radius) {
+			ImageBase storage = createBlurStorage(imageType);
+
+			@Override
+			public void process(T input, T output) {
+				storage.reshape(input.width, input.height);
+				GBlurImageOps.mean(input, output, radius, storage);
+			}
+
+			@Override
+			public TileFilter<T,T> copy() {
+				return blurMean(imageType, radius);
+			}
+		};
+	}
+
+	/**
+	 * Gaussian blur.
+	 *
+	 * @see GBlurImageOps#gaussian
+	 *
+	 * @param imageType Type of input and output image
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then it will be selected based on the radius.
+	 * @param radius Radius of the Gaussian kernel.  If &le; 0 then it will be selected based on sigma.
+	 */
+	public static <T extends ImageBase<T>>
+	TileFilter<T,T> blurGaussian( final ImageType<T> imageType , final double sigma , final int radius ) {
+		int halo = radius <= 0 ? FactoryKernelGaussian.radiusForSigma(sigma, 0) : radius;
+		return new Base<T,T>(imageType,imageType,halo,halo) {
+			ImageBase storage = createBlurStorage(imageType);
+
+			@Override
+			public void process(T input, T output) {
+				storage.reshape(input.width, input.height);
+				GBlurImageOps.gaussian(input, output, sigma, radius, storage);
+			}
+
+			@Override
+			public TileFilter<T,T> copy() {
+				return blurGaussian(imageType, sigma, radius);
+			}
+		};
+	}
+
+	/**
+	 * Median blur.
+	 *
+	 * @see GBlurImageOps#median
+	 *
+	 * @param imageType Type of input and output image
+	 * @param radius Radius of the median region
+	 */
+	public static <T extends ImageBase<T>>
+	TileFilter<T,T> blurMedian( ImageType<T> imageType , final int radius ) {
+		return new Base<T,T>(imageType,imageType,radius,radius) {
+			@Override
+			public void process(T input, T output) {
+				GBlurImageOps.median(input, output, radius);
+			}
+		};
+	}
+
+	/**
+	 * Image derivative along the x-axis.
+	 *
+	 * @see GImageDerivativeOps#gradient
+	 *
+	 * @param type Type of gradient to compute
+	 * @param inputType Type of input image
+	 * @param border How image borders are handled.  Can't be SKIP or WRAP.
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	TileFilter<I,D> derivativeX( DerivativeType type , Class<I> inputType , BorderType border ) {
+		return derivative(type, inputType, border, true);
+	}
+
+	/**
+	 * Image derivative along the y-axis.
+	 *
+	 * @see GImageDerivativeOps#gradient
+	 *
+	 * @param type Type of gradient to compute
+	 * @param inputType Type of input image
+	 * @param border How image borders are handled.  Can't be SKIP or WRAP.
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	TileFilter<I,D> derivativeY( DerivativeType type , Class<I> inputType , BorderType border ) {
+		return derivative(type, inputType, border, false);
+	}
+
+	private static <I extends ImageGray<I>, D extends ImageGray<D>>
+	TileFilter<I,D> derivative( final DerivativeType type , final Class<I> inputType , final BorderType border ,
+								final boolean isX ) {
+		checkBorder(border);
+		final Class<D> derivType = GImageDerivativeOps.getDerivativeType(inputType);
+		int halo = halo(GImageDerivativeOps.lookupKernelX(type, !GeneralizedImageOps.isFloatingPoint(inputType)));
+
+		return new Base<I,D>(ImageType.single(inputType),ImageType.single(derivType),halo,halo) {
+			// the gradient is computed along both axes at once and the other axis is discarded
+			D other = GeneralizedImageOps.createSingleBand(derivType, 1, 1);
+
+			@Override
+			public void process(I input, D output) {
+				other.reshape(input.width, input.height);
+				if( isX )
+					GImageDerivativeOps.gradient(type, input, output, other, border);
+				else
+					GImageDerivativeOps.gradient(type, input, other, output, border);
+			}
+
+			@Override
+			public TileFilter<I,D> copy() {
+				return derivative(type, inputType, border, isX);
+			}
+		};
+	}
+
+	/**
+	 * Global threshold.
+	 *
+	 * @see GThresholdImageOps#threshold
+	 *
+	 * @param inputType Type of input image
+	 * @param threshold The threshold
+	 * @param down If true then pixels with values &le; the threshold are set to 1
+	 */
+	public static <T extends ImageGray<T>>
+	TileFilter<T,GrayU8> threshold( Class<T> inputType , final double threshold , final boolean down ) {
+		return new Base<T,GrayU8>(ImageType.single(inputType),ImageType.single(GrayU8.class),0,0) {
+			@Override
+			public void process(T input, GrayU8 output) {
+				GThresholdImageOps.threshold(input, output, threshold, down);
+			}
+		};
+	}
+
+	/**
+	 * Threshold which is computed from the mean of the local square region.
+	 *
+	 * @see GThresholdImageOps#localMean
+	 *
+	 * @param inputType Type of input image
+	 * @param radius Radius of the local region
+	 * @param scale Scale factor used to adjust the threshold
+	 * @param down If true then pixels with values &le; the threshold are set to 1
+	 */
+	public static <T extends ImageGray<T>>
+	TileFilter<T,GrayU8> localMean( final Class<T> inputType , final int radius , final double scale ,
+									final boolean down ) {
+		return new Base<T,GrayU8>(ImageType.single(inputType),ImageType.single(GrayU8.class),radius,radius) {
+			T work1 = GeneralizedImageOps.createSingleBand(inputType, 1, 1);
+			T work2 = GeneralizedImageOps.createSingleBand(inputType, 1, 1);
+
+			@Override
+			public void process(T input, GrayU8 output) {
+				work1.reshape(input.width, input.height);
+				work2.reshape(input.width, input.height);
+				GThresholdImageOps.localMean(input, output, radius, scale, down, work1, work2);
+			}
+
+			@Override
+			public TileFilter<T,GrayU8> copy() {
+				return localMean(inputType, radius, scale, down);
+			}
+		};
+	}
+
+	/**
+	 * Threshold which is computed from the Gaussian weighted local square region.
+	 *
+	 * @see GThresholdImageOps#localGaussian
+	 *
+	 * @param inputType Type of input image
+	 * @param radius Radius of the local region
+	 * @param scale Scale factor used to adjust the threshold
+	 * @param down If true then pixels with values &le; the threshold are set to 1
+	 */
+	public static <T extends ImageGray<T>>
+	TileFilter<T,GrayU8> localGaussian( final Class<T> inputType , final int radius , final double scale ,
+										final boolean down ) {
+		return new Base<T,GrayU8>(ImageType.single(inputType),ImageType.single(GrayU8.class),radius,radius) {
+			T work1 = GeneralizedImageOps.createSingleBand(inputType, 1, 1);
+			T work2 = GeneralizedImageOps.createSingleBand(inputType, 1, 1);
+
+			@Override
+			public void process(T input, GrayU8 output) {
+				work1.reshape(input.width, input.height);
+				work2.reshape(input.width, input.height);
+				GThresholdImageOps.localGaussian(input, output, radius, scale, down, work1, work2);
+			}
+
+			@Override
+			public TileFilter<T,GrayU8> copy() {
+				return localGaussian(inputType, radius, scale, down);
+			}
+		};
+	}
+
+	/**
+	 * Number of pixels the kernel extends from its center along either direction
+	 */
+	static int halo( KernelBase kernel ) {
+		return Math.max(kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1);
+	}
+
+	/**
+	 * Storage for the intermediate results of a separable blur.  Planar images are blurred one band at a time.
+	 */
+	private static ImageBase createBlurStorage( ImageType<?> imageType ) {
+		if( imageType.getFamily() == ImageType.Family.PLANAR )
+			return GeneralizedImageOps.createSingleBand(imageType.getDataType(), 1, 1);
+		return imageType.createImage(1, 1);
+	}
+
+	/**
+	 * Borders which skip pixels or look at the far side of the image produce different results along the
+	 * edges of each tile
+	 */
+	private static void checkBorder( BorderType border ) {
+		if( border == BorderType.SKIP || border == BorderType.WRAP )
+			throw new IllegalArgumentException("Border type "+border+" can't be used with tiles");
+	}
+
+	private static abstract class Base<In extends ImageBase<In>, Out extends ImageBase<Out>>
+			implements TileFilter<In,Out> {
+		ImageType<In> typeIn;
+		ImageType<Out> typeOut;
+		int haloX, haloY;
+
+		Base(ImageType<In> inputType, ImageType<Out> outputType, int haloX, int haloY) {
+			this.typeIn = inputType;
+			this.typeOut = outputType;
+			this.haloX = haloX;
+			this.haloY = haloY;
+		}
+
+		@Override
+		public int getHorizontalHalo() {
+			return haloX;
+		}
+
+		@Override
+		public int getVerticalHalo() {
+			return haloY;
+		}
+
+		@Override
+		public ImageType<In> getInputType() {
+			return typeIn;
+		}
+
+		@Override
+		public ImageType<Out> getOutputType() {
+			return typeOut;
+		}
+
+		/**
+		 * Filters without workspace are safe to share between threads
+		 */
+		@Override
+		public TileFilter<In,Out> copy() {
+			return this;
+		}
+	}
+}
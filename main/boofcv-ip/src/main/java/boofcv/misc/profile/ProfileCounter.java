@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+/**
+ * Records the number of items processed by a stage inside of a {@link ProfileScope}, e.g. number of contours
+ * found or number of features tracked.  Each call to {@link #add(long)} is a single measurement.
+ *
+ * @author Peter Abeles
+ */
+public class ProfileCounter {
+	private final ProfileScope scope;
+	private final String name;
+
+	ProfileCounter( ProfileScope scope , String name ) {
+		this.scope = scope;
+		this.name = name;
+	}
+
+	/**
+	 * Records a measurement.  Nothing is done if profiling is disabled.
+	 *
+	 * @param amount Number of items
+	 */
+	public void add( long amount ) {
+		ProfileSink sink = scope.sink;
+		if( sink != null )
+			sink.recordCount(this, amount);
+	}
+
+	/**
+	 * Full path of the counter, which is the path of its scope followed by its name
+	 */
+	public String getPath() {
+		return scope.getPath() + "/" + name;
+	}
+
+	public ProfileScope getScope() {
+		return scope;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+/**
+ * <p>
+ * Histogram of non-negative measurements with logarithmically spaced buckets.  Bucket 0 contains values &le; 0
+ * and bucket i &gt; 0 contains values in the range [2<sup>i-1</sup>, 2<sup>i</sup>).  The minimum, maximum, and
+ * sum are tracked exactly.  Memory is fixed and adding a value doesn't create new objects.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ProfileHistogram {
+	/**
+	 * Total number of buckets
+	 */
+	public static final int NUM_BUCKETS = 64;
+
+	// number of values in each bucket
+	private final long[] buckets = new long[NUM_BUCKETS];
+
+	private long count;
+	private long sum;
+	private long min;
+	private long max;
+
+	public ProfileHistogram() {
+		reset();
+	}
+
+	/**
+	 * Adds a value to the histogram
+	 */
+	public void add( long value ) {
+		buckets[bucketIndex(value)]++;
+		count++;
+		sum += value;
+		if( value < min )
+			min = value;
+		if( value > max )
+			max = value;
+	}
+
+	/**
+	 * Returns the bucket a value belongs in
+	 */
+	public static int bucketIndex( long value ) {
+		if( value <= 0 )
+			return 0;
+		return 64 - Long.numberOfLeadingZeros(value);
+	}
+
+	/**
+	 * Returns the largest value which can be in the specified bucket
+	 */
+	public static long bucketUpper( int index ) {
+		if( index == 0 )
+			return 0;
+		if( index >= 63 )
+			return Long.MAX_VALUE;
+		return (1L << index) - 1;
+	}
+
+	/**
+	 * Estimates the value at the specified fraction of the sorted measurements using the upper bound of the bucket
+	 * it falls inside of.  The estimate is no larger than the maximum value.
+	 *
+	 * @param fraction Value from 0 to 1. E.g. 0.5 is the median and 0.99 is the 99th percentile.
+	 * @return Estimated value or 0 if empty
+	 */
+	public long quantile( double fraction ) {
+		if( count == 0 )
+			return 0;
+		long target = (long)Math.ceil(fraction*count);
+		if( target < 1 )
+			target = 1;
+		long total = 0;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			total += buckets[i];
+			if( total >= target ) {
+				return Math.max(min,Math.min(max, bucketUpper(i)));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Adds all the measurements in 'src' to this histogram
+	 */
+	public void add( ProfileHistogram src ) {
+		if( src.count == 0 )
+			return;
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			buckets[i] += src.buckets[i];
+		}
+		count += src.count;
+		sum += src.sum;
+		min = Math.min(min, src.min);
+		max = Math.max(max, src.max);
+	}
+
+	public void reset() {
+		for (int i = 0; i < NUM_BUCKETS; i++) {
+			buckets[i] = 0;
+		}
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = Long.MIN_VALUE;
+	}
+
+	public ProfileHistogram copy() {
+		ProfileHistogram ret = new ProfileHistogram();
+		ret.add(this);
+		return ret;
+	}
+
+	public double getMean() {
+		return count == 0 ? 0 : sum/(double)count;
+	}
+
+	public long getBucket( int index ) {
+		return buckets[index];
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getSum() {
+		return sum;
+	}
+
+	/**
+	 * Smallest value added.  Undefined if empty
+	 */
+	public long getMin() {
+		return min;
+	}
+
+	/**
+	 * Largest value added.  Undefined if empty
+	 */
+	public long getMax() {
+		return max;
+	}
+}
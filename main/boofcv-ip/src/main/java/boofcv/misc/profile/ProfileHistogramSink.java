@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ProfileSink} which accumulates each timer and counter into a {@link ProfileHistogram}.  Timers are
+ * stored in nanoseconds.  Histograms can be exported as a snapshot or printed as a summary table.  All
+ * functions are synchronized so it can be used with concurrent algorithms.
+ *
+ * @author Peter Abeles
+ */
+public class ProfileHistogramSink implements ProfileSink {
+
+	// Timers and counters don't override equals() and hashCode() so the look up is by reference
+	private final Map<ProfileTimer,ProfileHistogram> timers = new LinkedHashMap<>();
+	private final Map<ProfileCounter,ProfileHistogram> counters = new LinkedHashMap<>();
+
+	@Override
+	public synchronized void recordTime(ProfileTimer timer, long nanoseconds) {
+		ProfileHistogram h = timers.get(timer);
+		if( h == null ) {
+			h = new ProfileHistogram();
+			timers.put(timer,h);
+		}
+		h.add(nanoseconds);
+	}
+
+	@Override
+	public synchronized void recordCount(ProfileCounter counter, long amount) {
+		ProfileHistogram h = counters.get(counter);
+		if( h == null ) {
+			h = new ProfileHistogram();
+			counters.put(counter,h);
+		}
+		h.add(amount);
+	}
+
+	/**
+	 * Returns a copy of the histogram for the timer or null if it has no measurements
+	 */
+	public synchronized ProfileHistogram getHistogram( ProfileTimer timer ) {
+		ProfileHistogram h = timers.get(timer);
+		return h == null ? null : h.copy();
+	}
+
+	/**
+	 * Returns a copy of the histogram for the counter or null if it has no measurements
+	 */
+	public synchronized ProfileHistogram getHistogram( ProfileCounter counter ) {
+		ProfileHistogram h = counters.get(counter);
+		return h == null ? null : h.copy();
+	}
+
+	/**
+	 * Returns a copy of all the timer histograms, indexed by the timer's path.  Timers with the same path are merged.
+	 */
+	public synchronized Map<String,ProfileHistogram> exportTimers() {
+		Map<String,ProfileHistogram> out = new LinkedHashMap<>();
+		for( Map.Entry<ProfileTimer,ProfileHistogram> e : timers.entrySet() ) {
+			merge(out, e.getKey().getPath(), e.getValue());
+		}
+		return out;
+	}
+
+	/**
+	 * Returns a copy of all the counter histograms, indexed by the counter's path.  Counters with the same path
+	 * are merged.
+	 */
+	public synchronized Map<String,ProfileHistogram> exportCounters() {
+		Map<String,ProfileHistogram> out = new LinkedHashMap<>();
+		for( Map.Entry<ProfileCounter,ProfileHistogram> e : counters.entrySet() ) {
+			merge(out, e.getKey().getPath(), e.getValue());
+		}
+		return out;
+	}
+
+	private static void merge( Map<String,ProfileHistogram> out , String path , ProfileHistogram h ) {
+		ProfileHistogram dst = out.get(path);
+		if( dst == null ) {
+			out.put(path, h.copy());
+		} else {
+			dst.add(h);
+		}
+	}
+
+	/**
+	 * Discards all measurements
+	 */
+	public synchronized void reset() {
+		timers.clear();
+		counters.clear();
+	}
+
+	/**
+	 * Prints a summary of each timer, in milliseconds, and counter
+	 */
+	public void print( PrintStream out ) {
+		Map<String,ProfileHistogram> times = exportTimers();
+		Map<String,ProfileHistogram> counts = exportCounters();
+
+		int width = 10;
+		List<String> paths = new ArrayList<>(times.keySet());
+		paths.addAll(counts.keySet());
+		for( String p : paths ) {
+			width = Math.max(width, p.length());
+		}
+
+		String format = "%-"+width+"s %8s %9s %9s %9s %9s\n";
+		out.printf(format,"Timer (ms)","count","mean","p50","p99","max");
+		for( Map.Entry<String,ProfileHistogram> e : times.entrySet() ) {
+			ProfileHistogram h = e.getValue();
+			out.printf("%-"+width+"s %8d %9.3f %9.3f %9.3f %9.3f\n",e.getKey(),h.getCount(),
+					h.getMean()*1e-6,h.quantile(0.5)*1e-6,h.quantile(0.99)*1e-6,h.getMax()*1e-6);
+		}
+		out.printf(format,"Counter","count","mean","p50","p99","max");
+		for( Map.Entry<String,ProfileHistogram> e : counts.entrySet() ) {
+			ProfileHistogram h = e.getValue();
+			out.printf("%-"+width+"s %8d %9.1f %9d %9d %9d\n",e.getKey(),h.getCount(),
+					h.getMean(),h.quantile(0.5),h.quantile(0.99),h.getMax());
+		}
+	}
+}
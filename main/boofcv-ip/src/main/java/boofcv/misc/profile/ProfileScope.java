@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * Named node in a tree used to organize runtime profiling information.  An algorithm owns a scope which contains
+ * the {@link ProfileTimer timers} and {@link ProfileCounter counters} for each of its stages.  Scopes of algorithms
+ * that it's composed from are added as children so that a pipeline can report on all of its internal stages,
+ * e.g. "QrCodeDetector/QrCodePositionPatternDetector/DetectPolygonBinaryGrayRefine/DetectPolygonFromContour/contour".
+ * </p>
+ *
+ * <p>
+ * Nothing is recorded until a {@link ProfileSink} is specified, typically on the root scope.  When there is no sink
+ * timers and counters only check a field and return, making the cost of disabled profiling negligible.  The sink
+ * should only be changed when the algorithm is not processing an image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ProfileScope {
+	// name of this scope
+	private final String name;
+	// the scope which owns this scope. null if it's the root
+	private ProfileScope parent;
+	// scopes contained by this scope
+	private final List<ProfileScope> children = new ArrayList<>();
+
+	private final List<ProfileTimer> timers = new ArrayList<>();
+	private final List<ProfileCounter> counters = new ArrayList<>();
+
+	// where measurements are sent. If null then profiling is disabled
+	ProfileSink sink;
+
+	/**
+	 * Creates a root scope
+	 *
+	 * @param name Name of the scope.  Typically the name of the algorithm it's profiling
+	 */
+	public ProfileScope( String name ) {
+		this.name = name;
+	}
+
+	/**
+	 * Creates a new timer for a stage inside this scope.  Should be called once when the algorithm is constructed.
+	 *
+	 * @param name Name of the stage
+	 * @return The timer
+	 */
+	public ProfileTimer timer( String name ) {
+		ProfileTimer t = new ProfileTimer(this, name);
+		timers.add(t);
+		return t;
+	}
+
+	/**
+	 * Creates a new counter inside this scope.  Should be called once when the algorithm is constructed.
+	 *
+	 * @param name Name of the counter
+	 * @return The counter
+	 */
+	public ProfileCounter counter( String name ) {
+		ProfileCounter c = new ProfileCounter(this, name);
+		counters.add(c);
+		return c;
+	}
+
+	/**
+	 * Adds a scope as a child of this scope.  If the child already has a parent it's removed from it first.
+	 * The child will use the same sink as this scope.
+	 *
+	 * @param child The scope being added
+	 */
+	public void addChild( ProfileScope child ) {
+		for( ProfileScope s = this; s != null; s = s.parent ) {
+			if( s == child )
+				throw new IllegalArgumentException("Adding the child would create a cycle");
+		}
+		if( child.parent != null ) {
+			child.parent.children.remove(child);
+		}
+		child.parent = this;
+		children.add(child);
+		child.setSink(sink);
+	}
+
+	/**
+	 * Removes a child from this scope.  Profiling is disabled for the removed scope.
+	 *
+	 * @param child The scope being removed
+	 * @return true if it was a child of this scope
+	 */
+	public boolean removeChild( ProfileScope child ) {
+		if( !children.remove(child) )
+			return false;
+		child.parent = null;
+		child.setSink(null);
+		return true;
+	}
+
+	/**
+	 * Specifies where measurements are sent for this scope and all of its children.
+	 *
+	 * @param sink Destination of measurements. If null then profiling is turned off.
+	 */
+	public void setSink( ProfileSink sink ) {
+		this.sink = sink;
+		for (int i = 0; i < children.size(); i++) {
+			children.get(i).setSink(sink);
+		}
+	}
+
+	public ProfileSink getSink() {
+		return sink;
+	}
+
+	/**
+	 * Returns true if measurements are being recorded
+	 */
+	public boolean isEnabled() {
+		return sink != null;
+	}
+
+	/**
+	 * Full path to this scope from the root, with scope names separated by '/'
+	 */
+	public String getPath() {
+		if( parent == null )
+			return name;
+		return parent.getPath() + "/" + name;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public ProfileScope getParent() {
+		return parent;
+	}
+
+	public List<ProfileScope> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	public List<ProfileTimer> getTimers() {
+		return Collections.unmodifiableList(timers);
+	}
+
+	public List<ProfileCounter> getCounters() {
+		return Collections.unmodifiableList(counters);
+	}
+}
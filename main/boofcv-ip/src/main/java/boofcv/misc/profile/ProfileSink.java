@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+/**
+ * Destination for measurements made by {@link ProfileTimer} and {@link ProfileCounter}.  Implementations must be
+ * thread safe if they are used with concurrent algorithms.
+ *
+ * @see ProfileHistogramSink
+ *
+ * @author Peter Abeles
+ */
+public interface ProfileSink {
+	/**
+	 * Records how long a stage took
+	 *
+	 * @param timer The timer which made the measurement
+	 * @param nanoseconds Elapsed time in nanoseconds
+	 */
+	void recordTime( ProfileTimer timer , long nanoseconds );
+
+	/**
+	 * Records the value of a counter
+	 *
+	 * @param counter The counter which made the measurement
+	 * @param amount Number of items
+	 */
+	void recordCount( ProfileCounter counter , long amount );
+}
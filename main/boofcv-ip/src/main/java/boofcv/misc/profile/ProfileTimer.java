@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+/**
+ * <p>
+ * Measures how long a stage inside of a {@link ProfileScope} takes.  The time is only measured when the scope
+ * has a {@link ProfileSink}.  Consecutive stages can be chained by using the value returned by {@link #stop(long)}
+ * as the start of the next stage.
+ * </p>
+ *
+ * <pre>
+ * long time = timerContour.start();
+ * findContours();
+ * time = timerContour.stop(time);
+ * fitPolygons();
+ * timerShapes.stop(time);
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class ProfileTimer {
+	private final ProfileScope scope;
+	private final String name;
+
+	ProfileTimer( ProfileScope scope , String name ) {
+		this.scope = scope;
+		this.name = name;
+	}
+
+	/**
+	 * Marks the start of the stage
+	 *
+	 * @return Current time in nanoseconds or 0 if profiling is disabled
+	 */
+	public long start() {
+		return scope.sink == null ? 0 : System.nanoTime();
+	}
+
+	/**
+	 * Marks the end of the stage and records how long it took
+	 *
+	 * @param start Value returned by {@link #start()}
+	 * @return Current time in nanoseconds or 0 if profiling is disabled
+	 */
+	public long stop( long start ) {
+		ProfileSink sink = scope.sink;
+		if( sink == null )
+			return 0;
+		long now = System.nanoTime();
+		// if zero then profiling was turned on after the stage started
+		if( start != 0 )
+			sink.recordTime(this, now - start);
+		return now;
+	}
+
+	/**
+	 * Records a time which was measured externally
+	 *
+	 * @param nanoseconds How long the stage took
+	 */
+	public void record( long nanoseconds ) {
+		ProfileSink sink = scope.sink;
+		if( sink != null )
+			sink.recordTime(this, nanoseconds);
+	}
+
+	/**
+	 * Full path of the timer, which is the path of its scope followed by its name
+	 */
+	public String getPath() {
+		return scope.getPath() + "/" + name;
+	}
+
+	public ProfileScope getScope() {
+		return scope;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
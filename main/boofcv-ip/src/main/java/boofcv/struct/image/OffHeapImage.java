@@ -0,0 +1,337 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Image storage which is outside of the Java heap, either in direct {@link ByteBuffer}s or in a memory mapped file.
+ * Intended for very large images, which would cause long garbage collection pauses or exceed the maximum size of
+ * an array.  Images are processed by copying a region into a regular image with {@link #read}, running any
+ * algorithm on it, and copying the results back with {@link #write}.  Only {@link ImageGray} and
+ * {@link ImageInterleaved} image types are supported.
+ * </p>
+ *
+ * <p>
+ * Pixels are stored row by row with no padding, using the same layout as an image which isn't a sub-image.  The
+ * rows are split across multiple buffers, called pages, so that no single buffer exceeds the 2GB limit.  A row
+ * is never split between two pages.  Memory mapped files are always little endian.
+ * </p>
+ *
+ * <p>
+ * Reading and writing different regions from multiple threads is safe.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class OffHeapImage<T extends ImageBase<T>> {
+
+	/**
+	 * Default maximum number of bytes in a single page
+	 */
+	public static final int DEFAULT_PAGE_BYTES = 1 << 30;
+
+	// Type of image that can be read and written
+	ImageType<T> imageType;
+
+	// shape of the image
+	int width, height;
+	// number of elements in each pixel
+	int numBands;
+	// number of array elements in a row
+	int rowElements;
+	// number of rows in each page
+	int rowsPerPage;
+
+	// typed view of each page
+	Buffer[] pages;
+
+	OffHeapImage( ImageType<T> imageType , int width , int height , int maxPageBytes ) {
+		if( imageType.getFamily() == ImageType.Family.PLANAR )
+			throw new IllegalArgumentException("Planar images are not supported.  Store each band separately.");
+		if( width <= 0 || height <= 0 )
+			throw new IllegalArgumentException("Width and height must be positive");
+
+		this.imageType = imageType;
+		this.width = width;
+		this.height = height;
+		this.numBands = imageType.getNumBands();
+		this.rowElements = width*numBands;
+
+		long rowBytes = (long)rowElements*getBytesPerElement();
+		if( rowBytes > maxPageBytes )
+			throw new IllegalArgumentException("A single row is larger than the maximum page size");
+		this.rowsPerPage = (int)(maxPageBytes/rowBytes);
+		this.pages = new Buffer[(height+rowsPerPage-1)/rowsPerPage];
+	}
+
+	/**
+	 * Creates an image stored in direct byte buffers.
+	 *
+	 * @param imageType Type of image being stored
+	 * @param width Image width
+	 * @param height Image height
+	 * @return The new image.  All pixels have a value of zero.
+	 */
+	public static <T extends ImageBase<T>> OffHeapImage<T> allocate( ImageType<T> imageType , int width , int height ) {
+		return allocate(imageType, width, height, DEFAULT_PAGE_BYTES);
+	}
+
+	static <T extends ImageBase<T>> OffHeapImage<T> allocate( ImageType<T> imageType , int width , int height ,
+															  int maxPageBytes ) {
+		OffHeapImage<T> image = new OffHeapImage<>(imageType, width, height, maxPageBytes);
+		for (int i = 0; i < image.pages.length; i++) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(image.getPageBytes(i));
+			buffer.order(ByteOrder.nativeOrder());
+			image.pages[i] = image.createView(buffer);
+		}
+		return image;
+	}
+
+	/**
+	 * Creates an image which is stored in a memory mapped file.  If the file is writable and is smaller than the
+	 * image it will be enlarged.  The file does not need to remain open after this function returns.
+	 *
+	 * @param file File the image is mapped to
+	 * @param readOnly If true the file is opened as read only and {@link #write} will throw an exception
+	 * @param imageType Type of image being stored
+	 * @param width Image width
+	 * @param height Image height
+	 * @return The image
+	 * @throws IOException If the file can't be opened or mapped
+	 */
+	public static <T extends ImageBase<T>> OffHeapImage<T> map( File file , boolean readOnly ,
+																ImageType<T> imageType , int width , int height )
+			throws IOException
+	{
+		return map(file, readOnly, imageType, width, height, DEFAULT_PAGE_BYTES);
+	}
+
+	static <T extends ImageBase<T>> OffHeapImage<T> map( File file , boolean readOnly ,
+														 ImageType<T> imageType , int width , int height ,
+														 int maxPageBytes ) throws IOException
+	{
+		OffHeapImage<T> image = new OffHeapImage<>(imageType, width, height, maxPageBytes);
+		long totalBytes = image.getTotalBytes();
+
+		try( RandomAccessFile raf = new RandomAccessFile(file, readOnly ? "r" : "rw") ) {
+			if( raf.length() < totalBytes ) {
+				if( readOnly )
+					throw new IllegalArgumentException("File is smaller than the image. "+raf.length()+" < "+totalBytes);
+				raf.setLength(totalBytes);
+			}
+
+			FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+			FileChannel channel = raf.getChannel();
+			long location = 0;
+			for (int i = 0; i < image.pages.length; i++) {
+				int pageBytes = image.getPageBytes(i);
+				ByteBuffer buffer = channel.map(mode, location, pageBytes);
+				buffer.order(ByteOrder.LITTLE_ENDIAN);
+				image.pages[i] = image.createView(buffer);
+				location += pageBytes;
+			}
+		}
+
+		return image;
+	}
+
+	/**
+	 * Copies a rectangular region into a regular image.
+	 *
+	 * @param x0 Lower extent, inclusive
+	 * @param y0 Lower extent, inclusive
+	 * @param x1 Upper extent, exclusive
+	 * @param y1 Upper extent, exclusive
+	 * @param output (Optional) Storage for the region.  Reshaped if it's not the same size as the region, which
+	 *               isn't possible for sub-images.  If null a new image is created.
+	 * @return Image containing the region
+	 */
+	public T read( int x0 , int y0 , int x1 , int y1 , T output ) {
+		checkRegion(x0, y0, x1, y1);
+
+		if( output == null ) {
+			output = imageType.createImage(x1-x0, y1-y0);
+		} else {
+			checkBands(output);
+			if( output.width != x1-x0 || output.height != y1-y0 )
+				output.reshape(x1-x0, y1-y0);
+		}
+
+		transfer(x0, y0, output, true);
+		return output;
+	}
+
+	/**
+	 * Copies a regular image into the specified location.
+	 *
+	 * @param input Image which is to be written
+	 * @param x0 Location of the image's left side
+	 * @param y0 Location of the image's top side
+	 */
+	public void write( T input , int x0 , int y0 ) {
+		checkRegion(x0, y0, x0+input.width, y0+input.height);
+		checkBands(input);
+
+		transfer(x0, y0, input, false);
+	}
+
+	/**
+	 * Copies the rows between y0 and y1 into or out of the image.
+	 */
+	private void transfer( int x0 , int y0 , T image , boolean read ) {
+		Object data = image instanceof ImageGray ? ((ImageGray)image)._getData() : ((ImageInterleaved)image)._getData();
+		int length = image.width*numBands;
+
+		int pageIndex = -1;
+		Buffer page = null;
+
+		for (int y = 0; y < image.height; y++) {
+			int row = y0 + y;
+			if( row/rowsPerPage != pageIndex ) {
+				pageIndex = row/rowsPerPage;
+				page = duplicate(pages[pageIndex]);
+			}
+
+			page.position((row%rowsPerPage)*rowElements + x0*numBands);
+			int index = image.startIndex + y*image.stride;
+
+			if( read )
+				get(page, data, index, length);
+			else
+				put(page, data, index, length);
+		}
+	}
+
+	private void checkRegion( int x0 , int y0 , int x1 , int y1 ) {
+		if( x0 < 0 || y0 < 0 || x1 > width || y1 > height || x0 > x1 || y0 > y1 )
+			throw new IllegalArgumentException("Region is outside the image or has a negative size");
+	}
+
+	private void checkBands( T image ) {
+		if( image.getImageType().getDataType() != imageType.getDataType() ||
+				image.getImageType().getFamily() != imageType.getFamily() )
+			throw new IllegalArgumentException("Image type doesn't match");
+		if( image instanceof ImageInterleaved && ((ImageInterleaved)image).numBands != numBands )
+			throw new IllegalArgumentException("Number of bands doesn't match");
+	}
+
+	private Buffer createView( ByteBuffer buffer ) {
+		Class primitive = imageType.getDataType().getDataType();
+		if( primitive == byte.class )
+			return buffer;
+		else if( primitive == short.class )
+			return buffer.asShortBuffer();
+		else if( primitive == int.class )
+			return buffer.asIntBuffer();
+		else if( primitive == long.class )
+			return buffer.asLongBuffer();
+		else if( primitive == float.class )
+			return buffer.asFloatBuffer();
+		else if( primitive == double.class )
+			return buffer.asDoubleBuffer();
+		throw new IllegalArgumentException("Unsupported data type "+imageType.getDataType());
+	}
+
+	/**
+	 * Each thread needs its own position inside the buffer
+	 */
+	private static Buffer duplicate( Buffer buffer ) {
+		if( buffer instanceof ByteBuffer )
+			return ((ByteBuffer)buffer).duplicate();
+		else if( buffer instanceof ShortBuffer )
+			return ((ShortBuffer)buffer).duplicate();
+		else if( buffer instanceof IntBuffer )
+			return ((IntBuffer)buffer).duplicate();
+		else if( buffer instanceof LongBuffer )
+			return ((LongBuffer)buffer).duplicate();
+		else if( buffer instanceof FloatBuffer )
+			return ((FloatBuffer)buffer).duplicate();
+		else
+			return ((DoubleBuffer)buffer).duplicate();
+	}
+
+	private static void get( Buffer buffer , Object data , int offset , int length ) {
+		if( buffer instanceof ByteBuffer )
+			((ByteBuffer)buffer).get((byte[])data, offset, length);
+		else if( buffer instanceof ShortBuffer )
+			((ShortBuffer)buffer).get((short[])data, offset, length);
+		else if( buffer instanceof IntBuffer )
+			((IntBuffer)buffer).get((int[])data, offset, length);
+		else if( buffer instanceof LongBuffer )
+			((LongBuffer)buffer).get((long[])data, offset, length);
+		else if( buffer instanceof FloatBuffer )
+			((FloatBuffer)buffer).get((float[])data, offset, length);
+		else
+			((DoubleBuffer)buffer).get((double[])data, offset, length);
+	}
+
+	private static void put( Buffer buffer , Object data , int offset , int length ) {
+		if( buffer instanceof ByteBuffer )
+			((ByteBuffer)buffer).put((byte[])data, offset, length);
+		else if( buffer instanceof ShortBuffer )
+			((ShortBuffer)buffer).put((short[])data, offset, length);
+		else if( buffer instanceof IntBuffer )
+			((IntBuffer)buffer).put((int[])data, offset, length);
+		else if( buffer instanceof LongBuffer )
+			((LongBuffer)buffer).put((long[])data, offset, length);
+		else if( buffer instanceof FloatBuffer )
+			((FloatBuffer)buffer).put((float[])data, offset, length);
+		else
+			((DoubleBuffer)buffer).put((double[])data, offset, length);
+	}
+
+	private int getBytesPerElement() {
+		return imageType.getDataType().getNumBits()/8;
+	}
+
+	private int getPageBytes( int page ) {
+		int rows = Math.min(rowsPerPage, height - page*rowsPerPage);
+		return rows*rowElements*getBytesPerElement();
+	}
+
+	/**
+	 * Number of bytes needed to store the entire image
+	 */
+	public long getTotalBytes() {
+		return (long)height*rowElements*getBytesPerElement();
+	}
+
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getNumberOfPages() {
+		return pages.length;
+	}
+}
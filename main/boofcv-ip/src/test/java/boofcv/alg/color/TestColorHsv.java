@@ -20,6 +20,8 @@ package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.Planar;
 import org.junit.Test;
 
@@ -125,6 +127,50 @@ public class TestColorHsv {
 		}
 	}
 
+	@Test
+	public void Planar_U8() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,10,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,10,15,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+		// gray pixel has an undefined hue
+		for (int i = 0; i < 3; i++) {
+			rgb.getBand(i).set(0,0,151);
+		}
+
+		ColorHsv.rgbToHsv_U8(rgb, hsv);
+
+		float tmp[] = new float[3];
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorHsv.rgbToHsv(rgb.getBand(0).get(x,y),rgb.getBand(1).get(x,y),rgb.getBand(2).get(x,y),tmp);
+				for (int i = 0; i < 3; i++) {
+					assertEquals(tmp[i], hsv.getBand(i).unsafe_get(x, y), tol);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void Interleaved_U8() {
+		InterleavedU8 rgb = new InterleavedU8(10,15,3);
+		Planar<GrayF32> hsv = new Planar<>(GrayF32.class,10,15,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorHsv.rgbToHsv_U8(rgb, hsv);
+
+		float tmp[] = new float[3];
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorHsv.rgbToHsv(rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),tmp);
+				for (int i = 0; i < 3; i++) {
+					assertEquals(tmp[i], hsv.getBand(i).unsafe_get(x, y), tol);
+				}
+			}
+		}
+	}
+
 	private static void check( double found[] , double a , double b , double c ) {
 		double tol = TestColorHsv.tol * Math.max(Math.max(a,b),c);
 
@@ -103,6 +103,29 @@ public class TestColorRgb {
 		}
 	}
 
+	@Test
+	public void planar_U8_to_F32() {
+		Planar<GrayU8> rgb = new Planar<>(GrayU8.class,20,30,3);
+		GrayF32 gray = new GrayF32(20,30);
+
+		GImageMiscOps.fillUniform(rgb,rand,0,150);
+
+		ColorRgb.rgbToGray_Weighted(rgb,gray);
+
+		for (int y = 0; y < gray.height; y++) {
+			for (int x = 0; x < gray.width; x++) {
+				int r = rgb.getBand(0).unsafe_get(x,y);
+				int g = rgb.getBand(1).unsafe_get(x,y);
+				int b = rgb.getBand(2).unsafe_get(x,y);
+
+				double expected = computeExpected(r,g,b);
+				float found = gray.unsafe_get(x,y);
+
+				assertEquals(expected,found,1e-4);
+			}
+		}
+	}
+
 	@Test
 	public void planar_F32() {
 		Planar<GrayF32> rgb = new Planar<>(GrayF32.class, 20, 30, 3);
@@ -173,6 +196,29 @@ public class TestColorRgb {
 		}
 	}
 
+	@Test
+	public void interleaved_U8_to_F32() {
+		InterleavedU8 rgb = new InterleavedU8(20,30,3);
+		GrayF32 gray = new GrayF32(20,30);
+
+		GImageMiscOps.fillUniform(rgb,rand,0,150);
+
+		ColorRgb.rgbToGray_Weighted(rgb,gray);
+
+		for (int y = 0; y < gray.height; y++) {
+			for (int x = 0; x < gray.width; x++) {
+				int r = rgb.getBand(x,y,0);
+				int g = rgb.getBand(x,y,1);
+				int b = rgb.getBand(x,y,2);
+
+				double expected = computeExpected(r,g,b);
+				float found = gray.unsafe_get(x,y);
+
+				assertEquals(expected,found,1e-4);
+			}
+		}
+	}
+
 	@Test
 	public void interleaved_F32() {
 		InterleavedF32 rgb = new InterleavedF32(20,30,3);
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.point.Point2D_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearContourLabelChang2004_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+	int originalRows;
+	int originalBlobs;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalRows = LinearContourLabelChang2004_MT.MIN_ROWS;
+		originalBlobs = LinearContourLabelChang2004_MT.MIN_BLOBS;
+		LinearContourLabelChang2004_MT.MIN_ROWS = 2;
+		LinearContourLabelChang2004_MT.MIN_BLOBS = 1;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		LinearContourLabelChang2004_MT.MIN_ROWS = originalRows;
+		LinearContourLabelChang2004_MT.MIN_BLOBS = originalBlobs;
+	}
+
+	/**
+	 * Compare against the single threaded version using the images it's tested with
+	 */
+	@Test
+	public void compare_testImages() {
+		byte[][] images = new byte[][]{TestLinearContourLabelChang2004.TEST1, TestLinearContourLabelChang2004.TEST2};
+		for( byte[] data : images ) {
+			GrayU8 input = new GrayU8(13,8);
+			input.data = data.clone();
+			compare(input);
+		}
+
+		GrayU8 input = new GrayU8(5,7);
+		input.data = TestLinearContourLabelChang2004.TEST3.clone();
+		compare(input);
+
+		input = new GrayU8(7,8);
+		input.data = TestLinearContourLabelChang2004.TEST4.clone();
+		compare(input);
+	}
+
+	/**
+	 * Random images with different densities. Creates lots of blobs with holes which touch each other and the border
+	 */
+	@Test
+	public void compare_random() {
+		for (double fraction : new double[]{0.2, 0.5, 0.7}) {
+			GrayU8 input = new GrayU8(71, 53);
+			for (int i = 0; i < input.data.length; i++) {
+				input.data[i] = (byte)(rand.nextDouble() < fraction ? 1 : 0);
+			}
+			compare(input);
+		}
+	}
+
+	/**
+	 * Large blobs which cross many strips and contain holes
+	 */
+	@Test
+	public void compare_rings() {
+		GrayU8 input = new GrayU8(120, 100);
+		for (int i = 0; i < 5; i++) {
+			int x0 = rand.nextInt(80), y0 = rand.nextInt(60);
+			int w = 10 + rand.nextInt(30), h = 10 + rand.nextInt(30);
+			ImageMiscOps.fillRectangle(input, 1, x0, y0, w, h);
+			ImageMiscOps.fillRectangle(input, 0, x0 + 3, y0 + 3, w - 6, h - 6);
+			ImageMiscOps.fillRectangle(input, 1, x0 + 5, y0 + 5, w/4, h/4);
+		}
+		compare(input);
+	}
+
+	/**
+	 * The input is a sub-image
+	 */
+	@Test
+	public void compare_subimage() {
+		GrayU8 input = new GrayU8(60, 45);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+		compare(input.subimage(5, 4, 50, 40, null));
+	}
+
+	/**
+	 * The contour size limits and option to not save internal contours should be handled the same
+	 */
+	@Test
+	public void compare_contourOptions() {
+		GrayU8 input = new GrayU8(71, 53);
+		for (int i = 0; i < input.data.length; i++) {
+			input.data[i] = (byte)(rand.nextDouble() < 0.6 ? 1 : 0);
+		}
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			LinearContourLabelChang2004 expected = new LinearContourLabelChang2004(rule);
+			LinearContourLabelChang2004_MT found = new LinearContourLabelChang2004_MT(rule);
+			for( LinearContourLabelChang2004 alg : new LinearContourLabelChang2004[]{expected,found}) {
+				alg.setMinContourSize(5);
+				alg.setMaxContourSize(40);
+				alg.setSaveInternalContours(false);
+			}
+			compare(input, expected, found);
+		}
+	}
+
+	private void compare( GrayU8 input ) {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR, ConnectRule.EIGHT}) {
+			compare(input, new LinearContourLabelChang2004(rule), new LinearContourLabelChang2004_MT(rule));
+		}
+	}
+
+	private void compare( GrayU8 input , LinearContourLabelChang2004 expected , LinearContourLabelChang2004_MT found ) {
+		GrayS32 labeledExpected = new GrayS32(input.width, input.height);
+		expected.process(input, labeledExpected);
+
+		for (int threads : new int[]{1, 2, 4}) {
+			BoofConcurrency.setMaxThreads(threads);
+
+			// process twice to make sure the workspace is correctly recycled
+			for (int trial = 0; trial < 2; trial++) {
+				GrayS32 labeledFound = new GrayS32(input.width, input.height);
+				ImageMiscOps.fill(labeledFound, 99);
+				found.process(input, labeledFound);
+
+				for (int y = 0; y < input.height; y++) {
+					for (int x = 0; x < input.width; x++) {
+						assertEquals(labeledExpected.get(x, y), labeledFound.get(x, y));
+					}
+				}
+
+				List<Contour> a = expected.getContours().toList();
+				List<Contour> b = found.getContours().toList();
+				assertEquals(a.size(), b.size());
+				for (int i = 0; i < a.size(); i++) {
+					assertEquals(a.get(i).id, b.get(i).id);
+					compare(a.get(i).external, b.get(i).external);
+					assertEquals(a.get(i).internal.size(), b.get(i).internal.size());
+					for (int j = 0; j < a.get(i).internal.size(); j++) {
+						compare(a.get(i).internal.get(j), b.get(i).internal.get(j));
+					}
+				}
+			}
+		}
+	}
+
+	private void compare( List<Point2D_I32> expected , List<Point2D_I32> found ) {
+		assertEquals(expected.size(), found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).x, found.get(i).x);
+			assertEquals(expected.get(i).y, found.get(i).y);
+		}
+	}
+}
@@ -20,7 +20,17 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.filter.binary.impl.GenericThresholdCommon;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -30,6 +40,97 @@ public class TestThresholdLocalOtsu extends GenericThresholdCommon<GrayU8> {
 		super(GrayU8.class);
 	}
 
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	/**
+	 * A region with no texture has a threshold of zero, no matter what the threshold was in the region processed
+	 * before it.  Previously the last threshold was kept, which made the output depend on the processing order.
+	 */
+	@Test
+	public void flatRegion_threshold() {
+		GrayU8 input = createFlatAndTextured(new Random(234), 40, 30);
+
+		ThresholdLocalOtsu alg = new ThresholdLocalOtsu(5, 0.5, 0.95, true);
+		alg.numPixels = 25;
+		ThresholdLocalOtsu.ApplyHelper helper = alg.helper;
+
+		// start inside the textured region so that there is a non-zero threshold to carry over
+		helper.computeHistogram(0, 10, input);
+		assertTrue(helper.otsu.threshold > 0);
+
+		// slide into the flat region
+		for (int x = 1; x <= 25; x++) {
+			helper.updateHistogramX(x, 10, input);
+		}
+		assertEquals(0, helper.otsu.threshold);
+
+		// and the same when computed from scratch
+		helper.computeHistogram(25, 10, input);
+		assertEquals(0, helper.otsu.threshold);
+	}
+
+	/**
+	 * Pixels in the flat region are all above the zero threshold
+	 */
+	@Test
+	public void flatRegion_binary() {
+		GrayU8 input = createFlatAndTextured(new Random(234), 40, 30);
+
+		for( boolean down : new boolean[]{true,false}) {
+			GrayU8 output = new GrayU8(input.width, input.height);
+			new ThresholdLocalOtsu(5, 0.5, 0.95, down).process(input, output);
+
+			// pixels whose local region is entirely inside the flat region
+			for (int y = 0; y < input.height; y++) {
+				for (int x = 22; x < input.width; x++) {
+					assertEquals(x+" "+y, down ? 0 : 1, output.get(x, y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Mirroring the image, which changes the order regions are processed in, should mirror the output
+	 */
+	@Test
+	public void flatRegion_independentOfOrder() {
+		GrayU8 input = createFlatAndTextured(new Random(234), 40, 30);
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			ThresholdLocalOtsu alg = new ThresholdLocalOtsu(5, 0.5, 0.95, true);
+
+			GrayU8 expected = new GrayU8(input.width, input.height);
+			alg.process(input, expected);
+
+			GrayU8 flipped = input.clone();
+			ImageMiscOps.flipHorizontal(flipped);
+			GrayU8 found = new GrayU8(input.width, input.height);
+			alg.process(flipped, found);
+			ImageMiscOps.flipHorizontal(found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			flipped = input.clone();
+			ImageMiscOps.flipVertical(flipped);
+			alg.process(flipped, found);
+			ImageMiscOps.flipVertical(found);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	/**
+	 * Left side has random texture and the right side is a constant value
+	 */
+	private GrayU8 createFlatAndTextured( Random rand, int width, int height ) {
+		GrayU8 input = new GrayU8(width, height);
+		ImageMiscOps.fill(input, 100);
+		ImageMiscOps.fillUniform(input.subimage(0, 0, width/2, height), rand, 0, 255);
+		return input;
+	}
+
 	@Override
 	public InputToBinary<GrayU8> createAlg(int requestedBlockWidth, double scale, boolean down) {
 		return new ThresholdLocalOtsu(requestedBlockWidth, 0, 1.0,down);
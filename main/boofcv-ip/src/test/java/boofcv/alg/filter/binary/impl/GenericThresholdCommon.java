@@ -20,6 +20,7 @@ package boofcv.alg.filter.binary.impl;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -92,4 +93,41 @@ public abstract class GenericThresholdCommon<T extends ImageGray<T>>
 
 		BoofTesting.assertEquals(expected,sub_output,0);
 	}
+
+	/**
+	 * Results should be identical when concurrency is turned on
+	 */
+	@Test
+	public void compareConcurrent() {
+		T input = GeneralizedImageOps.createSingleBand(imageType,211,175);
+		GImageMiscOps.fillUniform(input,rand,0,255);
+		// add regions with no texture
+		GImageMiscOps.fillRectangle(input,100,20,30,60,50);
+		GImageMiscOps.fillRectangle(input,40,120,100,80,60);
+
+		GrayU8 expected = new GrayU8(input.width,input.height);
+		GrayU8 found = new GrayU8(input.width,input.height);
+
+		boolean originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			createAlg(12,1.0,true).process(input,expected);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			for (int threads : new int[]{2,4}) {
+				BoofConcurrency.setMaxThreads(threads);
+				InputToBinary<T> alg = createAlg(12,1.0,true);
+				// process twice to make sure the workspace is reset correctly
+				for (int trial = 0; trial < 2; trial++) {
+					GImageMiscOps.fill(found,2);
+					alg.process(input,found);
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.*;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * Compares a concurrent convolution class against its single threaded equivalent.  The output must be
+ * identical.
+ *
+ * @author Peter Abeles
+ */
+public class CompareConvolveToSerial extends CompareIdenticalFunctions {
+	protected Random rand = new Random(234);
+
+	// large enough that the image will be split into multiple bands
+	protected int width = 45;
+	protected int height = 90;
+
+	protected int kernelWidth = 5;
+	protected int offset = 2;
+
+	public CompareConvolveToSerial(Class<?> concurrentClass, Class<?> serialClass ) {
+		super(concurrentClass, serialClass);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> paramTypes[] = candidate.getParameterTypes();
+
+		Object[][] ret = new Object[1][paramTypes.length];
+		for (int i = 0; i < paramTypes.length; i++) {
+			Class<?> type = paramTypes[i];
+			if( KernelBase.class.isAssignableFrom(type)) {
+				ret[0][i] = createKernel(type);
+			} else if( ImageBase.class.isAssignableFrom(type)) {
+				ImageBase img = ConvolutionTestHelper.createImage(type, width, height);
+				GImageMiscOps.fillUniform(img, rand, 0, 130);
+				ret[0][i] = img;
+			} else if( ImageBorder.class.isAssignableFrom(type)) {
+				ImageBase input = (ImageBase)ret[0][1];
+				if( input instanceof ImageGray )
+					ret[0][i] = FactoryImageBorder.single((Class)input.getClass(), BorderType.EXTENDED);
+				else
+					ret[0][i] = FactoryImageBorder.interleaved((Class)input.getClass(), BorderType.EXTENDED);
+			} else if( type == int.class ) {
+				ret[0][i] = 11;
+			} else {
+				throw new RuntimeException("Unexpected parameter type "+type.getSimpleName());
+			}
+		}
+		return ret;
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam,
+								  Object validationResult, Object[] validationParam) {
+		for( int i = 0; i < targetParam.length; i++ ) {
+			if( !(targetParam[i] instanceof ImageBase) )
+				continue;
+
+			BoofTesting.assertEquals((ImageBase)validationParam[i], (ImageBase)targetParam[i], 0);
+		}
+	}
+
+	private KernelBase createKernel(Class<?> paramType) {
+		if (Kernel1D_F32.class == paramType) {
+			return FactoryKernel.random1D_F32(kernelWidth,offset, -1, 1, rand);
+		} else if (Kernel1D_F64.class == paramType) {
+			return FactoryKernel.random1D_F64(kernelWidth,offset, -1, 1, rand);
+		} else if (Kernel1D_S32.class == paramType) {
+			return FactoryKernel.random1D_I32(kernelWidth,offset, 1, 6, rand);
+		} else if (Kernel2D_S32.class == paramType) {
+			return FactoryKernel.random2D_I32(kernelWidth,offset, 1, 6, rand);
+		} else if (Kernel2D_F32.class == paramType) {
+			return FactoryKernel.random2D_F32(kernelWidth,offset, -1, 1, rand);
+		} else if (Kernel2D_F64.class == paramType) {
+			return FactoryKernel.random2D_F64(kernelWidth,offset, -1, 1, rand);
+		} else {
+			throw new RuntimeException("Unknown kernel type "+paramType.getSimpleName());
+		}
+	}
+
+	public void setKernel(int kernelWidth, int offset) {
+		this.kernelWidth = kernelWidth;
+		this.offset = offset;
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageNoBorder_MT {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compareToSerial() {
+		CompareConvolveToSerial a = new CompareConvolveToSerial(ConvolveImageNoBorder_MT.class, ConvolveImageNoBorder.class);
+		a.setKernel(5,2);
+		a.performTests(58);
+		a.setKernel(5,1);
+		a.performTests(58);
+		a.setKernel(4,3);
+		a.performTests(58);
+	}
+
+	/**
+	 * With the global switch turned on the regular class should produce the same results
+	 */
+	@Test
+	public void globalSwitch() {
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			CompareToStandardConvolution a = new CompareToStandardConvolution(ConvolveImageNoBorder.class);
+			a.height = 90;
+			a.setKernelWidth(5);
+			a.setOffset(1);
+			a.performTests(58);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.tile;
+
+import boofcv.abst.filter.tile.TileFilter;
+import boofcv.alg.filter.derivative.DerivativeType;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.factory.filter.tile.FactoryTileFilter;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTileScheduler {
+	Random rand = new Random(234);
+
+	int width = 61;
+	int height = 47;
+
+	@After
+	public void after() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	/**
+	 * Filters which are applied one tile at a time should produce the same output as when applied to the
+	 * whole image.  The tile size doesn't evenly divide the image, so partial tiles are also processed
+	 */
+	@Test
+	public void compareToWholeImage() {
+		for( TileFilter filter : createFilters() ) {
+			ImageBase input = filter.getInputType().createImage(width, height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			ImageBase expected = filter.getOutputType().createImage(width, height);
+			filter.process(input, expected);
+
+			for( boolean concurrent : new boolean[]{false,true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				TileScheduler alg = new TileScheduler(filter, 13, 9);
+
+				ImageBase found = filter.getOutputType().createImage(1, 1);
+				alg.process(input, found);
+				BoofTesting.assertEquals(expected, found, 1e-4);
+
+				// the input being a sub-image shouldn't change anything
+				found = filter.getOutputType().createImage(1, 1);
+				alg.process(BoofTesting.createSubImageOf(input), found);
+				BoofTesting.assertEquals(expected, found, 1e-4);
+			}
+		}
+	}
+
+	/**
+	 * Images stored off the heap are read and written one tile at a time
+	 */
+	@Test
+	public void compareToWholeImage_offHeap() {
+		for( TileFilter filter : createFilters() ) {
+			ImageBase input = filter.getInputType().createImage(width, height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			ImageBase expected = filter.getOutputType().createImage(width, height);
+			filter.process(input, expected);
+
+			OffHeapImage offInput = OffHeapImage.allocate(filter.getInputType(), width, height);
+			OffHeapImage offOutput = OffHeapImage.allocate(filter.getOutputType(), width, height);
+			offInput.write(input, 0, 0);
+
+			for( boolean concurrent : new boolean[]{false,true}) {
+				BoofConcurrency.USE_CONCURRENT = concurrent;
+				TileScheduler alg = new TileScheduler(filter, 20, 11);
+
+				alg.process(offInput, offOutput);
+				BoofTesting.assertEquals(expected, offOutput.read(0, 0, width, height, null), 1e-4);
+			}
+		}
+	}
+
+	/**
+	 * A copy of the filter should produce the same results and not share internal workspace with the original
+	 */
+	@Test
+	public void copy() {
+		for( TileFilter filter : createFilters() ) {
+			TileFilter copy = filter.copy();
+
+			ImageBase inputA = filter.getInputType().createImage(width, height);
+			ImageBase inputB = filter.getInputType().createImage(width-5, height-3);
+			GImageMiscOps.fillUniform(inputA, rand, 0, 100);
+			GImageMiscOps.fillUniform(inputB, rand, 0, 100);
+
+			ImageBase expected = filter.getOutputType().createImage(width, height);
+			filter.process(inputA, expected);
+
+			// process a different sized image with the copy in between to see if workspace is shared
+			ImageBase foundB = filter.getOutputType().createImage(inputB.width, inputB.height);
+			copy.process(inputB, foundB);
+
+			ImageBase found = filter.getOutputType().createImage(width, height);
+			filter.process(inputA, found);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+
+			copy.process(inputA, found);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+
+	/**
+	 * Tiles which are larger than the image should work
+	 */
+	@Test
+	public void tileLargerThanImage() {
+		TileFilter<GrayF32,GrayF32> filter = FactoryTileFilter.blurMean(ImageType.single(GrayF32.class), 3);
+
+		GrayF32 input = new GrayF32(width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		GrayF32 expected = new GrayF32(width, height);
+		filter.process(input, expected);
+
+		GrayF32 found = new GrayF32(1, 1);
+		new TileScheduler<>(filter, 200, 200).process(input, found);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test
+	public void checkBorderTypes() {
+		Kernel2D_F32 kernel = FactoryKernelGaussian.gaussian2D(GrayF32.class, -1, 2);
+		ImageType<GrayF32> type = ImageType.single(GrayF32.class);
+
+		for( BorderType border : new BorderType[]{BorderType.SKIP,BorderType.WRAP}) {
+			try {
+				FactoryTileFilter.convolve(kernel, type, type, border);
+				fail("Should have thrown an exception");
+			} catch( IllegalArgumentException ignore ){}
+		}
+	}
+
+	private List<TileFilter> createFilters() {
+		ImageType<GrayF32> typeF32 = ImageType.single(GrayF32.class);
+		ImageType<GrayU8> typeU8 = ImageType.single(GrayU8.class);
+
+		List<TileFilter> filters = new ArrayList<>();
+		filters.add(FactoryTileFilter.horizontal(FactoryKernelGaussian.gaussian1D(GrayF32.class, -1, 3),
+				typeF32, typeF32, BorderType.EXTENDED));
+		filters.add(FactoryTileFilter.vertical(FactoryKernelGaussian.gaussian1D(GrayF32.class, -1, 3),
+				typeF32, typeF32, BorderType.REFLECT));
+		filters.add(FactoryTileFilter.convolve(FactoryKernelGaussian.gaussian2D(GrayF32.class, -1, 2),
+				typeF32, typeF32, BorderType.ZERO));
+		filters.add(FactoryTileFilter.convolveNormalized(FactoryKernelGaussian.gaussian1D(GrayF32.class, -1, 4),
+				typeF32));
+		filters.add(FactoryTileFilter.blurMean(typeU8, 4));
+		filters.add(FactoryTileFilter.blurGaussian(typeF32, -1, 3));
+		filters.add(FactoryTileFilter.blurGaussian(ImageType.il(3, InterleavedF32.class), 1.5, -1));
+		filters.add(FactoryTileFilter.blurMedian(typeU8, 2));
+		filters.add(FactoryTileFilter.derivativeX(DerivativeType.SOBEL, GrayU8.class, BorderType.EXTENDED));
+		filters.add(FactoryTileFilter.derivativeY(DerivativeType.THREE, GrayF32.class, BorderType.EXTENDED));
+		filters.add(FactoryTileFilter.threshold(GrayU8.class, 50, true));
+		filters.add(FactoryTileFilter.localMean(GrayF32.class, 5, 0.95, true));
+		filters.add(FactoryTileFilter.localGaussian(GrayU8.class, 4, 1.0, false));
+		return filters;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the concurrent version of a class in this package against its single threaded equivalent.  Output
+ * images must be identical.  Floating point return values are allowed to differ by round off error.
+ *
+ * @author Peter Abeles
+ */
+public class CompareMiscToSerial extends CompareIdenticalFunctions {
+	protected Random rand = new Random(234);
+
+	// large enough that the image will be split into multiple bands and blocks
+	protected int width = 45;
+	protected int height = 150;
+	protected int numBands = 3;
+
+	public CompareMiscToSerial(Class<?> concurrentClass, Class<?> serialClass ) {
+		super(concurrentClass, serialClass);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> paramTypes[] = candidate.getParameterTypes();
+		String name = candidate.getName();
+
+		// scalar values are assigned in order.  value, lower bound, upper bound
+		double scalars[] = new double[]{3,20,60};
+		int numScalars = 0;
+		// parameters for copy()
+		int copyArgs[] = new int[]{2,3,1,4,20,70};
+		int numInts = 0;
+
+		Object[][] ret = new Object[1][paramTypes.length];
+		for (int i = 0; i < paramTypes.length; i++) {
+			Class<?> type = paramTypes[i];
+			if( ImageBase.class.isAssignableFrom(type)) {
+				ImageBase img;
+				if( Planar.class == type ) {
+					img = new Planar(paramTypes[i+1],width,height,numBands);
+				} else if( name.startsWith("rotate") && i == 1 ) {
+					img = createImage(type, height, width);
+				} else {
+					img = createImage(type, width, height);
+				}
+				GImageMiscOps.fillUniform(img, rand, 1, 100);
+				ret[0][i] = img;
+			} else if( type.isArray() ) {
+				if( name.equals("histogram"))
+					ret[0][i] = new int[256];
+				else
+					ret[0][i] = createValues(type.getComponentType());
+			} else if( name.equals("copy") ) {
+				ret[0][i] = copyArgs[numInts++];
+			} else if( name.endsWith("Band") && type == int.class && numInts++ == 0 ) {
+				ret[0][i] = 1;
+			} else if( name.equals("histogram") ) {
+				ret[0][i] = cast(0,type);
+			} else {
+				ret[0][i] = cast(scalars[numScalars++],type);
+			}
+		}
+		return ret;
+	}
+
+	private ImageBase createImage( Class<?> type , int width , int height ) {
+		if( type == GrayI8.class )
+			type = GrayU8.class;
+		else if( type == GrayI16.class )
+			type = GrayS16.class;
+		else if( type == InterleavedI8.class )
+			type = InterleavedU8.class;
+		else if( type == InterleavedI16.class )
+			type = InterleavedS16.class;
+
+		if( ImageGray.class.isAssignableFrom(type)) {
+			return GeneralizedImageOps.createSingleBand((Class)type, width, height);
+		} else {
+			return GeneralizedImageOps.createInterleaved((Class)type, width, height, numBands);
+		}
+	}
+
+	private Object createValues( Class<?> type ) {
+		if( type == int.class )
+			return new int[]{2,6,9};
+		else if( type == long.class )
+			return new long[]{2,6,9};
+		else if( type == float.class )
+			return new float[]{2,6,9};
+		else if( type == double.class )
+			return new double[]{2,6,9};
+		throw new RuntimeException("Unexpected array type "+type.getSimpleName());
+	}
+
+	private static Object cast( double value , Class<?> type ) {
+		if( type == int.class )
+			return (int)value;
+		else if( type == long.class )
+			return (long)value;
+		else if( type == float.class )
+			return (float)value;
+		else if( type == double.class )
+			return value;
+		throw new RuntimeException("Unexpected parameter type "+type.getSimpleName());
+	}
+
+	@Override
+	protected Object[] reformatForValidation(Method m, Object[] targetParam) {
+		Object[] ret = super.reformatForValidation(m, targetParam);
+
+		// histograms are written to so each function needs its own copy
+		for( int i = 0; i < ret.length; i++ ) {
+			if( ret[i] instanceof int[] )
+				ret[i] = ((int[])ret[i]).clone();
+		}
+		return ret;
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam,
+								  Object validationResult, Object[] validationParam) {
+		if( targetResult instanceof Float || targetResult instanceof Double ) {
+			double expected = ((Number)validationResult).doubleValue();
+			double found = ((Number)targetResult).doubleValue();
+			assertEquals(expected, found, Math.max(1,Math.abs(expected))*1e-5);
+		} else if( targetResult != null ) {
+			assertEquals(validationResult, targetResult);
+		}
+
+		for( int i = 0; i < targetParam.length; i++ ) {
+			if( targetParam[i] instanceof ImageBase ) {
+				BoofTesting.assertEquals((ImageBase)validationParam[i], (ImageBase)targetParam[i], 0);
+			} else if( targetParam[i] instanceof int[] ) {
+				assertArrayEquals((int[])validationParam[i], (int[])targetParam[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageStatistics_MT {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compareToSerial() {
+		CompareMiscToSerial a = new CompareMiscToSerial(ImageStatistics_MT.class, ImageStatistics.class);
+		a.performTests(128);
+	}
+
+	/**
+	 * Floating point results must not depend on the number of threads
+	 */
+	@Test
+	public void sameResultsAnyThreads() {
+		GrayF32 image = new GrayF32(60,400);
+		ImageMiscOps.fillUniform(image,new Random(234),-100,100);
+
+		BoofConcurrency.setMaxThreads(1);
+		float expectedSum = ImageStatistics_MT.sum(image);
+		float expectedVariance = ImageStatistics_MT.variance(image,2.5f);
+		double expectedDiff = ImageStatistics_MT.meanDiffSq(image,image.subimage(0,0,60,400));
+
+		for( int threads = 2; threads <= 5; threads++ ) {
+			BoofConcurrency.setMaxThreads(threads);
+			assertEquals(expectedSum,ImageStatistics_MT.sum(image),0);
+			assertEquals(expectedVariance,ImageStatistics_MT.variance(image,2.5f),0);
+			assertEquals(expectedDiff,ImageStatistics_MT.meanDiffSq(image,image.subimage(0,0,60,400)),0);
+		}
+	}
+
+	/**
+	 * With the global switch turned on the regular class should produce the same results
+	 */
+	@Test
+	public void globalSwitch() {
+		GrayU8 image = new GrayU8(60,400);
+		ImageMiscOps.fillUniform(image,new Random(234),0,200);
+
+		int expectedSum = ImageStatistics.sum(image);
+		int[] expectedHist = new int[256];
+		ImageStatistics.histogram(image,0,expectedHist);
+
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			assertEquals(expectedSum,ImageStatistics.sum(image));
+			int[] found = new int[256];
+			ImageStatistics.histogram(image,0,found);
+			for( int i = 0; i < found.length; i++ )
+				assertEquals(expectedHist[i],found[i]);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+}
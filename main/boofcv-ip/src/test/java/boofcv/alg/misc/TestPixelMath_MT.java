@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPixelMath_MT {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compareToSerial() {
+		CompareMiscToSerial a = new CompareMiscToSerial(PixelMath_MT.class, PixelMath.class);
+		a.performTests(234);
+	}
+
+	/**
+	 * With the global switch turned on the regular class should produce the same results
+	 */
+	@Test
+	public void globalSwitch() {
+		GrayF32 input = new GrayF32(60,100);
+		ImageMiscOps.fillUniform(input,new Random(234),0,200);
+		GrayF32 expected = input.createSameShape();
+		GrayF32 found = input.createSameShape();
+
+		PixelMath.multiply(input,2.5f,10,300,expected);
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			PixelMath.multiply(input,2.5f,10,300,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
@@ -34,11 +34,15 @@ import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I32;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
@@ -174,13 +178,18 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void convolveSparse() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",ImplIntegralImageOps.class,"convolveSparse");
-		assertEquals(4,numFound);
+		assertEquals(8,numFound);
 	}
 
-	public void convolveSparse( Method m ) throws InvocationTargetException, IllegalAccessException {
+	public void convolveSparse( Method m ) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
 		Class paramType[] = m.getParameterTypes();
 		Class inputType = paramType[0];
 
+		if( paramType.length != 4 ) {
+			convolveSparse_batch(m);
+			return;
+		}
+
 		ImageGray integral = GeneralizedImageOps.createSingleBand(inputType, width, height);
 
 		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
@@ -205,6 +214,49 @@ public class TestImplIntegralImageOps {
 		assertEquals(e.get(19,29).doubleValue(),found2,1e-4f);
 	}
 
+	/**
+	 * Compares the batch version against the single point version.  Locations are picked so that some kernels
+	 * are entirely inside the image and others extend outside of it
+	 */
+	public void convolveSparse_batch( Method m ) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+		Class paramType[] = m.getParameterTypes();
+		Class inputType = paramType[0];
+		Method single = ImplIntegralImageOps.class.getMethod("convolveSparse",inputType,IntegralKernel.class,int.class,int.class);
+
+		ImageGray integral = GeneralizedImageOps.createSingleBand(inputType, width, height);
+		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
+
+		IntegralKernel kernelA = new IntegralKernel(2);
+		kernelA.blocks[0] = new ImageRectangle(-2,-2,1,1);
+		kernelA.blocks[1] = new ImageRectangle(-2,-1,1,0);
+		kernelA.scales =  new int[]{1,2};
+		IntegralKernel kernelB = new IntegralKernel(1);
+		kernelB.blocks[0] = new ImageRectangle(-4,-3,3,5);
+		kernelB.scales =  new int[]{-1};
+		IntegralKernel kernels[] = new IntegralKernel[]{kernelA,kernelB};
+
+		List<Point2D_I32> locations = new ArrayList<>();
+		locations.add(new Point2D_I32(0,0));
+		locations.add(new Point2D_I32(10,12));
+		locations.add(new Point2D_I32(4,3));
+		locations.add(new Point2D_I32(2,25));
+		locations.add(new Point2D_I32(19,29));
+
+		Object output = Array.newInstance(paramType[5].getComponentType(),locations.size()*kernels.length);
+		m.invoke(null,integral,kernels,locations,1,locations.size(),output);
+
+		for( int i = 1; i < locations.size(); i++ ) {
+			Point2D_I32 p = locations.get(i);
+			for( int k = 0; k < kernels.length; k++ ) {
+				double expected = ((Number)single.invoke(null,integral,kernels[k],p.x,p.y)).doubleValue();
+				double found = ((Number)Array.get(output,i*kernels.length+k)).doubleValue();
+				assertEquals(expected,found,0);
+			}
+		}
+		// outside the range of locations which were processed
+		assertEquals(0,((Number)Array.get(output,0)).doubleValue(),0);
+	}
+
 	@Test
 	public void block_unsafe() {
 		int numFound = BoofTesting.findMethodThenCall(this,"block_unsafe",ImplIntegralImageOps.class,"block_unsafe");
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.alg.transform.ii.IntegralKernel;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplIntegralImageOps_MT {
+
+	Random rand = new Random(234);
+	int width = 71;
+	int height = 90;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void transform() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps_MT.class,"transform");
+		assertEquals(5, numFound);
+	}
+
+	public void transform( Method m ) throws Exception {
+		Class paramType[] = m.getParameterTypes();
+		Method serial = ImplIntegralImageOps.class.getMethod("transform",paramType);
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		ImageGray found = (ImageGray)BoofTesting.createSubImageOf(expected.createSameShape());
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		serial.invoke(null,input,expected);
+		m.invoke(null,BoofTesting.createSubImageOf(input),found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void convolve() {
+		int numFound = BoofTesting.findMethodThenCall(this,"convolve",ImplIntegralImageOps_MT.class,"convolve");
+		assertEquals(4, numFound);
+	}
+
+	public void convolve( Method m ) throws Exception {
+		Class paramType[] = m.getParameterTypes();
+		Method serial = ImplIntegralImageOps.class.getMethod("convolve",paramType);
+
+		ImageGray integral = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[2], width, height);
+		ImageGray found = (ImageGray)expected.createSameShape();
+		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
+
+		IntegralKernel kernel = createKernels()[0];
+		serial.invoke(null,integral,kernel,expected);
+		m.invoke(null,integral,kernel,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void convolveSparse() {
+		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",ImplIntegralImageOps_MT.class,"convolveSparse");
+		assertEquals(4, numFound);
+	}
+
+	public void convolveSparse( Method m ) throws Exception {
+		Class paramType[] = m.getParameterTypes();
+		Method serial = ImplIntegralImageOps.class.getMethod("convolveSparse",
+				paramType[0],IntegralKernel[].class,List.class,int.class,int.class,paramType[3]);
+
+		ImageGray integral = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
+
+		List<Point2D_I32> locations = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			locations.add(new Point2D_I32(rand.nextInt(width),rand.nextInt(height)));
+		}
+		IntegralKernel kernels[] = createKernels();
+
+		int N = locations.size()*kernels.length;
+		Object expected = Array.newInstance(paramType[3].getComponentType(),N);
+		Object found = Array.newInstance(paramType[3].getComponentType(),N);
+
+		int minBlock = ImplIntegralImageOps_MT.MIN_SPARSE_BLOCK;
+		ImplIntegralImageOps_MT.MIN_SPARSE_BLOCK = 10;
+		try {
+			serial.invoke(null,integral,kernels,locations,0,locations.size(),expected);
+			m.invoke(null,integral,kernels,locations,found);
+		} finally {
+			ImplIntegralImageOps_MT.MIN_SPARSE_BLOCK = minBlock;
+		}
+
+		for (int i = 0; i < N; i++) {
+			assertEquals(((Number)Array.get(expected,i)).doubleValue(),((Number)Array.get(found,i)).doubleValue(),0);
+		}
+	}
+
+	/**
+	 * With the global switch turned on the regular class should produce the same results
+	 */
+	@Test
+	public void globalSwitch() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		GrayF32 expected = IntegralImageOps.transform(input,null);
+		BoofConcurrency.USE_CONCURRENT = true;
+		try {
+			BoofTesting.assertEquals(expected,IntegralImageOps.transform(input,null),0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+
+	private IntegralKernel[] createKernels() {
+		IntegralKernel kernelA = new IntegralKernel(2);
+		kernelA.blocks[0] = new ImageRectangle(-3,-3,2,2);
+		kernelA.blocks[1] = new ImageRectangle(-2,-1,1,0);
+		kernelA.scales =  new int[]{1,-2};
+		IntegralKernel kernelB = new IntegralKernel(1);
+		kernelB.blocks[0] = new ImageRectangle(-5,-4,4,6);
+		kernelB.scales =  new int[]{3};
+		return new IntegralKernel[]{kernelA,kernelB};
+	}
+}
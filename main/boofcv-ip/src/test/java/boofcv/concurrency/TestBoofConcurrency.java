@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void setMaxThreads() {
+		BoofConcurrency.setMaxThreads(3);
+		assertEquals(3,BoofConcurrency.getMaxThreads());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setMaxThreads_zero() {
+		BoofConcurrency.setMaxThreads(0);
+	}
+
+	/**
+	 * Every element should be processed exactly once and blocks should be contiguous
+	 */
+	@Test
+	public void loopBlocks() {
+		BoofConcurrency.setMaxThreads(4);
+
+		final List<int[]> blocks = Collections.synchronizedList(new ArrayList<int[]>());
+		BoofConcurrency.loopBlocks(5, 105, 10, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				blocks.add(new int[]{minInclusive,maxExclusive});
+			}
+		});
+
+		assertEquals(4,blocks.size());
+		checkCoverage(blocks,5,105);
+	}
+
+	/**
+	 * The number of blocks is limited by the minimum block size
+	 */
+	@Test
+	public void loopBlocks_minBlock() {
+		BoofConcurrency.setMaxThreads(4);
+
+		final List<int[]> blocks = Collections.synchronizedList(new ArrayList<int[]>());
+		IntRangeConsumer consumer = new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				blocks.add(new int[]{minInclusive, maxExclusive});
+			}
+		};
+		BoofConcurrency.loopBlocks(0, 25, 10, consumer);
+		assertEquals(2,blocks.size());
+		checkCoverage(blocks,0,25);
+
+		blocks.clear();
+		BoofConcurrency.loopBlocks(0, 5, 10, consumer);
+		assertEquals(1,blocks.size());
+		checkCoverage(blocks,0,5);
+
+		blocks.clear();
+		BoofConcurrency.loopBlocks(0, 0, 10, consumer);
+		assertEquals(0,blocks.size());
+	}
+
+	/**
+	 * With one thread everything should be run in the calling thread
+	 */
+	@Test
+	public void loopBlocks_singleThread() {
+		BoofConcurrency.setMaxThreads(1);
+
+		final Thread caller = Thread.currentThread();
+		final int[] count = new int[1];
+		BoofConcurrency.loopBlocks(0, 100, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				assertTrue(caller == Thread.currentThread());
+				count[0]++;
+			}
+		});
+		assertEquals(1,count[0]);
+	}
+
+	/**
+	 * Each block gets its own workspace and workspaces are recycled between calls
+	 */
+	@Test
+	public void loopBlocks_workspace() {
+		BoofConcurrency.setMaxThreads(4);
+
+		FastQueue<int[]> workspace = new FastQueue<int[]>(int[].class,true) {
+			@Override
+			protected int[] createInstance() {
+				return new int[2];
+			}
+		};
+
+		IntRangeObjectConsumer<int[]> consumer = new IntRangeObjectConsumer<int[]>() {
+			@Override
+			public void accept(int[] data, int minInclusive, int maxExclusive) {
+				data[0] = minInclusive;
+				data[1] = maxExclusive;
+			}
+		};
+		BoofConcurrency.loopBlocks(0, 100, 10, workspace, consumer);
+
+		assertEquals(4,workspace.size);
+		List<int[]> blocks = new ArrayList<>();
+		for (int i = 0; i < workspace.size; i++) {
+			blocks.add(workspace.get(i));
+			// blocks should be in order
+			if( i > 0 )
+				assertEquals(workspace.get(i-1)[1],workspace.get(i)[0]);
+		}
+		checkCoverage(blocks,0,100);
+
+		int[] first = workspace.get(0);
+		BoofConcurrency.loopBlocks(0, 20, 10, workspace, consumer);
+		assertEquals(2,workspace.size);
+		assertTrue(first == workspace.get(0));
+	}
+
+	/**
+	 * Block boundaries should be the same no matter how many threads there are
+	 */
+	@Test
+	public void loopBlocksFixed() {
+		final List<int[]> blocks = Collections.synchronizedList(new ArrayList<int[]>());
+		IntRangeConsumer consumer = new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				blocks.add(new int[]{minInclusive, maxExclusive});
+			}
+		};
+
+		for( int threads = 1; threads <= 4; threads++ ) {
+			BoofConcurrency.setMaxThreads(threads);
+			blocks.clear();
+			BoofConcurrency.loopBlocksFixed(5, 110, 10, consumer);
+
+			assertEquals(BoofConcurrency.computeNumBlocksFixed(105,10),blocks.size());
+			assertEquals(11,blocks.size());
+			checkCoverage(blocks,5,110);
+			for( int[] b : blocks ) {
+				assertEquals(0,(b[0]-5)%10);
+				assertEquals(Math.min(110,b[0]+10),b[1]);
+			}
+		}
+
+		blocks.clear();
+		BoofConcurrency.loopBlocksFixed(0, 0, 10, consumer);
+		assertEquals(0,blocks.size());
+	}
+
+	@Test
+	public void setPool() {
+		ForkJoinPool pool = new ForkJoinPool(2);
+		BoofConcurrency.setPool(pool);
+		assertTrue(pool == BoofConcurrency.getPool());
+		assertEquals(2,BoofConcurrency.getMaxThreads());
+
+		// changing the number of threads should not shutdown a pool it doesn't own
+		BoofConcurrency.setMaxThreads(3);
+		assertFalse(pool.isShutdown());
+		pool.shutdown();
+	}
+
+	private static void checkCoverage( List<int[]> blocks , int start , int end ) {
+		int[] counts = new int[end-start];
+		for( int[] b : blocks ) {
+			assertTrue(b[0] < b[1]);
+			for (int i = b[0]; i < b[1]; i++) {
+				counts[i-start]++;
+			}
+		}
+		for (int i = 0; i < counts.length; i++) {
+			assertEquals(1,counts[i]);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import boofcv.struct.image.GrayU8;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageRowBands {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Each band should write to exactly its own rows, with the halo being read only
+	 */
+	@Test
+	public void process_halo() {
+		GrayU8 input = new GrayU8(20,100);
+		GrayU8 output = new GrayU8(20,100);
+
+		ImageRowBands.process(input, output, 2, 3, new ImageRowBands.Task<GrayU8, GrayU8>() {
+			@Override
+			public void process(GrayU8 input, GrayU8 output) {
+				assertEquals(input.height,output.height);
+				// mimic an operation which skips the top and bottom rows
+				for (int y = 2; y < output.height-3; y++) {
+					for (int x = 0; x < output.width; x++) {
+						output.unsafe_set(x,y,output.unsafe_get(x,y)+1);
+					}
+				}
+			}
+		});
+
+		for (int y = 0; y < output.height; y++) {
+			int expected = y < 2 || y >= 97 ? 0 : 1;
+			for (int x = 0; x < output.width; x++) {
+				assertEquals(expected,output.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Small images are processed in a single call with the original images
+	 */
+	@Test
+	public void process_small() {
+		final GrayU8 input = new GrayU8(20,10);
+		final GrayU8 output = new GrayU8(20,10);
+		final int[] calls = new int[1];
+
+		ImageRowBands.process(input, output, new ImageRowBands.Task<GrayU8, GrayU8>() {
+			@Override
+			public void process(GrayU8 a, GrayU8 b) {
+				assertEquals(input,a);
+				assertEquals(output,b);
+				calls[0]++;
+			}
+		});
+		assertEquals(1,calls[0]);
+	}
+
+	@Test
+	public void loopRows() {
+		final GrayU8 image = new GrayU8(10,100);
+
+		ImageRowBands.loopRows(image, new IntRangeConsumer() {
+			@Override
+			public void accept(int minInclusive, int maxExclusive) {
+				for (int y = minInclusive; y < maxExclusive; y++) {
+					for (int x = 0; x < image.width; x++) {
+						image.unsafe_set(x,y,image.unsafe_get(x,y)+1);
+					}
+				}
+			}
+		});
+
+		for (int y = 0; y < image.height; y++) {
+			for (int x = 0; x < image.width; x++) {
+				assertEquals(1,image.get(x,y));
+			}
+		}
+	}
+}
@@ -419,6 +419,65 @@ public class TestConvertImage {
 		}
 	}
 
+	/**
+	 * Conversion with a scale and offset should produce the same results as converting and then scaling
+	 */
+	@Test
+	public void checkAllConvertScaled() {
+		int count = 0;
+		Method methods[] = ConvertImage.class.getMethods();
+
+		for (Method m : methods) {
+			Class[] inputTypes = m.getParameterTypes();
+			if( inputTypes.length != 4 || inputTypes[1] != float.class )
+				continue;
+
+			Class<?> inputType = inputTypes[0];
+			Class<?> outputType = inputTypes[3];
+			assertTrue(outputType == m.getReturnType());
+
+			try {
+				ImageBase input, output;
+				if( inputType == Planar.class ) {
+					input = new Planar(GrayU8.class, imgWidth, imgHeight, 3);
+				} else {
+					input = GeneralizedImageOps.createImage((Class)inputType, imgWidth, imgHeight, 3);
+				}
+				if( outputType == Planar.class ) {
+					output = new Planar(GrayF32.class, imgWidth, imgHeight, 3);
+				} else {
+					output = GeneralizedImageOps.createImage((Class)outputType, imgWidth, imgHeight, 3);
+				}
+				GImageMiscOps.fillUniform(input, rand, 0, 200);
+
+				// sub-image to make sure stride and start index are handled
+				ImageBase subOutput = BoofTesting.createSubImageOf(output);
+				ImageBase ret = (ImageBase)m.invoke(null, input, 0.5f, -2.5f, subOutput);
+				assertTrue(ret == subOutput);
+
+				int numBands = input instanceof ImageMultiBand ? ((ImageMultiBand)input).getNumBands() : 1;
+				for( int y = 0; y < imgHeight; y++ ) {
+					for( int x = 0; x < imgWidth; x++ ) {
+						for( int b = 0; b < numBands; b++ ) {
+							double expected = 0.5*GeneralizedImageOps.get(input,x,y,b) - 2.5;
+							assertEquals(expected, GeneralizedImageOps.get(subOutput,x,y,b), 1e-4);
+						}
+					}
+				}
+
+				// it should declare the output image if null
+				ret = (ImageBase)m.invoke(null, input, 0.5f, -2.5f, null);
+				assertEquals(imgWidth, ret.width);
+				assertEquals(imgHeight, ret.height);
+			} catch (IllegalAccessException | InvocationTargetException e) {
+				throw new RuntimeException(e);
+			}
+			count++;
+		}
+
+		assertEquals(7,count);
+	}
+
 	/**
 	 * If the two images are both int or float then set a low tolerance, otherwise set the tolerance to one pixel
 	 */
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestProfileHistogram {
+
+	@Test
+	public void bucketIndex() {
+		assertEquals(0, ProfileHistogram.bucketIndex(-5));
+		assertEquals(0, ProfileHistogram.bucketIndex(0));
+		assertEquals(1, ProfileHistogram.bucketIndex(1));
+		assertEquals(2, ProfileHistogram.bucketIndex(2));
+		assertEquals(2, ProfileHistogram.bucketIndex(3));
+		assertEquals(3, ProfileHistogram.bucketIndex(4));
+		assertEquals(63, ProfileHistogram.bucketIndex(Long.MAX_VALUE));
+
+		// the upper bound should be consistent with the index
+		for (int i = 1; i < 63; i++) {
+			long upper = ProfileHistogram.bucketUpper(i);
+			assertEquals(i, ProfileHistogram.bucketIndex(upper));
+			assertEquals(i+1, ProfileHistogram.bucketIndex(upper+1));
+		}
+	}
+
+	@Test
+	public void add_statistics() {
+		ProfileHistogram alg = new ProfileHistogram();
+		alg.add(5);
+		alg.add(20);
+		alg.add(2);
+
+		assertEquals(3, alg.getCount());
+		assertEquals(27, alg.getSum());
+		assertEquals(2, alg.getMin());
+		assertEquals(20, alg.getMax());
+		assertEquals(9.0, alg.getMean(), 1e-8);
+		assertEquals(1, alg.getBucket(ProfileHistogram.bucketIndex(5)));
+		assertEquals(1, alg.getBucket(ProfileHistogram.bucketIndex(20)));
+		assertEquals(1, alg.getBucket(ProfileHistogram.bucketIndex(2)));
+
+		alg.reset();
+		assertEquals(0, alg.getCount());
+		assertEquals(0, alg.getSum());
+		assertEquals(0.0, alg.getMean(), 0.0);
+	}
+
+	@Test
+	public void quantile() {
+		ProfileHistogram alg = new ProfileHistogram();
+		assertEquals(0, alg.quantile(0.5));
+
+		for (int i = 0; i < 90; i++) {
+			alg.add(10);
+		}
+		for (int i = 0; i < 10; i++) {
+			alg.add(1000);
+		}
+
+		// bucket containing 10 is [8,15]. Upper bound is used
+		assertEquals(15, alg.quantile(0.5));
+		assertEquals(15, alg.quantile(0.9));
+		// clipped by the max value
+		assertEquals(1000, alg.quantile(0.99));
+		assertEquals(1000, alg.quantile(1.0));
+		// clipped by the min value
+		alg.reset();
+		alg.add(9);
+		assertEquals(9, alg.quantile(0.0));
+	}
+
+	@Test
+	public void add_histogram() {
+		ProfileHistogram a = new ProfileHistogram();
+		ProfileHistogram b = new ProfileHistogram();
+		a.add(3);
+		b.add(100);
+		b.add(1);
+
+		a.add(b);
+		assertEquals(3, a.getCount());
+		assertEquals(104, a.getSum());
+		assertEquals(1, a.getMin());
+		assertEquals(100, a.getMax());
+
+		// adding an empty histogram shouldn't change anything
+		a.add(new ProfileHistogram());
+		assertEquals(3, a.getCount());
+		assertEquals(1, a.getMin());
+
+		ProfileHistogram c = a.copy();
+		assertEquals(a.getCount(), c.getCount());
+		for (int i = 0; i < ProfileHistogram.NUM_BUCKETS; i++) {
+			assertEquals(a.getBucket(i), c.getBucket(i));
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestProfileHistogramSink {
+
+	@Test
+	public void record_export() {
+		ProfileScope root = new ProfileScope("root");
+		ProfileScope child = new ProfileScope("child");
+		root.addChild(child);
+		ProfileTimer timerA = root.timer("a");
+		ProfileTimer timerB = child.timer("b");
+		ProfileCounter counter = child.counter("c");
+
+		ProfileHistogramSink sink = new ProfileHistogramSink();
+		root.setSink(sink);
+
+		timerA.record(100);
+		timerA.record(200);
+		timerB.record(50);
+		counter.add(7);
+
+		assertEquals(2, sink.getHistogram(timerA).getCount());
+		assertEquals(300, sink.getHistogram(timerA).getSum());
+		assertEquals(1, sink.getHistogram(timerB).getCount());
+		assertEquals(7, sink.getHistogram(counter).getMax());
+
+		Map<String,ProfileHistogram> times = sink.exportTimers();
+		assertEquals(2, times.size());
+		assertEquals(300, times.get("root/a").getSum());
+		assertEquals(50, times.get("root/child/b").getSum());
+
+		Map<String,ProfileHistogram> counts = sink.exportCounters();
+		assertEquals(1, counts.size());
+		assertEquals(7, counts.get("root/child/c").getSum());
+
+		// exported histograms are copies
+		times.get("root/a").add(5);
+		assertEquals(2, sink.getHistogram(timerA).getCount());
+
+		sink.reset();
+		assertNull(sink.getHistogram(timerA));
+		assertEquals(0, sink.exportTimers().size());
+	}
+
+	/**
+	 * Two instances of the same algorithm with the same sink should be merged when exported
+	 */
+	@Test
+	public void export_mergeSamePath() {
+		ProfileScope scopeA = new ProfileScope("alg");
+		ProfileScope scopeB = new ProfileScope("alg");
+		ProfileTimer timerA = scopeA.timer("stage");
+		ProfileTimer timerB = scopeB.timer("stage");
+
+		ProfileHistogramSink sink = new ProfileHistogramSink();
+		scopeA.setSink(sink);
+		scopeB.setSink(sink);
+
+		timerA.record(10);
+		timerB.record(20);
+
+		assertEquals(1, sink.getHistogram(timerA).getCount());
+		Map<String,ProfileHistogram> times = sink.exportTimers();
+		assertEquals(1, times.size());
+		assertEquals(2, times.get("alg/stage").getCount());
+		assertEquals(30, times.get("alg/stage").getSum());
+	}
+
+	@Test
+	public void print() {
+		ProfileScope root = new ProfileScope("root");
+		ProfileTimer timer = root.timer("stage");
+		ProfileCounter counter = root.counter("count");
+		ProfileHistogramSink sink = new ProfileHistogramSink();
+		root.setSink(sink);
+		timer.record(1000000);
+		counter.add(3);
+
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		sink.print(new PrintStream(stream));
+		String text = stream.toString();
+		assertTrue(text.contains("root/stage"));
+		assertTrue(text.contains("root/count"));
+	}
+}
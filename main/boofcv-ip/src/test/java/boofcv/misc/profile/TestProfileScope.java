@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.misc.profile;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestProfileScope {
+
+	@Test
+	public void getPath() {
+		ProfileScope root = new ProfileScope("root");
+		ProfileScope child = new ProfileScope("child");
+		root.addChild(child);
+		ProfileTimer timer = child.timer("stage");
+		ProfileCounter counter = child.counter("count");
+
+		assertEquals("root", root.getPath());
+		assertEquals("root/child", child.getPath());
+		assertEquals("root/child/stage", timer.getPath());
+		assertEquals("root/child/count", counter.getPath());
+	}
+
+	/**
+	 * Nothing should be recorded until a sink is specified
+	 */
+	@Test
+	public void disabled() {
+		ProfileScope scope = new ProfileScope("root");
+		ProfileTimer timer = scope.timer("stage");
+		ProfileCounter counter = scope.counter("count");
+
+		assertFalse(scope.isEnabled());
+		assertEquals(0, timer.start());
+		assertEquals(0, timer.stop(10));
+		timer.record(10);
+		counter.add(5);
+
+		DummySink sink = new DummySink();
+		scope.setSink(sink);
+		assertTrue(scope.isEnabled());
+		assertEquals(0, sink.times.size());
+		assertEquals(0, sink.counts.size());
+
+		// started before it was enabled. Should not be recorded
+		timer.stop(0);
+		assertEquals(0, sink.times.size());
+	}
+
+	@Test
+	public void enabled() {
+		ProfileScope scope = new ProfileScope("root");
+		ProfileTimer timer = scope.timer("stage");
+		ProfileCounter counter = scope.counter("count");
+
+		DummySink sink = new DummySink();
+		scope.setSink(sink);
+
+		long time = timer.start();
+		assertTrue(time != 0);
+		long after = timer.stop(time);
+		assertTrue(after >= time);
+		timer.record(123);
+		counter.add(5);
+
+		assertEquals(2, sink.times.size());
+		assertEquals(after-time, (long)sink.times.get(0));
+		assertEquals(123, (long)sink.times.get(1));
+		assertEquals(1, sink.counts.size());
+		assertEquals(5, (long)sink.counts.get(0));
+
+		scope.setSink(null);
+		counter.add(5);
+		assertEquals(1, sink.counts.size());
+	}
+
+	/**
+	 * The sink should be passed to children when set and when they are added
+	 */
+	@Test
+	public void sinkPropagates() {
+		ProfileScope root = new ProfileScope("root");
+		ProfileScope a = new ProfileScope("a");
+		ProfileScope b = new ProfileScope("b");
+		a.addChild(b);
+
+		DummySink sink = new DummySink();
+		root.setSink(sink);
+		assertFalse(b.isEnabled());
+		root.addChild(a);
+		assertSame(sink, a.getSink());
+		assertSame(sink, b.getSink());
+
+		root.setSink(null);
+		assertFalse(a.isEnabled());
+		assertFalse(b.isEnabled());
+
+		root.setSink(sink);
+		assertTrue(root.removeChild(a));
+		assertFalse(root.removeChild(a));
+		assertNull(a.getParent());
+		assertFalse(a.isEnabled());
+		assertFalse(b.isEnabled());
+	}
+
+	@Test
+	public void addChild_reparent() {
+		ProfileScope rootA = new ProfileScope("A");
+		ProfileScope rootB = new ProfileScope("B");
+		ProfileScope child = new ProfileScope("child");
+
+		rootA.addChild(child);
+		rootB.addChild(child);
+
+		assertEquals(0, rootA.getChildren().size());
+		assertEquals(1, rootB.getChildren().size());
+		assertSame(rootB, child.getParent());
+		assertEquals("B/child", child.getPath());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addChild_cycle() {
+		ProfileScope root = new ProfileScope("root");
+		ProfileScope child = new ProfileScope("child");
+		root.addChild(child);
+		child.addChild(root);
+	}
+
+	private static class DummySink implements ProfileSink {
+		List<Long> times = new ArrayList<>();
+		List<Long> counts = new ArrayList<>();
+
+		@Override
+		public void recordTime(ProfileTimer timer, long nanoseconds) {
+			times.add(nanoseconds);
+		}
+
+		@Override
+		public void recordCount(ProfileCounter counter, long amount) {
+			counts.add(amount);
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImage;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestOffHeapImage {
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 45;
+
+	ImageType types[] = new ImageType[]{
+			ImageType.single(GrayU8.class),ImageType.single(GrayS16.class),ImageType.single(GrayS32.class),
+			ImageType.single(GrayS64.class),ImageType.single(GrayF32.class),ImageType.single(GrayF64.class),
+			ImageType.il(3,InterleavedU8.class),ImageType.il(2,InterleavedF32.class)};
+
+	/**
+	 * Write and read back regions.  Small pages are used so that the image is split across several of them
+	 */
+	@Test
+	public void readWrite() {
+		for( ImageType type : types ) {
+			OffHeapImage alg = OffHeapImage.allocate(type, width, height, 10*width*8*3);
+			checkReadWrite(type, alg);
+		}
+	}
+
+	@Test
+	public void readWrite_mapped() throws IOException {
+		File file = File.createTempFile("offheap",".bin");
+		file.deleteOnExit();
+
+		for( ImageType type : types ) {
+			OffHeapImage alg = OffHeapImage.map(file, false, type, width, height, 10*width*8*3);
+			checkReadWrite(type, alg);
+		}
+	}
+
+	private void checkReadWrite(ImageType type, OffHeapImage alg) {
+		assertEquals(width, alg.getWidth());
+		assertEquals(height, alg.getHeight());
+
+		ImageBase expected = type.createImage(width, height);
+		GImageMiscOps.fillUniform(expected, rand, 0, 100);
+		alg.write(expected, 0, 0);
+
+		BoofTesting.assertEquals(expected, alg.read(0, 0, width, height, null), 0);
+
+		// overwrite a region with a sub-image and read it back
+		ImageBase region = BoofTesting.createSubImageOf(type.createImage(7, 12));
+		GImageMiscOps.fillUniform(region, rand, 100, 120);
+		alg.write(region, 5, 8);
+		expected.subimage(5, 8, 12, 20).setTo(region);
+
+		BoofTesting.assertEquals(expected, alg.read(0, 0, width, height, null), 0);
+		ImageBase found = BoofTesting.createSubImageOf(type.createImage(12, 38));
+		found = alg.read(3, 2, 15, 40, found);
+		BoofTesting.assertEquals(expected.subimage(3, 2, 15, 40), found, 0);
+	}
+
+	/**
+	 * Pixel values should persist in the file after it has been mapped again
+	 */
+	@Test
+	public void map_persist() throws IOException {
+		File file = File.createTempFile("offheap",".bin");
+		file.deleteOnExit();
+
+		ImageType<GrayF32> type = ImageType.single(GrayF32.class);
+		GrayF32 expected = new GrayF32(width, height);
+		ImageMiscOps.fillUniform(expected, rand, -1, 1);
+
+		OffHeapImage<GrayF32> alg = OffHeapImage.map(file, false, type, width, height);
+		alg.write(expected, 0, 0);
+		assertEquals(alg.getTotalBytes(), file.length());
+
+		alg = OffHeapImage.map(file, true, type, width, height);
+		BoofTesting.assertEquals(expected, alg.read(0, 0, width, height, null), 0);
+
+		try {
+			alg.write(expected, 0, 0);
+			fail("Should be read only");
+		} catch( RuntimeException ignore ){}
+	}
+
+	/**
+	 * Process an image in bands of rows which are read from and written to off-heap storage.
+	 * Results should be the same as processing the whole image in memory.
+	 */
+	@Test
+	public void processInBands() {
+		GrayU8 input = new GrayU8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		GrayF32 expected = BlurImageOps.mean(ConvertImage.convert(input, (GrayF32)null), null, 2, null);
+		// threshold can't be exactly hit by the mean, making it robust to round off errors
+		GrayU8 expectedBinary = ThresholdImageOps.threshold(expected, null, 90.5f, false);
+
+		OffHeapImage<GrayU8> storeIn = OffHeapImage.allocate(ImageType.single(GrayU8.class), width, height, width*10);
+		OffHeapImage<GrayU8> storeOut = OffHeapImage.allocate(ImageType.single(GrayU8.class), width, height);
+		storeIn.write(input, 0, 0);
+
+		int radius = 2, bandHeight = 10;
+		GrayU8 band = null;
+		for (int y0 = 0; y0 < height; y0 += bandHeight) {
+			int y1 = Math.min(height, y0 + bandHeight);
+			// include enough extra rows that the blur isn't affected by the band's border
+			int r0 = Math.max(0, y0 - radius);
+			int r1 = Math.min(height, y1 + radius);
+
+			band = storeIn.read(0, r0, width, r1, band);
+			GrayF32 bandF32 = ConvertImage.convert(band, (GrayF32)null);
+			GrayF32 blurred = BlurImageOps.mean(bandF32, null, radius, null);
+			GrayU8 binary = ThresholdImageOps.threshold(blurred, null, 90.5f, false);
+
+			storeOut.write(binary.subimage(0, y0 - r0, width, y1 - r0), 0, y0);
+		}
+
+		BoofTesting.assertEquals(expectedBinary, storeOut.read(0, 0, width, height, null), 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void planarNotSupported() {
+		OffHeapImage.allocate(ImageType.pl(3,GrayU8.class), width, height);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void outOfBounds() {
+		OffHeapImage<GrayU8> alg = OffHeapImage.allocate(ImageType.single(GrayU8.class), width, height);
+		alg.read(0, 0, width+1, height, null);
+	}
+}
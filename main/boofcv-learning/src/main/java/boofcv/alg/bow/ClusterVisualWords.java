@@ -28,7 +28,7 @@ import java.util.List;
 /**
  * Finds clusters of {@link TupleDesc_F64} which can be used to identify frequent features, a.k.a words.
  * Internally it uses {@link org.ddogleg.clustering.ComputeClusters} and simply extracts the inner array
- * from the tuple.
+ * from the tuple.  For large dictionaries use ComputeVocabularyTree, which assigns words hierarchically.
  *
  * @author Peter Abeles
  */
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.fiducial;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.fiducial.ConfigFiducialBinary;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.factory.filter.binary.ConfigThreshold;
+import boofcv.factory.filter.binary.ThresholdType;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for square binary fiducial detection.  Instead of loading example images from disk, as is
+ * done in BenchmarkFiducialDetector, a grid of fiducials is rendered directly into the input image.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhFiducialDetector {
+	@Param({"640", "1920"})
+	public int width;
+
+	@Param({"U8", "F32"})
+	public String dataType;
+
+	@Param({"GLOBAL_OTSU", "LOCAL_MEAN"})
+	public String threshold;
+
+	@Param({"false", "true"})
+	public boolean tracking;
+
+	ImageGray image;
+	FiducialDetector detector;
+
+	@Setup
+	public void setup() {
+		ImageDataType type = ImageDataType.valueOf(dataType);
+		Class imageType = ImageDataType.typeToSingleClass(type);
+		int height = width*3/4;
+
+		image = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fill(image, 255);
+
+		// lay the fiducials out in a grid with a white margin around each of them
+		ConfigFiducialBinary config = new ConfigFiducialBinary(0.2);
+		config.tracking.enabled = tracking;
+		int cell = width/5;
+		int square = (int)(cell*0.6*(1-2*config.borderWidthFraction)/config.gridWidth);
+		Random rand = new Random(234);
+		for (int y = 0; y+cell <= height; y += cell) {
+			for (int x = 0; x+cell <= width; x += cell) {
+				render(x+cell/5, y+cell/5, square, rand.nextInt(1 << 12), config);
+			}
+		}
+		GImageMiscOps.addUniform(image, rand, -10, 10);
+
+		ThresholdType thresholdType = ThresholdType.valueOf(threshold);
+		ConfigThreshold configThreshold = thresholdType.isGlobal() ?
+				ConfigThreshold.global(thresholdType) : ConfigThreshold.<ConfigThreshold>local(thresholdType, 10);
+		detector = FactoryFiducial.squareBinary(config, configThreshold, imageType);
+		// the first frame is always a full scan. With tracking on later frames only search around the fiducials
+		detector.detect(image);
+	}
+
+	/**
+	 * Renders a single square binary fiducial with its top-left corner at (x0,y0)
+	 */
+	private void render( int x0, int y0, int square, int value, ConfigFiducialBinary config ) {
+		int gridWidth = config.gridWidth;
+		int border = (int)Math.round(square*gridWidth*config.borderWidthFraction/(1-2*config.borderWidthFraction));
+		int total = square*gridWidth + 2*border;
+
+		GImageMiscOps.fillRectangle(image, 0, x0, y0, total, total);
+
+		int s2 = border;
+		int s5 = s2+square*(gridWidth-1);
+
+		int N = gridWidth*gridWidth-4;
+		for (int i = 0; i < N; i++) {
+			if( (value & (1 << i)) != 0 )
+				continue;
+
+			int where = index(i, gridWidth);
+			int x = where%gridWidth;
+			int y = gridWidth-1-(where/gridWidth);
+
+			GImageMiscOps.fillRectangle(image, 255, x0+s2+square*x, y0+s2+square*y, square, square);
+		}
+		GImageMiscOps.fillRectangle(image, 255, x0+s2, y0+s2, square, square);
+		GImageMiscOps.fillRectangle(image, 255, x0+s5, y0+s5, square, square);
+		GImageMiscOps.fillRectangle(image, 255, x0+s5, y0+s2, square, square);
+	}
+
+	private static int index( int bit, int gridWidth ) {
+		int transitionBit0 = gridWidth-3;
+		int transitionBit1 = transitionBit0 + gridWidth*(gridWidth-2);
+
+		if( bit <= transitionBit0 )
+			return bit+1;
+		else if( bit <= transitionBit1 )
+			return bit+2;
+		else
+			return bit+3;
+	}
+
+	@Benchmark
+	public int squareBinary() {
+		detector.detect(image);
+		return detector.totalFound();
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.fiducial.qrcode;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.fiducial.ConfigQrCode;
+import boofcv.factory.fiducial.FactoryFiducial;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for QR code detection in images with many QR codes. A grid of QR codes is rendered using
+ * {@link QrCodeGeneratorImage}.  The full detector and just the decoding step are benchmarked with and without
+ * concurrency.  When previousTolerance is greater than zero the same image is processed repeatedly, like a
+ * static scene in a video, and codes found in the previous frame aren't decoded again.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class JmhQrCodeDetector {
+	// number of QR codes along each side of the grid
+	@Param({"4", "8"})
+	public int gridWidth;
+
+	@Param({"false", "true"})
+	public boolean concurrent;
+
+	@Param({"0", "2"})
+	public double previousTolerance;
+
+	GrayU8 gray;
+	GrayU8 binary;
+
+	QrCodeDetector<GrayU8> detector;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+		QrCode qr = new QrCode();
+		qr.version = 2;
+		generator.generate(qr);
+		GrayU8 marker = generator.getGray();
+
+		int spacing = marker.width*3/2;
+		gray = new GrayU8(gridWidth*spacing, gridWidth*spacing);
+		ImageMiscOps.fill(gray, 255);
+		for (int row = 0; row < gridWidth; row++) {
+			for (int col = 0; col < gridWidth; col++) {
+				int x0 = col*spacing + spacing/6;
+				int y0 = row*spacing + spacing/6;
+				gray.subimage(x0, y0, x0+marker.width, y0+marker.height).setTo(marker);
+			}
+		}
+		ImageMiscOps.addUniform(gray, new Random(234), -10, 10);
+
+		binary = gray.createSameShape();
+		ThresholdImageOps.threshold(gray, binary, 125, true);
+
+		ConfigQrCode config = new ConfigQrCode();
+		config.previousTolerance = previousTolerance;
+		detector = FactoryFiducial.qrcode(config, GrayU8.class);
+		detector.process(gray, binary);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@Benchmark
+	public int detect() {
+		detector.process(gray, binary);
+		return detector.getDetections().size;
+	}
+
+	@Benchmark
+	public int decode() {
+		QrCodeDecoder<GrayU8> decoder = detector.getDecoder();
+		decoder.process(detector.getDetectPositionPatterns().getPositionPatterns(), gray);
+		return decoder.getFound().size;
+	}
+}
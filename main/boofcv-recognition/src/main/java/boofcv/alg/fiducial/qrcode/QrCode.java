@@ -57,6 +57,22 @@ public class QrCode {
 	 */
 	public Polygon2D_F64 bounds = new Polygon2D_F64(4);
 
+	/**
+	 * Copies all the information from 'o' into this QR code
+	 */
+	public void set( QrCode o ) {
+		ppRight.set(o.ppRight);
+		ppCorner.set(o.ppCorner);
+		ppDown.set(o.ppDown);
+		threshRight = o.threshRight;
+		threshCorner = o.threshCorner;
+		threshDown = o.threshDown;
+		version = o.version;
+		errorCorrection = o.errorCorrection;
+		maskPattern = o.maskPattern;
+		bounds.set(o.bounds);
+	}
+
 	public enum ErrorCorrectionLevel {
 		L(0b01),
 		M(0b00),
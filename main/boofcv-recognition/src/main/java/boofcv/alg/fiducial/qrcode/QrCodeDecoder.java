@@ -33,6 +33,12 @@ import org.ddogleg.struct.FastQueue;
 public class QrCodeDecoder<T extends ImageGray<T>> {
 
 	FastQueue<QrCode> found = new FastQueue<>(QrCode.class,true);
+	// QR codes found in the previous frame
+	FastQueue<QrCode> previous = new FastQueue<>(QrCode.class,true);
+
+	// If a candidate's position patterns are within this many pixels of a QR code found in the previous frame
+	// then it isn't decoded again and the previous results are used. Disabled if &le; 0
+	double previousTolerance = 0;
 
 	SquareBitReader squareDecoder;
 	PackedBits bits = new PackedBits();
@@ -51,7 +57,7 @@ public class QrCodeDecoder<T extends ImageGray<T>> {
 	 */
 	public void process(FastQueue<PositionPatternNode> pps , T gray ) {
 		squareDecoder.setImage(gray);
-		found.reset();
+		resetFound();
 
 		for (int i = 0; i < pps.size; i++) {
 			PositionPatternNode ppn = pps.get(i);
@@ -63,8 +69,8 @@ public class QrCodeDecoder<T extends ImageGray<T>> {
 					setPositionPatterns(ppn, j, k, qr);
 					computeBoundingBox(qr);
 
-					// Decode the entire marker now
-					if( !decode(qr)) {
+					// Decode the entire marker now, unless it was already decoded in the previous frame
+					if( !copyPrevious(qr) && !decode(qr)) {
 						found.removeTail();
 					}
 				}
@@ -72,6 +78,53 @@ public class QrCodeDecoder<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Clears the list of found QR codes. If the previous frame is used then the found list is saved first
+	 */
+	protected void resetFound() {
+		if( previousTolerance > 0 ) {
+			FastQueue<QrCode> tmp = previous;
+			previous = found;
+			found = tmp;
+		} else {
+			previous.reset();
+		}
+		found.reset();
+	}
+
+	/**
+	 * Searches for a QR code in the previous frame which has the same position patterns as the candidate, to
+	 * within tolerance. If one is found then its decoded information is copied into the candidate.
+	 *
+	 * @return true if the candidate was decoded in the previous frame
+	 */
+	protected boolean copyPrevious( QrCode qr ) {
+		if( previousTolerance <= 0 )
+			return false;
+
+		double tol2 = previousTolerance*previousTolerance;
+		for (int i = 0; i < previous.size; i++) {
+			QrCode p = previous.get(i);
+			if( isSameLocation(p.ppCorner,qr.ppCorner,tol2) &&
+					isSameLocation(p.ppRight,qr.ppRight,tol2) &&
+					isSameLocation(p.ppDown,qr.ppDown,tol2) ) {
+				qr.version = p.version;
+				qr.errorCorrection = p.errorCorrection;
+				qr.maskPattern = p.maskPattern;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean isSameLocation( Polygon2D_F64 a , Polygon2D_F64 b , double tol2 ) {
+		for (int i = 0; i < 4; i++) {
+			if( a.get(i).distance2(b.get(i)) > tol2 )
+				return false;
+		}
+		return true;
+	}
+
 	static void setPositionPatterns(PositionPatternNode ppn,
 									int cornerToRight, int cornerToDown,
 									QrCode qr) {
@@ -116,7 +169,12 @@ public class QrCodeDecoder<T extends ImageGray<T>> {
 		qr.bounds.get(3).set(qr.ppDown.get(3));
 	}
 
-	private boolean decode( QrCode qr ) {
+	/**
+	 * Decodes the QR code. The image must have already been passed to the square decoder
+	 *
+	 * @return true if successful
+	 */
+	protected boolean decode( QrCode qr ) {
 		if( !extractFormatInfo(qr) )
 			return false;
 		if( !extractVersionInfo(qr) )
@@ -319,4 +377,17 @@ public class QrCodeDecoder<T extends ImageGray<T>> {
 	public FastQueue<QrCode> getFound() {
 		return found;
 	}
+
+	public double getPreviousTolerance() {
+		return previousTolerance;
+	}
+
+	/**
+	 * If a candidate's position patterns are within this many pixels of a QR code found in the previous frame
+	 * then it isn't decoded again and the previous results are used instead. Useful when processing a video
+	 * sequence where most QR codes don't move between frames. Set to a value &le; 0 to disable.
+	 */
+	public void setPreviousTolerance(double previousTolerance) {
+		this.previousTolerance = previousTolerance;
+	}
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.fiducial.qrcode;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+
+/**
+ * <p>
+ * Concurrent version of {@link QrCodeDecoder}.  All the candidate QR codes are found from the position patterns
+ * first, then they are split between threads and decoded.  Each thread has its own bit reader and workspace.
+ * Candidates are decoded independently of each other and added to the found list in the same order as
+ * the single threaded version, so the results are identical.
+ * </p>
+ *
+ * <p>
+ * Candidates which were found in the previous frame at the same location, see
+ * {@link #setPreviousTolerance(double)}, are not decoded again.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class QrCodeDecoder_MT<T extends ImageGray<T>> extends QrCodeDecoder<T> {
+
+	/**
+	 * Minimum number of candidates decoded by a thread
+	 */
+	public static int MIN_CANDIDATES = 4;
+
+	// Every possible QR code which can be formed from the position patterns
+	private final FastQueue<QrCode> candidates = new FastQueue<>(QrCode.class,true);
+	// true if the candidate with the same index has been decoded
+	private final GrowQueue_B decoded = new GrowQueue_B();
+
+	// decoders for each thread
+	private final FastQueue<QrCodeDecoder<T>> workers;
+
+	// reference to the image being processed
+	private T gray;
+
+	public QrCodeDecoder_MT( final Class<T> imageType ) {
+		super(imageType);
+
+		workers = new FastQueue<QrCodeDecoder<T>>(1,(Class)QrCodeDecoder.class,true) {
+			@Override
+			protected QrCodeDecoder<T> createInstance() {
+				return new QrCodeDecoder<>(imageType);
+			}
+		};
+	}
+
+	@Override
+	public void process(FastQueue<PositionPatternNode> pps , T gray ) {
+		resetFound();
+		candidates.reset();
+		decoded.reset();
+
+		for (int i = 0; i < pps.size; i++) {
+			PositionPatternNode ppn = pps.get(i);
+
+			for (int j = 3,k=0; k < 4; j=k,k++) {
+				if( ppn.edges[j] != null && ppn.edges[k] != null ) {
+					QrCode qr = candidates.grow();
+
+					setPositionPatterns(ppn, j, k, qr);
+					computeBoundingBox(qr);
+
+					decoded.add(copyPrevious(qr));
+				}
+			}
+		}
+
+		this.gray = gray;
+		BoofConcurrency.loopBlocks(0, candidates.size, MIN_CANDIDATES, workers, decodeBlock);
+		this.gray = null;
+
+		// add them in the same order as the single threaded version
+		for (int i = 0; i < candidates.size; i++) {
+			if( decoded.data[i] ) {
+				found.grow().set(candidates.get(i));
+			}
+		}
+	}
+
+	private final IntRangeObjectConsumer<QrCodeDecoder<T>> decodeBlock =
+			new IntRangeObjectConsumer<QrCodeDecoder<T>>() {
+		@Override
+		public void accept(QrCodeDecoder<T> worker, int minInclusive, int maxExclusive) {
+			worker.squareDecoder.setImage(gray);
+
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				if( !decoded.data[i] ) {
+					decoded.data[i] = worker.decode(candidates.get(i));
+				}
+			}
+		}
+	};
+}
@@ -19,6 +19,10 @@
 package boofcv.alg.fiducial.qrcode;
 
 import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
+import boofcv.misc.profile.ProfileCounter;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -30,20 +34,44 @@ import org.ddogleg.struct.FastQueue;
  *
  * @author Peter Abeles
  */
-public class QrCodeDetector<T extends ImageGray<T>> {
+public class QrCodeDetector<T extends ImageGray<T>> implements Profiled {
 
 	QrCodePositionPatternDetector<T> detectPositionPatterns;
 	QrCodeDecoder<T> decoder;
 
+	// runtime profiling
+	final ProfileScope profile = new ProfileScope("QrCodeDetector");
+	final ProfileTimer timerPositionPatterns = profile.timer("position_patterns");
+	final ProfileTimer timerDecode = profile.timer("decode");
+	final ProfileCounter counterDetections = profile.counter("detections");
+
 	public QrCodeDetector( QrCodePositionPatternDetector<T> detectPositionPatterns ,
 						   Class<T> imageType ) {
+		this(detectPositionPatterns, new QrCodeDecoder<>(imageType));
+	}
+
+	/**
+	 * Specifies the algorithms used internally.
+	 *
+	 * @param detectPositionPatterns Detects and connects the position patterns
+	 * @param decoder Decodes QR codes from the position patterns. Use {@link QrCodeDecoder_MT} to decode them
+	 *                concurrently.
+	 */
+	public QrCodeDetector( QrCodePositionPatternDetector<T> detectPositionPatterns ,
+						   QrCodeDecoder<T> decoder ) {
 		this.detectPositionPatterns = detectPositionPatterns;
-		this.decoder = new QrCodeDecoder<>(imageType);
+		this.decoder = decoder;
+
+		profile.addChild(detectPositionPatterns.getProfileScope());
 	}
 
 	public void process(T gray, GrayU8 binary ) {
+		long time = timerPositionPatterns.start();
 		detectPositionPatterns.process(gray,binary);
+		time = timerPositionPatterns.stop(time);
 		decoder.process(detectPositionPatterns.getPositionPatterns(),gray);
+		timerDecode.stop(time);
+		counterDetections.add(decoder.getFound().size);
 	}
 
 	public void resetRuntimeProfiling() {
@@ -58,10 +86,23 @@ public class QrCodeDetector<T extends ImageGray<T>> {
 		return detectPositionPatterns.getSquareDetector();
 	}
 
+	public QrCodeDecoder<T> getDecoder() {
+		return decoder;
+	}
+
 	public FastQueue<QrCode> getDetections() {
 		return decoder.getFound();
 	}
 
+	/**
+	 * Runtime profiling for the detector and all of its stages.  Specify a {@link boofcv.misc.profile.ProfileSink}
+	 * to start recording.  Timers: position_patterns, decode. Counters: detections.
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
+	}
+
 	public ImageType<T> getInputType() {
 		return detectPositionPatterns.interpolate.getImageType();
 	}
@@ -28,6 +28,10 @@ import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
 import boofcv.alg.shapes.polygon.DetectPolygonFromContour;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.misc.profile.ProfileCounter;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.line.LineSegment2D_F64;
@@ -48,7 +52,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
+public class QrCodePositionPatternDetector<T extends ImageGray<T>> implements Profiled {
 
 	InterpolatePixelS<T> interpolate;
 
@@ -77,6 +81,10 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 
 	// runtime profiling
 	protected double milliGraph = 0;
+	final ProfileScope profile = new ProfileScope("QrCodePositionPatternDetector");
+	final ProfileTimer timerPatterns = profile.timer("squares_to_patterns");
+	final ProfileTimer timerGraph = profile.timer("graph");
+	final ProfileCounter counterPatterns = profile.counter("position_patterns");
 
 	// storage for nearest neighbor
 	double point[] = new double[2];
@@ -107,6 +115,8 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 		};
 
 		interpolate = FactoryInterpolation.bilinearPixelS(squareDetector.getInputType(), BorderType.EXTENDED);
+
+		profile.addChild(squareDetector.getProfileScope());
 	}
 
 	public void resetRuntimeProfiling() {
@@ -135,7 +145,6 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 
 		// Create graph of neighboring squares
 		createPositionPatternGraph();
-//		long time2 = System.nanoTime();  // doesn't take very long
 
 		double milli = (time1-time0)*1e-6;
 
@@ -145,10 +154,9 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 			milliGraph = 0.95*milliGraph + 0.5*milli;
 		}
 
-		DetectPolygonFromContour<T> detectorPoly = squareDetector.getDetector();
-		System.out.printf(" contour %5.1f shapes %5.1f adjust_bias %5.2f PosPat %6.2f\n",
-				detectorPoly.getMilliContour(),detectorPoly.getMilliShapes(),squareDetector.getMilliAdjustBias(),
-				milliGraph);
+		timerPatterns.record(time1-time0);
+		timerGraph.stop(time1);
+		counterPatterns.add(positionPatterns.size);
 	}
 
 	/**
@@ -371,4 +379,13 @@ public class QrCodePositionPatternDetector<T extends ImageGray<T>> {
 	public SquareGraph getGraph() {
 		return graph;
 	}
+
+	/**
+	 * Runtime profiling. Timers: squares_to_patterns, graph. Counters: position_patterns.
+	 * Contains the scope of the square detector.
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
+	}
 }
@@ -32,6 +32,7 @@ import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.geo.EpipolarError;
 import boofcv.factory.geo.FactoryMultiView;
 import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.ImageRectangle;
 import boofcv.struct.distort.*;
 import boofcv.struct.geo.AssociatedPair;
 import boofcv.struct.image.GrayF32;
@@ -44,6 +45,8 @@ import georegression.struct.point.Point2D_F64;
 import georegression.struct.shapes.Polygon2D_F64;
 import georegression.struct.shapes.Quadrilateral_F64;
 import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_B;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.ejml.data.DMatrixRMaj;
 import org.ejml.ops.ConvertDMatrixStruct;
 
@@ -67,6 +70,15 @@ import java.util.List;
  * Target orientation. Corner 0 = (-r,r), 1 = (r,r) , 2 = (r,-r) , 3 = (-r,-r).
  * </p>
  *
+ * <p>
+ * Tracking Mode: When processing a video sequence the fiducials found in the previous frame can be used to reduce
+ * the search area. The location of each fiducial is predicted by applying the motion of its corners between the
+ * two previous frames, then thresholding, contour finding and polygon fitting are only done inside a padded
+ * region around the prediction. If a fiducial can't be found inside its region or the entire image hasn't been
+ * processed recently then the entire image is processed. New fiducials are only found when the entire image
+ * is processed. Disabled by default, see {@link #configureTracking}.
+ * </p>
+ *
  * @author Peter Abeles
  */
 // TODO create unit test for bright object
@@ -74,6 +86,8 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 
 	// Storage for the found fiducials
 	private FastQueue<FoundFiducial> found = new FastQueue<>(FoundFiducial.class, true);
+	// Location of each found fiducial in undistorted pixels
+	private FastQueue<Quadrilateral_F64> foundUndist = new FastQueue<>(Quadrilateral_F64.class, true);
 
 	// converts input image into a binary image
 	InputToBinary<T> inputToBinary;
@@ -98,6 +112,39 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 
 	private Point2Transform2_F64 undistToDist = new DoNothing2Transform2_F64();
 
+	// Lens distortion given to the square detector for the entire image.  null if there is no lens distortion
+	private PixelTransform2_F32 distToUndistPixel;
+	private PixelTransform2_F32 undistToDistPixel;
+	private int distortionWidth, distortionHeight;
+	// Lens distortion given to the square detector when it's processing a region inside the image
+	private RegionTransform regionDistToUndist = new RegionTransform();
+	private RegionTransform regionUndistToDist = new RegionTransform();
+
+	// If true then fiducials found in the previous frame are only searched for around their predicted location
+	private boolean tracking = false;
+	// The entire image is processed at least once every this many frames
+	private int fullScanPeriod = 30;
+	// Padding added around a predicted fiducial. Fraction of its size and minimum number of pixels
+	private double paddingFraction = 0.3;
+	private int paddingMinimum = 10;
+	// Number of frames since the entire image was processed
+	private int framesSinceFullScan;
+	// true if the entire image was processed in the most recent call to process()
+	private boolean fullScan;
+
+	// Fiducials which are being tracked. The second queue is storage used while updating
+	private FastQueue<Track> tracks = new FastQueue<>(Track.class, true);
+	private FastQueue<Track> tracksWork = new FastQueue<>(Track.class, true);
+	// Index of the track each found fiducial was associated with. -1 if none
+	private GrowQueue_I32 foundToTrack = new GrowQueue_I32();
+	private GrowQueue_B trackMatched = new GrowQueue_B();
+	// Regions in the input image that fiducials are searched for inside of in tracking mode
+	private FastQueue<ImageRectangle> regions = new FastQueue<>(ImageRectangle.class, true);
+	private Point2D_F64 distortedPoint = new Point2D_F64();
+	// Storage for the sub-image and its binary image of a region
+	private T graySub;
+	private GrayU8 binarySub = new GrayU8(1,1);
+
 	// How wide the border is relative to the fiducial's total width
 	protected double borderWidthFraction;
 	// the minimum fraction of border pixels which must be black for it to be considered a fiducial
@@ -182,6 +229,10 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		}
 
 		squareDetector.setLensDistortion(width, height,distToUndist,undistToDist);
+		this.distToUndistPixel = distToUndist;
+		this.undistToDistPixel = undistToDist;
+		this.distortionWidth = width;
+		this.distortionHeight = height;
 
 		pointSquareToInput = new SequencePoint2Transform2_F32(transformHomography,pointUndistToDist);
 
@@ -190,6 +241,43 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		removePerspective.setModel(squareToInput);
 
 		this.undistToDist = distortion.distort_F64(true,true);
+
+		// the camera model changed so the previous locations are no longer valid
+		resetTracking();
+	}
+
+	/**
+	 * Configures tracking mode.  See class description.
+	 *
+	 * @param enabled true to turn on tracking mode
+	 * @param fullScanPeriod The entire image will be processed at least once every this many frames. Try 30.
+	 * @param paddingFraction Padding added around a fiducial's predicted location as a fraction of its width
+	 *                        in pixels. Try 0.3
+	 * @param paddingMinimum Minimum padding in pixels. Try 10
+	 */
+	public void configureTracking( boolean enabled , int fullScanPeriod , double paddingFraction , int paddingMinimum ) {
+		if( fullScanPeriod < 1 )
+			throw new IllegalArgumentException("fullScanPeriod must be at least 1");
+		if( paddingFraction < 0 || paddingMinimum < 0 )
+			throw new IllegalArgumentException("Padding can't be negative");
+
+		this.tracking = enabled;
+		this.fullScanPeriod = fullScanPeriod;
+		this.paddingFraction = paddingFraction;
+		this.paddingMinimum = paddingMinimum;
+
+		if( !enabled )
+			squareDetector.getDetector().setReferenceShape(0,0);
+		resetTracking();
+	}
+
+	/**
+	 * Discards all tracks.  The next image will be processed in its entirety.  Call when processing a new
+	 * image sequence.
+	 */
+	public void resetTracking() {
+		tracks.reset();
+		framesSinceFullScan = 0;
 	}
 
 	private Polygon2D_F64 interpolationHack = new Polygon2D_F64(4);
@@ -202,7 +290,48 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 	 * @param gray Undistorted input image
 	 */
 	public void process( T gray ) {
+		found.reset();
+		foundUndist.reset();
+
+		// size dependent contour limits are always computed from the entire image so that regions inside the
+		// image accept the same contours as a full scan
 		configureContourDetector(gray);
+		if( tracking )
+			squareDetector.getDetector().setReferenceShape(gray.width,gray.height);
+
+		fullScan = true;
+		if( tracking && tracks.size > 0 ) {
+			predictTracks();
+
+			if( framesSinceFullScan+1 < fullScanPeriod ) {
+				fullScan = !(processRegions(gray) && associateTracks());
+
+				if( fullScan ) {
+					if( verbose ) System.out.println("---------- Lost track. Processing entire image");
+					found.reset();
+					foundUndist.reset();
+				}
+			}
+		}
+
+		if( fullScan ) {
+			processImage(gray);
+			framesSinceFullScan = 0;
+		} else {
+			framesSinceFullScan++;
+		}
+
+		if( tracking ) {
+			if( fullScan )
+				associateTracks();
+			updateTracks();
+		}
+	}
+
+	/**
+	 * Searches the entire image for fiducials
+	 */
+	private void processImage( T gray ) {
 		binary.reshape(gray.width,gray.height);
 
 		inputToBinary.process(gray,binary);
@@ -211,10 +340,65 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		// These are in undistorted pixels
 		squareDetector.getPolygons(candidates);
 
-		found.reset();
-
 		if( verbose ) System.out.println("---------- Got Polygons! "+candidates.size());
 
+		processCandidates(gray);
+	}
+
+	/**
+	 * Searches for fiducials only inside the regions around where tracked fiducials are predicted to be
+	 *
+	 * @return true if every region is inside the image
+	 */
+	private boolean processRegions( T gray ) {
+		if( !computeRegions(gray.width,gray.height) )
+			return false;
+
+		for (int i = 0; i < regions.size; i++) {
+			ImageRectangle r = regions.get(i);
+
+			graySub = gray.subimage(r.x0,r.y0,r.x1,r.y1,graySub);
+			binarySub.reshape(graySub.width,graySub.height);
+
+			if( distToUndistPixel != null ) {
+				regionDistToUndist.set(distToUndistPixel,r.x0,r.y0);
+				regionUndistToDist.set(undistToDistPixel,r.x0,r.y0);
+				squareDetector.setLensDistortion(graySub.width,graySub.height,regionDistToUndist,regionUndistToDist);
+			}
+
+			inputToBinary.process(graySub,binarySub);
+			squareDetector.process(graySub,binarySub);
+			squareDetector.refineAll();
+			squareDetector.getPolygons(candidates);
+
+			// convert the polygons into the entire image's coordinate system
+			for (int j = 0; j < candidates.size(); j++) {
+				Polygon2D_F64 p = candidates.get(j);
+				for (int k = 0; k < p.size(); k++) {
+					Point2D_F64 v = p.get(k);
+					v.x += r.x0;
+					v.y += r.y0;
+				}
+			}
+
+			if( verbose ) System.out.println("---------- Got Polygons in region! "+candidates.size());
+
+			processCandidates(gray);
+		}
+
+		if( distToUndistPixel != null ) {
+			squareDetector.setLensDistortion(distortionWidth,distortionHeight,distToUndistPixel,undistToDistPixel);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Removes perspective distortion from each candidate polygon and sees if it's a fiducial
+	 *
+	 * @param gray Input image. The candidates must be in its undistorted pixel coordinates
+	 */
+	private void processCandidates( T gray ) {
 		for (int i = 0; i < candidates.size(); i++) {
 			// compute the homography from the input image to an undistorted square image
 			Polygon2D_F64 p = candidates.get(i);
@@ -287,6 +471,161 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		}
 	}
 
+	/**
+	 * Predicts the location of each track in the current frame by assuming each corner moves at a constant velocity
+	 */
+	private void predictTracks() {
+		for (int i = 0; i < tracks.size; i++) {
+			Track t = tracks.get(i);
+			double x0 = Double.MAX_VALUE, y0 = Double.MAX_VALUE;
+			double x1 = -Double.MAX_VALUE, y1 = -Double.MAX_VALUE;
+			for (int j = 0; j < 4; j++) {
+				Point2D_F64 c = t.quad.get(j);
+				Point2D_F64 p = t.predicted.get(j);
+				p.set(c.x + t.motion[j*2], c.y + t.motion[j*2+1]);
+				x0 = Math.min(x0,p.x);
+				y0 = Math.min(y0,p.y);
+				x1 = Math.max(x1,p.x);
+				y1 = Math.max(y1,p.y);
+			}
+			double size = Math.max(x1-x0,y1-y0);
+			t.searchRadius = size/2 + Math.max(paddingMinimum, paddingFraction*size);
+		}
+	}
+
+	/**
+	 * Computes the regions that fiducials will be searched for inside of.  The bounding box of each prediction
+	 * in the distorted image is padded and overlapping regions are merged together so that a fiducial can't be
+	 * split between two regions.
+	 *
+	 * @return true if every prediction is at least partially inside the image
+	 */
+	private boolean computeRegions( int width , int height ) {
+		regions.reset();
+		for (int i = 0; i < tracks.size; i++) {
+			Quadrilateral_F64 q = tracks.get(i).predicted;
+
+			double x0 = Double.MAX_VALUE, y0 = Double.MAX_VALUE;
+			double x1 = -Double.MAX_VALUE, y1 = -Double.MAX_VALUE;
+			for (int j = 0; j < 4; j++) {
+				Point2D_F64 c = q.get(j);
+				undistToDist.compute(c.x,c.y,distortedPoint);
+				x0 = Math.min(x0,distortedPoint.x);
+				y0 = Math.min(y0,distortedPoint.y);
+				x1 = Math.max(x1,distortedPoint.x);
+				y1 = Math.max(y1,distortedPoint.y);
+			}
+
+			double padding = Math.max(paddingMinimum, paddingFraction*Math.max(x1-x0,y1-y0));
+
+			ImageRectangle r = regions.grow();
+			r.x0 = Math.max(0,(int)Math.floor(x0-padding));
+			r.y0 = Math.max(0,(int)Math.floor(y0-padding));
+			r.x1 = Math.min(width,(int)Math.ceil(x1+padding)+1);
+			r.y1 = Math.min(height,(int)Math.ceil(y1+padding)+1);
+
+			if( r.x0 >= r.x1 || r.y0 >= r.y1 )
+				return false;
+		}
+
+		boolean merged = true;
+		while( merged ) {
+			merged = false;
+			for (int i = 0; i < regions.size && !merged; i++) {
+				ImageRectangle a = regions.get(i);
+				for (int j = i+1; j < regions.size; j++) {
+					ImageRectangle b = regions.get(j);
+					if( a.x0 < b.x1 && b.x0 < a.x1 && a.y0 < b.y1 && b.y0 < a.y1 ) {
+						a.x0 = Math.min(a.x0,b.x0);
+						a.y0 = Math.min(a.y0,b.y0);
+						a.x1 = Math.max(a.x1,b.x1);
+						a.y1 = Math.max(a.y1,b.y1);
+						regions.remove(j);
+						merged = true;
+						break;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Associates each found fiducial with the track that has the same ID and whose predicted center is
+	 * closest to it. The centers must be within the track's search radius.
+	 *
+	 * @return true if every track was associated with a fiducial
+	 */
+	private boolean associateTracks() {
+		foundToTrack.resize(found.size);
+		trackMatched.resize(tracks.size);
+		for (int i = 0; i < tracks.size; i++) {
+			trackMatched.data[i] = false;
+		}
+
+		int totalMatched = 0;
+		for (int i = 0; i < found.size; i++) {
+			long id = found.get(i).id;
+			Quadrilateral_F64 q = foundUndist.get(i);
+
+			int best = -1;
+			double bestDistance = Double.MAX_VALUE;
+			for (int j = 0; j < tracks.size; j++) {
+				Track t = tracks.get(j);
+				if( t.id != id || trackMatched.data[j] )
+					continue;
+				double d = distanceCenterSq(q,t.predicted);
+				if( d < bestDistance && d <= t.searchRadius*t.searchRadius ) {
+					bestDistance = d;
+					best = j;
+				}
+			}
+
+			foundToTrack.data[i] = best;
+			if( best >= 0 ) {
+				trackMatched.data[best] = true;
+				totalMatched++;
+			}
+		}
+		return totalMatched == tracks.size;
+	}
+
+	/**
+	 * Replaces the tracks with the fiducials found in the current frame. The motion of each corner is computed
+	 * from the track it was associated with.
+	 */
+	private void updateTracks() {
+		tracksWork.reset();
+		for (int i = 0; i < found.size; i++) {
+			Track t = tracksWork.grow();
+			t.id = found.get(i).id;
+			t.quad.set(foundUndist.get(i));
+
+			int index = foundToTrack.get(i);
+			for (int j = 0; j < 4; j++) {
+				if( index >= 0 ) {
+					Point2D_F64 prev = tracks.get(index).quad.get(j);
+					Point2D_F64 curr = t.quad.get(j);
+					t.motion[j*2] = curr.x - prev.x;
+					t.motion[j*2+1] = curr.y - prev.y;
+				} else {
+					t.motion[j*2] = 0;
+					t.motion[j*2+1] = 0;
+				}
+			}
+		}
+
+		FastQueue<Track> tmp = tracks;
+		tracks = tracksWork;
+		tracksWork = tmp;
+	}
+
+	private static double distanceCenterSq( Quadrilateral_F64 a , Quadrilateral_F64 b ) {
+		double dx = (a.a.x + a.b.x + a.c.x + a.d.x - b.a.x - b.b.x - b.c.x - b.d.x)/4.0;
+		double dy = (a.a.y + a.b.y + a.c.y + a.d.y - b.a.y - b.b.y - b.c.y - b.d.y)/4.0;
+		return dx*dx + dy*dy;
+	}
+
 	/**
 	 * Configures the contour detector based on the image size. Setting a maximum contour and turning off recording
 	 * of inner contours and improve speed and reduce the memory foot print significantly.
@@ -355,6 +694,7 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		// save the results for output
 		FoundFiducial f = found.grow();
 		f.id = result.which;
+		foundUndist.grow().set(imageShape);
 
 		undistToDist.compute(imageShape.a.x, imageShape.a.y, f.distortedPixels.a);
 		undistToDist.compute(imageShape.b.x, imageShape.b.y, f.distortedPixels.b);
@@ -408,10 +748,31 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		return squareDetector;
 	}
 
+	/**
+	 * Binary image of the most recent full scan. Not updated when only regions are processed in tracking mode.
+	 */
 	public GrayU8 getBinary() {
 		return binary;
 	}
 
+	public boolean isTracking() {
+		return tracking;
+	}
+
+	/**
+	 * Returns true if the entire image was processed in the most recent call to {@link #process}
+	 */
+	public boolean isFullScan() {
+		return fullScan;
+	}
+
+	/**
+	 * Returns the fiducials being tracked in undistorted pixels
+	 */
+	public FastQueue<Track> getTracks() {
+		return tracks;
+	}
+
 	public Class<T> getInputType() {
 		return inputType;
 	}
@@ -420,6 +781,55 @@ public abstract class BaseDetectFiducialSquare<T extends ImageGray<T>> {
 		return borderWidthFraction;
 	}
 
+	/**
+	 * A fiducial being tracked between frames
+	 */
+	public static class Track {
+		/**
+		 * ID number of the fiducial
+		 */
+		public long id;
+		/**
+		 * Location of the corners in the previous frame. Undistorted pixels
+		 */
+		public Quadrilateral_F64 quad = new Quadrilateral_F64();
+		/**
+		 * Predicted location of the corners in the current frame. Undistorted pixels
+		 */
+		public Quadrilateral_F64 predicted = new Quadrilateral_F64();
+		/**
+		 * Motion of each corner between the two previous frames. (x,y) for corner 0 then corner 1 and so on
+		 */
+		public double[] motion = new double[8];
+		/**
+		 * A fiducial is only associated with this track if its center is within this distance of the
+		 * predicted center. Undistorted pixels
+		 */
+		public double searchRadius;
+	}
+
+	/**
+	 * Applies lens distortion to pixels inside a region of the image. Both the input and output pixel coordinates
+	 * are relative to the region's top-left corner
+	 */
+	private static class RegionTransform extends PixelTransform2_F32 {
+		PixelTransform2_F32 full;
+		int x0,y0;
+
+		void set( PixelTransform2_F32 full , int x0 , int y0 ) {
+			this.full = full;
+			this.x0 = x0;
+			this.y0 = y0;
+		}
+
+		@Override
+		public void compute(int x, int y) {
+			full.compute(x+x0,y+y0);
+			distX = full.distX - x0;
+			distY = full.distY - y0;
+		}
+	}
+
 	public static class Result {
 		int which;
 		// length of one of the sides in world units
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.clustering.ComputeClusters;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * <p>
+ * Learns a {@link VocabularyTree} using hierarchical k-means.  The points are clustered into branching clusters
+ * with k-means, then the points in each cluster are clustered again, until the maximum depth is reached.  The depth
+ * is selected so that there are at least the requested number of words, i.e. branching<sup>depth</sup> &ge; words.
+ * A node becomes a leaf early if it has too few points to be split, so the actual number of words can be less than
+ * branching<sup>depth</sup>.  Can be used with ClusterVisualWords like any other {@link ComputeClusters}.
+ * </p>
+ *
+ * <p>
+ * k-means at each node is initialized with k-means++ seeding and stops after a maximum number of iterations
+ * or when the assignments no longer change.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ComputeVocabularyTree implements ComputeClusters<double[]> {
+
+	// number of children of each node
+	int branching;
+	// maximum number of k-means iterations at each node
+	int maxIterations;
+
+	Random rand;
+	int dof;
+	boolean verbose;
+
+	VocabularyTree tree;
+
+	// sum of squared distance between each point and the mean of its leaf
+	double distanceMeasure;
+
+	// order of points.  Points in a node are contiguous
+	int[] order = new int[0];
+	// storage for which cluster each point belongs to
+	int[] labels = new int[0];
+	int[] work = new int[0];
+	double[] minDistance = new double[0];
+	// cluster means
+	double[] centers = new double[0];
+	int[] counts;
+
+	// nodes which need to be processed.  (node, start, end, level)
+	GrowQueue_I32 queue = new GrowQueue_I32();
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param branching Number of children for each node.  Try 10
+	 * @param maxIterations Maximum number of k-means iterations at each node.  Try 20
+	 */
+	public ComputeVocabularyTree( int branching , int maxIterations ) {
+		if( branching < 2 )
+			throw new IllegalArgumentException("Branching must be at least 2");
+		if( maxIterations < 1 )
+			throw new IllegalArgumentException("Must have at least one iteration");
+		this.branching = branching;
+		this.maxIterations = maxIterations;
+		this.counts = new int[branching];
+	}
+
+	@Override
+	public void init( int pointDimension , long randomSeed ) {
+		this.dof = pointDimension;
+		this.rand = new Random(randomSeed);
+		this.centers = new double[branching*dof];
+	}
+
+	@Override
+	public void process( List<double[]> points , int numWords ) {
+		int depth = 0;
+		long leaves = 1;
+		while( leaves < numWords ) {
+			leaves *= branching;
+			depth++;
+		}
+
+		int N = points.size();
+		if( order.length < N ) {
+			order = new int[N];
+			labels = new int[N];
+			work = new int[N];
+			minDistance = new double[N];
+		}
+		for( int i = 0; i < N; i++ ) {
+			order[i] = i;
+		}
+
+		// a new tree so that previously returned assignments aren't modified
+		tree = new VocabularyTree(dof);
+		distanceMeasure = 0;
+
+		double[] mean = new double[dof];
+		computeMean(points, 0, N, mean);
+		tree.addNode(mean);
+
+		queue.reset();
+		queue.add(0); queue.add(0); queue.add(N); queue.add(0);
+
+		// process the nodes breadth first so that words are ordered by level
+		for( int head = 0; head < queue.size; head += 4 ) {
+			int node = queue.data[head];
+			int start = queue.data[head+1];
+			int end = queue.data[head+2];
+			int level = queue.data[head+3];
+
+			if( level == depth || end-start <= branching ) {
+				makeLeaf(points, node, start, end);
+				continue;
+			}
+
+			kmeans(points, start, end);
+			int numChildren = sortByLabel(start, end);
+			if( numChildren <= 1 ) {
+				// all the points are identical
+				makeLeaf(points, node, start, end);
+				continue;
+			}
+
+			int firstChild = tree.getNumberOfNodes();
+			int location = start;
+			for( int cluster = 0; cluster < branching; cluster++ ) {
+				if( counts[cluster] == 0 )
+					continue;
+				System.arraycopy(centers, cluster*dof, mean, 0, dof);
+				int child = tree.addNode(mean);
+				queue.add(child); queue.add(location); queue.add(location+counts[cluster]); queue.add(level+1);
+				location += counts[cluster];
+			}
+			tree.setChildren(node, firstChild, numChildren);
+		}
+
+		if( verbose )
+			System.out.println("Vocabulary tree: words = "+tree.getNumberOfClusters()+
+					" nodes = "+tree.getNumberOfNodes()+" depth = "+depth);
+	}
+
+	private void makeLeaf( List<double[]> points , int node , int start , int end ) {
+		tree.makeLeaf(node);
+		int index = node*dof;
+		for( int i = start; i < end; i++ ) {
+			double[] p = points.get(order[i]);
+			for( int k = 0; k < dof; k++ ) {
+				double d = p[k] - tree.means[index+k];
+				distanceMeasure += d*d;
+			}
+		}
+	}
+
+	private void computeMean( List<double[]> points , int start , int end , double[] mean ) {
+		Arrays.fill(mean, 0);
+		for( int i = start; i < end; i++ ) {
+			double[] p = points.get(order[i]);
+			for( int k = 0; k < dof; k++ ) {
+				mean[k] += p[k];
+			}
+		}
+		if( end > start ) {
+			for( int k = 0; k < dof; k++ ) {
+				mean[k] /= (end-start);
+			}
+		}
+	}
+
+	/**
+	 * Clusters the points from start to end-1 into branching clusters.  Results are saved in labels and centers.
+	 */
+	void kmeans( List<double[]> points , int start , int end ) {
+		seedPlusPlus(points, start, end);
+
+		for( int iteration = 0; iteration < maxIterations; iteration++ ) {
+			boolean changed = false;
+			for( int i = start; i < end; i++ ) {
+				int label = closestCenter(points.get(order[i]));
+				if( iteration == 0 || label != labels[i] ) {
+					labels[i] = label;
+					changed = true;
+				}
+			}
+			if( !changed )
+				break;
+
+			// update the means.  Empty clusters keep their previous mean
+			Arrays.fill(counts, 0);
+			for( int i = start; i < end; i++ ) {
+				counts[labels[i]]++;
+			}
+			for( int cluster = 0; cluster < branching; cluster++ ) {
+				if( counts[cluster] > 0 )
+					Arrays.fill(centers, cluster*dof, (cluster+1)*dof, 0);
+			}
+			for( int i = start; i < end; i++ ) {
+				double[] p = points.get(order[i]);
+				int index = labels[i]*dof;
+				for( int k = 0; k < dof; k++ ) {
+					centers[index+k] += p[k];
+				}
+			}
+			for( int cluster = 0; cluster < branching; cluster++ ) {
+				if( counts[cluster] == 0 )
+					continue;
+				int index = cluster*dof;
+				for( int k = 0; k < dof; k++ ) {
+					centers[index+k] /= counts[cluster];
+				}
+			}
+		}
+	}
+
+	/**
+	 * k-means++ seeding.  Each new center is randomly selected with a probability proportional to the
+	 * distance squared from the closest existing center.
+	 */
+	private void seedPlusPlus( List<double[]> points , int start , int end ) {
+		int N = end-start;
+		System.arraycopy(points.get(order[start+rand.nextInt(N)]), 0, centers, 0, dof);
+		for( int i = start; i < end; i++ ) {
+			minDistance[i] = distance(points.get(order[i]), 0);
+		}
+
+		for( int cluster = 1; cluster < branching; cluster++ ) {
+			double total = 0;
+			for( int i = start; i < end; i++ ) {
+				total += minDistance[i];
+			}
+
+			int selected = start + rand.nextInt(N);
+			if( total > 0 ) {
+				double target = rand.nextDouble()*total;
+				double sum = 0;
+				for( int i = start; i < end; i++ ) {
+					sum += minDistance[i];
+					if( sum >= target && minDistance[i] > 0 ) {
+						selected = i;
+						break;
+					}
+				}
+			}
+			System.arraycopy(points.get(order[selected]), 0, centers, cluster*dof, dof);
+
+			for( int i = start; i < end; i++ ) {
+				minDistance[i] = Math.min(minDistance[i], distance(points.get(order[i]), cluster));
+			}
+		}
+	}
+
+	private int closestCenter( double[] point ) {
+		int best = 0;
+		double bestDistance = Double.MAX_VALUE;
+		for( int cluster = 0; cluster < branching; cluster++ ) {
+			double d = distance(point, cluster);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = cluster;
+			}
+		}
+		return best;
+	}
+
+	private double distance( double[] point , int cluster ) {
+		int index = cluster*dof;
+		double total = 0;
+		for( int k = 0; k < dof; k++ ) {
+			double d = point[k] - centers[index+k];
+			total += d*d;
+		}
+		return total;
+	}
+
+	/**
+	 * Reorders the points so that points in the same cluster are contiguous
+	 *
+	 * @return number of clusters which have points
+	 */
+	private int sortByLabel( int start , int end ) {
+		Arrays.fill(counts, 0);
+		for( int i = start; i < end; i++ ) {
+			counts[labels[i]]++;
+		}
+
+		int numNonEmpty = 0;
+		int[] offsets = new int[branching];
+		int location = start;
+		for( int cluster = 0; cluster < branching; cluster++ ) {
+			offsets[cluster] = location;
+			location += counts[cluster];
+			if( counts[cluster] > 0 )
+				numNonEmpty++;
+		}
+
+		for( int i = start; i < end; i++ ) {
+			work[offsets[labels[i]]++] = order[i];
+		}
+		System.arraycopy(work, start, order, start, end-start);
+		return numNonEmpty;
+	}
+
+	@Override
+	public VocabularyTree getAssignment() {
+		return tree;
+	}
+
+	@Override
+	public double getDistanceMeasure() {
+		return distanceMeasure;
+	}
+
+	@Override
+	public void setVerbose( boolean verbose ) {
+		this.verbose = verbose;
+	}
+
+	public int getBranching() {
+		return branching;
+	}
+
+	public int getMaxIterations() {
+		return maxIterations;
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.clustering.AssignCluster;
 
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * <p>
@@ -39,17 +40,17 @@ public class FeatureToWordHistogram_F64
 		implements FeatureToWordHistogram<TupleDesc_F64>
 {
 	// Assigns a feature to a word
-	private AssignCluster<double[]> assignment;
+	protected AssignCluster<double[]> assignment;
 
 	// should it use hard or soft assignment
-	private boolean hardAssignment;
+	protected boolean hardAssignment;
 
 	// total number of features which have been assigned to the histogram
-	private int total;
-	private double histogram[];
+	protected int total;
+	protected double histogram[];
 
 	// internal work space
-	private double temp[];
+	protected double temp[];
 
 	// used to catch a common bug
 	private boolean processed;
@@ -91,6 +92,17 @@ public class FeatureToWordHistogram_F64
 		total += 1;
 	}
 
+	/**
+	 * Adds all the features in the list to the histogram.  Same as calling {@link #addFeature} for each feature.
+	 *
+	 * @param features Features which are to be matched to words.  Not modified.
+	 */
+	public void addFeatures( List<TupleDesc_F64> features ) {
+		for (int i = 0; i < features.size(); i++) {
+			addFeature(features.get(i));
+		}
+	}
+
 	/**
 	 * No more features are being added.  Normalized the computed histogram.
 	 */
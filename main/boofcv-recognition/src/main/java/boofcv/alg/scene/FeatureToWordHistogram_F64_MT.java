@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.clustering.AssignCluster;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Concurrent version of {@link FeatureToWordHistogram_F64}.  When a list of features is added they are assigned to
+ * words in parallel, each thread with its own copy of the {@link AssignCluster}.  With hard assignment the
+ * histogram is identical to the single threaded version.  With soft assignment each thread has its own histogram,
+ * which are then added together, so the results can differ by floating point round off.
+ *
+ * @author Peter Abeles
+ */
+public class FeatureToWordHistogram_F64_MT extends FeatureToWordHistogram_F64 {
+
+	/**
+	 * Minimum number of features processed by a thread
+	 */
+	public static int MIN_FEATURES = 200;
+
+	private final FastQueue<Work> workspace = new FastQueue<Work>(1,Work.class,true) {
+		@Override
+		protected Work createInstance() {
+			return new Work();
+		}
+	};
+
+	// words each feature was assigned to
+	private GrowQueue_I32 words = new GrowQueue_I32();
+
+	// the features being added
+	private List<TupleDesc_F64> features;
+
+	public FeatureToWordHistogram_F64_MT( AssignCluster<double[]> assignment, boolean hardAssignment ) {
+		super(assignment, hardAssignment);
+	}
+
+	@Override
+	public void addFeatures( List<TupleDesc_F64> features ) {
+		this.features = features;
+		if( hardAssignment ) {
+			words.resize(features.size());
+			BoofConcurrency.loopBlocks(0, features.size(), MIN_FEATURES, workspace, assignHard);
+			for (int i = 0; i < words.size; i++) {
+				histogram[words.data[i]] += 1;
+			}
+		} else {
+			BoofConcurrency.loopBlocks(0, features.size(), MIN_FEATURES, workspace, assignSoft);
+			for (int i = 0; i < workspace.size; i++) {
+				double[] partial = workspace.get(i).histogram;
+				for (int j = 0; j < histogram.length; j++) {
+					histogram[j] += partial[j];
+				}
+			}
+		}
+		total += features.size();
+		this.features = null;
+	}
+
+	private final IntRangeObjectConsumer<Work> assignHard = new IntRangeObjectConsumer<Work>() {
+		@Override
+		public void accept(Work work, int minInclusive, int maxExclusive) {
+			AssignCluster<double[]> assign = work.getAssignment();
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				words.data[i] = assign.assign(features.get(i).getValue());
+			}
+		}
+	};
+
+	private final IntRangeObjectConsumer<Work> assignSoft = new IntRangeObjectConsumer<Work>() {
+		@Override
+		public void accept(Work work, int minInclusive, int maxExclusive) {
+			AssignCluster<double[]> assign = work.getAssignment();
+			int numWords = histogram.length;
+			if( work.histogram.length != numWords ) {
+				work.histogram = new double[numWords];
+				work.fit = new double[numWords];
+			} else {
+				Arrays.fill(work.histogram, 0);
+			}
+			for (int i = minInclusive; i < maxExclusive; i++) {
+				assign.assign(features.get(i).getValue(), work.fit);
+				for (int j = 0; j < numWords; j++) {
+					work.histogram[j] += work.fit[j];
+				}
+			}
+		}
+	};
+
+	/**
+	 * Storage for a single thread
+	 */
+	class Work {
+		// copy of the assignment so that it can be used concurrently
+		AssignCluster<double[]> assignment;
+		double[] histogram = new double[0];
+		double[] fit = new double[0];
+
+		AssignCluster<double[]> getAssignment() {
+			if( assignment == null )
+				assignment = FeatureToWordHistogram_F64_MT.this.assignment.copy();
+			return assignment;
+		}
+	}
+}
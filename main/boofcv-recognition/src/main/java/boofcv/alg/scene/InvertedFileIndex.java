@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Inverted file index for scene recognition with TF-IDF weighting.  For each visual word there is a list of the
+ * images which contain it and the word's frequency (TF) in each image.  A query only needs to look at the images
+ * which share a word with it, which is a small fraction of the database when the dictionary is large.  Images
+ * are scored using the cosine similarity of TF-IDF weighted histograms.  The inverse document frequency of
+ * word w is IDF(w) = log(N/N<sub>w</sub>), where N is the number of images and N<sub>w</sub> is the number of images
+ * which contain w.
+ * </p>
+ *
+ * <p>
+ * Images can be added at any time, but they are only searched after {@link #updateNorms()} has been called.
+ * Adding an image changes the IDF of its words and with it the norm of every image which contains them, so the
+ * norms can't be kept up to date cheaply.  Instead they are rebuilt by {@link #updateNorms()}, which reads every
+ * posting list and should be called once after a batch of images has been added.  Queries use the IDF and norms
+ * from the last rebuild and ignore images added since then.  The posting lists are stored in
+ * {@link InvertedFileStorage}, which can be memory mapped and can also save the {@link VocabularyTree} used
+ * to compute the histograms.  Queries from multiple threads are safe if each
+ * thread has its own {@link Search} and no images are being added.
+ * </p>
+ *
+ * <p>
+ * Sivic, Josef, and Andrew Zisserman. "Video Google: A text retrieval approach to object matching in videos."
+ * ICCV 2003
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class InvertedFileIndex {
+
+	// where the posting lists are stored
+	protected InvertedFileStorage storage;
+
+	// norm of each image's TF-IDF weighted histogram
+	protected double[] norms = new double[0];
+	// IDF of each word when the norms were computed
+	protected double[] idfs;
+	// number of images when the norms were computed.  Images added after that aren't searched
+	protected volatile int normsImages = 0;
+
+	// workspace for computing the norms
+	private GrowQueue_I32 normsImageIds = new GrowQueue_I32();
+	private GrowQueue_F32 normsWeights = new GrowQueue_F32();
+
+	// used for the serial batch query
+	private Search search;
+
+	/**
+	 * Creates an index for the storage.  If the storage already contains images call {@link #updateNorms()}
+	 * before searching.
+	 */
+	public InvertedFileIndex( InvertedFileStorage storage ) {
+		this.storage = storage;
+		this.idfs = new double[storage.getNumWords()];
+	}
+
+	/**
+	 * Adds an image to the database.  It won't be searched until {@link #updateNorms()} is called.
+	 *
+	 * @param type The type of scene the image belongs to
+	 * @param histogram Normalized word frequency histogram, see {@link FeatureToWordHistogram}. Not modified.
+	 * @return ID of the image
+	 */
+	public int addImage( int type , double[] histogram ) {
+		if( histogram.length != storage.getNumWords() )
+			throw new IllegalArgumentException("Histogram doesn't match the number of words");
+
+		int id = storage.addImage(type);
+		for( int word = 0; word < histogram.length; word++ ) {
+			if( histogram[word] != 0 )
+				storage.addPosting(word, id, (float)histogram[word]);
+		}
+		return id;
+	}
+
+	/**
+	 * Adds an image to the database
+	 */
+	public int addImage( HistogramScene scene ) {
+		return addImage(scene.type, scene.histogram);
+	}
+
+	/**
+	 * Inverse document frequency of a word for all the images in the database, including ones added since the
+	 * last call to {@link #updateNorms()}
+	 */
+	public double idf( int word ) {
+		int count = storage.getPostingCount(word);
+		if( count == 0 )
+			return 0;
+		return Math.log(storage.getNumImages()/(double)count);
+	}
+
+	/**
+	 * Recomputes the IDF of each word and the norm of each image's weighted histogram, so that images added since
+	 * the previous call will be searched.  Every posting list is read, so call it once after adding a batch of
+	 * images and not after each image.  Does nothing if no images have been added.  Must not be called while
+	 * searches are running.
+	 */
+	public synchronized void updateNorms() {
+		int numImages = storage.getNumImages();
+		if( normsImages == numImages )
+			return;
+
+		if( norms.length < numImages )
+			norms = new double[Math.max(numImages, norms.length*2)];
+		Arrays.fill(norms, 0, numImages, 0);
+
+		for( int word = 0; word < idfs.length; word++ ) {
+			idfs[word] = idf(word);
+		}
+
+		computeNorms();
+
+		for( int i = 0; i < numImages; i++ ) {
+			norms[i] = Math.sqrt(norms[i]);
+		}
+		normsImages = numImages;
+	}
+
+	/**
+	 * Computes the sum of squared weights for each image and saves the result in norms
+	 */
+	protected void computeNorms() {
+		sumWeightsSq(0, storage.getNumWords(), normsImageIds, normsWeights, norms);
+	}
+
+	/**
+	 * Adds the squared weights of words from word0 to word1-1 to sum
+	 */
+	protected void sumWeightsSq( int word0 , int word1 ,
+								 GrowQueue_I32 images , GrowQueue_F32 weights , double[] sum ) {
+		for( int word = word0; word < word1; word++ ) {
+			double idf = idfs[word];
+			if( idf == 0 )
+				continue;
+			storage.readPostings(word, images, weights);
+			for( int i = 0; i < images.size; i++ ) {
+				double w = weights.data[i]*idf;
+				sum[images.data[i]] += w*w;
+			}
+		}
+	}
+
+	/**
+	 * Finds the most similar images for each query.  Queries can be done concurrently.  Only images added before
+	 * the last call to {@link #updateNorms()} are searched.
+	 *
+	 * @param queries Word frequency histograms of each query
+	 * @param numResults Maximum number of images found for each query.  Must be at least 1.
+	 * @param results (Output) Most similar images for each query.  Must be the same size as queries.
+	 */
+	public void findNearest( List<double[]> queries , int numResults , List<FastQueue<Match>> results ) {
+		checkFindNearest(queries, numResults, results);
+		if( search == null )
+			search = createSearch();
+		findNearest(search, queries, numResults, results, 0, queries.size());
+	}
+
+	protected static void checkFindNearest( List<double[]> queries , int numResults ,
+											List<FastQueue<Match>> results ) {
+		if( numResults < 1 )
+			throw new IllegalArgumentException("numResults must be at least 1");
+		if( queries.size() != results.size() )
+			throw new IllegalArgumentException("Must have the same number of queries and results");
+	}
+
+	protected void findNearest( Search search , List<double[]> queries , int numResults ,
+								List<FastQueue<Match>> results , int i0 , int i1 ) {
+		for( int i = i0; i < i1; i++ ) {
+			search.findNearest(queries.get(i), numResults, results.get(i));
+		}
+	}
+
+	/**
+	 * Creates a new search for this index
+	 */
+	public Search createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * Storage and algorithm for querying the index.  Not thread safe.
+	 */
+	public class Search {
+		// accumulated dot product for each image
+		double[] scores = new double[0];
+		// images with a non-zero score
+		GrowQueue_I32 touched = new GrowQueue_I32();
+
+		GrowQueue_I32 images = new GrowQueue_I32();
+		GrowQueue_F32 weights = new GrowQueue_F32();
+
+		/**
+		 * Finds the images which are the most similar to the query.  Only images added before the last call to
+		 * {@link #updateNorms()} are searched.
+		 *
+		 * @param histogram Word frequency histogram of the query
+		 * @param numResults Maximum number of images found.  Must be at least 1.
+		 * @param results (Output) Most similar images, sorted by decreasing similarity
+		 */
+		public void findNearest( double[] histogram , int numResults , FastQueue<Match> results ) {
+			if( histogram.length != storage.getNumWords() )
+				throw new IllegalArgumentException("Histogram doesn't match the number of words");
+			if( numResults < 1 )
+				throw new IllegalArgumentException("numResults must be at least 1");
+
+			results.reset();
+			int numImages = normsImages;
+			if( scores.length < numImages )
+				scores = new double[numImages];
+			touched.reset();
+
+			// add up the dot product with all the images which share a word with the query
+			double queryNormSq = 0;
+			for( int word = 0; word < histogram.length; word++ ) {
+				if( histogram[word] == 0 )
+					continue;
+				double idf = idfs[word];
+				if( idf == 0 )
+					continue;
+				double q = histogram[word]*idf;
+				queryNormSq += q*q;
+
+				storage.readPostings(word, images, weights);
+				for( int i = 0; i < images.size; i++ ) {
+					int image = images.data[i];
+					if( image >= numImages )
+						break;
+					if( scores[image] == 0 )
+						touched.add(image);
+					scores[image] += q*weights.data[i]*idf;
+				}
+			}
+
+			double queryNorm = Math.sqrt(queryNormSq);
+			for( int i = 0; i < touched.size; i++ ) {
+				int image = touched.data[i];
+				double score = scores[image]/(queryNorm*norms[image]);
+				scores[image] = 0;
+				insert(results, numResults, image, score);
+			}
+		}
+
+		/**
+		 * Inserts the image into the sorted list of best results
+		 */
+		private void insert( FastQueue<Match> results , int numResults , int image , double score ) {
+			if( results.size == numResults && !isBetter(score, image, results.get(numResults-1)) )
+				return;
+			if( results.size < numResults )
+				results.grow();
+
+			int j = results.size-1;
+			Match m = results.data[j];
+			while( j > 0 && isBetter(score, image, results.data[j-1]) ) {
+				results.data[j] = results.data[j-1];
+				j--;
+			}
+			results.data[j] = m;
+			m.image = image;
+			m.type = storage.getImageType(image);
+			m.score = score;
+		}
+
+		private boolean isBetter( double score , int image , Match m ) {
+			return score > m.score || (score == m.score && image < m.image);
+		}
+	}
+
+	/**
+	 * An image which matched a query
+	 */
+	public static class Match {
+		/**
+		 * ID of the image
+		 */
+		public int image;
+		/**
+		 * The type of scene the image belongs to
+		 */
+		public int type;
+		/**
+		 * Cosine similarity between the TF-IDF weighted histograms.  0 to 1, higher is more similar.
+		 */
+		public double score;
+	}
+
+	public InvertedFileStorage getStorage() {
+		return storage;
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeObjectConsumer;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Concurrent version of {@link InvertedFileIndex}.  Batches of queries are split between threads, each with its
+ * own {@link Search}, and image norms are computed with the words split between threads.  Norms are summed in a
+ * different order than the single threaded version, so scores can differ by floating point round off.
+ *
+ * @author Peter Abeles
+ */
+public class InvertedFileIndex_MT extends InvertedFileIndex {
+
+	/**
+	 * Minimum number of queries processed by a thread
+	 */
+	public static int MIN_QUERIES = 4;
+	/**
+	 * Minimum number of words processed by a thread when computing norms
+	 */
+	public static int MIN_WORDS = 256;
+
+	private final FastQueue<Search> searches = new FastQueue<Search>(1,Search.class,true) {
+		@Override
+		protected Search createInstance() {
+			return createSearch();
+		}
+	};
+
+	private final FastQueue<NormWork> normWork = new FastQueue<NormWork>(1,NormWork.class,true) {
+		@Override
+		protected NormWork createInstance() {
+			return new NormWork();
+		}
+	};
+
+	// parameters for the current batch of queries
+	private List<double[]> queries;
+	private List<FastQueue<Match>> results;
+	private int numResults;
+	// number of images while computing norms
+	private int normImages;
+
+	public InvertedFileIndex_MT( InvertedFileStorage storage ) {
+		super(storage);
+	}
+
+	@Override
+	public void findNearest( List<double[]> queries , int numResults , List<FastQueue<Match>> results ) {
+		checkFindNearest(queries, numResults, results);
+
+		this.queries = queries;
+		this.results = results;
+		this.numResults = numResults;
+		BoofConcurrency.loopBlocks(0, queries.size(), MIN_QUERIES, searches, queryBlock);
+		this.queries = null;
+		this.results = null;
+	}
+
+	@Override
+	protected void computeNorms() {
+		normImages = storage.getNumImages();
+		BoofConcurrency.loopBlocks(0, storage.getNumWords(), MIN_WORDS, normWork, normBlock);
+
+		for( int i = 0; i < normWork.size; i++ ) {
+			double[] sum = normWork.get(i).sum;
+			for( int j = 0; j < normImages; j++ ) {
+				norms[j] += sum[j];
+			}
+		}
+	}
+
+	private final IntRangeObjectConsumer<NormWork> normBlock = new IntRangeObjectConsumer<NormWork>() {
+		@Override
+		public void accept(NormWork work, int minInclusive, int maxExclusive) {
+			work.reset(normImages);
+			sumWeightsSq(minInclusive, maxExclusive, work.images, work.weights, work.sum);
+		}
+	};
+
+	private final IntRangeObjectConsumer<Search> queryBlock = new IntRangeObjectConsumer<Search>() {
+		@Override
+		public void accept(Search search, int minInclusive, int maxExclusive) {
+			findNearest(search, queries, numResults, results, minInclusive, maxExclusive);
+		}
+	};
+
+	/**
+	 * Storage for a thread while computing norms
+	 */
+	static class NormWork {
+		GrowQueue_I32 images = new GrowQueue_I32();
+		GrowQueue_F32 weights = new GrowQueue_F32();
+		double[] sum = new double[0];
+
+		void reset( int numImages ) {
+			if( sum.length < numImages )
+				sum = new double[numImages];
+			else
+				Arrays.fill(sum, 0, numImages, 0);
+		}
+	}
+}
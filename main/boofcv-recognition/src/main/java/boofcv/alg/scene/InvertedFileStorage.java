@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Compact storage for the posting lists of an {@link InvertedFileIndex}.  For each visual word there is a list of
+ * (image, weight) pairs.  The storage is either in direct {@link ByteBuffer}s or in a memory mapped file, so
+ * the size of the database isn't limited by the Java heap.  Only the type of each image is kept in the heap.
+ * </p>
+ *
+ * <p>
+ * The {@link VocabularyTree} which assigns features to words can optionally be saved with the lists, so that a
+ * database file contains everything needed to query it.
+ * </p>
+ *
+ * <p>
+ * Lists are stored as linked fixed sized blocks so that new images can be added without rewriting existing
+ * data.  The file is split into pages which are mapped separately and new pages are added as the file grows.
+ * A block is never split between two pages.  File layout, which is always little endian:
+ * </p>
+ * <pre>
+ * Header       : magic, version, numWords, numImages, numBlocks, pageBytes, treeNodes, treeDof
+ * List table   : (head block, tail block, size) for each word, plus one list for image types
+ * Tree         : (child start, child count, word, dof*(double)) for each node
+ * Blocks       : (next block, count, count*(int,int)) padded to BLOCK_BYTES
+ * </pre>
+ *
+ * <p>
+ * Reading from multiple threads is safe as long as nothing is being added.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class InvertedFileStorage implements Closeable {
+
+	/**
+	 * Default number of bytes in a page
+	 */
+	public static final int DEFAULT_PAGE_BYTES = 1 << 26;
+
+	static final int MAGIC = 0x49574F42;
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 64;
+	static final int LIST_BYTES = 12;
+	static final int NODE_BYTES = 12;
+	static final int BLOCK_BYTES = 512;
+	static final int ENTRIES_PER_BLOCK = (BLOCK_BYTES-8)/8;
+
+	// number of words in the dictionary
+	int numWords;
+	// number of nodes in the saved vocabulary tree and number of elements in each mean.  0 if there is no tree
+	int treeNodes;
+	int treeDof;
+	// location of the first tree node in the file
+	long treeOffset;
+	// number of blocks which have been allocated
+	int numBlocks;
+	// location of the first block in the file
+	long blocksOffset;
+	// number of bytes in each page
+	int pageBytes;
+
+	// memory which has been mapped or allocated
+	List<ByteBuffer> pages = new ArrayList<>();
+
+	// type of each image.  Also saved to the image list
+	GrowQueue_I32 imageTypes = new GrowQueue_I32();
+
+	// vocabulary tree saved with the database.  null if there is none
+	VocabularyTree tree;
+
+	// If file backed and writable this is the open file.  null otherwise
+	RandomAccessFile raf;
+	boolean readOnly;
+
+	InvertedFileStorage( int numWords , int treeNodes , int treeDof , int pageBytes ) {
+		if( numWords <= 0 )
+			throw new IllegalArgumentException("Number of words must be positive");
+		this.numWords = numWords;
+		this.treeNodes = treeNodes;
+		this.treeDof = treeDof;
+		long tableEnd = HEADER_BYTES + (long)(numWords+1)*LIST_BYTES;
+		this.treeOffset = (tableEnd + 7)/8*8;
+		long treeEnd = treeOffset + (long)treeNodes*(NODE_BYTES + 8L*treeDof);
+		this.blocksOffset = (treeEnd + BLOCK_BYTES - 1)/BLOCK_BYTES*BLOCK_BYTES;
+
+		// the list table and the tree must be inside the first page
+		long minPage = blocksOffset + BLOCK_BYTES;
+		if( pageBytes < minPage ) {
+			if( minPage > Integer.MAX_VALUE )
+				throw new IllegalArgumentException("Too many words or tree is too large");
+			pageBytes = (int)minPage;
+		}
+		this.pageBytes = pageBytes/BLOCK_BYTES*BLOCK_BYTES;
+	}
+
+	/**
+	 * Creates storage in direct byte buffers.
+	 *
+	 * @param numWords Number of words in the dictionary
+	 */
+	public static InvertedFileStorage allocate( int numWords ) {
+		return allocate(numWords, DEFAULT_PAGE_BYTES);
+	}
+
+	static InvertedFileStorage allocate( int numWords , int pageBytes ) {
+		InvertedFileStorage storage = new InvertedFileStorage(numWords, 0, 0, pageBytes);
+		storage.addPage();
+		storage.initialize();
+		return storage;
+	}
+
+	/**
+	 * Creates storage in direct byte buffers and saves the vocabulary tree with it.  The number of words is
+	 * the number of leaves in the tree.
+	 *
+	 * @param tree Tree which assigns features to words.  Copied.
+	 */
+	public static InvertedFileStorage allocate( VocabularyTree tree ) {
+		return allocate(tree, DEFAULT_PAGE_BYTES);
+	}
+
+	static InvertedFileStorage allocate( VocabularyTree tree , int pageBytes ) {
+		InvertedFileStorage storage = new InvertedFileStorage(
+				tree.getNumberOfClusters(), tree.getNumberOfNodes(), tree.getDof(), pageBytes);
+		storage.addPage();
+		storage.initialize();
+		storage.writeTree(tree);
+		return storage;
+	}
+
+	/**
+	 * Creates a new database in a memory mapped file.  If the file exists it's overwritten.  Must be closed when
+	 * done.
+	 *
+	 * @param file Location of the database
+	 * @param numWords Number of words in the dictionary
+	 * @throws IOException If the file can't be created or mapped
+	 */
+	public static InvertedFileStorage create( File file , int numWords ) throws IOException {
+		return create(file, numWords, DEFAULT_PAGE_BYTES);
+	}
+
+	static InvertedFileStorage create( File file , int numWords , int pageBytes ) throws IOException {
+		InvertedFileStorage storage = new InvertedFileStorage(numWords, 0, 0, pageBytes);
+		storage.raf = new RandomAccessFile(file, "rw");
+		storage.raf.setLength(0);
+		storage.addPage();
+		storage.initialize();
+		return storage;
+	}
+
+	/**
+	 * Creates a new database in a memory mapped file and saves the vocabulary tree in it.  If the file exists
+	 * it's overwritten.  Must be closed when done.
+	 *
+	 * @param file Location of the database
+	 * @param tree Tree which assigns features to words.  Copied.
+	 * @throws IOException If the file can't be created or mapped
+	 */
+	public static InvertedFileStorage create( File file , VocabularyTree tree ) throws IOException {
+		return create(file, tree, DEFAULT_PAGE_BYTES);
+	}
+
+	static InvertedFileStorage create( File file , VocabularyTree tree , int pageBytes ) throws IOException {
+		InvertedFileStorage storage = new InvertedFileStorage(
+				tree.getNumberOfClusters(), tree.getNumberOfNodes(), tree.getDof(), pageBytes);
+		storage.raf = new RandomAccessFile(file, "rw");
+		storage.raf.setLength(0);
+		storage.addPage();
+		storage.initialize();
+		storage.writeTree(tree);
+		return storage;
+	}
+
+	/**
+	 * Opens an existing database in a memory mapped file.  If writable, it must be closed when done.
+	 *
+	 * @param file Location of the database
+	 * @param readOnly If true images can't be added.  The file is closed before this function returns.
+	 * @throws IOException If the file can't be opened or isn't a valid database
+	 */
+	public static InvertedFileStorage open( File file , boolean readOnly ) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, readOnly ? "r" : "rw");
+		try {
+			ByteBuffer header = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if( header.getInt(0) != MAGIC )
+				throw new IOException("Not an inverted file database");
+			if( header.getInt(4) != VERSION )
+				throw new IOException("Unsupported version "+header.getInt(4));
+
+			InvertedFileStorage storage = new InvertedFileStorage(
+					header.getInt(8), header.getInt(24), header.getInt(28), header.getInt(20));
+			storage.numBlocks = header.getInt(16);
+			storage.raf = raf;
+			storage.readOnly = readOnly;
+
+			long used = storage.blocksOffset + (long)storage.numBlocks*BLOCK_BYTES;
+			while( (long)storage.pages.size()*storage.pageBytes < used ) {
+				storage.addPage();
+			}
+
+			// image types are kept in the heap
+			GrowQueue_I32 images = new GrowQueue_I32();
+			storage.readList(storage.numWords, images, storage.imageTypes);
+			if( images.size != header.getInt(12) )
+				throw new IOException("Corrupted database. Number of images doesn't match");
+
+			if( storage.treeNodes > 0 ) {
+				storage.readTree();
+				if( storage.tree.getNumberOfClusters() != storage.numWords )
+					throw new IOException("Corrupted database. Number of words in tree doesn't match");
+			}
+
+			if( readOnly ) {
+				storage.raf = null;
+				raf.close();
+			}
+			return storage;
+		} catch( IOException | RuntimeException e ) {
+			raf.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the header and marks all the lists as empty
+	 */
+	private void initialize() {
+		ByteBuffer page = pages.get(0);
+		page.putInt(0, MAGIC);
+		page.putInt(4, VERSION);
+		page.putInt(8, numWords);
+		page.putInt(12, 0);
+		page.putInt(16, 0);
+		page.putInt(20, pageBytes);
+		page.putInt(24, treeNodes);
+		page.putInt(28, treeDof);
+		for( int list = 0; list <= numWords; list++ ) {
+			int index = HEADER_BYTES + list*LIST_BYTES;
+			page.putInt(index, -1);
+			page.putInt(index+4, -1);
+			page.putInt(index+8, 0);
+		}
+	}
+
+	/**
+	 * Saves the tree's nodes after the list table and keeps a copy in the heap
+	 */
+	private void writeTree( VocabularyTree original ) {
+		ByteBuffer page = pages.get(0);
+		double[] mean = new double[treeDof];
+		for( int node = 0; node < treeNodes; node++ ) {
+			int index = nodeOffset(node);
+			original.getMean(node, mean);
+			page.putInt(index, original.getChildStart(node));
+			page.putInt(index+4, original.getChildCount(node));
+			page.putInt(index+8, original.getWord(node));
+			for( int k = 0; k < treeDof; k++ ) {
+				page.putDouble(index + NODE_BYTES + k*8, mean[k]);
+			}
+		}
+		readTree();
+	}
+
+	private void readTree() {
+		ByteBuffer page = pages.get(0);
+		tree = new VocabularyTree(treeDof);
+		double[] mean = new double[treeDof];
+		for( int node = 0; node < treeNodes; node++ ) {
+			int index = nodeOffset(node);
+			for( int k = 0; k < treeDof; k++ ) {
+				mean[k] = page.getDouble(index + NODE_BYTES + k*8);
+			}
+			tree.addNode(mean);
+		}
+		for( int node = 0; node < treeNodes; node++ ) {
+			int index = nodeOffset(node);
+			int count = page.getInt(index+4);
+			int word = page.getInt(index+8);
+			if( count > 0 )
+				tree.setChildren(node, page.getInt(index), count);
+			else if( word >= 0 )
+				tree.makeLeaf(node, word);
+		}
+	}
+
+	private int nodeOffset( int node ) {
+		return (int)(treeOffset + (long)node*(NODE_BYTES + 8*treeDof));
+	}
+
+	private void addPage() {
+		ByteBuffer page;
+		if( raf == null ) {
+			page = ByteBuffer.allocateDirect(pageBytes);
+		} else {
+			try {
+				FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+				long location = (long)pages.size()*pageBytes;
+				if( !readOnly && raf.length() < location + pageBytes )
+					raf.setLength(location + pageBytes);
+				page = raf.getChannel().map(mode, location, pageBytes);
+			} catch( IOException e ) {
+				throw new RuntimeException(e);
+			}
+		}
+		page.order(ByteOrder.LITTLE_ENDIAN);
+		pages.add(page);
+	}
+
+	/**
+	 * Adds an image to the database
+	 *
+	 * @param type The type of scene the image belongs to
+	 * @return ID of the image
+	 */
+	public int addImage( int type ) {
+		int id = imageTypes.size;
+		append(numWords, id, type);
+		imageTypes.add(type);
+		pages.get(0).putInt(12, imageTypes.size);
+		return id;
+	}
+
+	/**
+	 * Adds the image to a word's posting list
+	 *
+	 * @param word Index of the word
+	 * @param image ID of the image
+	 * @param weight Weight of the word in the image
+	 */
+	public void addPosting( int word , int image , float weight ) {
+		if( word < 0 || word >= numWords )
+			throw new IllegalArgumentException("Word out of range. "+word);
+		append(word, image, Float.floatToRawIntBits(weight));
+	}
+
+	private void append( int list , int a , int b ) {
+		if( readOnly )
+			throw new IllegalArgumentException("Read only");
+
+		ByteBuffer table = pages.get(0);
+		int index = HEADER_BYTES + list*LIST_BYTES;
+		int tail = table.getInt(index+4);
+
+		int count = tail < 0 ? ENTRIES_PER_BLOCK : page(tail).getInt(offset(tail)+4);
+		if( count == ENTRIES_PER_BLOCK ) {
+			int block = allocateBlock();
+			if( tail < 0 )
+				table.putInt(index, block);
+			else
+				page(tail).putInt(offset(tail), block);
+			table.putInt(index+4, block);
+			tail = block;
+			count = 0;
+		}
+
+		ByteBuffer page = page(tail);
+		int location = offset(tail);
+		page.putInt(location + 8 + count*8, a);
+		page.putInt(location + 12 + count*8, b);
+		page.putInt(location + 4, count+1);
+		table.putInt(index+8, table.getInt(index+8)+1);
+	}
+
+	private int allocateBlock() {
+		int block = numBlocks++;
+		long end = blocksOffset + (long)numBlocks*BLOCK_BYTES;
+		while( (long)pages.size()*pageBytes < end ) {
+			addPage();
+		}
+		ByteBuffer page = page(block);
+		int location = offset(block);
+		page.putInt(location, -1);
+		page.putInt(location+4, 0);
+		pages.get(0).putInt(16, numBlocks);
+		return block;
+	}
+
+	private ByteBuffer page( int block ) {
+		return pages.get((int)((blocksOffset + (long)block*BLOCK_BYTES)/pageBytes));
+	}
+
+	private int offset( int block ) {
+		return (int)((blocksOffset + (long)block*BLOCK_BYTES)%pageBytes);
+	}
+
+	/**
+	 * Number of images which contain the word
+	 */
+	public int getPostingCount( int word ) {
+		return pages.get(0).getInt(HEADER_BYTES + word*LIST_BYTES + 8);
+	}
+
+	/**
+	 * Reads the posting list for a word.  Images are in the order they were added.
+	 *
+	 * @param word Index of the word
+	 * @param images (Output) IDs of the images
+	 * @param weights (Output) Weight of the word in each image
+	 */
+	public void readPostings( int word , GrowQueue_I32 images , GrowQueue_F32 weights ) {
+		int total = getPostingCount(word);
+		images.resize(total);
+		weights.resize(total);
+
+		int count = 0;
+		int block = pages.get(0).getInt(HEADER_BYTES + word*LIST_BYTES);
+		while( block >= 0 ) {
+			ByteBuffer page = page(block);
+			int location = offset(block);
+			int N = page.getInt(location+4);
+			for( int i = 0; i < N; i++, count++ ) {
+				images.data[count] = page.getInt(location + 8 + i*8);
+				weights.data[count] = Float.intBitsToFloat(page.getInt(location + 12 + i*8));
+			}
+			block = page.getInt(location);
+		}
+	}
+
+	private void readList( int list , GrowQueue_I32 a , GrowQueue_I32 b ) {
+		int total = pages.get(0).getInt(HEADER_BYTES + list*LIST_BYTES + 8);
+		a.resize(total);
+		b.resize(total);
+
+		int count = 0;
+		int block = pages.get(0).getInt(HEADER_BYTES + list*LIST_BYTES);
+		while( block >= 0 ) {
+			ByteBuffer page = page(block);
+			int location = offset(block);
+			int N = page.getInt(location+4);
+			for( int i = 0; i < N; i++, count++ ) {
+				a.data[count] = page.getInt(location + 8 + i*8);
+				b.data[count] = page.getInt(location + 12 + i*8);
+			}
+			block = page.getInt(location);
+		}
+	}
+
+	/**
+	 * Writes changes to a memory mapped file to disk
+	 */
+	public void flush() {
+		if( raf == null )
+			return;
+		for( int i = 0; i < pages.size(); i++ ) {
+			((MappedByteBuffer)pages.get(i)).force();
+		}
+	}
+
+	/**
+	 * Writes all changes to disk and closes the file.  Mapped memory is released by the garbage collector.
+	 */
+	@Override
+	public void close() throws IOException {
+		if( raf != null ) {
+			flush();
+			raf.close();
+			raf = null;
+		}
+		readOnly = true;
+	}
+
+	/**
+	 * Total number of bytes used to store the database
+	 */
+	public long getUsedBytes() {
+		return blocksOffset + (long)numBlocks*BLOCK_BYTES;
+	}
+
+	public int getNumWords() {
+		return numWords;
+	}
+
+	public int getNumImages() {
+		return imageTypes.size;
+	}
+
+	public int getImageType( int image ) {
+		return imageTypes.get(image);
+	}
+
+	/**
+	 * Vocabulary tree which was saved with the database or null if there isn't one.  The returned tree
+	 * can be used to compute the word histograms of new images and queries.
+	 */
+	public VocabularyTree getTree() {
+		return tree;
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.clustering.AssignCluster;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Hierarchical set of clusters, a.k.a. vocabulary tree, which assigns a point to a word by descending the tree
+ * and selecting the child with the closest mean at each level.  Assignment is O(branching*depth) instead of
+ * O(words), which makes large dictionaries practical.  The words are the leaves of the tree.  The tree is
+ * learned with {@link ComputeVocabularyTree}.
+ * </p>
+ *
+ * <p>
+ * Only hard assignment is supported.  Soft assignment sets the fit of the selected word to one and all
+ * others to zero.  Once constructed the tree isn't modified, so a single instance can be used by multiple threads.
+ * </p>
+ *
+ * <p>
+ * Nister, David, and Henrik Stewenius. "Scalable recognition with a vocabulary tree." CVPR 2006
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class VocabularyTree implements AssignCluster<double[]> {
+
+	// number of elements in a point
+	int dof;
+
+	// number of nodes in the tree
+	int numNodes;
+	// index of the first child of each node.  Children of a node are contiguous
+	int[] childStart = new int[0];
+	// number of children of each node.  0 for a leaf
+	int[] childCount = new int[0];
+	// the word a leaf is assigned to.  -1 for internal nodes
+	int[] words = new int[0];
+	// mean of the points in each node
+	double[] means = new double[0];
+
+	// number of leaves
+	int numWords;
+
+	public VocabularyTree( int dof ) {
+		this.dof = dof;
+	}
+
+	/**
+	 * Removes all the nodes
+	 */
+	public void reset() {
+		numNodes = 0;
+		numWords = 0;
+	}
+
+	/**
+	 * Adds a new node with no children
+	 *
+	 * @param mean Mean of the node.  Copied.
+	 * @return index of the node
+	 */
+	public int addNode( double[] mean ) {
+		if( numNodes == childStart.length ) {
+			int length = Math.max(16, numNodes*2);
+			childStart = Arrays.copyOf(childStart, length);
+			childCount = Arrays.copyOf(childCount, length);
+			words = Arrays.copyOf(words, length);
+			means = Arrays.copyOf(means, length*dof);
+		}
+		int node = numNodes++;
+		childStart[node] = -1;
+		childCount[node] = 0;
+		words[node] = -1;
+		System.arraycopy(mean, 0, means, node*dof, dof);
+		return node;
+	}
+
+	/**
+	 * Specifies the children of a node.  The children must be contiguous.
+	 */
+	public void setChildren( int node , int firstChild , int count ) {
+		childStart[node] = firstChild;
+		childCount[node] = count;
+	}
+
+	/**
+	 * Makes the node into a leaf and assigns it to a new word
+	 *
+	 * @return the word
+	 */
+	public int makeLeaf( int node ) {
+		childCount[node] = 0;
+		words[node] = numWords;
+		return numWords++;
+	}
+
+	/**
+	 * Makes the node into a leaf which is assigned to the specified word.  Used when loading a saved tree.
+	 */
+	public void makeLeaf( int node , int word ) {
+		childCount[node] = 0;
+		words[node] = word;
+		numWords = Math.max(numWords, word+1);
+	}
+
+	/**
+	 * Finds the leaf the point belongs to
+	 */
+	public int findLeaf( double[] point ) {
+		int node = 0;
+		while( childCount[node] > 0 ) {
+			int start = childStart[node];
+			int end = start + childCount[node];
+
+			int best = start;
+			double bestDistance = Double.MAX_VALUE;
+			for( int child = start; child < end; child++ ) {
+				int index = child*dof;
+				double distance = 0;
+				for( int k = 0; k < dof; k++ ) {
+					double d = point[k] - means[index+k];
+					distance += d*d;
+				}
+				if( distance < bestDistance ) {
+					bestDistance = distance;
+					best = child;
+				}
+			}
+			node = best;
+		}
+		return node;
+	}
+
+	@Override
+	public int assign( double[] point ) {
+		return words[findLeaf(point)];
+	}
+
+	@Override
+	public void assign( double[] point , double[] fit ) {
+		Arrays.fill(fit, 0, numWords, 0);
+		fit[assign(point)] = 1;
+	}
+
+	@Override
+	public int getNumberOfClusters() {
+		return numWords;
+	}
+
+	/**
+	 * The tree isn't modified by assignment so the same instance is returned
+	 */
+	@Override
+	public AssignCluster<double[]> copy() {
+		return this;
+	}
+
+	/**
+	 * Returns the maximum depth of the tree.  A tree with only a root has a depth of 0.
+	 */
+	public int getDepth() {
+		return depth(0);
+	}
+
+	private int depth( int node ) {
+		int best = 0;
+		for( int i = 0; i < childCount[node]; i++ ) {
+			best = Math.max(best, 1 + depth(childStart[node]+i));
+		}
+		return best;
+	}
+
+	public int getDof() {
+		return dof;
+	}
+
+	public int getNumberOfNodes() {
+		return numNodes;
+	}
+
+	public int getChildStart( int node ) {
+		return childStart[node];
+	}
+
+	public int getChildCount( int node ) {
+		return childCount[node];
+	}
+
+	public int getWord( int node ) {
+		return words[node];
+	}
+
+	/**
+	 * Copies the mean of a node into the array
+	 */
+	public void getMean( int node , double[] mean ) {
+		System.arraycopy(means, node*dof, mean, 0, dof);
+	}
+}
@@ -63,6 +63,11 @@ public class ConfigFiducialBinary implements Configuration {
 	 */
 	public ConfigPolygonDetector squareDetector = new ConfigPolygonDetector(4,4);
 
+	/**
+	 * Configuration for tracking mode, which speeds up processing of video sequences
+	 */
+	public ConfigSquareTracking tracking = new ConfigSquareTracking();
+
 	{
 		squareDetector.detector.contourToPoly.splitFraction = 0.1;
 		squareDetector.detector.contourToPoly.minimumSideFraction = 0.05;
@@ -85,6 +90,7 @@ public class ConfigFiducialBinary implements Configuration {
 			throw new IllegalArgumentException("Grid width must be at least 3 elements and at most 8");
 		if( borderWidthFraction <= 0 || borderWidthFraction >= 0.5 )
 			throw new IllegalArgumentException("Border width fraction must be 0 < fraction < 0.5");
+		tracking.checkValidity();
 	}
 
 	public int getGridWidth() {
@@ -127,6 +133,7 @@ public class ConfigFiducialBinary implements Configuration {
 				", gridWidth=" + gridWidth +
 				", borderWidthFraction=" + borderWidthFraction +
 				", squareDetector=" + squareDetector +
+				", tracking=" + tracking +
 				'}';
 	}
 }
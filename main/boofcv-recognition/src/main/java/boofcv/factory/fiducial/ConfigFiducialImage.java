@@ -54,6 +54,11 @@ public class ConfigFiducialImage implements Configuration {
 	 */
 	public ConfigPolygonDetector squareDetector = new ConfigPolygonDetector(4,4);
 
+	/**
+	 * Configuration for tracking mode, which speeds up processing of video sequences
+	 */
+	public ConfigSquareTracking tracking = new ConfigSquareTracking();
+
 	{
 		squareDetector.detector.contourToPoly.splitFraction = 0.1;
 		squareDetector.detector.contourToPoly.minimumSideFraction = 0.05;
@@ -67,6 +72,7 @@ public class ConfigFiducialImage implements Configuration {
 	public void checkValidity() {
 		if( borderWidthFraction <= 0 || borderWidthFraction >= 0.5 )
 			throw new IllegalArgumentException("Border width fraction must be 0 < fraction < 0.5");
+		tracking.checkValidity();
 	}
 
 	public double getMaxErrorFraction() {
@@ -90,6 +96,7 @@ public class ConfigFiducialImage implements Configuration {
 		return getClass().getSimpleName()+
 				"{ maxErrorFraction="+maxErrorFraction+
 				" borderWidthFraction="+borderWidthFraction+
-				" squareDetector="+squareDetector+" }";
+				" squareDetector="+squareDetector+
+				" tracking="+tracking+" }";
 	}
 }
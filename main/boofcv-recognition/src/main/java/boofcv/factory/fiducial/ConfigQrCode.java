@@ -34,6 +34,13 @@ public class ConfigQrCode implements Configuration {
 	public int versionMinimum = 2;
 	public int versionMaximum = 2;
 
+	/**
+	 * When processing a sequence of images, a QR code whose position patterns are within this many pixels of a
+	 * QR code found in the previous frame isn't decoded again. Instead the previous results are used. Disabled
+	 * if &le; 0.
+	 */
+	public double previousTolerance = 0;
+
 	{
 		polygon.detector.clockwise = false;
 		polygon.detector.contourToPoly.splitFraction = 0.1;
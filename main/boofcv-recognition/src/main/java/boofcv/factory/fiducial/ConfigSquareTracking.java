@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.fiducial;
+
+import boofcv.alg.fiducial.square.BaseDetectFiducialSquare;
+import boofcv.struct.Configuration;
+
+/**
+ * Configuration for tracking mode in square fiducial detectors.
+ *
+ * @see BaseDetectFiducialSquare
+ *
+ * @author Peter Abeles
+ */
+public class ConfigSquareTracking implements Configuration {
+	/**
+	 * If true then fiducials found in the previous frame are only searched for inside a region around their
+	 * predicted location.  New fiducials are only found when the entire image is processed.
+	 */
+	public boolean enabled = false;
+
+	/**
+	 * The entire image is processed at least once every this many frames.
+	 */
+	public int fullScanPeriod = 30;
+
+	/**
+	 * Padding added around a fiducial's predicted location as a fraction of its width in pixels.
+	 */
+	public double paddingFraction = 0.3;
+
+	/**
+	 * Minimum amount of padding in pixels
+	 */
+	public int paddingMinimum = 10;
+
+	@Override
+	public void checkValidity() {
+		if( fullScanPeriod < 1 )
+			throw new IllegalArgumentException("fullScanPeriod must be at least 1");
+		if( paddingFraction < 0 || paddingMinimum < 0 )
+			throw new IllegalArgumentException("Padding can't be negative");
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigSquareTracking{" +
+				"enabled=" + enabled +
+				", fullScanPeriod=" + fullScanPeriod +
+				", paddingFraction=" + paddingFraction +
+				", paddingMinimum=" + paddingMinimum +
+				'}';
+	}
+}
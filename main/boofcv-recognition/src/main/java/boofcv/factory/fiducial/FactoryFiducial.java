@@ -24,11 +24,14 @@ import boofcv.abst.fiducial.SquareBinary_to_FiducialDetector;
 import boofcv.abst.fiducial.SquareImage_to_FiducialDetector;
 import boofcv.abst.fiducial.calib.*;
 import boofcv.abst.filter.binary.InputToBinary;
+import boofcv.alg.fiducial.qrcode.QrCodeDecoder;
+import boofcv.alg.fiducial.qrcode.QrCodeDecoder_MT;
 import boofcv.alg.fiducial.qrcode.QrCodeDetector;
 import boofcv.alg.fiducial.qrcode.QrCodePositionPatternDetector;
 import boofcv.alg.fiducial.square.DetectFiducialSquareBinary;
 import boofcv.alg.fiducial.square.DetectFiducialSquareImage;
 import boofcv.alg.shapes.polygon.DetectPolygonBinaryGrayRefine;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.binary.ConfigThreshold;
 import boofcv.factory.filter.binary.FactoryThresholdBinary;
 import boofcv.factory.filter.binary.ThresholdType;
@@ -74,6 +77,8 @@ public class FactoryFiducial {
 						configFiducial.borderWidthFraction, configFiducial.minimumBlackBorderFraction,
 						binary, squareDetector, imageType);
 		alg.setAmbiguityThreshold(configFiducial.ambiguousThreshold);
+		ConfigSquareTracking tracking = configFiducial.tracking;
+		alg.configureTracking(tracking.enabled, tracking.fullScanPeriod, tracking.paddingFraction, tracking.paddingMinimum);
 		return new SquareBinary_to_FiducialDetector<>(alg, configFiducial.targetWidth);
 	}
 
@@ -107,6 +112,8 @@ public class FactoryFiducial {
 		DetectFiducialSquareImage<T> alg = new DetectFiducialSquareImage<>(binary,
 				squareDetector, configFiducial.borderWidthFraction, configFiducial.minimumBlackBorderFraction,
 				configFiducial.maxErrorFraction, imageType);
+		ConfigSquareTracking tracking = configFiducial.tracking;
+		alg.configureTracking(tracking.enabled, tracking.fullScanPeriod, tracking.paddingFraction, tracking.paddingMinimum);
 
 		return new SquareImage_to_FiducialDetector<>(alg);
 	}
@@ -160,7 +167,15 @@ public class FactoryFiducial {
 		QrCodePositionPatternDetector<T> detectPositionPatterns =
 				new QrCodePositionPatternDetector<>(squareDetector,config.versionMaximum);
 
-		return new QrCodeDetector<>(detectPositionPatterns,imageType);
+		QrCodeDecoder<T> decoder;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			decoder = new QrCodeDecoder_MT<>(imageType);
+		} else {
+			decoder = new QrCodeDecoder<>(imageType);
+		}
+		decoder.setPreviousTolerance(config.previousTolerance);
+
+		return new QrCodeDetector<>(detectPositionPatterns,decoder);
 	}
 
 }
@@ -79,6 +79,60 @@ public class TestQrCodeDecoder {
 		assertEquals(2,found.version);
 	}
 
+	/**
+	 * If enabled, QR codes at the same location as in the previous frame should not be decoded again
+	 */
+	@Test
+	public void previousTolerance() {
+		QrCode truthQr = new QrCode();
+		truthQr.errorCorrection = QrCode.ErrorCorrectionLevel.Q;
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+		generator.generate(truthQr);
+
+		FastQueue<PositionPatternNode> pps = new FastQueue<>(PositionPatternNode.class,true);
+
+		pps.grow().square = generator.qr.ppCorner;
+		pps.grow().square = generator.qr.ppRight;
+		pps.grow().square = generator.qr.ppDown;
+
+		connect(pps.get(1),pps.get(0),3,1);
+		connect(pps.get(2),pps.get(0),0,2);
+
+		final int[] decodeCalls = new int[1];
+		QrCodeDecoder<GrayU8> decoder = new QrCodeDecoder<GrayU8>(GrayU8.class) {
+			@Override
+			protected boolean decode(QrCode qr) {
+				decodeCalls[0]++;
+				return super.decode(qr);
+			}
+		};
+		decoder.setPreviousTolerance(1.0);
+
+		decoder.process(pps,generator.gray);
+		assertEquals(1,decodeCalls[0]);
+		assertEquals(1,decoder.getFound().size);
+
+		// same location. it should use the results from the previous frame
+		decoder.process(pps,generator.gray);
+		assertEquals(1,decodeCalls[0]);
+		assertEquals(1,decoder.getFound().size);
+		assertEquals(QrCode.ErrorCorrectionLevel.Q,decoder.getFound().get(0).errorCorrection);
+		assertEquals(truthQr.version,decoder.getFound().get(0).version);
+
+		// move the position patterns too far and it needs to be decoded again
+		for (int i = 0; i < 4; i++) {
+			generator.qr.ppRight.get(i).x += 1.5;
+		}
+		decoder.process(pps,generator.gray);
+		assertEquals(2,decodeCalls[0]);
+
+		// turn it off and it should always decode
+		decoder.setPreviousTolerance(0);
+		decoder.process(pps,generator.gray);
+		decoder.process(pps,generator.gray);
+		assertEquals(4,decodeCalls[0]);
+	}
+
 	@Ignore
 	@Test
 	public void full_simple_ver7() {
@@ -109,7 +163,7 @@ public class TestQrCodeDecoder {
 		assertTrue(qr.ppDown.get(0).distance(0,5) < UtilEjml.TEST_F64);
 	}
 
-	private static void connect( PositionPatternNode a , PositionPatternNode b , int sideA , int sideB ) {
+	static void connect( PositionPatternNode a , PositionPatternNode b , int sideA , int sideB ) {
 		SquareEdge e = new SquareEdge(a,b,3,1);
 		a.edges[sideA] = b.edges[sideB] = e;
 	}
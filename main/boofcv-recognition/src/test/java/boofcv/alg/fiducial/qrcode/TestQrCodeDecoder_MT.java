@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.fiducial.qrcode;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayU8;
+import georegression.struct.shapes.Polygon2D_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestQrCodeDecoder_MT {
+
+	int originalThreads;
+	int originalMin;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMin = QrCodeDecoder_MT.MIN_CANDIDATES;
+		QrCodeDecoder_MT.MIN_CANDIDATES = 2;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		QrCodeDecoder_MT.MIN_CANDIDATES = originalMin;
+	}
+
+	/**
+	 * Decode many QR codes and compare against the single threaded version
+	 */
+	@Test
+	public void compare() {
+		GrayU8 image = new GrayU8(1,1);
+		FastQueue<PositionPatternNode> pps = new FastQueue<>(PositionPatternNode.class,true);
+		renderGrid(5,4,image,pps);
+
+		QrCodeDecoder<GrayU8> expected = new QrCodeDecoder<>(GrayU8.class);
+		expected.process(pps,image);
+		assertEquals(20,expected.getFound().size);
+
+		for (int threads : new int[]{2,4}) {
+			BoofConcurrency.setMaxThreads(threads);
+			QrCodeDecoder_MT<GrayU8> alg = new QrCodeDecoder_MT<>(GrayU8.class);
+			// process twice to make sure the workspace is reset correctly
+			for (int trial = 0; trial < 2; trial++) {
+				alg.process(pps, image);
+				checkIdentical(expected.getFound(), alg.getFound());
+			}
+		}
+	}
+
+	/**
+	 * QR codes found in the previous frame should be reused
+	 */
+	@Test
+	public void previousTolerance() {
+		GrayU8 image = new GrayU8(1,1);
+		FastQueue<PositionPatternNode> pps = new FastQueue<>(PositionPatternNode.class,true);
+		renderGrid(5,4,image,pps);
+
+		QrCodeDecoder<GrayU8> expected = new QrCodeDecoder<>(GrayU8.class);
+		expected.process(pps,image);
+
+		BoofConcurrency.setMaxThreads(4);
+		final int[] decodeCalls = new int[1];
+		QrCodeDecoder_MT<GrayU8> alg = new QrCodeDecoder_MT<>(GrayU8.class);
+		alg.setPreviousTolerance(1.0);
+
+		alg.process(pps, image);
+		checkIdentical(expected.getFound(), alg.getFound());
+
+		// if the previous results are used then nothing will be decoded from a blank image
+		ImageMiscOps.fill(image,255);
+		alg.process(pps, image);
+		checkIdentical(expected.getFound(), alg.getFound());
+
+		alg.setPreviousTolerance(0);
+		alg.process(pps, image);
+		assertTrue(alg.getFound().size < expected.getFound().size);
+	}
+
+	private static void checkIdentical( FastQueue<QrCode> expected , FastQueue<QrCode> found ) {
+		assertEquals(expected.size, found.size);
+		for (int i = 0; i < expected.size; i++) {
+			QrCode a = expected.get(i);
+			QrCode b = found.get(i);
+
+			assertTrue(a.ppCorner.isIdentical(b.ppCorner, 0));
+			assertTrue(a.ppRight.isIdentical(b.ppRight, 0));
+			assertTrue(a.ppDown.isIdentical(b.ppDown, 0));
+			assertTrue(a.bounds.isIdentical(b.bounds, 0));
+			assertEquals(a.version, b.version);
+			assertEquals(a.errorCorrection, b.errorCorrection);
+			assertEquals(a.maskPattern, b.maskPattern);
+		}
+	}
+
+	/**
+	 * Renders a grid of QR codes with different format information and creates the position pattern graph
+	 */
+	static void renderGrid( int cols , int rows , GrayU8 image , FastQueue<PositionPatternNode> pps ) {
+		QrCodeGeneratorImage generator = new QrCodeGeneratorImage(4);
+
+		int spacing = 25*4 + 20;
+		image.reshape(cols*spacing, rows*spacing);
+		ImageMiscOps.fill(image,255);
+		pps.reset();
+
+		QrCode.ErrorCorrectionLevel[] levels = QrCode.ErrorCorrectionLevel.values();
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				int index = row*cols + col;
+				QrCode qr = new QrCode();
+				qr.version = 2;
+				qr.errorCorrection = levels[index % levels.length];
+				qr.maskPattern = index % 8;
+				generator.generate(qr);
+
+				int x0 = col*spacing + 10, y0 = row*spacing + 10;
+				GrayU8 gray = generator.getGray();
+				image.subimage(x0, y0, x0 + gray.width, y0 + gray.height).setTo(gray);
+
+				PositionPatternNode corner = pps.grow();
+				PositionPatternNode right = pps.grow();
+				PositionPatternNode down = pps.grow();
+				corner.square = shift(qr.ppCorner, x0, y0);
+				right.square = shift(qr.ppRight, x0, y0);
+				down.square = shift(qr.ppDown, x0, y0);
+
+				TestQrCodeDecoder.connect(right, corner, 3, 1);
+				TestQrCodeDecoder.connect(down, corner, 0, 2);
+			}
+		}
+	}
+
+	private static Polygon2D_F64 shift( Polygon2D_F64 polygon , double dx , double dy ) {
+		Polygon2D_F64 out = polygon.copy();
+		for (int i = 0; i < out.size(); i++) {
+			out.get(i).x += dx;
+			out.get(i).y += dy;
+		}
+		return out;
+	}
+}
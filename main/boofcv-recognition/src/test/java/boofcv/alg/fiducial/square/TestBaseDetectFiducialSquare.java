@@ -235,6 +235,161 @@ public class TestBaseDetectFiducialSquare {
 		}
 	}
 
+	/**
+	 * The fiducial moves a little bit each frame.  After the first frame it should be found without processing
+	 * the entire image and give the same results as when the entire image is processed.
+	 *
+	 * The pattern is moved in multiples of 6 pixels.  With other offsets the square image can be sampled exactly
+	 * along the edge of the corner square and DetectCorner will reject it, with or without tracking.
+	 */
+	@Test
+	public void tracking_moving() {
+		GrayU8 pattern = createPattern(6*20, true);
+		GrayU8 image = new GrayU8(width,height);
+
+		DetectCorner tracker = new DetectCorner();
+		tracker.configureTracking(true,30,0.3,10);
+		DetectCorner full = new DetectCorner();
+
+		for (int frame = 0; frame < 5; frame++) {
+			renderFrame(image, pattern, 200 + frame*6, 300 - frame*6);
+
+			tracker.process(image);
+			full.process(image);
+
+			assertEquals(frame == 0, tracker.isFullScan());
+			assertEquals(1, tracker.getFound().size());
+			assertEquals(1, full.getFound().size());
+
+			// the tracked pose should be the same as the pose from processing the entire frame
+			FoundFiducial expected = full.getFound().get(0);
+			FoundFiducial found = tracker.getFound().get(0);
+			assertEquals(expected.id, found.id);
+			for (int i = 0; i < 4; i++) {
+				assertEquals(0, expected.distortedPixels.get(i).distance(found.distortedPixels.get(i)), 1e-4);
+			}
+
+			// and it should be where the fiducial was rendered
+			assertEquals(0, found.distortedPixels.get(0).distance(200 + frame*6, 300 - frame*6), 1e-4);
+		}
+	}
+
+	/**
+	 * The fiducial jumps outside of the region it's predicted to be inside of. The entire image should be processed
+	 */
+	@Test
+	public void tracking_lost() {
+		GrayU8 pattern = createPattern(6*20, true);
+		GrayU8 image = new GrayU8(width,height);
+
+		DetectCorner alg = new DetectCorner();
+		alg.configureTracking(true,30,0.3,10);
+
+		renderFrame(image, pattern, 200, 300);
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		assertEquals(1, alg.getFound().size());
+
+		renderFrame(image, pattern, 450, 40);
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		assertEquals(1, alg.getFound().size());
+		assertTrue(alg.getFound().get(0).distortedPixels.a.x > 400);
+
+		// It's being tracked again
+		alg.process(image);
+		assertFalse(alg.isFullScan());
+		assertEquals(1, alg.getFound().size());
+	}
+
+	/**
+	 * The entire image should be processed at the specified period. New fiducials are only found then.
+	 */
+	@Test
+	public void tracking_fullScanPeriod() {
+		GrayU8 pattern = createPattern(6*20, true);
+		GrayU8 image = new GrayU8(width,height);
+
+		DetectCorner alg = new DetectCorner();
+		alg.configureTracking(true,3,0.3,10);
+
+		renderFrame(image, pattern, 50, 50);
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		assertEquals(1, alg.getFound().size());
+
+		// a second fiducial appears but it isn't being tracked yet
+		image.subimage(400, 300, 400 + pattern.width, 300 + pattern.height, null).setTo(pattern);
+		for (int i = 0; i < 2; i++) {
+			alg.process(image);
+			assertFalse(alg.isFullScan());
+			assertEquals(1, alg.getFound().size());
+		}
+
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		assertEquals(2, alg.getFound().size());
+
+		alg.process(image);
+		assertFalse(alg.isFullScan());
+		assertEquals(2, alg.getFound().size());
+		assertEquals(2, alg.getTracks().size());
+
+		// turning off tracking processes the entire image every time
+		alg.configureTracking(false,3,0.3,10);
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		alg.process(image);
+		assertTrue(alg.isFullScan());
+		assertEquals(2, alg.getFound().size());
+	}
+
+	/**
+	 * Lens distortion needs to be handled when only a region inside the image is processed
+	 */
+	@Test
+	public void tracking_lensDistortion() {
+		CameraPinholeRadial intrinsic = new CameraPinholeRadial(500,500,0,320,240,width,height).fsetRadial(-0.1,-0.05);
+
+		GrayU8 pattern = createPattern(6*20, true);
+		GrayU8 image = new GrayU8(width,height);
+		renderFrame(image, pattern, 60, 300);
+
+		Point2Transform2_F32 distToUndistort = LensDistortionOps.narrow(intrinsic).undistort_F32(true, true);
+		InterpolatePixelS interp = FactoryInterpolation.createPixelS(0, 255,
+				InterpolationType.BILINEAR, BorderType.ZERO, GrayU8.class);
+		ImageDistort<GrayU8,GrayU8> distorter = FactoryDistort.distortSB(false, interp, GrayU8.class);
+		distorter.setModel(new PointToPixelTransform_F32(distToUndistort));
+		GrayU8 distorted = new GrayU8(width,height);
+		distorter.apply(image, distorted);
+
+		DetectCorner alg = new DetectCorner();
+		alg.configureTracking(true,30,0.3,10);
+		alg.configure(new LensDistortionRadialTangential(intrinsic),width,height, false);
+
+		alg.process(distorted);
+		assertTrue(alg.isFullScan());
+		assertEquals(1, alg.getFound().size());
+		Quadrilateral_F64 expected = new Quadrilateral_F64();
+		expected.set(alg.getFound().get(0).distortedPixels);
+
+		for (int i = 0; i < 2; i++) {
+			alg.process(distorted);
+			assertFalse(alg.isFullScan());
+			assertEquals(1, alg.getFound().size());
+
+			Quadrilateral_F64 found = alg.getFound().get(0).distortedPixels;
+			for (int j = 0; j < 4; j++) {
+				assertTrue(expected.get(j).distance(found.get(j)) <= 1e-4);
+			}
+		}
+	}
+
+	private static void renderFrame( GrayU8 image , GrayU8 pattern , int x0 , int y0 ) {
+		ImageMiscOps.fill(image, 255);
+		image.subimage(x0, y0, x0 + pattern.width, y0 + pattern.height, null).setTo(pattern);
+	}
+
 	/**
 	 * Creates a square pattern image of the specified size
 	 *
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestComputeVocabularyTree {
+
+	Random rand = new Random(234);
+
+	int dof = 3;
+
+	/**
+	 * Points are in well separated clusters which are grouped hierarchically.  Each cluster should be its own word.
+	 */
+	@Test
+	public void hierarchicalClusters() {
+		List<double[]> centers = new ArrayList<>();
+		List<double[]> points = new ArrayList<>();
+		// 3 groups which are far apart, each with 3 clusters which are closer together
+		for( int group = 0; group < 3; group++ ) {
+			for( int cluster = 0; cluster < 3; cluster++ ) {
+				double[] c = new double[]{group*1000 + cluster*50, group*500, cluster*20};
+				centers.add(c);
+				for( int i = 0; i < 40; i++ ) {
+					points.add(noisy(c, 1.0));
+				}
+			}
+		}
+
+		ComputeVocabularyTree alg = new ComputeVocabularyTree(3, 20);
+		alg.init(dof, 234);
+		alg.process(points, 9);
+
+		VocabularyTree tree = alg.getAssignment();
+		assertEquals(9, tree.getNumberOfClusters());
+		assertEquals(2, tree.getDepth());
+		assertEquals(13, tree.getNumberOfNodes());
+
+		// points from the same cluster have the same word and different clusters have different words
+		int[] words = new int[centers.size()];
+		for( int i = 0; i < centers.size(); i++ ) {
+			words[i] = tree.assign(centers.get(i));
+			for( int j = 0; j < 10; j++ ) {
+				assertEquals(words[i], tree.assign(noisy(centers.get(i), 1.0)));
+			}
+			for( int j = 0; j < i; j++ ) {
+				assertNotEquals(words[i], words[j]);
+			}
+		}
+
+		// the error should be about the noise
+		assertTrue(alg.getDistanceMeasure()/points.size() < 3*dof);
+	}
+
+	/**
+	 * The depth is selected so that there are enough words
+	 */
+	@Test
+	public void selectDepth() {
+		List<double[]> points = new ArrayList<>();
+		for( int i = 0; i < 2000; i++ ) {
+			points.add(noisy(new double[dof], 10));
+		}
+
+		ComputeVocabularyTree alg = new ComputeVocabularyTree(4, 10);
+		alg.init(dof, 234);
+
+		alg.process(points, 16);
+		assertEquals(2, alg.getAssignment().getDepth());
+		assertEquals(16, alg.getAssignment().getNumberOfClusters());
+
+		alg.process(points, 17);
+		assertEquals(3, alg.getAssignment().getDepth());
+		assertEquals(64, alg.getAssignment().getNumberOfClusters());
+	}
+
+	/**
+	 * Duplicate points can't be split.  Too few points can't be split either.
+	 */
+	@Test
+	public void degenerate() {
+		List<double[]> points = new ArrayList<>();
+		for( int i = 0; i < 50; i++ ) {
+			points.add(new double[]{1,2,3});
+		}
+		for( int i = 0; i < 5; i++ ) {
+			points.add(new double[]{10,2,3});
+		}
+
+		ComputeVocabularyTree alg = new ComputeVocabularyTree(4, 10);
+		alg.init(dof, 234);
+		alg.process(points, 64);
+
+		VocabularyTree tree = alg.getAssignment();
+		assertEquals(2, tree.getNumberOfClusters());
+		assertEquals(0, alg.getDistanceMeasure(), 1e-8);
+		assertNotEquals(tree.assign(new double[]{1,2,3}), tree.assign(new double[]{10,2,3}));
+
+		double[] fit = new double[2];
+		tree.assign(new double[]{10,2,3}, fit);
+		assertEquals(1, fit[tree.assign(new double[]{10,2,3})], 1e-8);
+		assertEquals(1, fit[0]+fit[1], 1e-8);
+	}
+
+	/**
+	 * Without an iteration no point would be assigned to a cluster
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void zeroIterations() {
+		new ComputeVocabularyTree(4, 0);
+	}
+
+	/**
+	 * Compare tree assignment against brute force descent of the tree
+	 */
+	@Test
+	public void assignMatchesTree() {
+		List<double[]> points = new ArrayList<>();
+		for( int i = 0; i < 1000; i++ ) {
+			points.add(noisy(new double[dof], 10));
+		}
+
+		ComputeVocabularyTree alg = new ComputeVocabularyTree(5, 10);
+		alg.init(dof, 234);
+		alg.process(points, 100);
+		VocabularyTree tree = alg.getAssignment();
+
+		double[] mean = new double[dof];
+		for( int trial = 0; trial < 100; trial++ ) {
+			double[] p = noisy(new double[dof], 10);
+			int node = 0;
+			while( tree.getChildCount(node) > 0 ) {
+				int best = -1;
+				double bestDistance = Double.MAX_VALUE;
+				for( int i = 0; i < tree.getChildCount(node); i++ ) {
+					int child = tree.getChildStart(node)+i;
+					tree.getMean(child, mean);
+					double d = 0;
+					for( int k = 0; k < dof; k++ ) {
+						d += (p[k]-mean[k])*(p[k]-mean[k]);
+					}
+					if( d < bestDistance ) {
+						bestDistance = d;
+						best = child;
+					}
+				}
+				node = best;
+			}
+			assertEquals(tree.getWord(node), tree.assign(p));
+		}
+	}
+
+	double[] noisy( double[] center , double sigma ) {
+		double[] p = new double[center.length];
+		for( int k = 0; k < p.length; k++ ) {
+			p[k] = center[k] + rand.nextGaussian()*sigma;
+		}
+		return p;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.clustering.AssignCluster;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFeatureToWordHistogram_F64_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+	int originalMinFeatures;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMinFeatures = FeatureToWordHistogram_F64_MT.MIN_FEATURES;
+		FeatureToWordHistogram_F64_MT.MIN_FEATURES = 10;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		FeatureToWordHistogram_F64_MT.MIN_FEATURES = originalMinFeatures;
+	}
+
+	@Test
+	public void compareToSerial() {
+		List<double[]> training = new ArrayList<>();
+		for( int i = 0; i < 500; i++ ) {
+			training.add(new double[]{rand.nextDouble(), rand.nextDouble()});
+		}
+		ComputeVocabularyTree compute = new ComputeVocabularyTree(4, 10);
+		compute.init(2, 234);
+		compute.process(training, 16);
+
+		List<TupleDesc_F64> features = new ArrayList<>();
+		for( int i = 0; i < 333; i++ ) {
+			TupleDesc_F64 d = new TupleDesc_F64(2);
+			d.value[0] = rand.nextDouble();
+			d.value[1] = rand.nextDouble();
+			features.add(d);
+		}
+
+		compareToSerial(compute.getAssignment(), true, features);
+		compareToSerial(new SoftAssign(), false, features);
+	}
+
+	private void compareToSerial( AssignCluster<double[]> assign , boolean hard , List<TupleDesc_F64> features ) {
+		FeatureToWordHistogram_F64 expected = new FeatureToWordHistogram_F64(assign, hard);
+		expected.reset();
+		for( int i = 0; i < features.size(); i++ ) {
+			expected.addFeature(features.get(i));
+		}
+		expected.process();
+
+		for( int threads : new int[]{2,4} ) {
+			BoofConcurrency.setMaxThreads(threads);
+			FeatureToWordHistogram_F64_MT alg = new FeatureToWordHistogram_F64_MT(assign, hard);
+			alg.reset();
+			// add them in two batches to make sure it accumulates
+			alg.addFeatures(features.subList(0, 100));
+			alg.addFeatures(features.subList(100, features.size()));
+			alg.process();
+
+			assertArrayEquals(expected.getHistogram(), alg.getHistogram(), hard ? 0 : 1e-8);
+		}
+	}
+
+	/**
+	 * Soft assignment which depends on the point's value
+	 */
+	private static class SoftAssign implements AssignCluster<double[]> {
+		@Override
+		public int assign(double[] point) {
+			return point[0] < 0.5 ? 0 : 1;
+		}
+
+		@Override
+		public void assign(double[] point, double[] fit) {
+			fit[0] = point[0];
+			fit[1] = 1.0-point[0];
+			fit[2] = 0;
+		}
+
+		@Override
+		public int getNumberOfClusters() {
+			return 3;
+		}
+
+		@Override
+		public AssignCluster<double[]> copy() {
+			return new SoftAssign();
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestInvertedFileIndex {
+
+	Random rand = new Random(234);
+
+	int numWords = 100;
+
+	/**
+	 * Compare against brute force TF-IDF cosine similarity
+	 */
+	@Test
+	public void compareToBruteForce() {
+		List<double[]> database = createHistograms(120);
+		InvertedFileIndex alg = new InvertedFileIndex(InvertedFileStorage.allocate(numWords));
+		for( int i = 0; i < database.size(); i++ ) {
+			alg.addImage(i%5, database.get(i));
+		}
+		alg.updateNorms();
+
+		FastQueue<InvertedFileIndex.Match> results = createResults();
+		InvertedFileIndex.Search search = alg.createSearch();
+		for( double[] query : createHistograms(20) ) {
+			search.findNearest(query, 10, results);
+			checkResults(database, query, 10, results);
+		}
+	}
+
+	/**
+	 * Images are added after queries have already been made.  Until the norms are updated the new images should
+	 * be ignored, after that IDF and norms should include them.
+	 */
+	@Test
+	public void incrementalInsertion() {
+		List<double[]> database = createHistograms(80);
+		List<double[]> queries = createHistograms(5);
+
+		InvertedFileIndex alg = new InvertedFileIndex(InvertedFileStorage.allocate(numWords));
+		InvertedFileIndex.Search search = alg.createSearch();
+		FastQueue<InvertedFileIndex.Match> results = createResults();
+
+		for( int i = 0; i < database.size(); i++ ) {
+			alg.addImage(i%5, database.get(i));
+			if( i % 20 == 19 ) {
+				// the search should be done with the images from the previous update
+				for( double[] query : queries ) {
+					search.findNearest(query, 5, results);
+					checkResults(database.subList(0, i-19), query, 5, results);
+				}
+
+				alg.updateNorms();
+				for( double[] query : queries ) {
+					search.findNearest(query, 5, results);
+					checkResults(database.subList(0, i+1), query, 5, results);
+				}
+			}
+		}
+	}
+
+	/**
+	 * An image in the database should be its own best match
+	 */
+	@Test
+	public void findSelf() {
+		List<double[]> database = createHistograms(50);
+		InvertedFileIndex alg = new InvertedFileIndex(InvertedFileStorage.allocate(numWords));
+		for( int i = 0; i < database.size(); i++ ) {
+			alg.addImage(i%5, database.get(i));
+		}
+		alg.updateNorms();
+
+		FastQueue<InvertedFileIndex.Match> results = createResults();
+		InvertedFileIndex.Search search = alg.createSearch();
+		for( int i = 0; i < database.size(); i++ ) {
+			search.findNearest(database.get(i), 3, results);
+			assertEquals(i, results.get(0).image);
+			assertEquals(i%5, results.get(0).type);
+			assertEquals(1.0, results.get(0).score, 1e-6);
+		}
+	}
+
+	@Test
+	public void batch() {
+		List<double[]> database = createHistograms(50);
+		InvertedFileIndex alg = new InvertedFileIndex(InvertedFileStorage.allocate(numWords));
+		for( int i = 0; i < database.size(); i++ ) {
+			alg.addImage(i%5, database.get(i));
+		}
+		alg.updateNorms();
+
+		List<double[]> queries = createHistograms(10);
+		List<FastQueue<InvertedFileIndex.Match>> results = new ArrayList<>();
+		for( int i = 0; i < queries.size(); i++ ) {
+			results.add(createResults());
+		}
+		alg.findNearest(queries, 4, results);
+		for( int i = 0; i < queries.size(); i++ ) {
+			checkResults(database, queries.get(i), 4, results.get(i));
+		}
+	}
+
+	@Test
+	public void numResults_invalid() {
+		InvertedFileIndex alg = new InvertedFileIndex(InvertedFileStorage.allocate(numWords));
+		List<double[]> database = createHistograms(10);
+		for( int i = 0; i < database.size(); i++ ) {
+			alg.addImage(i%5, database.get(i));
+		}
+		alg.updateNorms();
+
+		try {
+			alg.createSearch().findNearest(database.get(0), 0, createResults());
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+
+		List<FastQueue<InvertedFileIndex.Match>> results = new ArrayList<>();
+		results.add(createResults());
+		try {
+			alg.findNearest(database.subList(0, 1), 0, results);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	void checkResults( List<double[]> database , double[] query , int numResults ,
+					   FastQueue<InvertedFileIndex.Match> found ) {
+		double[] expected = bruteForce(database, query);
+
+		// should be sorted and the score should be correct
+		int numNonZero = 0;
+		for( double score : expected ) {
+			if( score > 0 )
+				numNonZero++;
+		}
+		assertEquals(Math.min(numResults, numNonZero), found.size);
+		for( int i = 0; i < found.size; i++ ) {
+			InvertedFileIndex.Match m = found.get(i);
+			assertEquals(expected[m.image], m.score, 1e-6);
+			assertEquals(m.image%5, m.type);
+			if( i > 0 )
+				assertTrue(found.get(i-1).score >= m.score);
+		}
+
+		// nothing which wasn't found should be better
+		if( found.size > 0 ) {
+			double worst = found.get(found.size-1).score;
+			for( int i = 0; i < expected.length; i++ ) {
+				boolean inResults = false;
+				for( int j = 0; j < found.size; j++ ) {
+					inResults |= found.get(j).image == i;
+				}
+				if( !inResults )
+					assertTrue(expected[i] <= worst + 1e-8);
+			}
+		}
+	}
+
+	double[] bruteForce( List<double[]> database , double[] query ) {
+		double[] idf = new double[numWords];
+		for( int word = 0; word < numWords; word++ ) {
+			int count = 0;
+			for( double[] h : database ) {
+				if( h[word] != 0 )
+					count++;
+			}
+			idf[word] = count == 0 ? 0 : Math.log(database.size()/(double)count);
+		}
+
+		double[] scores = new double[database.size()];
+		for( int i = 0; i < database.size(); i++ ) {
+			double[] h = database.get(i);
+			double dot = 0, normA = 0, normB = 0;
+			for( int word = 0; word < numWords; word++ ) {
+				// database weights are stored as floats
+				double a = query[word]*idf[word];
+				double b = (float)h[word]*idf[word];
+				dot += a*b;
+				normA += a*a;
+				normB += b*b;
+			}
+			scores[i] = dot == 0 ? 0 : dot/Math.sqrt(normA*normB);
+		}
+		return scores;
+	}
+
+	/**
+	 * Sparse normalized histograms where some words are much more common than others
+	 */
+	List<double[]> createHistograms( int total ) {
+		List<double[]> list = new ArrayList<>();
+		for( int i = 0; i < total; i++ ) {
+			double[] h = new double[numWords];
+			double sum = 0;
+			for( int j = 0; j < 15; j++ ) {
+				int word = (int)(numWords*Math.pow(rand.nextDouble(), 2));
+				h[word] += 1;
+				sum += 1;
+			}
+			for( int word = 0; word < numWords; word++ ) {
+				h[word] /= sum;
+			}
+			list.add(h);
+		}
+		return list;
+	}
+
+	static FastQueue<InvertedFileIndex.Match> createResults() {
+		return new FastQueue<>(InvertedFileIndex.Match.class, true);
+	}
+}
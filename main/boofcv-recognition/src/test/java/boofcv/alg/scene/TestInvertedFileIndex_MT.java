@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestInvertedFileIndex_MT {
+
+	int originalThreads;
+	int originalMinQueries;
+	int originalMinWords;
+
+	TestInvertedFileIndex helper = new TestInvertedFileIndex();
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		originalMinQueries = InvertedFileIndex_MT.MIN_QUERIES;
+		originalMinWords = InvertedFileIndex_MT.MIN_WORDS;
+		InvertedFileIndex_MT.MIN_QUERIES = 2;
+		InvertedFileIndex_MT.MIN_WORDS = 10;
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+		InvertedFileIndex_MT.MIN_QUERIES = originalMinQueries;
+		InvertedFileIndex_MT.MIN_WORDS = originalMinWords;
+	}
+
+	@Test
+	public void compareToSerial() {
+		List<double[]> database = helper.createHistograms(200);
+		List<double[]> queries = helper.createHistograms(31);
+
+		InvertedFileIndex expected = new InvertedFileIndex(InvertedFileStorage.allocate(helper.numWords));
+		for( int i = 0; i < database.size(); i++ ) {
+			expected.addImage(i%5, database.get(i));
+		}
+		expected.updateNorms();
+		List<FastQueue<InvertedFileIndex.Match>> expectedResults = createResults(queries.size());
+		expected.findNearest(queries, 6, expectedResults);
+
+		for( int threads : new int[]{2,4} ) {
+			BoofConcurrency.setMaxThreads(threads);
+
+			InvertedFileIndex_MT alg = new InvertedFileIndex_MT(expected.getStorage());
+			alg.updateNorms();
+			List<FastQueue<InvertedFileIndex.Match>> found = createResults(queries.size());
+			alg.findNearest(queries, 6, found);
+
+			for( int i = 0; i < queries.size(); i++ ) {
+				FastQueue<InvertedFileIndex.Match> a = expectedResults.get(i);
+				FastQueue<InvertedFileIndex.Match> b = found.get(i);
+				assertEquals(a.size, b.size);
+				for( int j = 0; j < a.size; j++ ) {
+					assertEquals(a.get(j).image, b.get(j).image);
+					assertEquals(a.get(j).type, b.get(j).type);
+					assertEquals(a.get(j).score, b.get(j).score, 1e-8);
+				}
+			}
+		}
+	}
+
+	private List<FastQueue<InvertedFileIndex.Match>> createResults( int total ) {
+		List<FastQueue<InvertedFileIndex.Match>> list = new ArrayList<>();
+		for( int i = 0; i < total; i++ ) {
+			list.add(TestInvertedFileIndex.createResults());
+		}
+		return list;
+	}
+}
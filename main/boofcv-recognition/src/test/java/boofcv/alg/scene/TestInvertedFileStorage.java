@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.scene;
+
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestInvertedFileStorage {
+
+	Random rand = new Random(234);
+
+	int numWords = 40;
+	// small pages so that the lists span multiple pages
+	int pageBytes = 4096;
+
+	@Test
+	public void allocate() {
+		InvertedFileStorage alg = InvertedFileStorage.allocate(numWords, pageBytes);
+		List<List<float[]>> expected = createLists();
+		addAll(alg, expected, 0, 200);
+		check(alg, expected, 200);
+		assertTrue(alg.pages.size() > 1);
+	}
+
+	@Test
+	public void mapped_persist() throws IOException {
+		File file = File.createTempFile("invertedfile",".bin");
+		file.deleteOnExit();
+
+		List<List<float[]>> expected = createLists();
+
+		InvertedFileStorage alg = InvertedFileStorage.create(file, numWords, pageBytes);
+		addAll(alg, expected, 0, 150);
+		check(alg, expected, 150);
+		alg.close();
+
+		// read it back in
+		alg = InvertedFileStorage.open(file, true);
+		check(alg, expected, 150);
+		try {
+			alg.addImage(2);
+			fail("Should be read only");
+		} catch( IllegalArgumentException ignore ){}
+
+		// open it again and add more images
+		alg = InvertedFileStorage.open(file, false);
+		addAll(alg, expected, 150, 300);
+		check(alg, expected, 300);
+		alg.close();
+
+		alg = InvertedFileStorage.open(file, true);
+		check(alg, expected, 300);
+	}
+
+	/**
+	 * Save the vocabulary tree with the database and see if it assigns points the same way after being read back
+	 */
+	@Test
+	public void tree_persist() throws IOException {
+		File file = File.createTempFile("invertedfile",".bin");
+		file.deleteOnExit();
+
+		List<double[]> points = new ArrayList<>();
+		for( int i = 0; i < 500; i++ ) {
+			points.add(new double[]{rand.nextGaussian()*10, rand.nextGaussian()*10, rand.nextGaussian()*10});
+		}
+		ComputeVocabularyTree cluster = new ComputeVocabularyTree(4, 10);
+		cluster.init(3, 234);
+		cluster.process(points, numWords);
+		VocabularyTree expected = cluster.getAssignment();
+
+		List<List<float[]>> lists = createLists();
+
+		InvertedFileStorage alg = InvertedFileStorage.create(file, expected, pageBytes);
+		addAll(alg, lists, 0, 100);
+		checkTree(expected, alg.getTree(), points);
+		alg.close();
+
+		// the tree and the lists should both be read back
+		alg = InvertedFileStorage.open(file, true);
+		checkTree(expected, alg.getTree(), points);
+		assertEquals(expected.getNumberOfClusters(), alg.getNumWords());
+		numWords = alg.getNumWords();
+		check(alg, lists, 100);
+
+		// in memory storage has no tree unless one is provided
+		assertNull(InvertedFileStorage.allocate(numWords, pageBytes).getTree());
+		checkTree(expected, InvertedFileStorage.allocate(expected, pageBytes).getTree(), points);
+	}
+
+	private void checkTree( VocabularyTree expected , VocabularyTree found , List<double[]> points ) {
+		assertEquals(expected.getDof(), found.getDof());
+		assertEquals(expected.getNumberOfNodes(), found.getNumberOfNodes());
+		assertEquals(expected.getNumberOfClusters(), found.getNumberOfClusters());
+		for( double[] p : points ) {
+			assertEquals(expected.assign(p), found.assign(p));
+		}
+	}
+
+	@Test
+	public void open_notDatabase() throws IOException {
+		File file = File.createTempFile("invertedfile",".bin");
+		file.deleteOnExit();
+		java.nio.file.Files.write(file.toPath(), new byte[200]);
+
+		try {
+			InvertedFileStorage.open(file, true);
+			fail("Should have failed");
+		} catch( IOException ignore ){}
+	}
+
+	/**
+	 * Random postings for each image.  Each element is (image, word, weight)
+	 */
+	private List<List<float[]>> createLists() {
+		List<List<float[]>> images = new ArrayList<>();
+		for( int i = 0; i < 300; i++ ) {
+			List<float[]> postings = new ArrayList<>();
+			for( int word = 0; word < numWords; word++ ) {
+				// make some words much more common than others
+				if( rand.nextInt(numWords) < word )
+					continue;
+				postings.add(new float[]{i, word, rand.nextFloat()});
+			}
+			images.add(postings);
+		}
+		return images;
+	}
+
+	private void addAll( InvertedFileStorage alg , List<List<float[]>> images , int i0 , int i1 ) {
+		for( int i = i0; i < i1; i++ ) {
+			assertEquals(i, alg.addImage(i%7));
+			for( float[] p : images.get(i) ) {
+				alg.addPosting((int)p[1], i, p[2]);
+			}
+		}
+	}
+
+	private void check( InvertedFileStorage alg , List<List<float[]>> images , int numImages ) {
+		assertEquals(numWords, alg.getNumWords());
+		assertEquals(numImages, alg.getNumImages());
+		for( int i = 0; i < numImages; i++ ) {
+			assertEquals(i%7, alg.getImageType(i));
+		}
+
+		GrowQueue_I32 foundImages = new GrowQueue_I32();
+		GrowQueue_F32 foundWeights = new GrowQueue_F32();
+		for( int word = 0; word < numWords; word++ ) {
+			alg.readPostings(word, foundImages, foundWeights);
+			assertEquals(foundImages.size, alg.getPostingCount(word));
+
+			int count = 0;
+			for( int i = 0; i < numImages; i++ ) {
+				for( float[] p : images.get(i) ) {
+					if( (int)p[1] != word )
+						continue;
+					assertEquals(i, foundImages.get(count));
+					assertEquals(p[2], foundWeights.get(count), 0);
+					count++;
+				}
+			}
+			assertEquals(count, foundImages.size);
+		}
+	}
+}
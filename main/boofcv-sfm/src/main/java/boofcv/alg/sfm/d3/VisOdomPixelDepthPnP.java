@@ -23,6 +23,10 @@ import boofcv.abst.feature.tracker.PointTracker;
 import boofcv.abst.feature.tracker.PointTrackerTwoPass;
 import boofcv.abst.geo.RefinePnP;
 import boofcv.abst.sfm.ImagePixelTo3D;
+import boofcv.misc.profile.ProfileCounter;
+import boofcv.misc.profile.ProfileScope;
+import boofcv.misc.profile.ProfileTimer;
+import boofcv.misc.profile.Profiled;
 import boofcv.struct.distort.Point2Transform2_F64;
 import boofcv.struct.geo.Point2D3D;
 import boofcv.struct.image.ImageBase;
@@ -53,7 +57,7 @@ import java.util.List;
  *
  * @author Peter Abeles
  */
-public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
+public class VisOdomPixelDepthPnP<T extends ImageBase<T>> implements Profiled {
 
 	// when the inlier set is less than this number new features are detected
 	private int thresholdAdd;
@@ -97,6 +101,14 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	// used when concating motion
 	private Se3_F64 temp = new Se3_F64();
 
+	// runtime profiling
+	private final ProfileScope profile = new ProfileScope("VisOdomPixelDepthPnP");
+	private final ProfileTimer timerTrack = profile.timer("track");
+	private final ProfileTimer timerMotion = profile.timer("estimate_motion");
+	private final ProfileTimer timerSpawn = profile.timer("spawn");
+	private final ProfileCounter counterInliers = profile.counter("inliers");
+	private final ProfileCounter counterRetired = profile.counter("retired");
+
 	/**
 	 * Configures magic numbers and estimation algorithms.
 	 *
@@ -131,6 +143,18 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 		this.tracker = tracker;
 		this.pixelToNorm = pixelToNorm;
 		this.normToPixel = normToPixel;
+
+		if( tracker instanceof Profiled )
+			profile.addChild(((Profiled)tracker).getProfileScope());
+	}
+
+	/**
+	 * Runtime profiling. Timers: track, estimate_motion, spawn. Counters: inliers, retired.
+	 * Contains the tracker's scope if it supports profiling.
+	 */
+	@Override
+	public ProfileScope getProfileScope() {
+		return profile;
 	}
 
 	/**
@@ -152,25 +176,32 @@ public class VisOdomPixelDepthPnP<T extends ImageBase<T>> {
 	 * @return true if successful or false if it failed
 	 */
 	public boolean process( T image ) {
+		long time = timerTrack.start();
 		tracker.process(image);
+		time = timerTrack.stop(time);
 
 		tick++;
 		inlierTracks.clear();
 
 		if( first ) {
 			addNewTracks();
+			timerSpawn.stop(time);
 			first = false;
 		} else {
-			if( !estimateMotion() ) {
+			boolean success = estimateMotion();
+			time = timerMotion.stop(time);
+			if( !success ) {
 				return false;
 			}
 
-			dropUnusedTracks();
+			counterRetired.add(dropUnusedTracks());
 			int N = motionEstimator.getMatchSet().size();
+			counterInliers.add(N);
 
 			if( thresholdAdd <= 0 || N < thresholdAdd ) {
 				changePoseToReference();
 				addNewTracks();
+				timerSpawn.stop(time);
 			}
 
 //			System.out.println("  num inliers = "+N+"  num dropped "+numDropped+" total active "+tracker.getActivePairs().size());